@@ -0,0 +1,65 @@
+// Teste de carga para comparar o Tomcat com threads de plataforma e com threads virtuais.
+//
+// Uso (veja loadtest/README.md):
+//   k6 run -e BASE_URL=http://localhost:8081 -e MODE=platform loadtest/virtual-threads.js
+//   k6 run -e BASE_URL=http://localhost:8081 -e MODE=virtual  loadtest/virtual-threads.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const MODE = __ENV.MODE || 'unknown';
+const VUS = parseInt(__ENV.VUS || '1200', 10);
+
+export const options = {
+    scenarios: {
+        reads: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS },
+                { duration: '2m', target: VUS },
+                { duration: '15s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+    tags: { mode: MODE },
+};
+
+// O token de acesso vale 5 minutos (app.jwt.access-token-ttl), mais que a duração do teste.
+export function setup() {
+    const response = http.post(`${BASE_URL}/api/v1/auth/login`,
+        JSON.stringify({ email: __ENV.ADMIN_EMAIL || 'admin@email.com', password: __ENV.ADMIN_PASSWORD || 'senhaforte' }),
+        { headers: { 'Content-Type': 'application/json' } });
+    check(response, { 'login 200': (r) => r.status === 200 });
+    return { token: response.json('accessToken') };
+}
+
+export default function (data) {
+    const params = { headers: { Authorization: `Bearer ${data.token}` } };
+
+    // Cada requisição bloqueia a thread do Tomcat em uma consulta JDBC.
+    const me = http.get(`${BASE_URL}/api/v1/clients/me`, params);
+    check(me, { 'me 200': (r) => r.status === 200 });
+
+    const page = http.get(`${BASE_URL}/api/v1/clients?page=0&size=20`, params);
+    check(page, { 'page 200': (r) => r.status === 200 });
+}
+
+export function handleSummary(data) {
+    const duration = data.metrics.http_req_duration.values;
+    const summary = {
+        mode: MODE,
+        vus: VUS,
+        requestsPerSecond: data.metrics.http_reqs.values.rate,
+        p50: duration['p(50)'],
+        p95: duration['p(95)'],
+        p99: duration['p(99)'],
+        failedRate: data.metrics.http_req_failed.values.rate,
+    };
+    return { stdout: JSON.stringify(summary, null, 2) + '\n' };
+}
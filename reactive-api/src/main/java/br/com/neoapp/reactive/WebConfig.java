@@ -0,0 +1,24 @@
+package br.com.neoapp.reactive;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.web.ReactivePageableHandlerMethodArgumentResolver;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+
+/**
+ * Configuração do WebFlux.
+ * <p>
+ * O suporte do Spring Data a parâmetros {@code Pageable} nos controllers só é configurado
+ * automaticamente para o Spring MVC; aqui ele é registrado para os endpoints reativos, com os
+ * mesmos parâmetros ({@code page}, {@code size} e {@code sort}) da API principal.
+ */
+@Configuration
+public class WebConfig implements WebFluxConfigurer {
+
+    @Override
+    public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+        ReactivePageableHandlerMethodArgumentResolver pageableResolver = new ReactivePageableHandlerMethodArgumentResolver();
+        pageableResolver.setMaxPageSize(1000);
+        configurer.addCustomResolver(pageableResolver);
+    }
+}
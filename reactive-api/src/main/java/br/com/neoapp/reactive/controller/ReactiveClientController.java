@@ -0,0 +1,100 @@
+package br.com.neoapp.reactive.controller;
+
+import br.com.neoapp.api.controller.dto.ClientResponseDTO;
+import br.com.neoapp.api.exceptions.ClientNotFound;
+import br.com.neoapp.reactive.repository.ClientChangeFeed;
+import br.com.neoapp.reactive.repository.ReactiveClientRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DurationFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+/**
+ * Endpoints reativos, somente leitura, de consulta de clientes.
+ * <p>
+ * Mantém os caminhos e a semântica das consultas da API principal. As alterações de clientes
+ * continuam sendo feitas pela API principal.
+ */
+@RestController
+@RequestMapping(value = "/api/v1/clients")
+public class ReactiveClientController {
+
+    private static final Duration MAX_WAIT = Duration.ofSeconds(60);
+
+    @Autowired
+    private ReactiveClientRepository clientRepository;
+
+    @Autowired
+    private ClientChangeFeed changeFeed;
+
+    @GetMapping(value = "/{id}")
+    public Mono<ClientResponseDTO> getClientById(@PathVariable String id){
+        return findClient(id);
+    }
+
+    @GetMapping
+    public Mono<Page<ClientResponseDTO>> getAllClientsPageable(Pageable pageable){
+        return clientRepository.findAll(pageable);
+    }
+
+    @GetMapping(value = "/attributes")
+    public Mono<Page<ClientResponseDTO>> getAllClientsWithAttributes(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String cpf,
+            @RequestParam(required = false) String phone,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate birthdayStart,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate birthdayEnd,
+            Pageable pageable){
+        return clientRepository.findWithAttributes(name, email, cpf, phone, birthdayStart, birthdayEnd, pageable);
+    }
+
+    /**
+     * Exporta todos os clientes como um fluxo, em NDJSON ou Server-Sent Events. Os lotes são lidos
+     * do banco conforme o consumidor lê a resposta.
+     */
+    @GetMapping(value = "/export", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<ClientResponseDTO> exportClients(@RequestParam(defaultValue = "500") int batchSize){
+        return clientRepository.streamAll(Math.clamp(batchSize, 1, 5000));
+    }
+
+    /**
+     * Long-poll das alterações de um cliente: responde assim que o cliente for alterado depois de
+     * {@code since}, ou com 204 (No Content) se nada mudar dentro de {@code timeout} (e.g.,
+     * {@code 30s} ou {@code 500ms}).
+     */
+    @GetMapping(value = "/{id}/changes")
+    public Mono<ResponseEntity<ClientResponseDTO>> waitForChange(
+            @PathVariable String id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime since,
+            @RequestParam(defaultValue = "30s") @DurationFormat(style = DurationFormat.Style.SIMPLE) Duration timeout){
+        Duration wait = timeout.compareTo(MAX_WAIT) > 0 ? MAX_WAIT : timeout;
+        return findClient(id)
+                .flatMap(client -> client.updateAt() != null && client.updateAt().isAfter(since)
+                        ? Mono.just(client)
+                        : changeFeed.nextChange(id).timeout(wait, Mono.empty()))
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.noContent().build());
+    }
+
+    private Mono<ClientResponseDTO> findClient(String id) {
+        return clientRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ClientNotFound("O cliente informado não foi encontrado.")));
+    }
+}
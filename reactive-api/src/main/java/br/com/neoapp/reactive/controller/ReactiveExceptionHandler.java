@@ -0,0 +1,58 @@
+package br.com.neoapp.reactive.controller;
+
+import br.com.neoapp.api.exceptions.ClientNotFound;
+import br.com.neoapp.api.exceptions.StandardError;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.time.Instant;
+
+/**
+ * Manipulador de exceções dos endpoints reativos, com o mesmo corpo de erro padronizado
+ * ({@link StandardError}) da API principal.
+ */
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+
+    /**
+     * Manipula a exceção {@link ClientNotFound}, lançada quando o cliente buscado não existe.
+     *
+     * @param e        A exceção {@code ClientNotFound} capturada.
+     * @param exchange A troca HTTP que causou o erro.
+     * @return um {@link ResponseEntity} com status 404 (Not Found) e um corpo de erro padronizado.
+     */
+    @ExceptionHandler(ClientNotFound.class)
+    public ResponseEntity<StandardError> clientNotFound(ClientNotFound e, ServerWebExchange exchange){
+        return error(HttpStatus.NOT_FOUND, ClientNotFound.ERROR, e.getMessage(), exchange);
+    }
+
+    /**
+     * Manipula a exceção {@link IllegalArgumentException}, lançada, por exemplo, quando a
+     * ordenação solicitada usa uma propriedade não suportada.
+     *
+     * @param e        A exceção {@code IllegalArgumentException} capturada.
+     * @param exchange A troca HTTP que causou o erro.
+     * @return um {@link ResponseEntity} com status 400 (Bad Request) e um corpo de erro padronizado.
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<StandardError> illegalArgument(IllegalArgumentException e, ServerWebExchange exchange){
+        return error(HttpStatus.BAD_REQUEST, "INVALID_ARGUMENT", e.getMessage(), exchange);
+    }
+
+    private static ResponseEntity<StandardError> error(HttpStatus status, String error, String message, ServerWebExchange exchange) {
+        return ResponseEntity
+                .status(status)
+                .body(StandardError
+                        .builder()
+                        .timestamp(Instant.now())
+                        .status(status.value())
+                        .error(error)
+                        .message(message)
+                        .path(exchange.getRequest().getPath().value())
+                        .build()
+                );
+    }
+}
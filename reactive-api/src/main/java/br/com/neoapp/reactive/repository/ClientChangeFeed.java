@@ -0,0 +1,57 @@
+package br.com.neoapp.reactive.repository;
+
+import br.com.neoapp.api.controller.dto.ClientResponseDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Fluxo compartilhado das alterações de clientes, para as consultas de long-poll.
+ * <p>
+ * Em vez de cada requisição em espera consultar o banco periodicamente, um único poller
+ * busca os clientes alterados desde a última consulta e distribui o resultado a todos os
+ * assinantes. O custo no banco é de uma consulta por intervalo, qualquer que seja a quantidade
+ * de requisições aguardando. O poller só roda enquanto houver assinantes.
+ */
+@Component
+public class ClientChangeFeed {
+
+    private final Flux<ClientResponseDTO> changes;
+
+    /**
+     * Constrói o fluxo de alterações.
+     *
+     * @param repository   O repositório consultado a cada intervalo.
+     * @param pollInterval O intervalo entre as consultas ({@code app.changes.poll-interval}).
+     * @param batchSize    A quantidade máxima de alterações lidas por consulta
+     *                     ({@code app.changes.batch-size}).
+     */
+    public ClientChangeFeed(ReactiveClientRepository repository,
+                            @Value("${app.changes.poll-interval:1s}") Duration pollInterval,
+                            @Value("${app.changes.batch-size:500}") int batchSize) {
+        this.changes = Flux.defer(() -> {
+                    AtomicReference<OffsetDateTime> lastSeen = new AtomicReference<>(OffsetDateTime.now());
+                    return Flux.interval(pollInterval)
+                            .onBackpressureDrop()
+                            .concatMap(tick -> repository.findUpdatedAfter(lastSeen.get(), batchSize)
+                                    .doOnNext(client -> lastSeen.accumulateAndGet(client.updateAt(),
+                                            (current, updated) -> updated.isAfter(current) ? updated : current)));
+                })
+                .share();
+    }
+
+    /**
+     * Aguarda a próxima alteração do cliente.
+     *
+     * @param id O ID do cliente.
+     * @return o cliente alterado, assim que a alteração for lida pelo poller.
+     */
+    public Mono<ClientResponseDTO> nextChange(String id) {
+        return changes.filter(client -> client.id().equals(id)).next();
+    }
+}
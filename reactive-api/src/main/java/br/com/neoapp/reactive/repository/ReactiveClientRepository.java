@@ -0,0 +1,211 @@
+package br.com.neoapp.reactive.repository;
+
+import br.com.neoapp.api.controller.dto.ClientResponseDTO;
+import br.com.neoapp.api.repository.ClientQueries;
+import io.r2dbc.spi.Readable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Repositório reativo, somente leitura, dos clientes, sobre R2DBC.
+ * <p>
+ * Lê a mesma tabela {@code client_table} mantida pela API principal e aplica os mesmos filtros
+ * da busca por atributos ({@link ClientQueries#ATTRIBUTES_FILTER}). Nenhuma operação bloqueia
+ * uma thread: as consultas são executadas pelo driver R2DBC e os resultados são entregues
+ * conforme a demanda de quem os consome.
+ */
+@Repository
+public class ReactiveClientRepository {
+
+    private static final String COLUMNS = "c.id, c.name, c.birthday, c.email, c.phone, c.cpf, c.creat_at, c.update_at";
+
+    private static final Map<String, String> SORTABLE_COLUMNS = Map.of(
+            "id", "c.id",
+            "name", "c.name",
+            "email", "c.email",
+            "birthday", "c.birthday",
+            "creatAt", "c.creat_at",
+            "updateAt", "c.update_at");
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Constrói o repositório com o cliente R2DBC injetado.
+     *
+     * @param databaseClient O cliente R2DBC do Spring.
+     */
+    public ReactiveClientRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * Busca um cliente pelo ID.
+     *
+     * @param id O ID do cliente.
+     * @return o cliente, ou vazio se não existir.
+     */
+    public Mono<ClientResponseDTO> findById(String id) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM client_table c WHERE c.id = :id")
+                .bind("id", id)
+                .map(ReactiveClientRepository::toResponse)
+                .one();
+    }
+
+    /**
+     * Busca uma página de clientes. O conteúdo e a contagem são consultados ao mesmo tempo.
+     *
+     * @param pageable A paginação e a ordenação.
+     * @return a página de clientes.
+     */
+    public Mono<Page<ClientResponseDTO>> findAll(Pageable pageable) {
+        return findWithAttributes(null, null, null, null, null, null, pageable);
+    }
+
+    /**
+     * Busca uma página de clientes com os filtros da busca por atributos. O conteúdo e a
+     * contagem são consultados ao mesmo tempo.
+     *
+     * @param name          Parte do nome do cliente (case-insensitive).
+     * @param email         Parte do e-mail do cliente (case-insensitive).
+     * @param cpf           O CPF exato do cliente.
+     * @param phone         Parte do telefone do cliente.
+     * @param birthdayStart A data de início do intervalo de nascimento (inclusivo).
+     * @param birthdayEnd   A data de fim do intervalo de nascimento (inclusivo).
+     * @param pageable      A paginação e a ordenação.
+     * @return a página de clientes que correspondem aos filtros.
+     * @throws IllegalArgumentException se a ordenação usar uma propriedade não suportada.
+     */
+    public Mono<Page<ClientResponseDTO>> findWithAttributes(String name,
+                                                            String email,
+                                                            String cpf,
+                                                            String phone,
+                                                            LocalDate birthdayStart,
+                                                            LocalDate birthdayEnd,
+                                                            Pageable pageable) {
+        String where = " FROM client_table c WHERE " + ClientQueries.ATTRIBUTES_FILTER;
+
+        String contentSql = "SELECT " + COLUMNS + where + orderBy(pageable.getSort());
+        if (pageable.isPaged()) {
+            contentSql += " LIMIT " + pageable.getPageSize() + " OFFSET " + pageable.getOffset();
+        }
+        Mono<List<ClientResponseDTO>> content = bindFilter(databaseClient.sql(contentSql),
+                name, email, cpf, phone, birthdayStart, birthdayEnd)
+                .map(ReactiveClientRepository::toResponse)
+                .all()
+                .collectList();
+
+        Mono<Long> count = bindFilter(databaseClient.sql("SELECT COUNT(*)" + where),
+                name, email, cpf, phone, birthdayStart, birthdayEnd)
+                .map(row -> row.get(0, Long.class))
+                .one();
+
+        return Mono.zip(content, count)
+                .map(result -> new PageImpl<>(result.getT1(), pageable, result.getT2()));
+    }
+
+    /**
+     * Percorre todos os clientes em ordem de ID, em lotes lidos sob demanda.
+     * <p>
+     * Cada lote é uma consulta por chave ({@code id > último ID}), e o lote seguinte só é
+     * buscado depois que o consumidor pediu os elementos do anterior. Um consumidor lento
+     * mantém em memória no máximo um lote, sem segurar uma conexão entre os lotes.
+     *
+     * @param batchSize A quantidade de clientes lidos por consulta.
+     * @return o fluxo de todos os clientes.
+     */
+    public Flux<ClientResponseDTO> streamAll(int batchSize) {
+        return findBatchAfter("", batchSize)
+                .expand(batch -> batch.size() < batchSize
+                        ? Mono.empty()
+                        : findBatchAfter(batch.get(batch.size() - 1).id(), batchSize))
+                .concatMapIterable(batch -> batch);
+    }
+
+    /**
+     * Busca os clientes alterados depois do instante informado, em ordem de alteração.
+     *
+     * @param since O instante de referência (exclusivo).
+     * @param limit A quantidade máxima de clientes.
+     * @return os clientes alterados.
+     */
+    public Flux<ClientResponseDTO> findUpdatedAfter(OffsetDateTime since, int limit) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM client_table c WHERE c.update_at > :since " +
+                        "ORDER BY c.update_at LIMIT :limit")
+                .bind("since", since)
+                .bind("limit", limit)
+                .map(ReactiveClientRepository::toResponse)
+                .all();
+    }
+
+    private Mono<List<ClientResponseDTO>> findBatchAfter(String lastId, int batchSize) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM client_table c WHERE c.id > :lastId ORDER BY c.id LIMIT :limit")
+                .bind("lastId", lastId)
+                .bind("limit", batchSize)
+                .map(ReactiveClientRepository::toResponse)
+                .all()
+                .collectList();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindFilter(DatabaseClient.GenericExecuteSpec spec,
+                                                               String name,
+                                                               String email,
+                                                               String cpf,
+                                                               String phone,
+                                                               LocalDate birthdayStart,
+                                                               LocalDate birthdayEnd) {
+        spec = bind(spec, "name", name, String.class);
+        spec = bind(spec, "email", email, String.class);
+        spec = bind(spec, "cpf", cpf, String.class);
+        spec = bind(spec, "phone", phone, String.class);
+        spec = bind(spec, "birthdayStart", birthdayStart, LocalDate.class);
+        return bind(spec, "birthdayEnd", birthdayEnd, LocalDate.class);
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec,
+                                                         String name,
+                                                         Object value,
+                                                         Class<?> type) {
+        return value == null ? spec.bindNull(name, type) : spec.bind(name, value);
+    }
+
+    private static String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return " ORDER BY c.id";
+        }
+        StringJoiner orderBy = new StringJoiner(", ", " ORDER BY ", "");
+        for (Sort.Order order : sort) {
+            String column = SORTABLE_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new IllegalArgumentException("Propriedade de ordenação não suportada: " + order.getProperty());
+            }
+            orderBy.add(column + (order.isAscending() ? " ASC" : " DESC"));
+        }
+        return orderBy.toString();
+    }
+
+    private static ClientResponseDTO toResponse(Readable row) {
+        LocalDate birthday = row.get("birthday", LocalDate.class);
+        return new ClientResponseDTO(
+                row.get("id", String.class),
+                row.get("name", String.class),
+                birthday == null ? null : Period.between(birthday, LocalDate.now()).getYears(),
+                row.get("email", String.class),
+                row.get("phone", String.class),
+                row.get("cpf", String.class),
+                row.get("creat_at", OffsetDateTime.class),
+                row.get("update_at", OffsetDateTime.class));
+    }
+}
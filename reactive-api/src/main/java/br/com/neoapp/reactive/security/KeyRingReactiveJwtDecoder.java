@@ -0,0 +1,106 @@
+package br.com.neoapp.reactive.security;
+
+import br.com.neoapp.api.security.JwtKeyRing;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.proc.BadJOSEException;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.JWT;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.JWTParser;
+import com.nimbusds.jwt.proc.JWTProcessor;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.io.Resource;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.NimbusReactiveJwtDecoder;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Decodificador reativo dos tokens de acesso emitidos pela API principal.
+ * <p>
+ * Verifica a assinatura com o {@link JwtKeyRing} da API principal, montado apenas com as chaves
+ * públicas do JWK Set que ela publica ({@code /.well-known/jwks.json}). Aceita, portanto, os
+ * mesmos algoritmos ({@code RS256}, {@code ES256} e {@code EdDSA}) e escolhe a chave pelo
+ * {@code kid} do token. O JWK Set é carregado na primeira requisição e recarregado quando chega
+ * um token com {@code kid} desconhecido (após uma troca de chave), no máximo uma vez a cada
+ * {@code minRefreshInterval}. A leitura do JWK Set, bloqueante, roda no scheduler elástico.
+ */
+public class KeyRingReactiveJwtDecoder implements ReactiveJwtDecoder {
+
+    private final Resource jwkSet;
+    private final Duration minRefreshInterval;
+    private final AtomicReference<Keys> current = new AtomicReference<>();
+
+    /**
+     * Constrói o decodificador.
+     *
+     * @param jwkSet             A localização do JWK Set (e.g., {@code http://api:8080/.well-known/jwks.json}).
+     * @param minRefreshInterval O intervalo mínimo entre recargas motivadas por {@code kid} desconhecido.
+     */
+    public KeyRingReactiveJwtDecoder(Resource jwkSet, Duration minRefreshInterval) {
+        this.jwkSet = jwkSet;
+        this.minRefreshInterval = minRefreshInterval;
+    }
+
+    @Override
+    public Mono<Jwt> decode(String token) {
+        String keyId;
+        try {
+            JWT jwt = JWTParser.parse(token);
+            keyId = jwt.getHeader() instanceof JWSHeader header ? header.getKeyID() : null;
+        } catch (ParseException e) {
+            return Mono.error(new BadJwtException("JWT malformado.", e));
+        }
+        return keys(keyId).flatMap(keys -> keys.decoder().decode(token));
+    }
+
+    private Mono<Keys> keys(String keyId) {
+        Keys keys = current.get();
+        if (keys != null && (keyId == null || keys.keyRing().hasKeyId(keyId)
+                || keys.loadedAt().plus(minRefreshInterval).isAfter(Instant.now()))) {
+            return Mono.just(keys);
+        }
+        return Mono.fromCallable(this::load).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Keys load() {
+        try (InputStream inputStream = jwkSet.getInputStream()) {
+            JwtKeyRing keyRing = JwtKeyRing.forVerification(JWKSet.load(inputStream));
+            Keys keys = new Keys(keyRing, new NimbusReactiveJwtDecoder(processor(keyRing.createProcessor())), Instant.now());
+            current.set(keys);
+            return keys;
+        } catch (IOException | ParseException | IllegalArgumentException e) {
+            throw new JwtException("Não foi possível carregar as chaves de verificação de JWT de " + jwkSet + ".", e);
+        }
+    }
+
+    private static Converter<JWT, Mono<JWTClaimsSet>> processor(JWTProcessor<SecurityContext> processor) {
+        return jwt -> {
+            try {
+                return Mono.just(processor.process(jwt, null));
+            } catch (BadJOSEException e) {
+                return Mono.error(new BadJwtException(e.getMessage(), e));
+            } catch (JOSEException e) {
+                return Mono.error(new JwtException(e.getMessage(), e));
+            }
+        };
+    }
+
+    /**
+     * As chaves carregadas e o decodificador montado com elas.
+     */
+    private record Keys(JwtKeyRing keyRing, NimbusReactiveJwtDecoder decoder, Instant loadedAt) {
+    }
+}
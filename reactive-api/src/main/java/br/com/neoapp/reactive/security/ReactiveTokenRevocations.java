@@ -0,0 +1,195 @@
+package br.com.neoapp.reactive.security;
+
+import br.com.neoapp.api.security.BloomFilter;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Verificação reativa dos tokens de acesso revogados pela API principal (e.g., no logout).
+ * <p>
+ * Lê, por R2DBC, a mesma tabela {@code revoked_token_table} gravada pela API principal. Como lá,
+ * a tabela é precedida por um {@link BloomFilter} em memória com os {@code jti} revogados e ainda
+ * não expirados: o caso comum, de um token não revogado, não consulta o banco, e apenas os
+ * possíveis revogados são confirmados nele.
+ * <p>
+ * As revogações são feitas pela API principal, então o filtro é mantido por um ciclo em segundo
+ * plano: a cada {@code app.jwt.revocation.filter.sync-interval} são copiadas as revogações
+ * gravadas desde a cópia anterior (relendo os últimos {@value #SYNC_OVERLAP_SECONDS} segundos,
+ * para tolerar a diferença entre os relógios), e a cada
+ * {@code app.jwt.revocation.filter.rebuild-interval} o filtro é reconstruído sem os tokens
+ * expirados. Um token revogado é, portanto, recusado aqui em até um intervalo de cópia.
+ * <p>
+ * A verificação falha fechada: até a primeira carga, ou se as cópias deixarem de ser feitas por
+ * mais de {@value #MAX_MISSED_SYNCS} intervalos, todos os tokens são confirmados no banco, e uma
+ * falha nessa consulta recusa o token.
+ */
+@Component
+public class ReactiveTokenRevocations {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveTokenRevocations.class);
+    private static final long SYNC_OVERLAP_SECONDS = 30;
+    private static final int MAX_MISSED_SYNCS = 3;
+    private static final OAuth2Error REVOKED = new OAuth2Error(OAuth2ErrorCodes.INVALID_TOKEN, "O token foi revogado.", null);
+
+    private final DatabaseClient databaseClient;
+    private final long minExpectedInsertions;
+    private final double falsePositiveRate;
+    private final Duration syncInterval;
+    private final Duration rebuildInterval;
+
+    private volatile BloomFilter filter;
+    private volatile Instant syncedUntil;
+    private volatile Instant rebuiltAt;
+    private volatile Disposable refreshes;
+
+    /**
+     * Constrói a verificação de revogação.
+     *
+     * @param databaseClient        O cliente R2DBC do Spring.
+     * @param minExpectedInsertions Capacidade mínima do filtro
+     *                              ({@code app.jwt.revocation.filter.expected-insertions}).
+     * @param falsePositiveRate     Taxa de falsos positivos do filtro
+     *                              ({@code app.jwt.revocation.filter.false-positive-rate}).
+     * @param syncInterval          O intervalo entre as cópias das revogações recentes
+     *                              ({@code app.jwt.revocation.filter.sync-interval}).
+     * @param rebuildInterval       O intervalo entre as reconstruções do filtro
+     *                              ({@code app.jwt.revocation.filter.rebuild-interval}).
+     */
+    public ReactiveTokenRevocations(DatabaseClient databaseClient,
+                                    @Value("${app.jwt.revocation.filter.expected-insertions:10000}") long minExpectedInsertions,
+                                    @Value("${app.jwt.revocation.filter.false-positive-rate:0.001}") double falsePositiveRate,
+                                    @Value("${app.jwt.revocation.filter.sync-interval:5s}") Duration syncInterval,
+                                    @Value("${app.jwt.revocation.filter.rebuild-interval:5m}") Duration rebuildInterval) {
+        this.databaseClient = databaseClient;
+        this.minExpectedInsertions = minExpectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.syncInterval = syncInterval;
+        this.rebuildInterval = rebuildInterval;
+    }
+
+    /**
+     * Recusa os tokens revogados. Tokens sem {@code jti} não podem ser revogados e são aceitos.
+     *
+     * @param jwt O token já verificado.
+     * @return o próprio token, ou um erro {@link JwtValidationException} se ele tiver sido revogado.
+     */
+    public Mono<Jwt> check(Jwt jwt) {
+        String jti = jwt.getId();
+        if (jti == null) {
+            return Mono.just(jwt);
+        }
+        return isRevoked(jti).flatMap(revoked -> revoked
+                ? Mono.error(new JwtValidationException(REVOKED.getDescription(), List.of(REVOKED)))
+                : Mono.just(jwt));
+    }
+
+    /**
+     * Verifica se um token foi revogado.
+     *
+     * @param jti O identificador do token.
+     * @return {@code true} se o token estiver registrado como revogado.
+     */
+    public Mono<Boolean> isRevoked(String jti) {
+        // O filtro é publicado antes de 'syncedUntil': se a cópia é recente, o filtro já existe.
+        if (isFresh() && !filter.mightContain(jti)) {
+            return Mono.just(false);
+        }
+        return databaseClient.sql("SELECT COUNT(*) FROM revoked_token_table WHERE jti = :jti")
+                .bind("jti", jti)
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .map(count -> count > 0)
+                .onErrorMap(e -> new JwtException("Não foi possível verificar a revogação do token.", e));
+    }
+
+    /**
+     * Inicia o ciclo de manutenção do filtro, com a primeira carga imediata.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        refreshes = Flux.interval(Duration.ZERO, syncInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> refresh().onErrorResume(e -> {
+                    log.warn("Falha ao atualizar o filtro de tokens revogados; os tokens serão confirmados no banco.", e);
+                    return Mono.empty();
+                }))
+                .subscribe();
+    }
+
+    /**
+     * Encerra o ciclo de manutenção do filtro.
+     */
+    @PreDestroy
+    public void stop() {
+        Disposable current = refreshes;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    /**
+     * Reconstrói o filtro, se ele ainda não tiver sido carregado ou se o intervalo de reconstrução
+     * tiver passado, ou copia para ele as revogações recentes.
+     *
+     * @return a conclusão da atualização.
+     */
+    Mono<Void> refresh() {
+        Instant now = Instant.now();
+        if (rebuiltAt == null || rebuiltAt.plus(rebuildInterval).isBefore(now)) {
+            return rebuild(now);
+        }
+        return sync(now);
+    }
+
+    private Mono<Void> rebuild(Instant now) {
+        return databaseClient.sql("SELECT jti FROM revoked_token_table WHERE expires_at > :now")
+                .bind("now", OffsetDateTime.ofInstant(now, ZoneOffset.UTC))
+                .map(row -> row.get("jti", String.class))
+                .all()
+                .collectList()
+                .doOnNext(jtis -> {
+                    BloomFilter next = new BloomFilter(Math.max(minExpectedInsertions, jtis.size() * 2L), falsePositiveRate);
+                    jtis.forEach(next::put);
+                    filter = next;
+                    rebuiltAt = now;
+                    syncedUntil = now;
+                    log.debug("Filtro de tokens revogados reconstruído com {} tokens.", jtis.size());
+                })
+                .then();
+    }
+
+    private Mono<Void> sync(Instant now) {
+        Instant since = syncedUntil.minusSeconds(SYNC_OVERLAP_SECONDS);
+        return databaseClient.sql("SELECT jti FROM revoked_token_table WHERE revoked_at > :since")
+                .bind("since", OffsetDateTime.ofInstant(since, ZoneOffset.UTC))
+                .map(row -> row.get("jti", String.class))
+                .all()
+                .doOnNext(filter::put)
+                .then(Mono.fromRunnable(() -> syncedUntil = now));
+    }
+
+    private boolean isFresh() {
+        Instant synced = syncedUntil;
+        return synced != null && synced.plus(syncInterval.multipliedBy(MAX_MISSED_SYNCS)).isAfter(Instant.now());
+    }
+}
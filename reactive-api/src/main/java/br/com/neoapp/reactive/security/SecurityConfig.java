@@ -0,0 +1,55 @@
+package br.com.neoapp.reactive.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+
+import java.time.Duration;
+
+/**
+ * Configuração de segurança dos endpoints reativos.
+ * <p>
+ * Aceita os mesmos tokens de acesso (JWT) emitidos pela API principal, verificados com as chaves
+ * públicas que ela publica ({@code app.jwt.jwk-set-uri}), inclusive após trocas de chave e de
+ * algoritmo, desde que não tenham sido revogados ({@link ReactiveTokenRevocations}). As consultas
+ * são restritas aos administradores, como as listagens e buscas da API principal.
+ */
+@Configuration
+@EnableWebFluxSecurity
+public class SecurityConfig {
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .authorizeExchange(exchange -> exchange
+                        .pathMatchers("/actuator/health").permitAll()
+                        .anyExchange().hasAuthority("SCOPE_ADMIN"))
+                .oauth2ResourceServer(oauth2 -> oauth2.jwt(Customizer.withDefaults()))
+                .build();
+    }
+
+    /**
+     * Define o decodificador dos tokens de acesso, com as chaves publicadas pela API principal,
+     * recusando também os tokens revogados por ela.
+     *
+     * @param jwkSetUri          A localização do JWK Set da API principal.
+     * @param minRefreshInterval O intervalo mínimo entre recargas do JWK Set por {@code kid} desconhecido.
+     * @param revocations        A verificação dos tokens revogados.
+     * @return o {@link KeyRingReactiveJwtDecoder} seguido da verificação de revogação.
+     */
+    @Bean
+    public ReactiveJwtDecoder jwtDecoder(@Value("${app.jwt.jwk-set-uri}") String jwkSetUri,
+                                         @Value("${app.jwt.jwk-set-refresh-interval:30s}") Duration minRefreshInterval,
+                                         ResourceLoader resourceLoader,
+                                         ReactiveTokenRevocations revocations) {
+        ReactiveJwtDecoder decoder = new KeyRingReactiveJwtDecoder(resourceLoader.getResource(jwkSetUri), minRefreshInterval);
+        return token -> decoder.decode(token).flatMap(revocations::check);
+    }
+}
@@ -0,0 +1,184 @@
+package br.com.neoapp.reactive.controller;
+
+import br.com.neoapp.api.controller.dto.ClientResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+import static org.springframework.security.test.web.reactive.server.SecurityMockServerConfigurers.mockJwt;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+class ReactiveClientControllerTest {
+
+    private static final int CLIENTS = 25;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @MockitoBean
+    private ReactiveJwtDecoder jwtDecoder;
+
+    private WebTestClient admin;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("DELETE FROM client_table").then().block();
+        Flux.range(1, CLIENTS)
+                .concatMap(i -> databaseClient.sql("INSERT INTO client_table " +
+                                "(id, name, birthday, email, phone, cpf, creat_at, update_at) " +
+                                "VALUES (:id, :name, :birthday, :email, :phone, :cpf, :now, :now)")
+                        .bind("id", String.format("client-%03d", i))
+                        .bind("name", i % 2 == 0 ? "Maria " + i : "João " + i)
+                        .bind("birthday", LocalDate.of(1990, 1, 1).plusDays(i))
+                        .bind("email", "cliente" + i + "@email.com")
+                        .bind("phone", "1199999" + String.format("%04d", i))
+                        .bind("cpf", String.format("%011d", i))
+                        .bind("now", OffsetDateTime.now().minusHours(1))
+                        .then())
+                .blockLast();
+        admin = webTestClient.mutateWith(mockJwt().authorities(new SimpleGrantedAuthority("SCOPE_ADMIN")));
+    }
+
+    @Test
+    @DisplayName("Deve buscar um cliente pelo ID")
+    void getClientById() {
+        admin.get().uri("/api/v1/clients/{id}", "client-001")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo("client-001")
+                .jsonPath("$.email").isEqualTo("cliente1@email.com")
+                .jsonPath("$.age").isNumber()
+                .jsonPath("$.loginCount").doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 para um cliente inexistente")
+    void getClientByIdNotFound() {
+        admin.get().uri("/api/v1/clients/{id}", "inexistente")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("CLIENT_NOT_FOUND");
+    }
+
+    @Test
+    @DisplayName("Deve listar os clientes com paginação")
+    void getAllClientsPageable() {
+        admin.get().uri("/api/v1/clients?page=1&size=10&sort=id")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(10)
+                .jsonPath("$.content[0].id").isEqualTo("client-011")
+                .jsonPath("$.totalElements").isEqualTo(CLIENTS);
+    }
+
+    @Test
+    @DisplayName("Deve buscar os clientes pelos atributos, como a API principal")
+    void getAllClientsWithAttributes() {
+        admin.get().uri("/api/v1/clients/attributes?name=maria&size=50")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(12)
+                .jsonPath("$.totalElements").isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("Deve recusar a ordenação por uma propriedade não suportada")
+    void getAllClientsWithUnsupportedSort() {
+        admin.get().uri("/api/v1/clients?sort=password")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("Deve exportar todos os clientes em lotes, conforme a demanda do consumidor")
+    void exportClients() {
+        Flux<ClientResponseDTO> export = admin.get().uri("/api/v1/clients/export?batchSize=7")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(ClientResponseDTO.class)
+                .getResponseBody();
+
+        StepVerifier.create(export, 3)
+                .expectNextMatches(client -> client.id().equals("client-001"))
+                .expectNextCount(2)
+                .thenRequest(Long.MAX_VALUE)
+                .expectNextCount(CLIENTS - 3)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Deve responder ao long-poll assim que o cliente for alterado")
+    void waitForChange() {
+        OffsetDateTime since = OffsetDateTime.now();
+
+        Flux.just(1)
+                .delayElements(Duration.ofMillis(300))
+                .concatMap(ignored -> databaseClient.sql("UPDATE client_table SET name = 'Alterado', update_at = :now WHERE id = 'client-002'")
+                        .bind("now", OffsetDateTime.now().plusSeconds(1))
+                        .then())
+                .subscribe();
+
+        admin.get().uri(uri -> uri.path("/api/v1/clients/{id}/changes")
+                        .queryParam("since", since.toString())
+                        .queryParam("timeout", "5s")
+                        .build("client-002"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("Alterado");
+    }
+
+    @Test
+    @DisplayName("Deve retornar 204 quando o cliente não for alterado dentro do tempo limite")
+    void waitForChangeTimeout() {
+        admin.get().uri(uri -> uri.path("/api/v1/clients/{id}/changes")
+                        .queryParam("since", OffsetDateTime.now().toString())
+                        .queryParam("timeout", "300ms")
+                        .build("client-003"))
+                .exchange()
+                .expectStatus().isNoContent();
+    }
+
+    @Test
+    @DisplayName("Deve exigir autenticação")
+    void unauthenticated() {
+        webTestClient.get().uri("/api/v1/clients/{id}", "client-001")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    @DisplayName("Deve recusar clientes sem o escopo de administrador")
+    void forbiddenWithoutAdminScope() {
+        webTestClient.mutateWith(mockJwt().authorities(new SimpleGrantedAuthority("SCOPE_USER")))
+                .get().uri("/api/v1/clients/{id}", "client-001")
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+}
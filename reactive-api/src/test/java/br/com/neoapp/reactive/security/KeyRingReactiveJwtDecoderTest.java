@@ -0,0 +1,91 @@
+package br.com.neoapp.reactive.security;
+
+import br.com.neoapp.api.security.JwtKeyRing;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.OctetKeyPairGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Testes Unitários para o Decodificador Reativo de JWT (KeyRingReactiveJwtDecoder)")
+public class KeyRingReactiveJwtDecoderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Deve verificar tokens EdDSA com as chaves publicadas pela API principal")
+    void decode_WithPublishedKey_ShouldReturnJwt() throws Exception {
+        JWK key = new OctetKeyPairGenerator(Curve.Ed25519).keyID("k1").generate();
+        JwtKeyRing issuer = new JwtKeyRing("EdDSA", key, List.of(key));
+        Path jwks = publish(issuer);
+
+        var decoder = new KeyRingReactiveJwtDecoder(new FileSystemResource(jwks), Duration.ofSeconds(30));
+
+        assertThat(decoder.decode(encode(issuer.createEncoder())).block().getSubject()).isEqualTo("admin@email.com");
+    }
+
+    @Test
+    @DisplayName("Deve recarregar as chaves ao receber um kid desconhecido após a troca de chave")
+    void decode_AfterKeyRollover_ShouldReloadJwkSet() throws Exception {
+        JWK oldKey = new ECKeyGenerator(Curve.P_256).keyID("antiga").generate();
+        JwtKeyRing oldIssuer = new JwtKeyRing("ES256", oldKey, List.of(oldKey));
+        Path jwks = publish(oldIssuer);
+        var decoder = new KeyRingReactiveJwtDecoder(new FileSystemResource(jwks), Duration.ZERO);
+        assertThat(decoder.decode(encode(oldIssuer.createEncoder())).block()).isNotNull();
+
+        JWK newKey = new OctetKeyPairGenerator(Curve.Ed25519).keyID("nova").generate();
+        JwtKeyRing newIssuer = new JwtKeyRing("EdDSA", newKey, List.of(oldKey.toPublicJWK(), newKey));
+        publish(newIssuer);
+
+        assertThat(decoder.decode(encode(newIssuer.createEncoder())).block().getSubject()).isEqualTo("admin@email.com");
+        assertThat(decoder.decode(encode(oldIssuer.createEncoder())).block()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Deve recusar tokens assinados por chaves não publicadas")
+    void decode_WithUnpublishedKey_ShouldReject() throws Exception {
+        JWK key = new ECKeyGenerator(Curve.P_256).keyID("k1").generate();
+        JWK otherKey = new ECKeyGenerator(Curve.P_256).keyID("k2").generate();
+        Path jwks = publish(new JwtKeyRing("ES256", key, List.of(key)));
+        var decoder = new KeyRingReactiveJwtDecoder(new FileSystemResource(jwks), Duration.ofSeconds(30));
+
+        String token = encode(new JwtKeyRing("ES256", otherKey, List.of(otherKey)).createEncoder());
+
+        assertThrows(BadJwtException.class, () -> decoder.decode(token).block());
+    }
+
+    private Path publish(JwtKeyRing keyRing) throws Exception {
+        JWKSet published = keyRing.toPublicJwkSet();
+        return Files.writeString(directory.resolve("jwks.json"), published.toString());
+    }
+
+    private static String encode(JwtEncoder encoder) {
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer("Api")
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(300))
+                .subject("admin@email.com")
+                .claim("scope", "ADMIN")
+                .build();
+        return encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+    }
+}
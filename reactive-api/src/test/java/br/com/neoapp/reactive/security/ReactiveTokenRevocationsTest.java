@@ -0,0 +1,89 @@
+package br.com.neoapp.reactive.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Testes para a Verificação Reativa de Tokens Revogados (ReactiveTokenRevocations)")
+class ReactiveTokenRevocationsTest {
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("DELETE FROM revoked_token_table").then().block();
+    }
+
+    @Test
+    @DisplayName("Deve recusar um token revogado consultando o banco antes da primeira carga do filtro")
+    void check_BeforeFirstLoad_ShouldQueryDatabase() {
+        ReactiveTokenRevocations revocations = revocations(Duration.ofMinutes(1));
+        revoke("revogado");
+
+        StepVerifier.create(revocations.check(jwt("revogado"))).expectError(JwtValidationException.class).verify();
+        StepVerifier.create(revocations.check(jwt("valido"))).expectNextCount(1).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Deve recusar após a cópia seguinte um token revogado depois da carga do filtro")
+    void check_AfterSync_ShouldRejectRecentRevocation() {
+        ReactiveTokenRevocations revocations = revocations(Duration.ofMinutes(1));
+        revoke("antigo");
+        revocations.refresh().block();
+        revoke("recente");
+
+        revocations.refresh().block();
+
+        StepVerifier.create(revocations.check(jwt("antigo"))).expectError(JwtValidationException.class).verify();
+        StepVerifier.create(revocations.check(jwt("recente"))).expectError(JwtValidationException.class).verify();
+        StepVerifier.create(revocations.check(jwt("valido"))).expectNextCount(1).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Deve confirmar no banco todos os tokens quando as cópias do filtro estiverem atrasadas")
+    void check_WithStaleFilter_ShouldFailClosed() throws InterruptedException {
+        ReactiveTokenRevocations revocations = revocations(Duration.ofMillis(10));
+        revocations.refresh().block();
+        revoke("recente");
+
+        Thread.sleep(50);
+
+        StepVerifier.create(revocations.check(jwt("recente"))).expectError(JwtValidationException.class).verify();
+    }
+
+    private ReactiveTokenRevocations revocations(Duration syncInterval) {
+        return new ReactiveTokenRevocations(databaseClient, 1000, 0.001, syncInterval, Duration.ofMinutes(5));
+    }
+
+    private void revoke(String jti) {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        databaseClient.sql("INSERT INTO revoked_token_table (jti, expires_at, revoked_at) VALUES (:jti, :expiresAt, :revokedAt)")
+                .bind("jti", jti)
+                .bind("expiresAt", now.plusMinutes(5))
+                .bind("revokedAt", now)
+                .then()
+                .block();
+    }
+
+    private static Jwt jwt(String jti) {
+        return Jwt.withTokenValue("token")
+                .header("alg", "EdDSA")
+                .subject("admin@email.com")
+                .jti(jti)
+                .build();
+    }
+}
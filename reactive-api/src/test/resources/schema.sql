@@ -0,0 +1,19 @@
+CREATE TABLE IF NOT EXISTS client_table (
+    id VARCHAR(36) PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    birthday DATE,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    password VARCHAR(255),
+    phone VARCHAR(20),
+    cpf VARCHAR(14) UNIQUE,
+    creat_at TIMESTAMP WITH TIME ZONE,
+    update_at TIMESTAMP WITH TIME ZONE,
+    last_login_at TIMESTAMP WITH TIME ZONE,
+    login_count BIGINT DEFAULT 0 NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS revoked_token_table (
+    jti VARCHAR(36) PRIMARY KEY,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    revoked_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
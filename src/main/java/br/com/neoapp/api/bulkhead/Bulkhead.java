@@ -0,0 +1,28 @@
+package br.com.neoapp.api.bulkhead;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Executa o método dentro da cota de execuções simultâneas da sua classe de carga.
+ * <p>
+ * A cota é controlada pelo {@link BulkheadRegistry}: sem uma vaga disponível dentro do tempo
+ * máximo de espera, a chamada é recusada com {@code ServiceOverloadedException} (HTTP 503).
+ * Enquanto o método executa, a classe de carga fica disponível em {@link WorkloadContext}, o
+ * que permite direcionar as buscas para um pool de conexões próprio.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Bulkhead {
+
+    /**
+     * A classe de carga do método.
+     *
+     * @return a classe de carga.
+     */
+    Workload value();
+}
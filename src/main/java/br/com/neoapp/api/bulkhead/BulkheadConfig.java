@@ -0,0 +1,38 @@
+package br.com.neoapp.api.bulkhead;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuração das cotas por classe de carga ({@link Bulkhead}).
+ */
+@Configuration
+public class BulkheadConfig {
+
+    /**
+     * Registra o interceptador dos métodos anotados com {@link Bulkhead}.
+     * <p>
+     * O interceptador é executado antes dos demais (inclusive das transações), para que a vaga
+     * seja ocupada antes de qualquer conexão e a classe de carga já esteja definida quando a
+     * transação obtiver a sua conexão.
+     *
+     * @param registry Fornece as cotas de cada classe de carga.
+     * @return o {@link Advisor} dos métodos anotados.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor bulkheadAdvisor(ObjectProvider<BulkheadRegistry> registry) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(Bulkhead.class),
+                new BulkheadInterceptor(registry));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
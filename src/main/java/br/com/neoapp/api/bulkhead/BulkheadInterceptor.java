@@ -0,0 +1,52 @@
+package br.com.neoapp.api.bulkhead;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+/**
+ * Interceptador dos métodos anotados com {@link Bulkhead}.
+ * <p>
+ * Ocupa uma vaga da classe de carga do método no {@link BulkheadRegistry} e a define em
+ * {@link WorkloadContext} durante a execução. Chamadas aninhadas, feitas por um método que já
+ * está dentro de uma cota, não ocupam uma segunda vaga.
+ */
+public class BulkheadInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<BulkheadRegistry> registry;
+
+    /**
+     * Constrói o interceptador.
+     *
+     * @param registry Fornece as cotas de cada classe de carga, obtidas na primeira chamada.
+     */
+    public BulkheadInterceptor(ObjectProvider<BulkheadRegistry> registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (WorkloadContext.current() != null) {
+            return invocation.proceed();
+        }
+
+        Bulkhead bulkhead = AnnotatedElementUtils.findMergedAnnotation(invocation.getMethod(), Bulkhead.class);
+        if (bulkhead == null) {
+            return invocation.proceed();
+        }
+
+        Workload workload = bulkhead.value();
+        BulkheadRegistry bulkheads = registry.getObject();
+        boolean acquired = bulkheads.acquire(workload);
+        WorkloadContext.set(workload);
+        try {
+            return invocation.proceed();
+        } finally {
+            WorkloadContext.set(null);
+            if (acquired) {
+                bulkheads.release(workload);
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package br.com.neoapp.api.bulkhead;
+
+import br.com.neoapp.api.exceptions.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cotas de execuções simultâneas de cada classe de carga ({@link Workload}).
+ * <p>
+ * Login e cadastro consomem CPU com o hashing das senhas, as buscas por atributos consomem
+ * varreduras no banco e as operações por ID precisam de baixa latência, mas todas disputam as
+ * mesmas threads e o mesmo pool de conexões. Cada classe de carga recebe aqui um
+ * {@link Semaphore} próprio, de modo que uma busca descontrolada ou uma onda de logins esgota
+ * apenas a sua cota, e não os recursos de {@code getClientById}.
+ * <p>
+ * Sem uma vaga dentro de {@code app.bulkhead.max-wait}, a chamada é recusada com
+ * {@link ServiceOverloadedException}. São exportadas as métricas {@code bulkhead.available} e
+ * {@code bulkhead.rejected}, com a tag {@code workload}.
+ */
+@Component
+public class BulkheadRegistry {
+
+    private final Map<Workload, Compartment> compartments = new EnumMap<>(Workload.class);
+
+    private final boolean enabled;
+
+    private final long maxWaitNanos;
+
+    private final long retryAfterSeconds;
+
+    /**
+     * Constrói as cotas configuradas.
+     *
+     * @param meterRegistry     Registro onde são publicadas as métricas.
+     * @param enabled           Se {@code false}, nenhuma chamada é limitada ({@code app.bulkhead.enabled}).
+     * @param maxWait           Tempo máximo de espera por uma vaga ({@code app.bulkhead.max-wait}).
+     * @param retryAfterSeconds Valor do cabeçalho {@code Retry-After} das recusas
+     *                          ({@code app.bulkhead.retry-after-seconds}).
+     * @param authLimit         Execuções simultâneas de login e cadastro ({@code app.bulkhead.auth}).
+     * @param searchLimit       Execuções simultâneas de buscas ({@code app.bulkhead.search}).
+     * @param crudLimit         Execuções simultâneas das operações por ID ({@code app.bulkhead.crud}).
+     */
+    public BulkheadRegistry(MeterRegistry meterRegistry,
+                            @Value("${app.bulkhead.enabled:true}") boolean enabled,
+                            @Value("${app.bulkhead.max-wait:50ms}") Duration maxWait,
+                            @Value("${app.bulkhead.retry-after-seconds:1}") long retryAfterSeconds,
+                            @Value("${app.bulkhead.auth:32}") int authLimit,
+                            @Value("${app.bulkhead.search:8}") int searchLimit,
+                            @Value("${app.bulkhead.crud:64}") int crudLimit) {
+        this.enabled = enabled;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.retryAfterSeconds = retryAfterSeconds;
+        compartments.put(Workload.AUTH, new Compartment(Workload.AUTH, authLimit, meterRegistry));
+        compartments.put(Workload.SEARCH, new Compartment(Workload.SEARCH, searchLimit, meterRegistry));
+        compartments.put(Workload.CRUD, new Compartment(Workload.CRUD, crudLimit, meterRegistry));
+    }
+
+    /**
+     * Ocupa uma vaga da classe de carga, aguardando no máximo {@code app.bulkhead.max-wait}.
+     *
+     * @param workload A classe de carga.
+     * @return {@code true} se uma vaga foi ocupada e deve ser devolvida com {@link #release};
+     * {@code false} se as cotas estão desabilitadas.
+     * @throws ServiceOverloadedException se não houver vaga dentro do tempo máximo de espera.
+     */
+    public boolean acquire(Workload workload) {
+        if (!enabled) {
+            return false;
+        }
+
+        Compartment compartment = compartments.get(workload);
+        boolean acquired;
+        try {
+            acquired = compartment.semaphore.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("A espera por uma vaga foi interrompida.", e);
+        }
+
+        if (!acquired) {
+            compartment.rejectedCounter.increment();
+            throw new ServiceOverloadedException(
+                    "O serviço está sobrecarregado. Tente novamente em instantes.", retryAfterSeconds);
+        }
+        return true;
+    }
+
+    /**
+     * Devolve uma vaga ocupada com {@link #acquire}.
+     *
+     * @param workload A classe de carga.
+     */
+    public void release(Workload workload) {
+        compartments.get(workload).semaphore.release();
+    }
+
+    private static final class Compartment {
+
+        private final Semaphore semaphore;
+        private final Counter rejectedCounter;
+
+        private Compartment(Workload workload, int limit, MeterRegistry meterRegistry) {
+            this.semaphore = new Semaphore(Math.max(1, limit));
+            this.rejectedCounter = Counter.builder("bulkhead.rejected")
+                    .description("Chamadas recusadas por falta de vaga na cota da classe de carga")
+                    .tag("workload", workload.name().toLowerCase())
+                    .register(meterRegistry);
+            Gauge.builder("bulkhead.available", semaphore, Semaphore::availablePermits)
+                    .description("Vagas disponíveis na cota da classe de carga")
+                    .tag("workload", workload.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.neoapp.api.bulkhead;
+
+/**
+ * Classes de carga da aplicação, isoladas umas das outras por {@link Bulkhead}.
+ */
+public enum Workload {
+
+    /**
+     * Login e cadastro: limitados pela CPU, por causa do hashing das senhas.
+     */
+    AUTH,
+
+    /**
+     * Buscas por atributos, por texto e por aniversário: limitadas pelas varreduras no banco.
+     */
+    SEARCH,
+
+    /**
+     * Consultas e alterações por ID: rápidas e sensíveis à latência.
+     */
+    CRUD
+}
@@ -0,0 +1,53 @@
+package br.com.neoapp.api.bulkhead;
+
+import java.util.function.Supplier;
+
+/**
+ * Mantém a classe de carga ({@link Workload}) da execução corrente na thread.
+ * <p>
+ * Definida pelo {@link BulkheadInterceptor} ao entrar em um método anotado com
+ * {@link Bulkhead}. Tarefas executadas em outras threads em nome da mesma requisição devem
+ * propagá-la com {@link #supply}.
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    /**
+     * Retorna a classe de carga da execução corrente.
+     *
+     * @return a classe de carga, ou {@code null} fora de um método anotado com {@link Bulkhead}.
+     */
+    public static Workload current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Executa a operação com a classe de carga informada, restaurando a anterior ao final.
+     *
+     * @param workload  A classe de carga; {@code null} executa sem classe de carga.
+     * @param operation A operação a ser executada.
+     * @param <T>       O tipo do resultado.
+     * @return o resultado da operação.
+     */
+    public static <T> T supply(Workload workload, Supplier<T> operation) {
+        Workload previous = CURRENT.get();
+        set(workload);
+        try {
+            return operation.get();
+        } finally {
+            set(previous);
+        }
+    }
+
+    static void set(Workload workload) {
+        if (workload == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(workload);
+        }
+    }
+}
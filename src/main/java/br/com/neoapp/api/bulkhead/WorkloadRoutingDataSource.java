@@ -0,0 +1,33 @@
+package br.com.neoapp.api.bulkhead;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * {@link DataSource} que entrega as conexões das buscas ({@link Workload#SEARCH}) a partir de
+ * um pool próprio, e as demais a partir do pool principal.
+ * <p>
+ * A escolha é feita pela classe de carga em {@link WorkloadContext} no momento em que a
+ * conexão é obtida, ou seja, no início de cada transação.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * Constrói o roteamento entre os dois pools.
+     *
+     * @param defaultDataSource O pool principal.
+     * @param searchDataSource  O pool das buscas.
+     */
+    public WorkloadRoutingDataSource(DataSource defaultDataSource, DataSource searchDataSource) {
+        setDefaultTargetDataSource(defaultDataSource);
+        setTargetDataSources(Map.of(Workload.SEARCH, searchDataSource));
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return WorkloadContext.current() == Workload.SEARCH ? Workload.SEARCH : null;
+    }
+}
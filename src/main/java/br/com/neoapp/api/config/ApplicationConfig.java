@@ -1,20 +1,33 @@
 package br.com.neoapp.api.config;
 
+import br.com.neoapp.api.security.BoundedPasswordEncoder;
+import br.com.neoapp.api.security.CachingJwtDecoder;
+import br.com.neoapp.api.security.JwtKeyRing;
+import br.com.neoapp.api.security.PasswordHashCalibrator;
+import br.com.neoapp.api.security.TokenRevocationService;
 import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
-import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
+import org.springframework.security.oauth2.jwt.JwtValidators;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
 
 /**
  * Classe de configuração central para beans da aplicação.
@@ -22,8 +35,14 @@ import java.security.interfaces.RSAPublicKey;
  * Esta classe é responsável por definir e expor beans essenciais que são utilizados
  * em toda a aplicação, especialmente aqueles relacionados à segurança, como a codificação
  * de senhas e a manipulação de tokens JWT.
+ * <p>
+ * A anotação {@code @EnableAsync} habilita a execução de métodos anotados com {@code @Async},
+ * utilizada em tarefas de segundo plano como a reconstrução de índices em memória, e a
+ * anotação {@code @EnableScheduling} habilita as tarefas periódicas anotadas com {@code @Scheduled}.
  */
 @Configuration
+@EnableAsync
+@EnableScheduling
 public class ApplicationConfig {
 
     /**
@@ -43,44 +62,118 @@ public class ApplicationConfig {
     /**
      * Define o bean {@link PasswordEncoder} para a aplicação.
      * <p>
-     * Utiliza o {@link BCryptPasswordEncoder}, que é o algoritmo recomendado pelo Spring Security
-     * para o hashing seguro de senhas. Este bean será injetado em serviços que precisam
-     * verificar ou codificar senhas de usuários.
+     * O algoritmo de novos hashes (BCrypt ou Argon2) tem seu custo calibrado na inicialização
+     * pelo {@link PasswordHashCalibrator}, de acordo com a latência alvo configurada. Hashes
+     * antigos continuam válidos e são refeitos com o custo atual no próximo login.
+     * Este bean será injetado em serviços que precisam verificar ou codificar senhas de usuários.
+     * <p>
+     * O codificador é envolvido por um {@link BoundedPasswordEncoder}, que executa o hashing em um
+     * executor dedicado do tamanho do número de núcleos e com fila limitada, para que picos de
+     * login e cadastro não consumam a CPU das demais requisições.
      *
-     * @return uma instância de {@code BCryptPasswordEncoder}.
+     * @param meterRegistry     Registro onde são publicadas as métricas do executor de hashing.
+     * @param algorithm         Algoritmo usado nos novos hashes ({@code bcrypt} ou {@code argon2}).
+     * @param targetLatency     Latência alvo de um hash, usada na calibração do custo.
+     * @param bcryptMinStrength {@code strength} mínima do BCrypt.
+     * @param argon2MemoryKb    Memória, em KB, usada por hash no Argon2.
+     * @param threads           Quantidade de threads de hashing (0 = número de núcleos).
+     * @param queueCapacity     Tamanho máximo da fila de operações de hashing.
+     * @param retryAfterSeconds Segundos sugeridos no {@code Retry-After} quando a fila está cheia.
+     * @return uma instância de {@code BoundedPasswordEncoder} que delega ao codificador calibrado.
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                           @Value("${app.hashing.algorithm:bcrypt}") String algorithm,
+                                           @Value("${app.hashing.target-latency:100ms}") Duration targetLatency,
+                                           @Value("${app.hashing.bcrypt.min-strength:10}") int bcryptMinStrength,
+                                           @Value("${app.hashing.argon2.memory-kb:19456}") int argon2MemoryKb,
+                                           @Value("${app.hashing.threads:0}") int threads,
+                                           @Value("${app.hashing.queue-capacity:64}") int queueCapacity,
+                                           @Value("${app.hashing.retry-after-seconds:1}") long retryAfterSeconds) {
+        PasswordEncoder calibrated = new PasswordHashCalibrator(targetLatency, bcryptMinStrength, argon2MemoryKb)
+                .createEncoder(algorithm);
+        return new BoundedPasswordEncoder(calibrated, threads, queueCapacity, retryAfterSeconds, meterRegistry);
+    }
+
+    /**
+     * Define o conjunto de chaves usado para assinar e verificar os tokens JWT.
+     * <p>
+     * Sem {@code app.jwt.jwk-set-location}, usa o par RSA de {@code jwt.public.key} e
+     * {@code jwt.private.key} com o algoritmo RS256. Com um JWK Set configurado, o algoritmo
+     * pode ser {@code RS256}, {@code ES256} ou {@code EdDSA}; a chave ativa é a indicada por
+     * {@code app.jwt.signing-key-id} e as demais chaves do conjunto continuam aceitas na
+     * verificação, permitindo a troca de chaves sem invalidar os tokens já emitidos.
+     *
+     * @param algorithm       Algoritmo de assinatura dos novos tokens.
+     * @param jwkSetLocation  Localização do JWK Set (e.g., {@code file:/etc/neoapp/jwks.json}); vazio usa o par RSA.
+     * @param signingKeyId    {@code kid} da chave ativa do JWK Set; vazio usa a primeira chave privada compatível.
+     * @return o {@link JwtKeyRing} com a chave de assinatura e as chaves de verificação.
+     * @throws IOException    se o JWK Set não puder ser lido.
+     * @throws ParseException se o JWK Set for inválido.
+     */
+    @Bean
+    JwtKeyRing jwtKeyRing(@Value("${app.jwt.algorithm:RS256}") String algorithm,
+                          @Value("${app.jwt.jwk-set-location:}") String jwkSetLocation,
+                          @Value("${app.jwt.signing-key-id:}") String signingKeyId) throws IOException, ParseException {
+        if (jwkSetLocation.isBlank()) {
+            if (!"RS256".equals(algorithm)) {
+                throw new IllegalStateException("O algoritmo " + algorithm + " exige a propriedade app.jwt.jwk-set-location.");
+            }
+            return JwtKeyRing.rsa(key, priv);
+        }
+        try (InputStream inputStream = new DefaultResourceLoader().getResource(jwkSetLocation).getInputStream()) {
+            return JwtKeyRing.fromJwkSet(algorithm, JWKSet.load(inputStream), signingKeyId);
+        }
     }
 
     /**
      * Define o bean {@link JwtDecoder} para a aplicação.
      * <p>
-     * Este decodificador é configurado com a chave pública RSA e será utilizado pelo
-     * Spring Security Resource Server para validar a assinatura e os claims dos
-     * tokens JWT recebidos em requisições protegidas.
+     * Este decodificador verifica a assinatura com a chave indicada pelo {@code kid} do token
+     * e será utilizado pelo Spring Security Resource Server para validar a assinatura e os
+     * claims dos tokens JWT recebidos em requisições protegidas.
+     * <p>
+     * O decodificador do {@link JwtKeyRing} é envolvido por um {@link CachingJwtDecoder}, que guarda os
+     * tokens já verificados até sua expiração, evitando refazer a verificação da assinatura a cada
+     * requisição feita com o mesmo token.
+     * <p>
+     * Os tokens revogados são recusados pelo {@link TokenRevocationService}, tanto na verificação
+     * completa quanto nos acertos do cache, de modo que uma revogação vale também para os tokens
+     * já em cache.
      *
-     * @return uma instância de {@code NimbusJwtDecoder} configurada com a chave pública.
+     * @param jwtKeyRing             Conjunto de chaves aceitas na verificação.
+     * @param tokenRevocationService Serviço que recusa os tokens revogados.
+     * @param meterRegistry          Registro onde são publicadas as métricas do cache de tokens.
+     * @param cacheMaxEntries        Quantidade máxima de tokens verificados mantidos em cache.
+     * @return uma instância de {@code CachingJwtDecoder} que delega ao {@code NimbusJwtDecoder}.
      */
     @Bean
-    JwtDecoder decoder(){
-        return NimbusJwtDecoder.withPublicKey(key).build();
+    JwtDecoder decoder(JwtKeyRing jwtKeyRing,
+                       TokenRevocationService tokenRevocationService,
+                       MeterRegistry meterRegistry,
+                       @Value("${app.jwt.cache.max-entries:10000}") int cacheMaxEntries){
+        NimbusJwtDecoder nimbusJwtDecoder = jwtKeyRing.createDecoder();
+        nimbusJwtDecoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(JwtValidators.createDefault(), tokenRevocationService));
+        return new CachingJwtDecoder(
+                nimbusJwtDecoder,
+                new DelegatingOAuth2TokenValidator<>(new JwtTimestampValidator(), tokenRevocationService),
+                cacheMaxEntries,
+                Clock.systemUTC(),
+                meterRegistry);
     }
 
     /**
      * Define o bean {@link JwtEncoder} para a aplicação.
      * <p>
-     * Este codificador é configurado com o par de chaves RSA (pública e privada).
-     * Será utilizado por serviços como o {@code JwtService} para criar e assinar
-     * novos tokens JWT para usuários que se autenticam com sucesso.
+     * Este codificador assina os tokens com a chave ativa do {@link JwtKeyRing}, incluindo
+     * o {@code kid} no cabeçalho. Será utilizado por serviços como o {@code JwtService} para
+     * criar e assinar novos tokens JWT para usuários que se autenticam com sucesso.
      *
-     * @return uma instância de {@code NimbusJwtEncoder} configurada com o par de chaves.
+     * @param jwtKeyRing Conjunto de chaves com a chave de assinatura ativa.
+     * @return o codificador de JWT do conjunto de chaves.
      */
     @Bean
-    JwtEncoder jwtEncoder(){
-        var jwk = new RSAKey.Builder(key).privateKey(priv).build();
-        var jwks = new ImmutableJWKSet<>(new JWKSet(jwk));
-        return new NimbusJwtEncoder(jwks);
+    JwtEncoder jwtEncoder(JwtKeyRing jwtKeyRing){
+        return jwtKeyRing.createEncoder();
     }
-}
\ No newline at end of file
+}
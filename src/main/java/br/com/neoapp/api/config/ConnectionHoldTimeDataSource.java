@@ -0,0 +1,131 @@
+package br.com.neoapp.api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DataSource} que mede por quanto tempo cada conexão fica fora do pool, por endpoint.
+ * <p>
+ * O tempo vai da obtenção da conexão até a sua devolução ({@code close()}) e é publicado na
+ * métrica {@code db.connection.hold}, com as tags {@code method} e {@code uri} (o padrão do
+ * endpoint, como em {@code http.server.requests}). Conexões obtidas fora de uma requisição têm
+ * a {@code uri} {@code none}; as obtidas antes do mapeamento do endpoint (e.g., nos filtros de
+ * segurança), {@code UNKNOWN}.
+ * <p>
+ * Comparada ao tempo da requisição, a métrica mostra quanto da requisição é gasto segurando uma
+ * conexão. Com o open-session-in-view, a conexão de uma listagem ficaria presa até o fim da
+ * serialização da resposta.
+ */
+public class ConnectionHoldTimeDataSource extends DelegatingDataSource {
+
+    private static final String METRIC = "db.connection.hold";
+    private static final String NONE = "none";
+    private static final String UNKNOWN = "UNKNOWN";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    /**
+     * Constrói a medição sobre o {@link DataSource} da aplicação.
+     *
+     * @param targetDataSource O {@link DataSource} medido.
+     * @param meterRegistry    Registro onde é publicada a métrica, obtido na primeira conexão.
+     */
+    public ConnectionHoldTimeDataSource(DataSource targetDataSource, ObjectProvider<MeterRegistry> meterRegistry) {
+        super(targetDataSource);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return measured(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return measured(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection measured(Connection connection) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(ConnectionHoldTimeDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new HoldTimeHandler(connection, registry, System.nanoTime()));
+    }
+
+    private static String[] currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return new String[]{NONE, NONE};
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return new String[]{request.getMethod(), pattern == null ? UNKNOWN : pattern.toString()};
+    }
+
+    private static final class HoldTimeHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final MeterRegistry registry;
+        private final long acquiredAt;
+        private boolean closed;
+
+        private HoldTimeHandler(Connection target, MeterRegistry registry, long acquiredAt) {
+            this.target = target;
+            this.registry = registry;
+            this.acquiredAt = acquiredAt;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        record();
+                    }
+                    break;
+                default:
+                    break;
+            }
+
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+
+        private void record() {
+            String[] endpoint = currentEndpoint();
+            Timer.builder(METRIC)
+                    .description("Tempo em que cada conexão do banco fica fora do pool")
+                    .tag("method", endpoint[0])
+                    .tag("uri", endpoint[1])
+                    .publishPercentileHistogram()
+                    .register(registry)
+                    .record(System.nanoTime() - acquiredAt, TimeUnit.NANOSECONDS);
+        }
+    }
+}
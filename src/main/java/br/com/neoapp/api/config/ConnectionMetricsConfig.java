@@ -0,0 +1,40 @@
+package br.com.neoapp.api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuração da métrica de tempo de uso das conexões por endpoint
+ * ({@link ConnectionHoldTimeDataSource}), habilitada pela propriedade
+ * {@code app.datasource.hold-time-metrics.enabled}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.hold-time-metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class ConnectionMetricsConfig {
+
+    /**
+     * Envolve o {@link DataSource} principal da aplicação (o bean {@code dataSource}, seja o do
+     * Spring Boot ou o de {@link DataSourceConfig}) na medição do tempo de uso das conexões.
+     *
+     * @param meterRegistry Registro onde é publicada a métrica.
+     * @return o {@link BeanPostProcessor} que envolve o {@link DataSource}.
+     */
+    @Bean
+    static BeanPostProcessor connectionHoldTimePostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource) {
+                    return new ConnectionHoldTimeDataSource(dataSource, meterRegistry);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -34,6 +34,8 @@ public class DataInitializer {
         Role roleUser = createOrGetRole(RoleName.USER);
         Role roleAdmin = createOrGetRole(RoleName.ADMIN);
 
+        clientRepository.backfillBirthdayMonthDay();
+
         if (clientRepository.findByEmail("admin@email.com").isEmpty()){
             List<Role> listRole = new ArrayList<>();
             listRole.add(roleAdmin);
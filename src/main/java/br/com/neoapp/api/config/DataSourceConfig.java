@@ -0,0 +1,186 @@
+package br.com.neoapp.api.config;
+
+import br.com.neoapp.api.bulkhead.WorkloadRoutingDataSource;
+import br.com.neoapp.api.replica.ReadYourWrites;
+import br.com.neoapp.api.replica.ReplicaDataSources;
+import br.com.neoapp.api.replica.ReplicaRoutingDataSource;
+import br.com.neoapp.api.replica.ReplicaSelection;
+import br.com.neoapp.api.shard.ClientShards;
+import br.com.neoapp.api.shard.ShardRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuração dos pools de conexões adicionais ao principal, usada apenas quando o pool das
+ * buscas ({@code app.bulkhead.search-datasource.enabled}), as réplicas de leitura
+ * ({@code app.datasource.replicas.enabled}) ou os shards ({@code app.sharding.enabled}) estão
+ * habilitados. Caso contrário, vale o {@link DataSource} padrão do Spring Boot.
+ * <p>
+ * O pool principal continua configurado por {@code spring.datasource.*}. O das buscas, com a
+ * mesma URL e as mesmas credenciais, por {@code app.bulkhead.search-datasource.hikari.*}; assim,
+ * uma busca lenta pode esgotar apenas o seu próprio pool. As réplicas, pelas URLs em
+ * {@code app.datasource.replicas.urls}, com as credenciais do principal salvo indicação contrária.
+ * Os shards adicionais, da mesma forma, pelas URLs em {@code app.sharding.urls}; os shards não se
+ * combinam com o pool das buscas nem com as réplicas.
+ */
+@Configuration
+@ConditionalOnExpression("${app.bulkhead.search-datasource.enabled:false} or ${app.datasource.replicas.enabled:false}"
+        + " or ${app.sharding.enabled:false}")
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource defaultDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.bulkhead.search-datasource.enabled", havingValue = "true")
+    @ConfigurationProperties("app.bulkhead.search-datasource.hikari")
+    HikariDataSource searchDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("search");
+        return dataSource;
+    }
+
+    /**
+     * Cria um pool somente leitura para cada réplica.
+     *
+     * @param properties        As propriedades do banco principal, de onde vêm o driver e as
+     *                          credenciais padrão.
+     * @param urls              As URLs JDBC das réplicas ({@code app.datasource.replicas.urls}).
+     * @param username          O usuário das réplicas ({@code app.datasource.replicas.username}).
+     * @param password          A senha das réplicas ({@code app.datasource.replicas.password}).
+     * @param maximumPoolSize   O tamanho de cada pool ({@code app.datasource.replicas.hikari.maximum-pool-size}).
+     * @param connectionTimeout O tempo máximo de espera por uma conexão, em milissegundos
+     *                          ({@code app.datasource.replicas.hikari.connection-timeout}).
+     * @return os pools das réplicas.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+    ReplicaDataSources replicaDataSources(DataSourceProperties properties,
+                                          @Value("${app.datasource.replicas.urls}") List<String> urls,
+                                          @Value("${app.datasource.replicas.username:${spring.datasource.username:}}") String username,
+                                          @Value("${app.datasource.replicas.password:${spring.datasource.password:}}") String password,
+                                          @Value("${app.datasource.replicas.hikari.maximum-pool-size:10}") int maximumPoolSize,
+                                          @Value("${app.datasource.replicas.hikari.connection-timeout:2000}") long connectionTimeout) {
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (String url : urls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + pools.size());
+            dataSource.setJdbcUrl(url.trim());
+            dataSource.setDriverClassName(properties.determineDriverClassName());
+            dataSource.setUsername(username);
+            dataSource.setPassword(password);
+            dataSource.setReadOnly(true);
+            dataSource.setMaximumPoolSize(maximumPoolSize);
+            dataSource.setConnectionTimeout(connectionTimeout);
+            pools.add(dataSource);
+        }
+        if (pools.isEmpty()) {
+            throw new IllegalStateException("Informe as URLs das réplicas em app.datasource.replicas.urls.");
+        }
+        return new ReplicaDataSources(pools);
+    }
+
+    /**
+     * Cria um pool para cada shard adicional; o primeiro shard é o pool principal.
+     *
+     * @param defaultDataSource O pool principal.
+     * @param properties        As propriedades do banco principal, de onde vêm o driver e as
+     *                          credenciais padrão.
+     * @param urls              As URLs JDBC dos shards adicionais ({@code app.sharding.urls}).
+     * @param username          O usuário dos shards ({@code app.sharding.username}).
+     * @param password          A senha dos shards ({@code app.sharding.password}).
+     * @param maximumPoolSize   O tamanho de cada pool ({@code app.sharding.hikari.maximum-pool-size}).
+     * @param connectionTimeout O tempo máximo de espera por uma conexão, em milissegundos
+     *                          ({@code app.sharding.hikari.connection-timeout}).
+     * @return os shards.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+    ClientShards clientShards(@Qualifier("defaultDataSource") DataSource defaultDataSource,
+                              DataSourceProperties properties,
+                              @Value("${app.sharding.urls:}") List<String> urls,
+                              @Value("${app.sharding.username:${spring.datasource.username:}}") String username,
+                              @Value("${app.sharding.password:${spring.datasource.password:}}") String password,
+                              @Value("${app.sharding.hikari.maximum-pool-size:10}") int maximumPoolSize,
+                              @Value("${app.sharding.hikari.connection-timeout:2000}") long connectionTimeout) {
+        List<DataSource> pools = new ArrayList<>();
+        pools.add(defaultDataSource);
+        for (String url : urls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("shard-" + pools.size());
+            dataSource.setJdbcUrl(url.trim());
+            dataSource.setDriverClassName(properties.determineDriverClassName());
+            dataSource.setUsername(username);
+            dataSource.setPassword(password);
+            dataSource.setMaximumPoolSize(maximumPoolSize);
+            dataSource.setConnectionTimeout(connectionTimeout);
+            pools.add(dataSource);
+        }
+        return new ClientShards(pools);
+    }
+
+    /**
+     * Monta o {@link DataSource} da aplicação: o pool principal, separado do das buscas por um
+     * {@link WorkloadRoutingDataSource} quando este existe, e ambos atrás de um
+     * {@link ReplicaRoutingDataSource} quando há réplicas. Com shards, o
+     * {@link ShardRoutingDataSource} entre eles.
+     *
+     * @param defaultDataSource  O pool principal.
+     * @param searchDataSource   O pool das buscas, se habilitado.
+     * @param replicaDataSources Os pools das réplicas, se habilitadas.
+     * @param clientShards       Os shards, se habilitados.
+     * @param readYourWrites     As janelas de leitura das próprias escritas.
+     * @param selection          A política de escolha da réplica ({@code app.datasource.replicas.policy}).
+     * @return o {@link DataSource} principal da aplicação.
+     */
+    @Bean
+    @Primary
+    DataSource dataSource(@Qualifier("defaultDataSource") DataSource defaultDataSource,
+                          @Qualifier("searchDataSource") ObjectProvider<DataSource> searchDataSource,
+                          ObjectProvider<ReplicaDataSources> replicaDataSources,
+                          ObjectProvider<ClientShards> clientShards,
+                          ObjectProvider<ReadYourWrites> readYourWrites,
+                          @Value("${app.datasource.replicas.policy:least-busy}") ReplicaSelection selection) {
+        DataSource searchPool = searchDataSource.getIfAvailable();
+        ReplicaDataSources replicas = replicaDataSources.getIfAvailable();
+        ClientShards shards = clientShards.getIfAvailable();
+        if (shards != null) {
+            if (searchPool != null || replicas != null) {
+                throw new IllegalStateException(
+                        "Os shards não podem ser combinados com o pool das buscas nem com as réplicas de leitura.");
+            }
+            return new LazyConnectionDataSourceProxy(new ShardRoutingDataSource(shards.dataSources()));
+        }
+
+        DataSource primary = searchPool == null ? defaultDataSource : new WorkloadRoutingDataSource(defaultDataSource, searchPool);
+
+        if (replicas == null) {
+            return primary;
+        }
+        return new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primary, replicas.pools(), selection, readYourWrites.getObject()));
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.neoapp.api.config;
+
+import br.com.neoapp.api.web.RequestDeadline;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionTimedOutException;
+
+/**
+ * {@link JpaTransactionManager} que limita o tempo de cada transação ao prazo da requisição
+ * corrente ({@link RequestDeadline}).
+ * <p>
+ * O tempo limite da transação é o menor entre o definido na própria transação e o tempo
+ * restante até o prazo, arredondado para cima em segundos. O Spring o aplica a cada consulta
+ * criada na transação como tempo limite do {@code Statement} JDBC, e o driver cancela a consulta
+ * no banco ao se esgotar. Uma transação iniciada com o prazo já esgotado é recusada com
+ * {@link TransactionTimedOutException}, antes de obter uma conexão.
+ */
+public class DeadlineAwareJpaTransactionManager extends JpaTransactionManager {
+
+    @Override
+    protected int determineTimeout(TransactionDefinition definition) {
+        int timeout = super.determineTimeout(definition);
+        RequestDeadline deadline = RequestDeadline.current();
+        if (deadline == null) {
+            return timeout;
+        }
+
+        long remainingMillis = deadline.remainingMillis();
+        if (remainingMillis <= 0) {
+            throw new TransactionTimedOutException("O prazo da requisição se esgotou antes do início da transação.");
+        }
+
+        int remainingSeconds = (int) Math.min(Integer.MAX_VALUE, (remainingMillis + 999) / 1000);
+        return timeout == TransactionDefinition.TIMEOUT_DEFAULT ? remainingSeconds : Math.min(timeout, remainingSeconds);
+    }
+}
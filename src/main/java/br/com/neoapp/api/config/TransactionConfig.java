@@ -0,0 +1,28 @@
+package br.com.neoapp.api.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+/**
+ * Configuração do gerenciamento de transações.
+ */
+@Configuration
+public class TransactionConfig {
+
+    /**
+     * Substitui o gerenciador de transações JPA padrão pelo que respeita o prazo das requisições.
+     *
+     * @param customizers As customizações de gerenciadores de transação do Spring Boot
+     *                    (e.g., {@code spring.transaction.default-timeout}).
+     * @return o gerenciador de transações.
+     */
+    @Bean
+    JpaTransactionManager transactionManager(ObjectProvider<TransactionManagerCustomizers> customizers) {
+        JpaTransactionManager transactionManager = new DeadlineAwareJpaTransactionManager();
+        customizers.ifAvailable(customizer -> customizer.customize(transactionManager));
+        return transactionManager;
+    }
+}
@@ -4,10 +4,13 @@ import br.com.neoapp.api.controller.dto.ClientRequestDTO;
 import br.com.neoapp.api.controller.dto.ClientResponseDTO;
 import br.com.neoapp.api.controller.dto.LoginRequest;
 import br.com.neoapp.api.controller.dto.LoginResponse;
+import br.com.neoapp.api.controller.dto.RefreshTokenRequest;
 import br.com.neoapp.api.exceptions.EmailOrPassworInvalid;
 import br.com.neoapp.api.exceptions.StandardError;
 import br.com.neoapp.api.exceptions.ValidationError;
 import br.com.neoapp.api.security.AuthenticationService;
+import br.com.neoapp.api.security.RefreshTokenService;
+import br.com.neoapp.api.security.TokenRevocationService;
 import br.com.neoapp.api.service.ClientService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.headers.Header;
@@ -16,9 +19,13 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -37,9 +44,16 @@ public class AuthController {
     @Autowired
     private ClientService clientService;
 
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
     @Operation(
             summary = "Realizar login de usuário",
-            description = "Autentica um usuário com base em suas credenciais (email/senha) e retorna um token JWT em caso de sucesso."
+            description = "Autentica um usuário com base em suas credenciais (email/senha) e retorna um token JWT em caso de sucesso, " +
+                    "junto com um refresh token de uso único para renovar o acesso sem reenviar a senha."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -56,11 +70,87 @@ public class AuthController {
                             mediaType = "application/json",
                             schema = @Schema(implementation = EmailOrPassworInvalid.class))
             ),
+            @ApiResponse(
+                    responseCode = "429",
+                    description = "Muitas tentativas de login para o e-mail ou o IP. O cabeçalho Retry-After indica quando tentar novamente.",
+                    headers = @Header(name = "Retry-After", description = "Segundos até a próxima tentativa ser aceita"),
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = StandardError.class))
+            ),
     })
     @PostMapping(value = "/login")
-    public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest loginRequest){
+    public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest loginRequest, HttpServletRequest request){
+        return ResponseEntity.ok()
+                .body(authenticationService.authenticate(loginRequest, request.getRemoteAddr()));
+    }
+
+    @Operation(
+            summary = "Renovar o token de acesso",
+            description = "Troca um refresh token válido por um novo token de acesso e um novo refresh token. " +
+                    "O refresh token apresentado é invalidado; reutilizá-lo revoga todas as sessões do usuário."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Tokens renovados com sucesso",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = LoginResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Refresh token inválido, expirado, revogado ou reutilizado.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = StandardError.class))
+            ),
+    })
+    @PostMapping(value = "/refresh")
+    public ResponseEntity<LoginResponse> refresh(@RequestBody @Valid RefreshTokenRequest refreshTokenRequest){
         return ResponseEntity.ok()
-                .body(authenticationService.authenticate(loginRequest));
+                .body(refreshTokenService.refresh(refreshTokenRequest.refreshToken()));
+    }
+
+    @Operation(
+            summary = "Revogar um refresh token",
+            description = "Invalida o refresh token informado, encerrando a sessão associada a ele."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "204",
+                    description = "Refresh token revogado. Nenhum conteúdo no corpo da resposta.",
+                    content = @Content
+            ),
+    })
+    @PostMapping(value = "/revoke")
+    public ResponseEntity<Void> revoke(@RequestBody @Valid RefreshTokenRequest refreshTokenRequest){
+        refreshTokenService.revoke(refreshTokenRequest.refreshToken());
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(
+            summary = "Encerrar a sessão",
+            description = "Revoga o token de acesso usado na requisição, que passa a ser recusado mesmo antes da expiração. " +
+                    "Se um refresh token for informado no corpo, ele também é revogado."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "204",
+                    description = "Sessão encerrada. Nenhum conteúdo no corpo da resposta.",
+                    content = @Content
+            ),
+            @ApiResponse(responseCode = "401", description = "Não autorizado. Token de acesso ausente, inválido ou já revogado.", content = @Content),
+    })
+    @PostMapping(value = "/logout")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Void> logout(@AuthenticationPrincipal Jwt jwt,
+                                       @RequestBody(required = false) @Valid RefreshTokenRequest refreshTokenRequest){
+        tokenRevocationService.revoke(jwt);
+        if (refreshTokenRequest != null) {
+            refreshTokenService.revoke(refreshTokenRequest.refreshToken());
+        }
+        return ResponseEntity.noContent().build();
     }
 
     @Operation(
@@ -85,7 +175,7 @@ public class AuthController {
     @PostMapping(value = "/sign")
     public ResponseEntity<ClientResponseDTO> creatClient(@RequestBody @Valid ClientRequestDTO clientRequestDTO){
 
-        ClientResponseDTO clientResponseDTO = clientService.creatClient(clientRequestDTO);
+        ClientResponseDTO clientResponseDTO = clientService.creatClient(clientRequestDTO).withoutLoginActivity();
         URI location = ServletUriComponentsBuilder.fromCurrentRequest()
                 .path("/{id}")
                 .buildAndExpand(clientResponseDTO.id())
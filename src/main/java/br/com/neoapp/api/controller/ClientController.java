@@ -1,10 +1,12 @@
 package br.com.neoapp.api.controller;
 
 import br.com.neoapp.api.controller.dto.ClientResponseDTO;
+import br.com.neoapp.api.controller.dto.ClientSuggestionDTO;
 import br.com.neoapp.api.controller.dto.ClientUpdateDTO;
 import br.com.neoapp.api.exceptions.ClientNotFound;
 import br.com.neoapp.api.exceptions.StandardError;
 import br.com.neoapp.api.exceptions.ValidationError;
+import br.com.neoapp.api.security.OwnerOrAdmin;
 import br.com.neoapp.api.service.ClientService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -20,9 +22,14 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.util.List;
 
 @Tag(name = "Clientes", description = "Endpoints para o gerenciamento de clientes")
 @RestController
@@ -53,6 +60,34 @@ public class ClientController {
         return ResponseEntity.ok().body(clientService.getAllClientsPageable(pageable));
     }
 
+    @Operation(
+            summary = "Buscar os dados do cliente autenticado",
+            description = "Retorna os dados do cliente identificado pelo token de acesso, sem precisar informar o ID."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Cliente encontrado com sucesso",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ClientResponseDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "O cliente do token não foi encontrado",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = StandardError.class)
+                    )
+            ),
+    })
+    @GetMapping(value = "/me")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ClientResponseDTO> getCurrentClient(@AuthenticationPrincipal Jwt jwt, Authentication authentication){
+        return ResponseEntity.ok().body(visibleTo(clientService.getCurrentClient(jwt), authentication));
+    }
+
     @Operation(
             summary = "Buscar cliente por ID",
             description = "Retorna os detalhes de um cliente específico com base no seu ID."
@@ -76,9 +111,9 @@ public class ClientController {
             ),
     })
     @GetMapping(value = "/{id}")
-    @PreAuthorize("hasAuthority('SCOPE_ADMIN') or @authorization.isAuthorized(#id, authentication)")
-    public ResponseEntity<ClientResponseDTO> getClientById(@PathVariable String id){
-        return ResponseEntity.ok().body(clientService.getClientById(id));
+    @OwnerOrAdmin
+    public ResponseEntity<ClientResponseDTO> getClientById(@PathVariable String id, Authentication authentication){
+        return ResponseEntity.ok().body(visibleTo(clientService.getClientById(id), authentication));
     }
 
     @Operation(
@@ -111,10 +146,11 @@ public class ClientController {
             )
     })
     @PutMapping(value = "/{id}")
-    @PreAuthorize("hasAuthority('SCOPE_ADMIN') or @authorization.isAuthorized(#id, authentication)")
+    @OwnerOrAdmin
     public ResponseEntity<ClientResponseDTO> updateClientById(@PathVariable String id,
-                                                              @Valid @RequestBody ClientUpdateDTO clientUpdateDTO){
-        return ResponseEntity.ok().body(clientService.updateClientById(id, clientUpdateDTO));
+                                                              @Valid @RequestBody ClientUpdateDTO clientUpdateDTO,
+                                                              Authentication authentication){
+        return ResponseEntity.ok().body(visibleTo(clientService.updateClientById(id, clientUpdateDTO), authentication));
     }
 
     @Operation(
@@ -134,7 +170,7 @@ public class ClientController {
             )
     })
     @DeleteMapping(value = "/{id}")
-    @PreAuthorize("hasAuthority('SCOPE_ADMIN') or @authorization.isAuthorized(#id, authentication)")
+    @OwnerOrAdmin
     public ResponseEntity<Void> deleteClientById(@PathVariable String id){
         clientService.deleteClientById(id);
         return ResponseEntity.noContent().build();
@@ -217,4 +253,104 @@ public class ClientController {
                         birthday
                         ));
     }
+
+    @Operation(
+            summary = "Buscar aniversariantes por data ou período",
+            description = "Retorna uma lista paginada dos clientes que fazem aniversário na data `start` ou, " +
+                    "se `end` for informado, no período entre `start` e `end` (inclusivo). " +
+                    "Períodos que atravessam a virada do ano são suportados e, em anos não bissextos, " +
+                    "os nascidos em 29/02 são considerados aniversariantes em 28/02. O formato para datas é AAAA-MM-DD."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Busca realizada com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = Page.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "A data final é anterior à data inicial.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = StandardError.class))
+            )
+    })
+    @GetMapping(value = "/birthdays")
+    @PreAuthorize("hasAuthority('SCOPE_ADMIN')")
+    public ResponseEntity<Page<ClientResponseDTO>> getClientsByBirthday(
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            @ParameterObject Pageable pageable){
+        return ResponseEntity.ok().body(clientService.getClientsByBirthday(start, end, pageable));
+    }
+
+    @Operation(
+            summary = "Buscar clientes por texto livre",
+            description = "Busca clientes pelo nome, e-mail ou telefone usando o índice de busca embarcado. " +
+                    "A busca ignora acentos e maiúsculas, tolera pequenos erros de digitação, aceita prefixos " +
+                    "e retorna os resultados ordenados por relevância."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Busca realizada com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = Page.class))
+            )
+    })
+    @GetMapping(value = "/search")
+    @PreAuthorize("hasAuthority('SCOPE_ADMIN')")
+    public ResponseEntity<Page<ClientResponseDTO>> searchClients(
+            @RequestParam String q,
+            @ParameterObject Pageable pageable){
+        return ResponseEntity.ok().body(clientService.searchClients(q, pageable));
+    }
+
+    @Operation(
+            summary = "Sugerir clientes pelo início do nome (autocompletar)",
+            description = "Retorna até `limit` clientes (ID e nome), em ordem alfabética, que possuem alguma palavra " +
+                    "do nome iniciada por `prefix`. Acentos e maiúsculas são ignorados e a resposta é servida " +
+                    "de uma estrutura em memória, adequada para consultas a cada tecla digitada."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Sugestões retornadas com sucesso",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ClientSuggestionDTO.class))
+            )
+    })
+    @GetMapping(value = "/suggest")
+    @PreAuthorize("hasAuthority('SCOPE_ADMIN')")
+    public ResponseEntity<List<ClientSuggestionDTO>> suggestClients(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit){
+        return ResponseEntity.ok().body(clientService.suggestClients(prefix, limit));
+    }
+
+    @Operation(
+            summary = "Reconstruir o índice de busca",
+            description = "Reconstrói, em segundo plano, o índice de busca de clientes a partir do banco de dados."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Reconstrução iniciada.",
+                    content = @Content
+            )
+    })
+    @PostMapping(value = "/search/rebuild")
+    @PreAuthorize("hasAuthority('SCOPE_ADMIN')")
+    public ResponseEntity<Void> rebuildSearchIndex(){
+        clientService.rebuildSearchIndex();
+        return ResponseEntity.accepted().build();
+    }
+
+    /**
+     * Remove da resposta os dados de login do cliente, a menos que o usuário seja administrador.
+     */
+    private static ClientResponseDTO visibleTo(ClientResponseDTO client, Authentication authentication) {
+        boolean admin = AuthorityUtils.authorityListToSet(authentication.getAuthorities()).contains("SCOPE_ADMIN");
+        return admin ? client : client.withoutLoginActivity();
+    }
 }
@@ -0,0 +1,37 @@
+package br.com.neoapp.api.controller;
+
+import br.com.neoapp.api.security.JwtKeyRing;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Tag(name = "Autenticação", description = "Endpoints para autenticação e gerenciamento de tokens")
+@RestController
+public class JwkSetController {
+
+    @Autowired
+    private JwtKeyRing jwtKeyRing;
+
+    @Operation(
+            summary = "Publicar as chaves públicas dos tokens de acesso",
+            description = "Retorna, no formato JWK Set, as chaves públicas aceitas na verificação dos tokens de acesso " +
+                    "(a ativa e as anteriores ainda em uso), identificadas pelo kid. Usado pelos serviços que " +
+                    "validam os mesmos tokens, como a API reativa."
+    )
+    @ApiResponse(responseCode = "200", description = "JWK Set com as chaves públicas")
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, Object>> getJwkSet(){
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(jwtKeyRing.toPublicJwkSet().toJSONObject());
+    }
+}
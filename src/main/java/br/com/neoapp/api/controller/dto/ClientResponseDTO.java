@@ -1,5 +1,7 @@
 package br.com.neoapp.api.controller.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.time.OffsetDateTime;
 
 /**
@@ -7,14 +9,18 @@ import java.time.OffsetDateTime;
  * Este registro é usado para expor informações seguras e formatadas de um cliente
  * para os consumidores da API, omitindo dados sensíveis como senhas.
  *
- * @param id        O identificador único (UUID) do cliente.
- * @param name      O nome completo do cliente.
- * @param age       A idade do cliente, calculada a partir da data de nascimento.
- * @param email     O endereço de e-mail do cliente.
- * @param phone     O número de telefone do cliente.
- * @param cpf       O Cadastro de Pessoas Físicas (CPF) do cliente.
- * @param creatAt   A data e hora em que o registro do cliente foi criado.
- * @param updateAt  A data e hora da última atualização no registro do cliente.
+ * @param id          O identificador único (UUID) do cliente.
+ * @param name        O nome completo do cliente.
+ * @param age         A idade do cliente, calculada a partir da data de nascimento.
+ * @param email       O endereço de e-mail do cliente.
+ * @param phone       O número de telefone do cliente.
+ * @param cpf         O Cadastro de Pessoas Físicas (CPF) do cliente.
+ * @param creatAt     A data e hora em que o registro do cliente foi criado.
+ * @param updateAt    A data e hora da última atualização no registro do cliente.
+ * @param lastLoginAt A data e hora do último login do cliente. Exposto apenas a administradores
+ *                    e omitido da resposta quando nulo.
+ * @param loginCount  A quantidade de logins do cliente. Exposto apenas a administradores e
+ *                    omitido da resposta quando nulo.
  */
 public record ClientResponseDTO(String id,
                                 String name,
@@ -23,4 +29,33 @@ public record ClientResponseDTO(String id,
                                 String phone,
                                 String cpf,
                                 OffsetDateTime creatAt,
-                                OffsetDateTime updateAt) { }
+                                OffsetDateTime updateAt,
+                                @JsonInclude(JsonInclude.Include.NON_NULL) OffsetDateTime lastLoginAt,
+                                @JsonInclude(JsonInclude.Include.NON_NULL) Long loginCount) {
+
+    /**
+     * Constrói a resposta sem os dados de login do cliente.
+     */
+    public ClientResponseDTO(String id,
+                             String name,
+                             Integer age,
+                             String email,
+                             String phone,
+                             String cpf,
+                             OffsetDateTime creatAt,
+                             OffsetDateTime updateAt) {
+        this(id, name, age, email, phone, cpf, creatAt, updateAt, null, null);
+    }
+
+    /**
+     * Retorna uma cópia da resposta sem os dados de login, restritos aos administradores.
+     *
+     * @return a resposta sem {@code lastLoginAt} e {@code loginCount}.
+     */
+    public ClientResponseDTO withoutLoginActivity() {
+        if (lastLoginAt == null && loginCount == null) {
+            return this;
+        }
+        return new ClientResponseDTO(id, name, age, email, phone, cpf, creatAt, updateAt);
+    }
+}
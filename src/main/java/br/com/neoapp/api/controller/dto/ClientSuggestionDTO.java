@@ -0,0 +1,10 @@
+package br.com.neoapp.api.controller.dto;
+
+/**
+ * Representa uma sugestão do autocompletar de nomes de clientes.
+ *
+ * @param id   O identificador único (UUID) do cliente.
+ * @param name O nome completo do cliente, como cadastrado.
+ */
+public record ClientSuggestionDTO(String id,
+                                  String name) { }
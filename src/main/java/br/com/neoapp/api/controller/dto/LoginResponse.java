@@ -1,12 +1,39 @@
 package br.com.neoapp.api.controller.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 /**
  * Representa o Data Transfer Object (DTO) para a resposta de um login bem-sucedido.
  * Este registro encapsula o token de acesso gerado e seu tempo de expiração,
- * que são retornados ao cliente após a autenticação.
+ * que são retornados ao cliente após a autenticação, além do refresh token que
+ * permite obter novos tokens de acesso sem reenviar a senha.
  *
- * @param accessToken O token de acesso (JWT) gerado para o usuário autenticado.
- * @param expiresIn   O tempo de validade do token em segundos.
+ * @param accessToken      O token de acesso (JWT) gerado para o usuário autenticado.
+ * @param expiresIn        O tempo de validade do token em segundos.
+ * @param refreshToken     O refresh token de uso único para renovar o token de acesso.
+ * @param refreshExpiresIn O tempo de validade do refresh token em segundos.
  */
-public record LoginResponse(String accessToken, Long expiresIn) {
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record LoginResponse(String accessToken, Long expiresIn, String refreshToken, Long refreshExpiresIn) {
+
+    /**
+     * Constrói uma resposta contendo apenas o token de acesso.
+     *
+     * @param accessToken O token de acesso (JWT).
+     * @param expiresIn   O tempo de validade do token em segundos.
+     */
+    public LoginResponse(String accessToken, Long expiresIn) {
+        this(accessToken, expiresIn, null, null);
+    }
+
+    /**
+     * Retorna uma cópia desta resposta acrescida do refresh token.
+     *
+     * @param refreshToken     O refresh token emitido.
+     * @param refreshExpiresIn O tempo de validade do refresh token em segundos.
+     * @return a nova resposta com o token de acesso e o refresh token.
+     */
+    public LoginResponse withRefreshToken(String refreshToken, Long refreshExpiresIn) {
+        return new LoginResponse(accessToken, expiresIn, refreshToken, refreshExpiresIn);
+    }
 }
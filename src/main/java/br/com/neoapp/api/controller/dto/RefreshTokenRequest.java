@@ -0,0 +1,11 @@
+package br.com.neoapp.api.controller.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Representa o Data Transfer Object (DTO) para as requisições de renovação e de
+ * revogação de um refresh token.
+ *
+ * @param refreshToken O refresh token recebido no login ou na última renovação.
+ */
+public record RefreshTokenRequest(@NotBlank String refreshToken) { }
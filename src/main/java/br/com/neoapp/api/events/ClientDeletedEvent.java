@@ -0,0 +1,8 @@
+package br.com.neoapp.api.events;
+
+/**
+ * Evento publicado pelo {@code ClientService} sempre que um cliente é excluído.
+ *
+ * @param id O identificador do cliente removido.
+ */
+public record ClientDeletedEvent(String id) { }
@@ -0,0 +1,13 @@
+package br.com.neoapp.api.events;
+
+import br.com.neoapp.api.model.Client;
+
+/**
+ * Evento publicado pelo {@code ClientService} sempre que um cliente é criado ou atualizado.
+ * <p>
+ * Permite que estruturas derivadas dos dados de clientes (como índices de busca em memória)
+ * se mantenham consistentes com o banco de dados sem que o serviço precise conhecê-las.
+ *
+ * @param client A entidade do cliente já persistida.
+ */
+public record ClientSavedEvent(Client client) { }
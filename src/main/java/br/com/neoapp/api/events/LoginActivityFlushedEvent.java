@@ -0,0 +1,25 @@
+package br.com.neoapp.api.events;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Evento publicado pelo {@code LoginActivityTracker} após gravar no banco um lote de logins.
+ * <p>
+ * O último login e a quantidade de logins são gravados diretamente na tabela de clientes, sem
+ * passar pela entidade nem pelo {@code ClientService}; o evento permite que cópias em memória dos
+ * dados de clientes (como o modelo de leitura) acompanhem esses valores.
+ *
+ * @param logins Os logins gravados no lote, um por cliente.
+ */
+public record LoginActivityFlushedEvent(List<Login> logins) {
+
+    /**
+     * Os logins de um cliente gravados no lote.
+     *
+     * @param clientId    O ID do cliente.
+     * @param lastLoginAt A data e hora do último login do lote.
+     * @param count       A quantidade de logins do lote, somada à quantidade já gravada.
+     */
+    public record Login(String clientId, OffsetDateTime lastLoginAt, long count) { }
+}
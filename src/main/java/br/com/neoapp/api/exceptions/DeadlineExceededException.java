@@ -0,0 +1,15 @@
+package br.com.neoapp.api.exceptions;
+
+/**
+ * Exceção lançada quando o prazo da requisição ({@code X-Request-Deadline} ou o prazo padrão do
+ * endpoint) se esgota antes que a operação possa ser iniciada ou concluída.
+ * <p>
+ * Resulta em uma resposta HTTP 504 (Gateway Timeout): quem chamou já desistiu da resposta, e
+ * continuar a operação apenas ocuparia uma conexão com o banco.
+ */
+public class DeadlineExceededException extends RuntimeException {
+    public static final String ERROR = "DEADLINE_EXCEEDED";
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
@@ -1,14 +1,19 @@
 package br.com.neoapp.api.exceptions;
 
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authorization.AuthorizationDeniedException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionTimedOutException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.sql.SQLTransientConnectionException;
 import java.time.Instant;
 
 /**
@@ -145,6 +150,165 @@ public class GlobalExceptionHandler {
                 );
     }
 
+    /**
+     * Manipula a exceção {@link InvalidRefreshTokenException}, que ocorre ao tentar renovar a
+     * autenticação com um refresh token desconhecido, expirado, revogado ou reutilizado.
+     *
+     * @param e       A exceção {@code InvalidRefreshTokenException} capturada.
+     * @param request O objeto da requisição HTTP que causou o erro.
+     * @return um {@link ResponseEntity} com status 401 (Unauthorized) e um corpo de erro padronizado.
+     */
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ResponseEntity<StandardError> handleInvalidRefreshToken(InvalidRefreshTokenException e, HttpServletRequest request){
+        HttpStatus status = HttpStatus.UNAUTHORIZED;
+        return ResponseEntity
+                .status(status)
+                .body(StandardError
+                        .builder()
+                        .timestamp(Instant.now())
+                        .status(status.value())
+                        .error(InvalidRefreshTokenException.ERROR)
+                        .message(e.getMessage())
+                        .path(request.getRequestURI())
+                        .build()
+                );
+    }
+
+    /**
+     * Manipula a exceção {@link InvalidDateRangeException}, que ocorre quando o intervalo de
+     * datas informado na requisição é inválido.
+     *
+     * @param e       A exceção {@code InvalidDateRangeException} capturada.
+     * @param request O objeto da requisição HTTP que causou o erro.
+     * @return um {@link ResponseEntity} com status 400 (Bad Request) e um corpo de erro padronizado.
+     */
+    @ExceptionHandler(InvalidDateRangeException.class)
+    public ResponseEntity<StandardError> handleInvalidDateRange(InvalidDateRangeException e, HttpServletRequest request){
+        HttpStatus status = HttpStatus.BAD_REQUEST;
+        return ResponseEntity
+                .status(status)
+                .body(StandardError
+                        .builder()
+                        .timestamp(Instant.now())
+                        .status(status.value())
+                        .error(InvalidDateRangeException.ERROR)
+                        .message(e.getMessage())
+                        .path(request.getRequestURI())
+                        .build()
+                );
+    }
+
+    /**
+     * Manipula a exceção {@link ServiceOverloadedException}, que ocorre quando um recurso interno
+     * (como o executor de hashing de senhas) está saturado e a requisição é recusada.
+     *
+     * @param e       A exceção {@code ServiceOverloadedException} capturada.
+     * @param request O objeto da requisição HTTP que causou o erro.
+     * @return um {@link ResponseEntity} com status 503 (Service Unavailable), o cabeçalho
+     * {@code Retry-After} e um corpo de erro padronizado.
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<StandardError> handleServiceOverloaded(ServiceOverloadedException e, HttpServletRequest request){
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity
+                .status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(StandardError
+                        .builder()
+                        .timestamp(Instant.now())
+                        .status(status.value())
+                        .error(ServiceOverloadedException.ERROR)
+                        .message(e.getMessage())
+                        .path(request.getRequestURI())
+                        .build()
+                );
+    }
+
+    /**
+     * Manipula a exceção {@link CannotCreateTransactionException}, lançada quando não é possível
+     * iniciar uma transação. Só é tratada como sobrecarga quando a causa é uma
+     * {@link SQLTransientConnectionException}, lançada pelo pool quando não há conexão livre dentro
+     * do tempo limite; com threads virtuais, o pool é o limite de concorrência do banco. As demais
+     * causas (e.g., credenciais inválidas ou erro de configuração) seguem como erro interno.
+     *
+     * @param e       A exceção {@code CannotCreateTransactionException} capturada.
+     * @param request O objeto da requisição HTTP que causou o erro.
+     * @return um {@link ResponseEntity} com status 503 (Service Unavailable), o cabeçalho
+     * {@code Retry-After} e um corpo de erro padronizado, ou com status 500 (Internal Server Error)
+     * se o pool não estiver saturado.
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<StandardError> handleCannotCreateTransaction(CannotCreateTransactionException e, HttpServletRequest request){
+        if (!isConnectionTimeout(e)) {
+            return handleRuntimeException(e, request);
+        }
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity
+                .status(status)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(StandardError
+                        .builder()
+                        .timestamp(Instant.now())
+                        .status(status.value())
+                        .error(ServiceOverloadedException.ERROR)
+                        .message("O serviço está sobrecarregado. Tente novamente em instantes.")
+                        .path(request.getRequestURI())
+                        .build()
+                );
+    }
+
+    /**
+     * Manipula as exceções de prazo esgotado: {@link DeadlineExceededException}, lançada quando a
+     * requisição chega com o prazo já esgotado; {@link TransactionTimedOutException}, quando o
+     * prazo se esgota antes ou durante uma transação; e {@link QueryTimeoutException}, quando o
+     * banco cancela uma consulta que excedeu o tempo limite.
+     *
+     * @param e       A exceção capturada.
+     * @param request O objeto da requisição HTTP que causou o erro.
+     * @return um {@link ResponseEntity} com status 504 (Gateway Timeout) e um corpo de erro padronizado.
+     */
+    @ExceptionHandler({DeadlineExceededException.class, TransactionTimedOutException.class, QueryTimeoutException.class})
+    public ResponseEntity<StandardError> handleDeadlineExceeded(RuntimeException e, HttpServletRequest request){
+        HttpStatus status = HttpStatus.GATEWAY_TIMEOUT;
+        return ResponseEntity
+                .status(status)
+                .body(StandardError
+                        .builder()
+                        .timestamp(Instant.now())
+                        .status(status.value())
+                        .error(DeadlineExceededException.ERROR)
+                        .message("O prazo da requisição se esgotou.")
+                        .path(request.getRequestURI())
+                        .build()
+                );
+    }
+
+    /**
+     * Manipula a exceção {@link TooManyLoginAttemptsException}, lançada quando as tentativas de
+     * login de um e-mail ou endereço IP excedem o limite permitido.
+     *
+     * @param e       A exceção {@code TooManyLoginAttemptsException} capturada.
+     * @param request O objeto da requisição HTTP que causou o erro.
+     * @return um {@link ResponseEntity} com status 429 (Too Many Requests), o cabeçalho
+     * {@code Retry-After} e um corpo de erro padronizado.
+     */
+    @ExceptionHandler(TooManyLoginAttemptsException.class)
+    public ResponseEntity<StandardError> handleTooManyLoginAttempts(TooManyLoginAttemptsException e, HttpServletRequest request){
+        HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+        return ResponseEntity
+                .status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(StandardError
+                        .builder()
+                        .timestamp(Instant.now())
+                        .status(status.value())
+                        .error(TooManyLoginAttemptsException.ERROR)
+                        .message(e.getMessage())
+                        .path(request.getRequestURI())
+                        .build()
+                );
+    }
+
     /**
      * Manipulador genérico para qualquer {@link RuntimeException} não tratada por outros handlers.
      * <p>
@@ -193,4 +357,13 @@ public class GlobalExceptionHandler {
                         .build()
                 );
     }
+
+    private static boolean isConnectionTimeout(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLTransientConnectionException) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
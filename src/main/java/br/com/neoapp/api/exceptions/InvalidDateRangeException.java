@@ -0,0 +1,15 @@
+package br.com.neoapp.api.exceptions;
+
+/**
+ * Exceção lançada quando um intervalo de datas informado na requisição é inválido,
+ * como uma data final anterior à data inicial.
+ * <p>
+ * Esta é uma exceção de tempo de execução (unchecked) pois representa um erro nos
+ * parâmetros enviados pelo cliente, geralmente resultando em uma resposta HTTP 400 (Bad Request).
+ */
+public class InvalidDateRangeException extends RuntimeException {
+    public static final String ERROR = "INVALID_DATE_RANGE";
+    public InvalidDateRangeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.neoapp.api.exceptions;
+
+/**
+ * Exceção lançada quando um refresh token é desconhecido, expirado, revogado ou reutilizado.
+ * <p>
+ * Assim como nas credenciais de login, a mensagem é genérica e resulta em uma resposta
+ * HTTP 401 (Unauthorized), exigindo que o cliente se autentique novamente.
+ */
+public class InvalidRefreshTokenException extends RuntimeException {
+    public static final String ERROR = "INVALID_REFRESH_TOKEN";
+
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.neoapp.api.exceptions;
+
+/**
+ * Exceção lançada quando um recurso interno da aplicação está saturado e a requisição
+ * é recusada imediatamente, em vez de aguardar em uma fila sem limite.
+ * <p>
+ * Resulta em uma resposta HTTP 503 (Service Unavailable) com o cabeçalho {@code Retry-After},
+ * indicando ao cliente em quantos segundos vale a pena tentar novamente.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+    public static final String ERROR = "SERVICE_OVERLOADED";
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.neoapp.api.exceptions;
+
+/**
+ * Exceção lançada quando as tentativas de login de um e-mail ou de um endereço IP excedem
+ * o limite permitido e a tentativa é recusada antes de qualquer verificação da senha.
+ * <p>
+ * Resulta em uma resposta HTTP 429 (Too Many Requests) com o cabeçalho {@code Retry-After},
+ * indicando ao cliente em quantos segundos uma nova tentativa será aceita.
+ */
+public class TooManyLoginAttemptsException extends RuntimeException {
+    public static final String ERROR = "TOO_MANY_LOGIN_ATTEMPTS";
+
+    private final long retryAfterSeconds;
+
+    public TooManyLoginAttemptsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
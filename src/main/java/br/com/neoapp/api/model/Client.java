@@ -6,6 +6,7 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Past;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.validator.constraints.br.CPF;
@@ -23,20 +24,21 @@ import java.util.List;
  * e papéis de autorização.
  */
 @Entity
-@Table(name = "client_table")
+@Table(name = "client_table",
+        indexes = @Index(name = "idx_client_birthday_mmdd", columnList = "birthday_mmdd"))
 @NoArgsConstructor
-@AllArgsConstructor
 @Getter
 @Setter
 @EqualsAndHashCode
 public class Client {
 
     /**
-     * O identificador único do cliente, gerado automaticamente como um UUID.
+     * O identificador único do cliente, gerado automaticamente como um UUID versão 7
+     * ({@link TimeOrderedUuid}), crescente com o instante de criação.
      * Chave primária da tabela.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private String id;
 
     /**
@@ -54,6 +56,17 @@ public class Client {
     @Column(nullable = false)
     private LocalDate birthday;
 
+    /**
+     * Chave mês-dia da data de nascimento no formato {@code MMDD} (e.g., 515 para 15 de maio).
+     * <p>
+     * É derivada de {@link #birthday} sempre que o registro é inserido ou atualizado e fica
+     * indexada, permitindo buscar aniversariantes de um dia ou período com uma leitura de
+     * intervalo no índice, sem precisar extrair mês e dia de cada linha da tabela.
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "birthday_mmdd")
+    private Short birthdayMonthDay;
+
     /**
      * O endereço de e-mail do cliente, utilizado para login e comunicação.
      * É um campo único.
@@ -102,16 +115,89 @@ public class Client {
     @Column(nullable = false)
     private OffsetDateTime updateAt;
 
+    /**
+     * A data e hora do último login do cliente.
+     * <p>
+     * Assim como {@link #loginCount}, é gravada apenas pelo {@code LoginActivityTracker}, em
+     * lotes periódicos; a entidade nunca escreve essas colunas, para que salvar um cliente
+     * carregado antes de um lote não sobrescreva os valores gravados por ele.
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(insertable = false, updatable = false)
+    private OffsetDateTime lastLoginAt;
+
+    /**
+     * A quantidade de logins bem-sucedidos do cliente.
+     */
+    @Setter(AccessLevel.NONE)
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long loginCount;
+
     /**
      * A lista de papéis (roles) de autorização associados ao cliente.
      * Define o nível de acesso do cliente no sistema.
-     * O carregamento é EAGER para que os papéis estejam sempre disponíveis
-     * junto com os dados do cliente.
+     * O carregamento é LAZY: as consultas que precisam dos papéis (login e renovação
+     * de tokens) os buscam explicitamente, e as listagens não pagam uma consulta extra
+     * por cliente.
      */
-    @ManyToMany(fetch = FetchType.EAGER, cascade = CascadeType.MERGE)
+    @ManyToMany(fetch = FetchType.LAZY, cascade = CascadeType.MERGE)
     @JoinTable(name="users_roles",
             joinColumns = @JoinColumn(name = "user_id"),
             inverseJoinColumns = @JoinColumn(name="role_id"))
     private List<Role> roles = new ArrayList<>();
 
+    /**
+     * Constrói um cliente com todos os seus dados cadastrais.
+     * <p>
+     * A chave {@code birthdayMonthDay} não faz parte dos argumentos, pois é sempre
+     * derivada da data de nascimento.
+     *
+     * @param id        O identificador do cliente (nulo para novos registros).
+     * @param name      O nome completo do cliente.
+     * @param birthday  A data de nascimento do cliente.
+     * @param email     O endereço de e-mail do cliente.
+     * @param password  A senha do cliente.
+     * @param phone     O telefone de contato do cliente.
+     * @param cpf       O CPF do cliente.
+     * @param creatAt   A data de criação do registro.
+     * @param updateAt  A data da última atualização do registro.
+     * @param roles     Os papéis de autorização do cliente.
+     */
+    public Client(String id, String name, LocalDate birthday, String email, String password, String phone,
+                  String cpf, OffsetDateTime creatAt, OffsetDateTime updateAt, List<Role> roles) {
+        this.id = id;
+        this.name = name;
+        this.birthday = birthday;
+        this.email = email;
+        this.password = password;
+        this.phone = phone;
+        this.cpf = cpf;
+        this.creatAt = creatAt;
+        this.updateAt = updateAt;
+        this.roles = roles;
+    }
+
+    /**
+     * Recalcula a chave {@code birthdayMonthDay} a partir da data de nascimento
+     * antes de cada inserção ou atualização.
+     */
+    @PrePersist
+    @PreUpdate
+    void syncBirthdayMonthDay() {
+        this.birthdayMonthDay = toMonthDay(birthday);
+    }
+
+    /**
+     * Converte uma data para a chave mês-dia no formato {@code MMDD}.
+     *
+     * @param date A data a ser convertida.
+     * @return a chave {@code MMDD} da data, ou {@code null} se a data for nula.
+     */
+    public static Short toMonthDay(LocalDate date) {
+        if (date == null) {
+            return null;
+        }
+        return (short) (date.getMonthValue() * 100 + date.getDayOfMonth());
+    }
 }
@@ -0,0 +1,87 @@
+package br.com.neoapp.api.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.Instant;
+
+/**
+ * Entidade que representa um refresh token emitido para um cliente.
+ * <p>
+ * O valor do token nunca é armazenado: apenas o seu hash SHA-256, indexado, é persistido,
+ * de modo que um vazamento da tabela não permite gerar novos tokens de acesso. Cada token
+ * só pode ser usado uma vez; ao ser trocado por um novo (rotação), ele é marcado como revogado.
+ */
+@Entity
+@Table(name = "refresh_token_table",
+        indexes = @Index(name = "idx_refresh_token_client", columnList = "client_id"))
+@NoArgsConstructor
+@Getter
+@Setter
+public class RefreshToken {
+
+    /**
+     * O identificador único do token, gerado automaticamente como um UUID versão 7
+     * ({@link TimeOrderedUuid}), crescente com o instante de emissão.
+     */
+    @Id
+    @TimeOrderedUuid
+    private String id;
+
+    /**
+     * O hash SHA-256 (hexadecimal) do valor do token. Campo único e indexado.
+     */
+    @Column(nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    /**
+     * O cliente para o qual o token foi emitido. Os tokens são removidos junto com o cliente.
+     */
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "client_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Client client;
+
+    /**
+     * O instante de emissão do token.
+     */
+    @Column(nullable = false, updatable = false)
+    private Instant issuedAt;
+
+    /**
+     * O instante a partir do qual o token deixa de ser aceito.
+     */
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    /**
+     * Indica se o token já foi usado (rotacionado) ou explicitamente revogado.
+     */
+    @Column(nullable = false)
+    private boolean revoked;
+
+    /**
+     * O instante em que o token foi trocado por um novo (rotação), ou {@code null} se ele ainda
+     * não tiver sido rotacionado.
+     */
+    private Instant rotatedAt;
+
+    /**
+     * Constrói um refresh token ainda não revogado.
+     *
+     * @param tokenHash O hash SHA-256 do valor do token.
+     * @param client    O cliente dono do token.
+     * @param issuedAt  O instante de emissão.
+     * @param expiresAt O instante de expiração.
+     */
+    public RefreshToken(String tokenHash, Client client, Instant issuedAt, Instant expiresAt) {
+        this.tokenHash = tokenHash;
+        this.client = client;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.neoapp.api.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Entidade que representa um token de acesso (JWT) revogado antes da sua expiração.
+ * <p>
+ * O token é identificado pelo seu claim {@code jti}. O registro só precisa existir até a
+ * expiração do token, depois da qual ele já seria recusado de qualquer forma; por isso, os
+ * registros expirados são removidos periodicamente.
+ */
+@Entity
+@Table(name = "revoked_token_table",
+        indexes = {
+                @Index(name = "idx_revoked_token_expires_at", columnList = "expiresAt"),
+                @Index(name = "idx_revoked_token_revoked_at", columnList = "revokedAt")
+        })
+@NoArgsConstructor
+@Getter
+@Setter
+public class RevokedToken {
+
+    /**
+     * O identificador do token revogado (claim {@code jti}). Chave primária da tabela.
+     */
+    @Id
+    @Column(length = 36)
+    private String jti;
+
+    /**
+     * O instante de expiração do token revogado.
+     */
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    /**
+     * O instante em que o token foi revogado.
+     */
+    @Column(nullable = false, updatable = false)
+    private Instant revokedAt;
+
+    /**
+     * Constrói o registro de um token revogado.
+     *
+     * @param jti       O identificador do token.
+     * @param expiresAt O instante de expiração do token.
+     * @param revokedAt O instante da revogação.
+     */
+    public RevokedToken(String jti, Instant expiresAt, Instant revokedAt) {
+        this.jti = jti;
+        this.expiresAt = expiresAt;
+        this.revokedAt = revokedAt;
+    }
+}
@@ -19,11 +19,12 @@ import lombok.NoArgsConstructor;
 @Data
 public class Role {
     /**
-     * O identificador único do papel, gerado automaticamente como um UUID.
+     * O identificador único do papel, gerado automaticamente como um UUID versão 7
+     * ({@link TimeOrderedUuid}), crescente com o instante de criação.
      * Chave primária da tabela.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private String id;
 
     /**
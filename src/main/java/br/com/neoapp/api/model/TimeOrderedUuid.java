@@ -0,0 +1,19 @@
+package br.com.neoapp.api.model;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Gera o identificador da entidade como um UUID versão 7 ({@link UuidV7}), crescente com o
+ * instante de criação. Substitui {@code @GeneratedValue(strategy = GenerationType.UUID)}, que
+ * gera UUIDs aleatórios, mantendo o mesmo formato textual.
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedUuid {
+}
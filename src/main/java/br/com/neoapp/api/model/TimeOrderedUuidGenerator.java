@@ -0,0 +1,54 @@
+package br.com.neoapp.api.model;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.EnumSet;
+import java.util.UUID;
+
+/**
+ * Gerador dos identificadores anotados com {@link TimeOrderedUuid}. Atribui o ID na inserção,
+ * sem acessar o banco, como {@link UUID} ou como texto, conforme o tipo do atributo. Um ID já
+ * atribuído antes da inserção (e.g., para escolher o shard do cliente) é mantido.
+ */
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+
+    private final boolean textual;
+
+    /**
+     * Constrói o gerador para o atributo anotado.
+     *
+     * @param config  A anotação do atributo.
+     * @param member  O atributo identificador.
+     * @param context O contexto de criação do Hibernate.
+     */
+    public TimeOrderedUuidGenerator(TimeOrderedUuid config, Member member, CustomIdGeneratorCreationContext context) {
+        Class<?> type = member instanceof Field field ? field.getType() : ((Method) member).getReturnType();
+        this.textual = !UUID.class.equals(type);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        if (currentValue != null) {
+            return currentValue;
+        }
+        UUID id = UuidV7.next();
+        return textual ? id.toString() : id;
+    }
+
+    @Override
+    public boolean allowAssignedIdentifiers() {
+        return true;
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,76 @@
+package br.com.neoapp.api.model;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gerador de UUIDs versão 7 (RFC 9562): os primeiros 48 bits são o instante de criação em
+ * milissegundos, de modo que os IDs crescem com o tempo.
+ * <p>
+ * Com chaves aleatórias (versão 4), cada inserção cai em uma página qualquer do índice da chave
+ * primária, que precisa ser lida e acaba dividida; com chaves crescentes, as inserções se
+ * concentram nas últimas páginas. Os 12 bits seguintes ao instante são um contador, iniciado em
+ * um valor aleatório a cada milissegundo, que mantém a ordem entre os IDs gerados no mesmo
+ * milissegundo por este processo, inclusive se o relógio voltar; os 62 bits finais são
+ * aleatórios.
+ */
+public final class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static final int MAX_SEQUENCE = 0xFFF;
+
+    /**
+     * O último instante usado, deslocado 12 bits, seguido do contador: {@code timestamp << 12 | sequence}.
+     */
+    private static final AtomicLong STATE = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    /**
+     * Gera um novo UUID versão 7.
+     *
+     * @return o UUID, maior que todos os gerados anteriormente por este processo.
+     */
+    public static UUID next() {
+        long random = RANDOM.nextLong();
+        long timestampAndSequence = nextTimestampAndSequence();
+        long mostSignificantBits = (timestampAndSequence >>> 12) << 16 | 0x7000L | (timestampAndSequence & MAX_SEQUENCE);
+        long leastSignificantBits = random & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    /**
+     * Retorna o instante de criação de um UUID versão 7.
+     *
+     * @param uuid O UUID.
+     * @return o instante, com precisão de milissegundos.
+     * @throws IllegalArgumentException se o UUID não for da versão 7.
+     */
+    public static Instant timestamp(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("O UUID não é da versão 7: " + uuid);
+        }
+        return Instant.ofEpochMilli(uuid.getMostSignificantBits() >>> 16);
+    }
+
+    private static long nextTimestampAndSequence() {
+        while (true) {
+            long previous = STATE.get();
+            long now = System.currentTimeMillis();
+            // Começa na metade inferior, deixando espaço para os IDs seguintes do mesmo milissegundo.
+            // No mesmo milissegundo (ou com o relógio atrasado), apenas incrementa: o estouro do
+            // contador passa para o milissegundo seguinte.
+            long next = now > previous >>> 12
+                    ? now << 12 | ThreadLocalRandom.current().nextInt(MAX_SEQUENCE / 2)
+                    : previous + 1;
+            if (STATE.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+}
@@ -0,0 +1,573 @@
+package br.com.neoapp.api.readmodel;
+
+import br.com.neoapp.api.controller.dto.ClientResponseDTO;
+import br.com.neoapp.api.events.ClientDeletedEvent;
+import br.com.neoapp.api.events.ClientSavedEvent;
+import br.com.neoapp.api.events.LoginActivityFlushedEvent;
+import br.com.neoapp.api.mapper.ClientMapper;
+import br.com.neoapp.api.model.Client;
+import br.com.neoapp.api.repository.ClientRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Modelo de leitura de clientes mantido inteiramente em memória, em formato colunar.
+ * <p>
+ * Cada cliente ocupa uma posição (slot) em vetores paralelos, um por atributo: os textos
+ * ficam em {@code String[]} e as datas em vetores primitivos ({@code int[]} com o dia
+ * epoch do nascimento e {@code long[]} com os instantes em microssegundos), evitando um
+ * objeto por cliente. Nome e e-mail também são guardados em minúsculas para que os filtros
+ * por substring sejam varreduras paralelas simples sobre as colunas.
+ * <p>
+ * O modelo é opcional e controlado pela propriedade {@code app.read-model.enabled}. Quando
+ * habilitado, é carregado em segundo plano na inicialização e mantido pelos eventos
+ * {@link ClientSavedEvent} e {@link ClientDeletedEvent} publicados pelas escritas do
+ * {@code ClientService}; o último login e a quantidade de logins, gravados diretamente na tabela,
+ * são acompanhados pelo {@link LoginActivityFlushedEvent}. Enquanto não estiver pronto ({@link #isReady()}), as leituras
+ * continuam pelo JPA. Como é alimentado apenas pelas escritas desta instância, o modo é
+ * indicado para implantações com uma única instância da aplicação.
+ */
+@Component
+public class ClientReadModel {
+
+    private static final Logger log = LoggerFactory.getLogger(ClientReadModel.class);
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int NO_DATE = Integer.MIN_VALUE;
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+    private static final Set<String> SORTABLE_PROPERTIES =
+            Set.of("id", "name", "email", "phone", "cpf", "birthday", "creatAt", "updateAt");
+    private static final Comparator<String> PHONE_ORDER = Comparator.nullsLast(Comparator.naturalOrder());
+
+    private final ClientRepository clientRepository;
+    private final ClientMapper clientMapper;
+    private final boolean enabled;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> slotsById = new HashMap<>();
+    private final Set<String> deletedWhileLoading = new HashSet<>();
+
+    private BitSet live = new BitSet(INITIAL_CAPACITY);
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    private int slotCount;
+
+    private String[] ids = new String[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private String[] lowerNames = new String[INITIAL_CAPACITY];
+    private String[] emails = new String[INITIAL_CAPACITY];
+    private String[] lowerEmails = new String[INITIAL_CAPACITY];
+    private String[] phones = new String[INITIAL_CAPACITY];
+    private String[] cpfs = new String[INITIAL_CAPACITY];
+    private int[] birthdays = new int[INITIAL_CAPACITY];
+    private long[] createdAt = new long[INITIAL_CAPACITY];
+    private long[] updatedAt = new long[INITIAL_CAPACITY];
+    private long[] lastLoginAt = new long[INITIAL_CAPACITY];
+    private long[] loginCounts = new long[INITIAL_CAPACITY];
+
+    private volatile boolean ready;
+
+    /**
+     * Constrói o modelo de leitura de clientes.
+     *
+     * @param clientRepository Repositório utilizado para carregar o modelo a partir do banco.
+     * @param clientMapper     Mapper utilizado para calcular a idade exibida nas respostas.
+     * @param enabled          Indica se o modelo deve ser carregado e usado nas leituras.
+     */
+    public ClientReadModel(ClientRepository clientRepository,
+                           ClientMapper clientMapper,
+                           @Value("${app.read-model.enabled:false}") boolean enabled) {
+        this.clientRepository = clientRepository;
+        this.clientMapper = clientMapper;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Carrega todos os clientes a partir do banco de dados na inicialização, em segundo plano.
+     * <p>
+     * Escritas ocorridas durante a carga são aplicadas normalmente: um registro lido do banco
+     * não sobrescreve uma versão mais recente e clientes excluídos durante a carga não são
+     * reinseridos.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!enabled) {
+            return;
+        }
+
+        String lastId = "";
+        List<Client> batch;
+        do {
+            batch = clientRepository.findBatchAfterId(lastId, Limit.of(LOAD_BATCH_SIZE));
+            lock.writeLock().lock();
+            try {
+                for (Client client : batch) {
+                    if (!deletedWhileLoading.contains(client.getId())) {
+                        putInternal(client);
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+
+        lock.writeLock().lock();
+        try {
+            deletedWhileLoading.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Modelo de leitura de clientes carregado com {} registros.", size());
+    }
+
+    /**
+     * Aplica ao modelo um cliente criado ou atualizado.
+     *
+     * @param event O evento com o cliente persistido.
+     */
+    @EventListener
+    public void onClientSaved(ClientSavedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            deletedWhileLoading.remove(event.client().getId());
+            putInternal(event.client());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove do modelo um cliente excluído.
+     *
+     * @param event O evento com o ID do cliente removido.
+     */
+    @EventListener
+    public void onClientDeleted(ClientDeletedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                deletedWhileLoading.add(event.id());
+            }
+            removeInternal(event.id());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Aplica ao modelo os logins gravados em um lote pelo {@code LoginActivityTracker}.
+     *
+     * @param event O evento com os logins gravados.
+     */
+    @EventListener
+    public void onLoginActivityFlushed(LoginActivityFlushedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (LoginActivityFlushedEvent.Login login : event.logins()) {
+                Integer slot = slotsById.get(login.clientId());
+                if (slot != null) {
+                    lastLoginAt[slot] = Math.max(lastLoginAt[slot], toEpochMicros(login.lastLoginAt()));
+                    loginCounts[slot] += login.count();
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Indica se o modelo está habilitado e completamente carregado, podendo atender leituras.
+     *
+     * @return {@code true} se as leituras podem ser servidas pelo modelo.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Retorna a quantidade de clientes presentes no modelo.
+     *
+     * @return o número de clientes carregados.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Busca um cliente pelo seu ID.
+     *
+     * @param id O identificador único do cliente.
+     * @return um {@link Optional} com o cliente, ou vazio se ele não existir.
+     */
+    public Optional<ClientResponseDTO> findById(String id) {
+        lock.readLock().lock();
+        try {
+            Integer slot = slotsById.get(id);
+            return slot == null ? Optional.empty() : Optional.of(toResponse(slot));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Busca vários clientes pelos seus IDs, preservando a ordem informada.
+     * IDs inexistentes são ignorados.
+     *
+     * @param ids Os identificadores dos clientes.
+     * @return a lista de clientes encontrados, na ordem dos IDs.
+     */
+    public List<ClientResponseDTO> findAllById(Collection<String> ids) {
+        lock.readLock().lock();
+        try {
+            List<ClientResponseDTO> clients = new ArrayList<>(ids.size());
+            for (String id : ids) {
+                Integer slot = slotsById.get(id);
+                if (slot != null) {
+                    clients.add(toResponse(slot));
+                }
+            }
+            return clients;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Lista os clientes de forma paginada.
+     *
+     * @param pageable O objeto de paginação e ordenação.
+     * @return a página de clientes, ou {@code null} se a ordenação pedida não for suportada
+     * pelo modelo, caso em que a leitura deve seguir pelo banco.
+     */
+    public Page<ClientResponseDTO> findAll(Pageable pageable) {
+        return filter(null, null, null, null, null, null, pageable);
+    }
+
+    /**
+     * Filtra os clientes de forma paginada, com a mesma semântica da busca por atributos do
+     * repositório. Os filtros nulos são ignorados e a varredura das colunas é feita em paralelo.
+     *
+     * @param name          Parte do nome do cliente (case-insensitive).
+     * @param email         Parte do e-mail do cliente (case-insensitive).
+     * @param cpf           O CPF exato do cliente.
+     * @param phone         Parte do telefone do cliente.
+     * @param birthdayStart A data de início do intervalo de nascimento (inclusivo).
+     * @param birthdayEnd   A data de fim do intervalo de nascimento (inclusivo).
+     * @param pageable      O objeto de paginação e ordenação.
+     * @return a página de clientes, ou {@code null} se a ordenação pedida não for suportada
+     * pelo modelo, caso em que a leitura deve seguir pelo banco.
+     */
+    public Page<ClientResponseDTO> filter(String name,
+                                          String email,
+                                          String cpf,
+                                          String phone,
+                                          LocalDate birthdayStart,
+                                          LocalDate birthdayEnd,
+                                          Pageable pageable) {
+        if (!isSortable(pageable.getSort())) {
+            return null;
+        }
+
+        String lowerName = name == null ? null : name.toLowerCase(Locale.ROOT);
+        String lowerEmail = email == null ? null : email.toLowerCase(Locale.ROOT);
+        int minBirthday = birthdayStart == null ? Integer.MIN_VALUE : (int) birthdayStart.toEpochDay();
+        int maxBirthday = birthdayEnd == null ? Integer.MAX_VALUE : (int) birthdayEnd.toEpochDay();
+        boolean filterBirthday = birthdayStart != null || birthdayEnd != null;
+
+        lock.readLock().lock();
+        try {
+            BitSet liveSlots = live;
+            IntPredicate matches = slot -> liveSlots.get(slot)
+                    && (lowerName == null || lowerNames[slot].contains(lowerName))
+                    && (lowerEmail == null || lowerEmails[slot].contains(lowerEmail))
+                    && (cpf == null || cpf.equals(cpfs[slot]))
+                    && (phone == null || (phones[slot] != null && phones[slot].contains(phone)))
+                    && (!filterBirthday || (birthdays[slot] != NO_DATE
+                            && birthdays[slot] >= minBirthday && birthdays[slot] <= maxBirthday));
+
+            int[] slots = IntStream.range(0, slotCount).parallel().filter(matches).toArray();
+            int[] pageSlots = page(slots, pageable);
+
+            List<ClientResponseDTO> content = new ArrayList<>(pageSlots.length);
+            for (int slot : pageSlots) {
+                content.add(toResponse(slot));
+            }
+            return new PageImpl<>(content, pageable, slots.length);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int[] page(int[] slots, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return firstSorted(slots, slots.length, pageable.getSort());
+        }
+        int from = (int) Math.min(pageable.getOffset(), slots.length);
+        int to = (int) Math.min((long) from + pageable.getPageSize(), slots.length);
+        if (pageable.getSort().isUnsorted()) {
+            return Arrays.copyOfRange(slots, from, to);
+        }
+        return Arrays.copyOfRange(firstSorted(slots, to, pageable.getSort()), from, to);
+    }
+
+    /**
+     * Retorna, já ordenados, os {@code count} primeiros slots segundo a ordenação pedida.
+     * <p>
+     * Mantém os melhores slots vistos em um heap de máximo sobre um {@code int[]} de tamanho
+     * {@code count} (o fim da página pedida), em O(n log count) e sem criar objetos por slot;
+     * ao final, o próprio heap é ordenado no lugar. Empates seguem a ordem dos slots.
+     */
+    private int[] firstSorted(int[] slots, int count, Sort sort) {
+        if (sort.isUnsorted()) {
+            return Arrays.copyOf(slots, count);
+        }
+        IntBinaryOperator comparator = comparatorFor(sort);
+        int[] heap = new int[count];
+        int size = 0;
+        for (int slot : slots) {
+            if (size < count) {
+                heap[size] = slot;
+                siftUp(heap, size++, comparator);
+            } else if (count > 0 && comparator.applyAsInt(slot, heap[0]) < 0) {
+                heap[0] = slot;
+                siftDown(heap, size, comparator);
+            }
+        }
+        for (int end = size - 1; end > 0; end--) {
+            int top = heap[0];
+            heap[0] = heap[end];
+            heap[end] = top;
+            siftDown(heap, end, comparator);
+        }
+        return heap;
+    }
+
+    private static void siftUp(int[] heap, int index, IntBinaryOperator comparator) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (comparator.applyAsInt(heap[index], heap[parent]) <= 0) {
+                return;
+            }
+            swap(heap, index, parent);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, int size, IntBinaryOperator comparator) {
+        int index = 0;
+        while (true) {
+            int largest = 2 * index + 1;
+            if (largest >= size) {
+                return;
+            }
+            int right = largest + 1;
+            if (right < size && comparator.applyAsInt(heap[right], heap[largest]) > 0) {
+                largest = right;
+            }
+            if (comparator.applyAsInt(heap[largest], heap[index]) <= 0) {
+                return;
+            }
+            swap(heap, index, largest);
+            index = largest;
+        }
+    }
+
+    private static void swap(int[] values, int i, int j) {
+        int value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+
+    private IntBinaryOperator comparatorFor(Sort sort) {
+        List<IntBinaryOperator> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            IntBinaryOperator next = comparatorFor(order.getProperty());
+            orders.add(order.isDescending() ? (a, b) -> next.applyAsInt(b, a) : next);
+        }
+        IntBinaryOperator[] chain = orders.toArray(IntBinaryOperator[]::new);
+        return (a, b) -> {
+            for (IntBinaryOperator order : chain) {
+                int result = order.applyAsInt(a, b);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return Integer.compare(a, b);
+        };
+    }
+
+    private IntBinaryOperator comparatorFor(String property) {
+        return switch (property) {
+            case "id" -> (a, b) -> ids[a].compareTo(ids[b]);
+            case "name" -> (a, b) -> names[a].compareTo(names[b]);
+            case "email" -> (a, b) -> emails[a].compareTo(emails[b]);
+            case "phone" -> (a, b) -> PHONE_ORDER.compare(phones[a], phones[b]);
+            case "cpf" -> (a, b) -> cpfs[a].compareTo(cpfs[b]);
+            case "birthday" -> (a, b) -> Integer.compare(birthdays[a], birthdays[b]);
+            case "creatAt" -> (a, b) -> Long.compare(createdAt[a], createdAt[b]);
+            case "updateAt" -> (a, b) -> Long.compare(updatedAt[a], updatedAt[b]);
+            default -> throw new IllegalArgumentException("Propriedade de ordenação não suportada: " + property);
+        };
+    }
+
+    private static boolean isSortable(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ClientResponseDTO toResponse(int slot) {
+        LocalDate birthday = birthdays[slot] == NO_DATE ? null : LocalDate.ofEpochDay(birthdays[slot]);
+        return new ClientResponseDTO(
+                ids[slot],
+                names[slot],
+                birthday == null ? null : clientMapper.calculateAge(birthday),
+                emails[slot],
+                phones[slot],
+                cpfs[slot],
+                toOffsetDateTime(createdAt[slot]),
+                toOffsetDateTime(updatedAt[slot]),
+                toOffsetDateTime(lastLoginAt[slot]),
+                loginCounts[slot]);
+    }
+
+    private void putInternal(Client client) {
+        long clientUpdatedAt = toEpochMicros(client.getUpdateAt());
+        Integer existing = slotsById.get(client.getId());
+        long clientLastLoginAt = toEpochMicros(client.getLastLoginAt());
+        int slot;
+        if (existing != null) {
+            if (clientUpdatedAt != NO_TIMESTAMP && clientUpdatedAt < updatedAt[existing]) {
+                return;
+            }
+            slot = existing;
+            // A entidade pode ter sido lida antes de um lote de logins já aplicado ao modelo.
+            lastLoginAt[slot] = Math.max(lastLoginAt[slot], clientLastLoginAt);
+            loginCounts[slot] = Math.max(loginCounts[slot], client.getLoginCount());
+        } else {
+            slot = allocateSlot();
+            slotsById.put(client.getId(), slot);
+            live.set(slot);
+            lastLoginAt[slot] = clientLastLoginAt;
+            loginCounts[slot] = client.getLoginCount();
+        }
+
+        ids[slot] = client.getId();
+        names[slot] = client.getName();
+        lowerNames[slot] = client.getName() == null ? "" : client.getName().toLowerCase(Locale.ROOT);
+        emails[slot] = client.getEmail();
+        lowerEmails[slot] = client.getEmail() == null ? "" : client.getEmail().toLowerCase(Locale.ROOT);
+        phones[slot] = client.getPhone();
+        cpfs[slot] = client.getCpf();
+        birthdays[slot] = client.getBirthday() == null ? NO_DATE : (int) client.getBirthday().toEpochDay();
+        createdAt[slot] = toEpochMicros(client.getCreatAt());
+        updatedAt[slot] = clientUpdatedAt;
+    }
+
+    private void removeInternal(String id) {
+        Integer slot = slotsById.remove(id);
+        if (slot == null) {
+            return;
+        }
+        live.clear(slot);
+        ids[slot] = null;
+        names[slot] = null;
+        lowerNames[slot] = null;
+        emails[slot] = null;
+        lowerEmails[slot] = null;
+        phones[slot] = null;
+        cpfs[slot] = null;
+
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (slotCount == ids.length) {
+            int capacity = slotCount * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            names = Arrays.copyOf(names, capacity);
+            lowerNames = Arrays.copyOf(lowerNames, capacity);
+            emails = Arrays.copyOf(emails, capacity);
+            lowerEmails = Arrays.copyOf(lowerEmails, capacity);
+            phones = Arrays.copyOf(phones, capacity);
+            cpfs = Arrays.copyOf(cpfs, capacity);
+            birthdays = Arrays.copyOf(birthdays, capacity);
+            createdAt = Arrays.copyOf(createdAt, capacity);
+            updatedAt = Arrays.copyOf(updatedAt, capacity);
+            lastLoginAt = Arrays.copyOf(lastLoginAt, capacity);
+            loginCounts = Arrays.copyOf(loginCounts, capacity);
+        }
+        return slotCount++;
+    }
+
+    private static long toEpochMicros(OffsetDateTime dateTime) {
+        return dateTime == null ? NO_TIMESTAMP : ChronoUnit.MICROS.between(Instant.EPOCH, dateTime.toInstant());
+    }
+
+    private static OffsetDateTime toOffsetDateTime(long epochMicros) {
+        if (epochMicros == NO_TIMESTAMP) {
+            return null;
+        }
+        Instant instant = Instant.EPOCH.plus(epochMicros, ChronoUnit.MICROS);
+        return OffsetDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+}
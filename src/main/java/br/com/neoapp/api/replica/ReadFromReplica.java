@@ -0,0 +1,23 @@
+package br.com.neoapp.api.replica;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca um método de serviço somente leitura, cujas consultas podem ser atendidas por uma réplica
+ * do banco.
+ * <p>
+ * Com as réplicas habilitadas ({@code app.datasource.replicas.enabled}), as transações somente
+ * leitura iniciadas durante o método obtêm suas conexões de uma réplica, escolhida pelo
+ * {@link ReplicaRoutingDataSource}. As transações de escrita continuam no banco principal, assim
+ * como as leituras de quem escreveu há pouco (veja {@link ReadYourWrites}). Os métodos não anotados
+ * sempre usam o banco principal.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReadFromReplica {
+}
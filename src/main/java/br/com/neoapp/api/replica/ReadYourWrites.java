@@ -0,0 +1,97 @@
+package br.com.neoapp.api.replica;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Janelas de leitura das próprias escritas (read-your-writes) sobre réplicas assíncronas.
+ * <p>
+ * As réplicas recebem as alterações com algum atraso. Para que um cliente não deixe de ver o que
+ * acabou de gravar, cada escrita confirmada registra aqui o seu autor (o 'subject' do token de
+ * acesso) e, no cadastro, o ID do novo cliente. Durante {@code app.datasource.replicas.read-your-writes-window}
+ * após a escrita, as leituras desse autor continuam no banco principal. As entradas expiradas são
+ * descartadas periodicamente.
+ */
+@Component
+public class ReadYourWrites {
+
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    private final long windowNanos;
+
+    private final LongSupplier nanoClock;
+
+    /**
+     * Constrói as janelas com a duração configurada.
+     *
+     * @param window A duração da janela após cada escrita
+     *               ({@code app.datasource.replicas.read-your-writes-window}).
+     */
+    @Autowired
+    public ReadYourWrites(@Value("${app.datasource.replicas.read-your-writes-window:5s}") Duration window) {
+        this(window, System::nanoTime);
+    }
+
+    ReadYourWrites(Duration window, LongSupplier nanoClock) {
+        this.windowNanos = window.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Retorna o autor das requisições da thread corrente.
+     *
+     * @return o nome do usuário autenticado (o 'subject' do token), ou {@code null} se anônimo.
+     */
+    public static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    /**
+     * Registra uma escrita confirmada, abrindo a janela do autor.
+     *
+     * @param key O autor da escrita; ignorado se {@code null}.
+     */
+    public void recordWrite(String key) {
+        if (key != null) {
+            lastWrites.put(key, nanoClock.getAsLong());
+        }
+    }
+
+    /**
+     * Indica se o autor escreveu dentro da janela.
+     *
+     * @param key O autor.
+     * @return {@code true} se as leituras do autor devem continuar no banco principal.
+     */
+    public boolean isWithinWindow(String key) {
+        if (key == null) {
+            return false;
+        }
+        Long lastWrite = lastWrites.get(key);
+        return lastWrite != null && nanoClock.getAsLong() - lastWrite < windowNanos;
+    }
+
+    /**
+     * Descarta as janelas expiradas.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.read-your-writes-window:5s}")
+    public void purgeExpired() {
+        long now = nanoClock.getAsLong();
+        lastWrites.values().removeIf(lastWrite -> now - lastWrite >= windowNanos);
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.neoapp.api.replica;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuração das leituras em réplicas ({@link ReadFromReplica}).
+ */
+@Configuration
+public class ReplicaConfig {
+
+    /**
+     * Registra o interceptador dos métodos anotados com {@link ReadFromReplica}, executado logo
+     * após o das cotas por classe de carga e antes das transações.
+     *
+     * @param readYourWrites Fornece as janelas de leitura das próprias escritas.
+     * @return o {@link Advisor} dos métodos anotados.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor replicaRoutingAdvisor(ObjectProvider<ReadYourWrites> readYourWrites) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(ReadFromReplica.class),
+                new ReplicaRoutingInterceptor(readYourWrites));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return advisor;
+    }
+}
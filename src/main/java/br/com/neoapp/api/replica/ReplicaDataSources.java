@@ -0,0 +1,18 @@
+package br.com.neoapp.api.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.util.List;
+
+/**
+ * Os pools de conexões das réplicas, encerrados junto com a aplicação.
+ *
+ * @param pools Os pools, um por réplica.
+ */
+public record ReplicaDataSources(List<HikariDataSource> pools) implements AutoCloseable {
+
+    @Override
+    public void close() {
+        pools.forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.neoapp.api.replica;
+
+import java.util.function.Supplier;
+
+/**
+ * Indica, na thread corrente, que a execução está dentro de um método {@link ReadFromReplica}.
+ * <p>
+ * Definido pelo {@link ReplicaRoutingInterceptor} e consultado pelo {@link ReplicaRoutingDataSource}
+ * ao obter uma conexão. Tarefas executadas em outras threads em nome do mesmo método devem
+ * propagá-lo com {@link #supply}.
+ *
+ * @param primaryPinned {@code true} se o chamador escreveu há pouco e suas leituras devem continuar
+ *                      no banco principal.
+ */
+public record ReplicaRouting(boolean primaryPinned) {
+
+    private static final ThreadLocal<ReplicaRouting> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Retorna o roteamento da execução corrente.
+     *
+     * @return o roteamento, ou {@code null} fora de um método {@link ReadFromReplica}.
+     */
+    public static ReplicaRouting current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Executa a operação com o roteamento informado, restaurando o anterior ao final.
+     *
+     * @param routing   O roteamento; {@code null} executa fora de um método {@link ReadFromReplica}.
+     * @param operation A operação a ser executada.
+     * @param <T>       O tipo do resultado.
+     * @return o resultado da operação.
+     */
+    public static <T> T supply(ReplicaRouting routing, Supplier<T> operation) {
+        ReplicaRouting previous = CURRENT.get();
+        set(routing);
+        try {
+            return operation.get();
+        } finally {
+            set(previous);
+        }
+    }
+
+    static void set(ReplicaRouting routing) {
+        if (routing == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(routing);
+        }
+    }
+}
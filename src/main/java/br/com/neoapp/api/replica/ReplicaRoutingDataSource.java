@@ -0,0 +1,114 @@
+package br.com.neoapp.api.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link DataSource} que entrega as conexões das leituras a uma das réplicas e as demais ao
+ * banco principal.
+ * <p>
+ * Uma conexão vai para uma réplica apenas quando as três condições são verdadeiras: a execução
+ * está em um método {@link ReadFromReplica}, a transação corrente é somente leitura e o chamador
+ * não escreveu dentro da sua janela de {@link ReadYourWrites}. A réplica é escolhida pela
+ * {@link ReplicaSelection} configurada. As transações de escrita confirmadas abrem a janela do
+ * seu autor.
+ * <p>
+ * A decisão depende do estado da transação, que só é conhecido depois do seu início, e por isso
+ * este roteamento deve ser envolvido por um {@link LazyConnectionDataSourceProxy}: a conexão física
+ * é obtida apenas no primeiro comando enviado ao banco.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final List<DataSource> replicas;
+    private final ReplicaSelection selection;
+    private final ReadYourWrites readYourWrites;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * Constrói o roteamento entre o banco principal e as réplicas.
+     *
+     * @param primary        O banco principal.
+     * @param replicas       As réplicas, em qualquer quantidade maior que zero.
+     * @param selection      A política de escolha da réplica.
+     * @param readYourWrites As janelas de leitura das próprias escritas.
+     */
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    List<? extends DataSource> replicas,
+                                    ReplicaSelection selection,
+                                    ReadYourWrites readYourWrites) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos uma réplica.");
+        }
+        this.replicas = List.copyOf(replicas);
+        this.selection = selection;
+        this.readYourWrites = readYourWrites;
+
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < this.replicas.size(); i++) {
+            targets.put(i, this.replicas.get(i));
+        }
+        setDefaultTargetDataSource(primary);
+        setTargetDataSources(targets);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        ReplicaRouting routing = ReplicaRouting.current();
+        if (readOnly && routing != null && !routing.primaryPinned()) {
+            return selectReplica();
+        }
+
+        if (!readOnly && TransactionSynchronizationManager.isSynchronizationActive()) {
+            String principal = ReadYourWrites.currentPrincipal();
+            if (principal != null) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        readYourWrites.recordWrite(principal);
+                    }
+                });
+            }
+        }
+        return null;
+    }
+
+    private int selectReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        if (selection == ReplicaSelection.ROUND_ROBIN) {
+            return start;
+        }
+
+        int chosen = start;
+        int fewestActive = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            int candidate = (start + i) % size;
+            int active = activeConnections(replicas.get(candidate));
+            if (active < fewestActive) {
+                fewestActive = active;
+                chosen = candidate;
+            }
+        }
+        return chosen;
+    }
+
+    private static int activeConnections(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            return pool == null ? 0 : pool.getActiveConnections();
+        }
+        return 0;
+    }
+}
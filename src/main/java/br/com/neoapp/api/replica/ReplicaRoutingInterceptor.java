@@ -0,0 +1,41 @@
+package br.com.neoapp.api.replica;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Interceptador dos métodos anotados com {@link ReadFromReplica}.
+ * <p>
+ * Define o {@link ReplicaRouting} durante a execução, fixando as leituras no banco principal se o
+ * chamador escreveu dentro da sua janela de {@link ReadYourWrites}. Chamadas aninhadas mantêm o
+ * roteamento do método externo.
+ */
+public class ReplicaRoutingInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<ReadYourWrites> readYourWrites;
+
+    /**
+     * Constrói o interceptador.
+     *
+     * @param readYourWrites Fornece as janelas de leitura das próprias escritas.
+     */
+    public ReplicaRoutingInterceptor(ObjectProvider<ReadYourWrites> readYourWrites) {
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (ReplicaRouting.current() != null) {
+            return invocation.proceed();
+        }
+
+        boolean primaryPinned = readYourWrites.getObject().isWithinWindow(ReadYourWrites.currentPrincipal());
+        ReplicaRouting.set(new ReplicaRouting(primaryPinned));
+        try {
+            return invocation.proceed();
+        } finally {
+            ReplicaRouting.set(null);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package br.com.neoapp.api.replica;
+
+/**
+ * Política de escolha da réplica de cada transação somente leitura.
+ */
+public enum ReplicaSelection {
+
+    /**
+     * As réplicas são usadas em sequência, uma por transação.
+     */
+    ROUND_ROBIN,
+
+    /**
+     * É usada a réplica com menos conexões ativas no pool; os empates são resolvidos em sequência.
+     */
+    LEAST_BUSY
+}
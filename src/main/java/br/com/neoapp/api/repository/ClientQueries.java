@@ -0,0 +1,32 @@
+package br.com.neoapp.api.repository;
+
+/**
+ * Trechos SQL das consultas de clientes compartilhados entre consultas e módulos.
+ * <p>
+ * Não depende do Spring Data, para que o módulo reativo ({@code reactive-api}) possa usar os
+ * mesmos filtros em suas consultas R2DBC, com a mesma semântica da busca por atributos do
+ * {@link ClientRepository}.
+ */
+public final class ClientQueries {
+
+    /**
+     * Filtros da busca por atributos, compartilhados pelas consultas de conteúdo, de contagem e
+     * pela variante restrita a IDs candidatos. Todos os parâmetros nomeados são opcionais: um
+     * parâmetro nulo ou vazio é ignorado. Nos filtros por substring, {@code %} e {@code _} são
+     * escapados (com {@code !} como caractere de escape) e comparados literalmente, como nos
+     * índices em memória.
+     */
+    public static final String ATTRIBUTES_FILTER =
+            "(:name IS NULL OR :name = '' OR LOWER(c.name) LIKE LOWER(CONCAT('%', " +
+            "REPLACE(REPLACE(REPLACE(:name, '!', '!!'), '%', '!%'), '_', '!_'), '%')) ESCAPE '!') AND " +
+            "(:email IS NULL OR :email = '' OR LOWER(c.email) LIKE LOWER(CONCAT('%', " +
+            "REPLACE(REPLACE(REPLACE(:email, '!', '!!'), '%', '!%'), '_', '!_'), '%')) ESCAPE '!') AND " +
+            "(:cpf IS NULL OR :cpf = '' OR c.cpf = :cpf) AND " +
+            "(:phone IS NULL OR :phone = '' OR c.phone LIKE CONCAT('%', " +
+            "REPLACE(REPLACE(REPLACE(:phone, '!', '!!'), '%', '!%'), '_', '!_'), '%') ESCAPE '!') AND " +
+            "(:birthdayStart IS NULL OR c.birthday >= :birthdayStart) AND " +
+            "(:birthdayEnd IS NULL OR c.birthday <= :birthdayEnd)";
+
+    private ClientQueries() {
+    }
+}
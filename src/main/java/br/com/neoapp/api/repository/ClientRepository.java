@@ -1,13 +1,19 @@
 package br.com.neoapp.api.repository;
 
 import br.com.neoapp.api.model.Client;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,10 +21,11 @@ import java.util.Optional;
  * acesso a dados.
  * <p>
  * Esta interface utiliza o Spring Data JPA para fornecer implementações automáticas
- * de métodos de CRUD e a capacidade de definir queries customizadas.
+ * de métodos de CRUD e a capacidade de definir queries customizadas. As consultas paginadas
+ * de {@link ClientRepositoryCustom} executam o conteúdo e a contagem em paralelo.
  */
 @Repository
-public interface ClientRepository extends JpaRepository<Client, String> {
+public interface ClientRepository extends JpaRepository<Client, String>, ClientRepositoryCustom {
     /**
      * Verifica se um cliente com o e-mail especificado já existe na base de dados.
      *
@@ -36,11 +43,50 @@ public interface ClientRepository extends JpaRepository<Client, String> {
     boolean existsByCpf(String cpf);
 
     /**
-     * Realiza uma busca paginada e dinâmica por clientes com base em múltiplos atributos.
+     * Busca o conteúdo de uma página de clientes, sem a contagem total.
+     *
+     * @param pageable O objeto de paginação e ordenação.
+     * @return a lista de clientes da página.
+     */
+    @Query("SELECT c FROM Client c")
+    List<Client> findPageContent(Pageable pageable);
+
+    /**
+     * Busca o conteúdo de uma página da busca por atributos, sem a contagem total.
+     *
+     * @param name           Parte do nome do cliente para a busca (case-insensitive).
+     * @param email          Parte do e-mail do cliente para a busca (case-insensitive).
+     * @param cpf            O CPF exato do cliente.
+     * @param phone          Parte do telefone do cliente.
+     * @param birthdayStart  A data de início do intervalo de nascimento (inclusivo).
+     * @param birthdayEnd    A data de fim do intervalo de nascimento (inclusivo).
+     * @param pageable       O objeto de paginação e ordenação.
+     * @return a lista de clientes da página.
+     * @see #getAllClientsWithAttributesPage
+     */
+    @Query(value = "SELECT * FROM client_table c WHERE " + ClientQueries.ATTRIBUTES_FILTER, nativeQuery = true)
+    List<Client> findClientsWithAttributesContent(String name, String email, String cpf, String phone, LocalDate birthdayStart, LocalDate birthdayEnd, Pageable pageable);
+
+    /**
+     * Conta os clientes que atendem à busca por atributos.
+     *
+     * @param name           Parte do nome do cliente para a busca (case-insensitive).
+     * @param email          Parte do e-mail do cliente para a busca (case-insensitive).
+     * @param cpf            O CPF exato do cliente.
+     * @param phone          Parte do telefone do cliente.
+     * @param birthdayStart  A data de início do intervalo de nascimento (inclusivo).
+     * @param birthdayEnd    A data de fim do intervalo de nascimento (inclusivo).
+     * @return a quantidade de clientes que correspondem aos critérios de busca.
+     * @see #getAllClientsWithAttributesPage
+     */
+    @Query(value = "SELECT COUNT(*) FROM client_table c WHERE " + ClientQueries.ATTRIBUTES_FILTER, nativeQuery = true)
+    long countClientsWithAttributes(String name, String email, String cpf, String phone, LocalDate birthdayStart, LocalDate birthdayEnd);
+
+    /**
+     * Variante de {@link #getAllClientsWithAttributesPage} restrita a um conjunto de IDs candidatos.
      * <p>
-     * A query utiliza a cláusula LIKE para buscas parciais em nome e e-mail.
-     * Todos os parâmetros de filtro são opcionais; se um parâmetro for nulo,
-     * ele será ignorado na consulta.
+     * Utilizada quando os índices de substring em memória já reduziram os possíveis resultados:
+     * o banco localiza os candidatos pela chave primária e apenas confirma os filtros neles.
      *
      * @param name           Parte do nome do cliente para a busca (case-insensitive).
      * @param email          Parte do e-mail do cliente para a busca (case-insensitive).
@@ -48,19 +94,16 @@ public interface ClientRepository extends JpaRepository<Client, String> {
      * @param phone          Parte do telefone do cliente.
      * @param birthdayStart  A data de início do intervalo de nascimento (inclusivo).
      * @param birthdayEnd    A data de fim do intervalo de nascimento (inclusivo).
+     * @param ids            Os IDs candidatos; não pode ser vazio.
      * @param pageable       O objeto de paginação e ordenação.
-     * @return uma {@link Page} de clientes que correspondem aos critérios de busca.
+     * @return uma {@link Page} de clientes candidatos que correspondem aos critérios de busca.
      */
-    @Query(value = "SELECT * FROM client_table c WHERE " +
-            "(:name IS NULL OR :name = '' OR LOWER(c.name) LIKE LOWER(CONCAT('%', :name, '%'))) AND " +
-            "(:email IS NULL OR :email = '' OR LOWER(c.email) LIKE LOWER(CONCAT('%', :email, '%'))) AND " +
-            "(:cpf IS NULL OR :cpf = '' OR c.cpf = :cpf) AND " +
-            "(:phone IS NULL OR :phone = '' OR c.phone LIKE CONCAT('%', :phone, '%')) AND " +
-            "(:birthdayStart IS NULL OR c.birthday >= :birthdayStart) AND " +
-            "(:birthdayEnd IS NULL OR c.birthday <= :birthdayEnd)",
+    @Transactional(readOnly = true)
+    @Query(value = "SELECT * FROM client_table c WHERE c.id IN (:ids) AND " + ClientQueries.ATTRIBUTES_FILTER,
             nativeQuery = true
     )
-    Page<Client> getAllClientsWithAttributesPage(String name, String email, String cpf, String phone, LocalDate birthdayStart, LocalDate birthdayEnd, Pageable pageable);
+    Page<Client> getAllClientsWithAttributesPageInIds(String name, String email, String cpf, String phone, LocalDate birthdayStart, LocalDate birthdayEnd, Collection<String> ids, Pageable pageable);
+
     /**
      * Busca um único cliente com base em uma combinação de atributos exatos.
      * <p>
@@ -84,10 +127,77 @@ public interface ClientRepository extends JpaRepository<Client, String> {
     Optional<Client> findClientsWithAttributes(String name, String email, String cpf, String phone, LocalDate birthday);
 
     /**
-     * Busca um cliente pelo seu endereço de e-mail exato.
+     * Busca um cliente pelo seu endereço de e-mail exato, junto com os seus papéis.
      *
      * @param email O e-mail a ser buscado.
      * @return um {@link Optional} contendo o cliente, ou vazio se não for encontrado.
      */
+    @EntityGraph(attributePaths = "roles")
     Optional<Client> findByEmail(String email);
-}
\ No newline at end of file
+
+    /**
+     * Busca, de forma paginada, os clientes cujo aniversário (chave {@code MMDD}) esteja
+     * contido em um de dois intervalos inclusivos.
+     * <p>
+     * Dois intervalos permitem representar períodos que atravessam a virada do ano
+     * (e.g., de 28/12 a 03/01 vira {@code [1228, 1231]} e {@code [101, 103]}). Quando o
+     * período não atravessa o ano, basta repetir o mesmo intervalo nos dois pares.
+     * A consulta é resolvida como uma leitura de intervalo no índice {@code idx_client_birthday_mmdd}.
+     *
+     * @param firstStart   Início do primeiro intervalo (inclusivo).
+     * @param firstEnd     Fim do primeiro intervalo (inclusivo).
+     * @param secondStart  Início do segundo intervalo (inclusivo).
+     * @param secondEnd    Fim do segundo intervalo (inclusivo).
+     * @param pageable     O objeto de paginação e ordenação.
+     * @return uma {@link Page} de clientes que fazem aniversário nos intervalos informados.
+     */
+    @Query("SELECT c FROM Client c WHERE " +
+            "(c.birthdayMonthDay BETWEEN :firstStart AND :firstEnd) OR " +
+            "(c.birthdayMonthDay BETWEEN :secondStart AND :secondEnd)")
+    Page<Client> findByBirthdayMonthDayRanges(short firstStart, short firstEnd, short secondStart, short secondEnd, Pageable pageable);
+
+    /**
+     * Preenche a chave {@code MMDD} dos registros criados antes da existência da coluna
+     * {@code birthday_mmdd}.
+     * <p>
+     * Registros novos ou atualizados já recebem o valor pela própria entidade, portanto
+     * esta operação só afeta linhas em que a chave ainda é nula.
+     *
+     * @return a quantidade de registros atualizados.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Client c SET c.birthdayMonthDay = " +
+            "cast(extract(month from c.birthday) * 100 + extract(day from c.birthday) as Short) " +
+            "WHERE c.birthdayMonthDay IS NULL")
+    int backfillBirthdayMonthDay();
+
+    /**
+     * Substitui o hash da senha de um cliente apenas se o hash armazenado ainda for o esperado.
+     * <p>
+     * A condição sobre o hash atual evita sobrescrever uma troca de senha feita entre a leitura
+     * do cliente e a atualização, como no recálculo do hash em segundo plano após o login.
+     *
+     * @param id          O ID do cliente.
+     * @param currentHash O hash que deve estar armazenado para que a troca ocorra.
+     * @param newHash     O novo hash da senha.
+     * @return a quantidade de registros atualizados (0 ou 1).
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Client c SET c.password = :newHash WHERE c.id = :id AND c.password = :currentHash")
+    int updatePasswordIfUnchanged(String id, String currentHash, String newHash);
+
+    /**
+     * Busca um lote de clientes com ID maior que o informado, em ordem crescente de ID.
+     * <p>
+     * Utilizado para percorrer toda a tabela em lotes (paginação por chave), como na
+     * reconstrução de índices em memória, sem o custo crescente do {@code OFFSET}.
+     *
+     * @param lastId O último ID do lote anterior (use {@code ""} para começar do início).
+     * @param limit  A quantidade máxima de clientes no lote.
+     * @return a lista de clientes do lote, vazia quando não houver mais registros.
+     */
+    @Query("SELECT c FROM Client c WHERE c.id > :lastId ORDER BY c.id")
+    List<Client> findBatchAfterId(String lastId, Limit limit);
+}
@@ -0,0 +1,41 @@
+package br.com.neoapp.api.repository;
+
+import br.com.neoapp.api.model.Client;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+
+/**
+ * Consultas paginadas de {@link ClientRepository} com implementação própria em
+ * {@link ClientRepositoryCustomImpl}, que executa o conteúdo da página e a contagem total
+ * em paralelo com o {@link ParallelPageQuery}.
+ */
+public interface ClientRepositoryCustom {
+
+    /**
+     * Busca uma página de clientes.
+     *
+     * @param pageable O objeto de paginação e ordenação.
+     * @return uma {@link Page} de clientes.
+     */
+    Page<Client> findAll(Pageable pageable);
+
+    /**
+     * Realiza uma busca paginada e dinâmica por clientes com base em múltiplos atributos.
+     * <p>
+     * A query utiliza a cláusula LIKE para buscas parciais em nome e e-mail.
+     * Todos os parâmetros de filtro são opcionais; se um parâmetro for nulo,
+     * ele será ignorado na consulta.
+     *
+     * @param name           Parte do nome do cliente para a busca (case-insensitive).
+     * @param email          Parte do e-mail do cliente para a busca (case-insensitive).
+     * @param cpf            O CPF exato do cliente.
+     * @param phone          Parte do telefone do cliente.
+     * @param birthdayStart  A data de início do intervalo de nascimento (inclusivo).
+     * @param birthdayEnd    A data de fim do intervalo de nascimento (inclusivo).
+     * @param pageable       O objeto de paginação e ordenação.
+     * @return uma {@link Page} de clientes que correspondem aos critérios de busca.
+     */
+    Page<Client> getAllClientsWithAttributesPage(String name, String email, String cpf, String phone, LocalDate birthdayStart, LocalDate birthdayEnd, Pageable pageable);
+}
@@ -0,0 +1,54 @@
+package br.com.neoapp.api.repository;
+
+import br.com.neoapp.api.model.Client;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+
+/**
+ * Implementação das consultas paginadas de {@link ClientRepositoryCustom}.
+ * <p>
+ * Tem precedência sobre a implementação padrão do Spring Data: cada página é montada a partir
+ * de uma consulta de conteúdo sem contagem e de uma consulta de contagem do
+ * {@link ClientRepository}, executadas em paralelo pelo {@link ParallelPageQuery}.
+ */
+public class ClientRepositoryCustomImpl implements ClientRepositoryCustom {
+
+    private final ClientRepository clientRepository;
+
+    private final ParallelPageQuery parallelPageQuery;
+
+    /**
+     * Constrói a implementação com as dependências necessárias injetadas.
+     *
+     * @param clientRepository   O repositório de clientes, com as consultas de conteúdo e de contagem.
+     *                           Injetado de forma tardia, pois ele próprio inclui esta implementação.
+     * @param transactionManager O gerenciador das transações de cada consulta.
+     * @param parallel           Se as consultas devem ser executadas em paralelo, definido pela
+     *                           propriedade {@code app.pagination.parallel-count}.
+     */
+    public ClientRepositoryCustomImpl(@Lazy ClientRepository clientRepository,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${app.pagination.parallel-count:true}") boolean parallel) {
+        this.clientRepository = clientRepository;
+        this.parallelPageQuery = new ParallelPageQuery(transactionManager, parallel);
+    }
+
+    @Override
+    public Page<Client> findAll(Pageable pageable) {
+        return parallelPageQuery.findPage(pageable, clientRepository::findPageContent, clientRepository::count);
+    }
+
+    @Override
+    public Page<Client> getAllClientsWithAttributesPage(String name, String email, String cpf, String phone,
+                                                        LocalDate birthdayStart, LocalDate birthdayEnd, Pageable pageable) {
+        return parallelPageQuery.findPage(
+                pageable,
+                page -> clientRepository.findClientsWithAttributesContent(name, email, cpf, phone, birthdayStart, birthdayEnd, page),
+                () -> clientRepository.countClientsWithAttributes(name, email, cpf, phone, birthdayStart, birthdayEnd));
+    }
+}
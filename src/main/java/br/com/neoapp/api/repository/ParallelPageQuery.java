@@ -0,0 +1,125 @@
+package br.com.neoapp.api.repository;
+
+import br.com.neoapp.api.bulkhead.Workload;
+import br.com.neoapp.api.bulkhead.WorkloadContext;
+import br.com.neoapp.api.replica.ReplicaRouting;
+import br.com.neoapp.api.web.RequestDeadline;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Executa a consulta do conteúdo de uma página e a contagem total ao mesmo tempo.
+ * <p>
+ * Uma {@link Page} do Spring Data executa a consulta do conteúdo e, em seguida, o
+ * {@code COUNT}, de modo que a latência é a soma das duas. Aqui, cada consulta roda em uma
+ * thread virtual própria, com sua própria transação somente leitura (e, portanto, sua própria
+ * conexão), e a latência passa a ser a da consulta mais lenta.
+ * <p>
+ * As duas tarefas compartilham o cancelamento: se uma falhar, a outra é cancelada e a falha
+ * é propagada para quem chamou. O cancelamento interrompe a thread virtual, mas uma consulta
+ * já enviada ao banco pode ir até o fim.
+ * <p>
+ * Quando há uma transação ativa na thread chamadora, as consultas são executadas nela, uma
+ * após a outra: outra conexão não enxergaria as alterações ainda não confirmadas dessa
+ * transação. O mesmo acontece com páginas sem paginação ou com a execução paralela desabilitada.
+ * <p>
+ * A classe de carga ({@link WorkloadContext}), o prazo ({@link RequestDeadline}) e o roteamento
+ * para réplicas ({@link ReplicaRouting}) da thread chamadora são propagados às duas tarefas, para
+ * que as conexões sejam obtidas do mesmo pool e do mesmo banco e as consultas sejam canceladas no
+ * mesmo prazo que as da chamadora. Os atributos da requisição também são propagados, para que o
+ * tempo de uso das conexões seja atribuído ao endpoint que as originou.
+ */
+public class ParallelPageQuery {
+
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final boolean enabled;
+
+    /**
+     * Constrói o executor de páginas.
+     *
+     * @param transactionManager O gerenciador das transações somente leitura de cada consulta.
+     * @param enabled            Se {@code false}, as consultas são sempre executadas em sequência.
+     */
+    public ParallelPageQuery(PlatformTransactionManager transactionManager, boolean enabled) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("page-query-", 0).factory());
+        this.enabled = enabled;
+    }
+
+    /**
+     * Busca uma página executando a consulta do conteúdo e a contagem em paralelo.
+     *
+     * @param pageable A paginação e a ordenação solicitadas.
+     * @param content  A consulta do conteúdo da página, sem contagem.
+     * @param count    A contagem total de registros que atendem à consulta.
+     * @param <T>      O tipo dos registros.
+     * @return a página com o conteúdo e o total de registros.
+     */
+    public <T> Page<T> findPage(Pageable pageable, Function<Pageable, List<T>> content, LongSupplier count) {
+        if (!enabled || pageable.isUnpaged() || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PageableExecutionUtils.getPage(content.apply(pageable), pageable, count);
+        }
+
+        CompletionService<Object> tasks = new ExecutorCompletionService<>(executor);
+        Future<Object> contentTask = tasks.submit(inCallerContext(() -> content.apply(pageable)));
+        Future<Object> countTask = tasks.submit(inCallerContext(count::getAsLong));
+        try {
+            for (int i = 0; i < 2; i++) {
+                tasks.take().get();
+            }
+        } catch (ExecutionException e) {
+            contentTask.cancel(true);
+            countTask.cancel(true);
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            contentTask.cancel(true);
+            countTask.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("A consulta da página foi interrompida.", e);
+        }
+
+        @SuppressWarnings("unchecked")
+        List<T> items = (List<T>) contentTask.resultNow();
+        return new PageImpl<>(items, pageable, (Long) countTask.resultNow());
+    }
+
+    private Callable<Object> inCallerContext(Supplier<?> query) {
+        Workload workload = WorkloadContext.current();
+        RequestDeadline deadline = RequestDeadline.current();
+        ReplicaRouting routing = ReplicaRouting.current();
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        return () -> {
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            try {
+                return WorkloadContext.supply(workload, () -> RequestDeadline.supply(deadline, () -> ReplicaRouting.supply(routing,
+                        () -> transactionTemplate.execute(status -> query.get()))));
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        };
+    }
+}
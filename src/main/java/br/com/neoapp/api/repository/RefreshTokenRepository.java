@@ -0,0 +1,89 @@
+package br.com.neoapp.api.repository;
+
+import br.com.neoapp.api.model.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Repositório para a entidade {@link RefreshToken}, responsável pelas operações de
+ * acesso a dados dos refresh tokens.
+ */
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    /**
+     * Busca um refresh token pelo hash do seu valor, já carregando o cliente dono do token
+     * e os papéis dele.
+     *
+     * @param tokenHash O hash SHA-256 do valor do token.
+     * @return um {@link Optional} contendo o token, ou vazio se não existir.
+     */
+    @Query("SELECT t FROM RefreshToken t JOIN FETCH t.client c LEFT JOIN FETCH c.roles WHERE t.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * Revoga um token apenas se ele ainda não estiver revogado.
+     * <p>
+     * A condição garante que, entre duas requisições concorrentes com o mesmo token,
+     * apenas uma consiga rotacioná-lo.
+     *
+     * @param id O ID do token.
+     * @return a quantidade de registros atualizados (0 se o token já estava revogado).
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE RefreshToken t SET t.revoked = true WHERE t.id = :id AND t.revoked = false")
+    int revokeIfActive(String id);
+
+    /**
+     * Rotaciona um token apenas se ele ainda não estiver revogado, registrando o instante da rotação.
+     * <p>
+     * A condição garante que, entre duas requisições concorrentes com o mesmo token,
+     * apenas uma consiga rotacioná-lo.
+     *
+     * @param id        O ID do token.
+     * @param rotatedAt O instante da rotação.
+     * @return a quantidade de registros atualizados (0 se o token já estava revogado).
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE RefreshToken t SET t.revoked = true, t.rotatedAt = :rotatedAt WHERE t.id = :id AND t.revoked = false")
+    int rotateIfActive(String id, Instant rotatedAt);
+
+    /**
+     * Busca no banco o instante em que um token foi rotacionado, inclusive por outra transação
+     * já confirmada.
+     *
+     * @param id O ID do token.
+     * @return um {@link Optional} contendo o instante da rotação, ou vazio se o token não tiver
+     * sido rotacionado.
+     */
+    @Query("SELECT t.rotatedAt FROM RefreshToken t WHERE t.id = :id")
+    Optional<Instant> findRotatedAtById(String id);
+
+    /**
+     * Revoga todos os tokens ativos de um cliente.
+     *
+     * @param clientId O ID do cliente.
+     * @return a quantidade de tokens revogados.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE RefreshToken t SET t.revoked = true WHERE t.client.id = :clientId AND t.revoked = false")
+    int revokeAllByClientId(String clientId);
+
+    /**
+     * Remove os tokens expirados antes do instante informado.
+     *
+     * @param instant O instante de corte.
+     * @return a quantidade de tokens removidos.
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RefreshToken t WHERE t.expiresAt < :instant")
+    int deleteExpiredBefore(Instant instant);
+}
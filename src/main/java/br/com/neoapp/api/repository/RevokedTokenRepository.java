@@ -0,0 +1,47 @@
+package br.com.neoapp.api.repository;
+
+import br.com.neoapp.api.model.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repositório para a entidade {@link RevokedToken}, responsável pelas operações de
+ * acesso a dados dos tokens de acesso revogados.
+ */
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /**
+     * Busca os identificadores dos tokens revogados que ainda não expiraram.
+     *
+     * @param instant O instante de referência.
+     * @return a lista de {@code jti} dos tokens que expiram depois de {@code instant}.
+     */
+    @Query("SELECT t.jti FROM RevokedToken t WHERE t.expiresAt > :instant")
+    List<String> findJtisExpiringAfter(Instant instant);
+
+    /**
+     * Busca os identificadores dos tokens revogados depois do instante informado, inclusive por
+     * outras instâncias da aplicação.
+     *
+     * @param instant O instante de referência.
+     * @return a lista de {@code jti} dos tokens revogados depois de {@code instant}.
+     */
+    @Query("SELECT t.jti FROM RevokedToken t WHERE t.revokedAt > :instant")
+    List<String> findJtisRevokedAfter(Instant instant);
+
+    /**
+     * Remove os registros de tokens expirados antes do instante informado.
+     *
+     * @param instant O instante de corte.
+     * @return a quantidade de registros removidos.
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RevokedToken t WHERE t.expiresAt < :instant")
+    int deleteExpiredBefore(Instant instant);
+}
@@ -0,0 +1,233 @@
+package br.com.neoapp.api.search;
+
+import br.com.neoapp.api.controller.dto.ClientSuggestionDTO;
+import br.com.neoapp.api.events.ClientDeletedEvent;
+import br.com.neoapp.api.events.ClientSavedEvent;
+import br.com.neoapp.api.model.Client;
+import br.com.neoapp.api.repository.ClientRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * Estrutura de prefixos em memória para o autocompletar de nomes de clientes.
+ * <p>
+ * Os nomes são normalizados (minúsculas, sem acentos e com espaços simples) e cada início
+ * de palavra gera uma chave {@code sufixo + separador + id} em um {@link ConcurrentSkipListMap}.
+ * Como as chaves ficam ordenadas, todas as que começam com um prefixo formam um intervalo
+ * contíguo: a sugestão é uma busca logarítmica até o início do intervalo seguida da leitura
+ * das primeiras entradas, sem bloqueios para as leituras.
+ * <p>
+ * Assim, "sil" sugere tanto "Silvana Pereira" quanto "João Silva". A estrutura é carregada
+ * em segundo plano na inicialização e mantida pelos eventos {@link ClientSavedEvent} e
+ * {@link ClientDeletedEvent}.
+ */
+@Component
+public class ClientNameSuggester {
+
+    private static final Logger log = LoggerFactory.getLogger(ClientNameSuggester.class);
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final char ID_SEPARATOR = '\u0000';
+    private static final char MAX_CHAR = Character.MAX_VALUE;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final ClientRepository clientRepository;
+    private final ConcurrentSkipListMap<String, ClientSuggestionDTO> entries = new ConcurrentSkipListMap<>();
+    private final Map<String, List<String>> keysById = new ConcurrentHashMap<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // Versões dos clientes alterados por eventos durante a carga (valor nulo para as remoções).
+    private final Map<String, OffsetDateTime> changedWhileLoading = new HashMap<>();
+    private boolean loaded;
+
+    /**
+     * Constrói a estrutura de sugestões de nomes.
+     *
+     * @param clientRepository Repositório utilizado para carregar os nomes a partir do banco.
+     */
+    public ClientNameSuggester(ClientRepository clientRepository) {
+        this.clientRepository = clientRepository;
+    }
+
+    /**
+     * Carrega os nomes a partir do banco de dados na inicialização, em segundo plano,
+     * sem atrasar a disponibilidade da aplicação.
+     * <p>
+     * Eventos recebidos durante a carga prevalecem: um registro lido do banco não sobrescreve
+     * uma versão igual ou mais recente já indexada, e clientes excluídos durante a carga não
+     * são reinseridos.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        String lastId = "";
+        List<Client> batch;
+        do {
+            batch = clientRepository.findBatchAfterId(lastId, Limit.of(LOAD_BATCH_SIZE));
+            lock.lock();
+            try {
+                for (Client client : batch) {
+                    if (!isStale(client)) {
+                        put(client.getId(), client.getName());
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+
+        lock.lock();
+        try {
+            changedWhileLoading.clear();
+            loaded = true;
+        } finally {
+            lock.unlock();
+        }
+        log.info("Sugestões de nomes carregadas com {} clientes.", keysById.size());
+    }
+
+    /**
+     * Atualiza as sugestões com o nome de um cliente criado ou atualizado.
+     *
+     * @param event O evento com o cliente persistido.
+     */
+    @EventListener
+    public void onClientSaved(ClientSavedEvent event) {
+        Client client = event.client();
+        lock.lock();
+        try {
+            if (!loaded) {
+                changedWhileLoading.put(client.getId(), client.getUpdateAt());
+            }
+            put(client.getId(), client.getName());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove das sugestões um cliente excluído.
+     *
+     * @param event O evento com o ID do cliente removido.
+     */
+    @EventListener
+    public void onClientDeleted(ClientDeletedEvent event) {
+        lock.lock();
+        try {
+            if (!loaded) {
+                changedWhileLoading.put(event.id(), null);
+            }
+            remove(event.id());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retorna os primeiros clientes, em ordem alfabética, que possuem alguma palavra do nome
+     * iniciada pelo prefixo informado.
+     *
+     * @param prefix O texto digitado; acentos e maiúsculas são ignorados.
+     * @param limit  A quantidade máxima de sugestões.
+     * @return a lista de sugestões (ID e nome), sem clientes repetidos.
+     */
+    public List<ClientSuggestionDTO> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        ConcurrentNavigableMap<String, ClientSuggestionDTO> range =
+                entries.subMap(normalized, true, normalized + MAX_CHAR, true);
+
+        Set<String> seenIds = new LinkedHashSet<>();
+        List<ClientSuggestionDTO> suggestions = new ArrayList<>(limit);
+        for (ClientSuggestionDTO suggestion : range.values()) {
+            if (seenIds.add(suggestion.id())) {
+                suggestions.add(suggestion);
+                if (suggestions.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return suggestions;
+    }
+
+    /**
+     * Retorna a quantidade de clientes presentes na estrutura.
+     *
+     * @return o número de clientes indexados.
+     */
+    public int size() {
+        return keysById.size();
+    }
+
+    private boolean isStale(Client client) {
+        if (!changedWhileLoading.containsKey(client.getId())) {
+            return false;
+        }
+        OffsetDateTime indexed = changedWhileLoading.get(client.getId());
+        return indexed == null || client.getUpdateAt() == null || !client.getUpdateAt().isAfter(indexed);
+    }
+
+    void put(String id, String name) {
+        keysById.compute(id, (key, previousKeys) -> {
+            if (previousKeys != null) {
+                previousKeys.forEach(entries::remove);
+            }
+            String normalized = normalize(name);
+            if (normalized.isEmpty()) {
+                return null;
+            }
+
+            ClientSuggestionDTO suggestion = new ClientSuggestionDTO(id, name);
+            List<String> keys = new ArrayList<>();
+            for (int i = 0; i < normalized.length(); i++) {
+                if (i == 0 || normalized.charAt(i - 1) == ' ') {
+                    String entryKey = normalized.substring(i) + ID_SEPARATOR + id;
+                    entries.put(entryKey, suggestion);
+                    keys.add(entryKey);
+                }
+            }
+            return keys;
+        });
+    }
+
+    void remove(String id) {
+        keysById.computeIfPresent(id, (key, keys) -> {
+            keys.forEach(entries::remove);
+            return null;
+        });
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String withoutAccents = DIACRITICS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+        return WHITESPACE.matcher(withoutAccents.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,403 @@
+package br.com.neoapp.api.search;
+
+import br.com.neoapp.api.events.ClientDeletedEvent;
+import br.com.neoapp.api.events.ClientSavedEvent;
+import br.com.neoapp.api.model.Client;
+import br.com.neoapp.api.repository.ClientRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Índice de busca textual de clientes, embarcado na aplicação com o Apache Lucene.
+ * <p>
+ * Indexa nome, e-mail e telefone de cada cliente com um analisador que separa as palavras,
+ * converte para minúsculas e remove acentos. As buscas combinam, para cada termo digitado,
+ * correspondência exata, por prefixo e aproximada (tolerante a erros de digitação),
+ * ordenando os resultados por relevância (BM25).
+ * <p>
+ * O índice é alimentado pelos eventos {@link ClientSavedEvent} e {@link ClientDeletedEvent}
+ * e as alterações ficam visíveis para as buscas em quase tempo real (no máximo
+ * {@value #MAX_STALE_SECONDS} segundo). Ele pode ser reconstruído a partir do banco de
+ * dados a qualquer momento com {@link #rebuild()}; as reconstruções são executadas uma de cada
+ * vez e os eventos recebidos durante uma delas prevalecem sobre os lotes lidos do banco.
+ */
+@Component
+public class ClientSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ClientSearchIndex.class);
+
+    static final String FIELD_ID = "id";
+    static final String FIELD_NAME = "name";
+    static final String FIELD_EMAIL = "email";
+    static final String FIELD_PHONE = "phone";
+
+    private static final String[] SEARCH_FIELDS = {FIELD_NAME, FIELD_EMAIL, FIELD_PHONE};
+    private static final double MAX_STALE_SECONDS = 1.0;
+    private static final double MIN_STALE_SECONDS = 0.025;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final int MAX_RESULTS = 1000;
+
+    private final ClientRepository clientRepository;
+    private final String indexPath;
+    private final Analyzer analyzer = new ClientAnalyzer();
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    // IDs alterados por eventos durante a reconstrução em andamento (valor nulo para as remoções).
+    private Map<String, Client> changedDuringRebuild;
+
+    /**
+     * Constrói o índice de busca de clientes.
+     *
+     * @param clientRepository Repositório utilizado para reconstruir o índice a partir do banco.
+     * @param indexPath        Diretório onde o índice é gravado. Se vazio, o índice é mantido
+     *                         apenas em memória e reconstruído a cada inicialização.
+     */
+    public ClientSearchIndex(ClientRepository clientRepository,
+                             @Value("${app.search.index-path:}") String indexPath) {
+        this.clientRepository = clientRepository;
+        this.indexPath = indexPath;
+    }
+
+    /**
+     * Abre o diretório do índice, o {@link IndexWriter} e o gerenciador de buscas em
+     * quase tempo real.
+     */
+    @PostConstruct
+    public void open() {
+        try {
+            directory = indexPath == null || indexPath.isBlank()
+                    ? new ByteBuffersDirectory()
+                    : FSDirectory.open(Path.of(indexPath));
+            writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+            searcherManager = new SearcherManager(writer, null);
+            reopenThread = new ControlledRealTimeReopenThread<>(writer, searcherManager, MAX_STALE_SECONDS, MIN_STALE_SECONDS);
+            reopenThread.setName("client-search-reopen");
+            reopenThread.setDaemon(true);
+            reopenThread.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível abrir o índice de busca de clientes.", e);
+        }
+    }
+
+    /**
+     * Fecha o índice, gravando as alterações pendentes no diretório.
+     */
+    @PreDestroy
+    public void close() throws IOException {
+        reopenThread.close();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    /**
+     * Reconstrói o índice na inicialização da aplicação, caso ele esteja vazio.
+     * <p>
+     * Executado de forma assíncrona para não atrasar a disponibilidade da aplicação;
+     * até a conclusão, as buscas retornam apenas os clientes já indexados.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (writer.getDocStats().numDocs == 0) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Reconstrói todo o índice a partir dos clientes cadastrados no banco de dados.
+     * <p>
+     * Os clientes são lidos em lotes ordenados por ID. Enquanto a reconstrução não termina,
+     * as buscas podem retornar resultados parciais. Reconstruções simultâneas aguardam a
+     * anterior terminar, e os clientes alterados ou removidos por eventos durante a leitura
+     * não são sobrescritos pelos lotes, que podem ter sido lidos antes da alteração.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            writeLock.lock();
+            try {
+                writer.deleteAll();
+                changedDuringRebuild = new HashMap<>();
+            } finally {
+                writeLock.unlock();
+            }
+
+            String lastId = "";
+            List<Client> batch;
+            long total = 0;
+            do {
+                batch = clientRepository.findBatchAfterId(lastId, Limit.of(REBUILD_BATCH_SIZE));
+                writeLock.lock();
+                try {
+                    for (Client client : batch) {
+                        if (!changedDuringRebuild.containsKey(client.getId())) {
+                            writer.updateDocument(new Term(FIELD_ID, client.getId()), toDocument(client));
+                        }
+                    }
+                } finally {
+                    writeLock.unlock();
+                }
+                if (!batch.isEmpty()) {
+                    lastId = batch.get(batch.size() - 1).getId();
+                    total += batch.size();
+                }
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+            writer.commit();
+            searcherManager.maybeRefresh();
+            log.info("Índice de busca de clientes reconstruído com {} registros.", total);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível reconstruir o índice de busca de clientes.", e);
+        } finally {
+            writeLock.lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                writeLock.unlock();
+            }
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Reconstrói o índice em segundo plano, liberando imediatamente quem a solicitou.
+     */
+    @Async
+    public void rebuildInBackground() {
+        rebuild();
+    }
+
+    /**
+     * Indexa (ou reindexa) um cliente criado ou atualizado.
+     *
+     * @param event O evento com o cliente persistido.
+     */
+    @EventListener
+    public void onClientSaved(ClientSavedEvent event) {
+        index(event.client());
+    }
+
+    /**
+     * Remove do índice um cliente excluído.
+     *
+     * @param event O evento com o ID do cliente removido.
+     */
+    @EventListener
+    public void onClientDeleted(ClientDeletedEvent event) {
+        delete(event.id());
+    }
+
+    /**
+     * Indexa (ou reindexa) um cliente. Falhas são registradas em log e não interrompem
+     * a operação de escrita que originou a alteração, pois o índice pode ser reconstruído.
+     *
+     * @param client O cliente a ser indexado.
+     */
+    public void index(Client client) {
+        writeLock.lock();
+        try {
+            writer.updateDocument(new Term(FIELD_ID, client.getId()), toDocument(client));
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(client.getId(), client);
+            }
+        } catch (IOException e) {
+            log.error("Falha ao indexar o cliente {}.", client.getId(), e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Remove um cliente do índice.
+     *
+     * @param id O ID do cliente a ser removido.
+     */
+    public void delete(String id) {
+        writeLock.lock();
+        try {
+            writer.deleteDocuments(new Term(FIELD_ID, id));
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(id, null);
+            }
+        } catch (IOException e) {
+            log.error("Falha ao remover o cliente {} do índice.", id, e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Torna imediatamente visíveis para as buscas todas as alterações já enviadas ao índice.
+     */
+    void refresh() throws IOException {
+        searcherManager.maybeRefreshBlocking();
+    }
+
+    /**
+     * Busca clientes por texto livre, ordenados por relevância.
+     * <p>
+     * Cada termo da consulta precisa corresponder a pelo menos um dos campos (nome, e-mail
+     * ou telefone), seja de forma exata, por prefixo ou aproximada. Correspondências exatas
+     * pesam mais que as por prefixo, que pesam mais que as aproximadas.
+     *
+     * @param text     O texto digitado pelo usuário.
+     * @param pageable As informações de paginação. A ordenação é sempre por relevância.
+     * @return uma {@link Page} com os IDs dos clientes encontrados, na ordem de relevância. Apenas os
+     *         {@value #MAX_RESULTS} mais relevantes são paginados, e o total é limitado a esse valor.
+     */
+    public Page<String> search(String text, Pageable pageable) {
+        Query query = buildQuery(text);
+        int offset = pageable.isPaged() ? (int) pageable.getOffset() : 0;
+        int size = pageable.isPaged() ? pageable.getPageSize() : MAX_RESULTS;
+
+        if (query == null) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            TopDocs topDocs = searcher.search(query, Math.min(offset + size, MAX_RESULTS));
+            StoredFields storedFields = searcher.storedFields();
+            List<String> ids = new ArrayList<>(size);
+            ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+            for (int i = offset; i < scoreDocs.length; i++) {
+                ids.add(storedFields.document(scoreDocs[i].doc).get(FIELD_ID));
+            }
+            return new PageImpl<>(ids, pageable, Math.min(topDocs.totalHits.value, MAX_RESULTS));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível consultar o índice de busca de clientes.", e);
+        } finally {
+            if (searcher != null) {
+                try {
+                    searcherManager.release(searcher);
+                } catch (IOException e) {
+                    log.warn("Falha ao liberar o leitor do índice de busca.", e);
+                }
+            }
+        }
+    }
+
+    private Query buildQuery(String text) {
+        List<String> terms = analyze(text);
+        if (terms.isEmpty()) {
+            return null;
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String term : terms) {
+            BooleanQuery.Builder termQuery = new BooleanQuery.Builder();
+            int maxEdits = term.length() >= 6 ? 2 : term.length() >= 3 ? 1 : 0;
+            for (String field : SEARCH_FIELDS) {
+                termQuery.add(new BoostQuery(new TermQuery(new Term(field, term)), 4f), BooleanClause.Occur.SHOULD);
+                termQuery.add(new BoostQuery(new PrefixQuery(new Term(field, term)), 2f), BooleanClause.Occur.SHOULD);
+                if (maxEdits > 0) {
+                    termQuery.add(new FuzzyQuery(new Term(field, term), maxEdits, 1), BooleanClause.Occur.SHOULD);
+                }
+            }
+            query.add(termQuery.build(), BooleanClause.Occur.MUST);
+        }
+        return query.build();
+    }
+
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+        try (TokenStream stream = analyzer.tokenStream(FIELD_NAME, text)) {
+            CharTermAttribute termAttribute = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(termAttribute.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    private static Document toDocument(Client client) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, client.getId(), Field.Store.YES));
+        document.add(new TextField(FIELD_NAME, nullToEmpty(client.getName()), Field.Store.NO));
+        document.add(new TextField(FIELD_EMAIL, nullToEmpty(client.getEmail()), Field.Store.NO));
+        document.add(new TextField(FIELD_PHONE, nullToEmpty(client.getPhone()), Field.Store.NO));
+        return document;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    /**
+     * Analisador usado na indexação e nas consultas: separa as palavras pelas regras do
+     * Unicode, converte para minúsculas e remove acentos (e.g., "João" vira "joao").
+     */
+    static final class ClientAnalyzer extends Analyzer {
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer source = new StandardTokenizer();
+            TokenStream result = new LowerCaseFilter(source);
+            result = new ASCIIFoldingFilter(result);
+            return new TokenStreamComponents(source, result);
+        }
+    }
+}
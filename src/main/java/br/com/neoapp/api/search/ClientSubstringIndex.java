@@ -0,0 +1,197 @@
+package br.com.neoapp.api.search;
+
+import br.com.neoapp.api.events.ClientDeletedEvent;
+import br.com.neoapp.api.events.ClientSavedEvent;
+import br.com.neoapp.api.model.Client;
+import br.com.neoapp.api.repository.ClientRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Índices de trigramas em memória para os filtros por substring de e-mail e telefone
+ * da busca por atributos.
+ * <p>
+ * Um filtro {@code LIKE '%valor%'} não se beneficia de índices B-tree e obriga o banco a
+ * percorrer toda a tabela. Com os índices de {@link TrigramIndex}, a aplicação obtém antes
+ * um conjunto pequeno de IDs candidatos e o banco só precisa confirmar esses registros
+ * pela chave primária.
+ * <p>
+ * Os índices são carregados em segundo plano na inicialização e mantidos pelos eventos
+ * {@link ClientSavedEvent} e {@link ClientDeletedEvent}. Até o fim da carga, ou quando o
+ * filtro é curto ou pouco seletivo, a busca segue pelo caminho tradicional no banco.
+ * <p>
+ * Os filtros são comparados como texto literal: {@code %} e {@code _} não funcionam como
+ * curingas, nem aqui nem no {@code LIKE} do banco ({@link br.com.neoapp.api.repository.ClientQueries}),
+ * que os escapa.
+ */
+@Component
+public class ClientSubstringIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ClientSubstringIndex.class);
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final ClientRepository clientRepository;
+    private final int maxCandidates;
+    private final TrigramIndex emailIndex = new TrigramIndex();
+    private final TrigramIndex phoneIndex = new TrigramIndex();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // Versões dos clientes alterados por eventos durante a carga (valor nulo para as remoções).
+    private final Map<String, OffsetDateTime> changedWhileLoading = new HashMap<>();
+
+    private volatile boolean ready;
+
+    /**
+     * Constrói os índices de substring.
+     *
+     * @param clientRepository Repositório utilizado para carregar os índices a partir do banco.
+     * @param maxCandidates    Quantidade máxima de candidatos para que o índice seja usado;
+     *                         acima disso, o filtro é considerado pouco seletivo.
+     */
+    public ClientSubstringIndex(ClientRepository clientRepository,
+                                @Value("${app.search.substring.max-candidates:5000}") int maxCandidates) {
+        this.clientRepository = clientRepository;
+        this.maxCandidates = maxCandidates;
+    }
+
+    /**
+     * Carrega os índices a partir do banco de dados na inicialização, em segundo plano.
+     * <p>
+     * Eventos recebidos durante a carga prevalecem: um registro lido do banco não sobrescreve
+     * uma versão igual ou mais recente já indexada, e clientes excluídos durante a carga não
+     * são reinseridos.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        String lastId = "";
+        List<Client> batch;
+        do {
+            batch = clientRepository.findBatchAfterId(lastId, Limit.of(LOAD_BATCH_SIZE));
+            lock.lock();
+            try {
+                for (Client client : batch) {
+                    if (!isStale(client)) {
+                        index(client);
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+
+        lock.lock();
+        try {
+            changedWhileLoading.clear();
+            ready = true;
+        } finally {
+            lock.unlock();
+        }
+        log.info("Índices de substring de e-mail e telefone carregados com {} registros.", emailIndex.size());
+    }
+
+    /**
+     * Atualiza os índices com os dados de um cliente criado ou atualizado.
+     *
+     * @param event O evento com o cliente persistido.
+     */
+    @EventListener
+    public void onClientSaved(ClientSavedEvent event) {
+        Client client = event.client();
+        lock.lock();
+        try {
+            if (!ready) {
+                changedWhileLoading.put(client.getId(), client.getUpdateAt());
+            }
+            index(client);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove dos índices um cliente excluído.
+     *
+     * @param event O evento com o ID do cliente removido.
+     */
+    @EventListener
+    public void onClientDeleted(ClientDeletedEvent event) {
+        lock.lock();
+        try {
+            if (!ready) {
+                changedWhileLoading.put(event.id(), null);
+            }
+            emailIndex.remove(event.id());
+            phoneIndex.remove(event.id());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retorna os IDs dos clientes que podem corresponder aos filtros de e-mail e telefone.
+     *
+     * @param email Parte do e-mail buscado (case-insensitive), ou {@code null}.
+     * @param phone Parte do telefone buscado, ou {@code null}.
+     * @return os IDs candidatos (possivelmente vazio), ou {@code null} se os índices não
+     * puderem restringir a busca, caso em que o banco deve avaliar o filtro sozinho.
+     */
+    public Set<String> candidates(String email, String phone) {
+        if (!ready) {
+            return null;
+        }
+
+        List<String> emailCandidates = email == null ? null
+                : emailIndex.candidates(normalizeEmail(email), maxCandidates);
+        List<String> phoneCandidates = phone == null ? null
+                : phoneIndex.candidates(phone, maxCandidates);
+
+        if (emailCandidates == null && phoneCandidates == null) {
+            return null;
+        }
+        if (emailCandidates == null) {
+            return new HashSet<>(phoneCandidates);
+        }
+
+        Set<String> candidates = new HashSet<>(emailCandidates);
+        if (phoneCandidates != null) {
+            candidates.retainAll(new HashSet<>(phoneCandidates));
+        }
+        return candidates;
+    }
+
+    private boolean isStale(Client client) {
+        if (!changedWhileLoading.containsKey(client.getId())) {
+            return false;
+        }
+        OffsetDateTime indexed = changedWhileLoading.get(client.getId());
+        return indexed == null || client.getUpdateAt() == null || !client.getUpdateAt().isAfter(indexed);
+    }
+
+    private void index(Client client) {
+        emailIndex.put(client.getId(), client.getEmail() == null ? null : normalizeEmail(client.getEmail()));
+        phoneIndex.put(client.getId(), client.getPhone());
+    }
+
+    private static String normalizeEmail(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,305 @@
+package br.com.neoapp.api.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido de trigramas (sequências de 3 caracteres) para buscas por substring.
+ * <p>
+ * Cada valor indexado recebe um ordinal interno crescente e, para cada trigrama distinto do
+ * valor, o ordinal é anexado a uma lista de ocorrências (postings) armazenada em um
+ * {@code int[]} ordenado. Uma busca por substring só pode corresponder a valores que contêm
+ * todos os trigramas da substring, então os candidatos são obtidos pela interseção das
+ * listas, começando pela menor.
+ * <p>
+ * O resultado é um superconjunto das correspondências reais (os trigramas podem aparecer fora
+ * de ordem no valor), por isso os candidatos devem ser confirmados pela consulta ao banco.
+ * Remoções apenas marcam o ordinal como inativo; quando os ordinais inativos passam a ser
+ * maioria, o índice é compactado e os ordinais renumerados.
+ * <p>
+ * A classe é segura para uso concorrente: buscas compartilham um bloqueio de leitura e
+ * escritas usam o bloqueio de escrita.
+ */
+public class TrigramIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MIN_COMPACTION_SIZE = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final Map<String, Integer> ordinalsById = new HashMap<>();
+    private String[] idsByOrdinal = new String[INITIAL_CAPACITY];
+    private BitSet live = new BitSet(INITIAL_CAPACITY);
+    private int nextOrdinal;
+
+    /**
+     * Indexa (ou reindexa) o valor associado a um ID, substituindo o valor anterior.
+     *
+     * @param id    O ID do registro.
+     * @param value O valor já normalizado. Valores nulos ou com menos de 3 caracteres
+     *              apenas removem o registro do índice.
+     */
+    public void put(String id, String value) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            if (value == null || value.length() < 3) {
+                return;
+            }
+
+            int ordinal = nextOrdinal++;
+            if (ordinal == idsByOrdinal.length) {
+                idsByOrdinal = Arrays.copyOf(idsByOrdinal, ordinal * 2);
+            }
+            idsByOrdinal[ordinal] = id;
+            ordinalsById.put(id, ordinal);
+            live.set(ordinal);
+
+            for (int i = 0; i + 3 <= value.length(); i++) {
+                postings.computeIfAbsent(trigram(value, i), key -> new Postings()).add(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove um registro do índice.
+     *
+     * @param id O ID do registro.
+     */
+    public void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove todos os registros do índice.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            ordinalsById.clear();
+            idsByOrdinal = new String[INITIAL_CAPACITY];
+            live = new BitSet(INITIAL_CAPACITY);
+            nextOrdinal = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Retorna os IDs dos registros cujo valor pode conter a substring informada.
+     *
+     * @param query         A substring já normalizada, com pelo menos 3 caracteres.
+     * @param maxCandidates A quantidade máxima de candidatos aceitável.
+     * @return os IDs candidatos, ou {@code null} se a substring for curta demais para o índice
+     * ou se houver mais candidatos que {@code maxCandidates} (filtro pouco seletivo).
+     */
+    public List<String> candidates(String query, int maxCandidates) {
+        if (query == null || query.length() < 3) {
+            return null;
+        }
+
+        lock.readLock().lock();
+        try {
+            int trigramCount = query.length() - 2;
+            int[][] lists = new int[trigramCount][];
+            int[] sizes = new int[trigramCount];
+            for (int i = 0; i < trigramCount; i++) {
+                Postings list = postings.get(trigram(query, i));
+                if (list == null) {
+                    return List.of();
+                }
+                lists[i] = list.values;
+                sizes[i] = list.size;
+            }
+
+            int smallest = 0;
+            for (int i = 1; i < trigramCount; i++) {
+                if (sizes[i] < sizes[smallest]) {
+                    smallest = i;
+                }
+            }
+
+            int[] result = Arrays.copyOf(lists[smallest], sizes[smallest]);
+            int resultSize = result.length;
+            for (int i = 0; i < trigramCount && resultSize > 0; i++) {
+                if (i != smallest) {
+                    resultSize = intersect(result, resultSize, lists[i], sizes[i]);
+                }
+            }
+
+            List<String> ids = new ArrayList<>(Math.min(resultSize, maxCandidates));
+            for (int i = 0; i < resultSize; i++) {
+                int ordinal = result[i];
+                if (live.get(ordinal)) {
+                    if (ids.size() == maxCandidates) {
+                        return null;
+                    }
+                    ids.add(idsByOrdinal[ordinal]);
+                }
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retorna a quantidade de registros ativos no índice.
+     *
+     * @return o número de registros indexados.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinalsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Estima a memória ocupada pelas listas de ocorrências e pela tabela de ordinais, em bytes.
+     * Não inclui as próprias Strings de ID, que são compartilhadas com quem as forneceu.
+     *
+     * @return a estimativa de memória em bytes.
+     */
+    public long estimatedPostingsBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = (long) idsByOrdinal.length * Integer.BYTES + live.size() / Byte.SIZE;
+            for (Postings list : postings.values()) {
+                bytes += 16L + (long) list.values.length * Integer.BYTES;
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeInternal(String id) {
+        Integer ordinal = ordinalsById.remove(id);
+        if (ordinal == null) {
+            return;
+        }
+        live.clear(ordinal);
+        idsByOrdinal[ordinal] = null;
+
+        int liveCount = ordinalsById.size();
+        if (nextOrdinal >= MIN_COMPACTION_SIZE && nextOrdinal - liveCount > liveCount) {
+            compact();
+        }
+    }
+
+    /**
+     * Descarta os ordinais inativos e renumera os ativos preservando a ordem, o que mantém
+     * as listas de ocorrências ordenadas.
+     */
+    private void compact() {
+        int[] remap = new int[nextOrdinal];
+        String[] compactIds = new String[Math.max(INITIAL_CAPACITY, ordinalsById.size() * 2)];
+        int next = 0;
+        for (int ordinal = live.nextSetBit(0); ordinal >= 0; ordinal = live.nextSetBit(ordinal + 1)) {
+            remap[ordinal] = next;
+            compactIds[next] = idsByOrdinal[ordinal];
+            ordinalsById.put(idsByOrdinal[ordinal], next);
+            next++;
+        }
+
+        var iterator = postings.values().iterator();
+        while (iterator.hasNext()) {
+            Postings list = iterator.next();
+            int size = 0;
+            for (int i = 0; i < list.size; i++) {
+                int ordinal = list.values[i];
+                if (live.get(ordinal)) {
+                    list.values[size++] = remap[ordinal];
+                }
+            }
+            if (size == 0) {
+                iterator.remove();
+            } else {
+                list.size = size;
+                list.values = Arrays.copyOf(list.values, size);
+            }
+        }
+
+        BitSet compactLive = new BitSet(compactIds.length);
+        compactLive.set(0, next);
+        idsByOrdinal = compactIds;
+        live = compactLive;
+        nextOrdinal = next;
+    }
+
+    /**
+     * Intersecta, no próprio {@code target}, duas listas ordenadas de ordinais.
+     *
+     * @return o novo tamanho de {@code target}.
+     */
+    private static int intersect(int[] target, int targetSize, int[] other, int otherSize) {
+        int size = 0;
+        int j = 0;
+        for (int i = 0; i < targetSize && j < otherSize; i++) {
+            int value = target[i];
+            j = advance(other, j, otherSize, value);
+            if (j < otherSize && other[j] == value) {
+                target[size++] = value;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Avança em {@code values} até a primeira posição com valor maior ou igual a {@code target},
+     * usando busca exponencial seguida de busca binária (galloping).
+     */
+    private static int advance(int[] values, int from, int size, int target) {
+        int bound = 1;
+        while (from + bound < size && values[from + bound] < target) {
+            bound <<= 1;
+        }
+        int low = from + (bound >> 1);
+        int high = Math.min(from + bound, size - 1);
+        if (values[low] >= target) {
+            return low;
+        }
+        int index = Arrays.binarySearch(values, low, high + 1, target);
+        return index >= 0 ? index : Math.min(-index - 1, size);
+    }
+
+    private static long trigram(String value, int offset) {
+        return ((long) value.charAt(offset) << 32)
+                | ((long) value.charAt(offset + 1) << 16)
+                | value.charAt(offset + 2);
+    }
+
+    /**
+     * Lista ordenada de ordinais de um trigrama, armazenada em um vetor primitivo.
+     */
+    private static final class Postings {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int ordinal) {
+            if (size > 0 && values[size - 1] == ordinal) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = ordinal;
+        }
+    }
+}
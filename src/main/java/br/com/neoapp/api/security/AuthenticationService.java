@@ -1,8 +1,11 @@
 package br.com.neoapp.api.security;
 
+import br.com.neoapp.api.bulkhead.Bulkhead;
+import br.com.neoapp.api.bulkhead.Workload;
 import br.com.neoapp.api.controller.dto.LoginRequest;
 import br.com.neoapp.api.controller.dto.LoginResponse;
 import br.com.neoapp.api.exceptions.EmailOrPassworInvalid;
+import br.com.neoapp.api.exceptions.TooManyLoginAttemptsException;
 import br.com.neoapp.api.model.Client;
 import br.com.neoapp.api.repository.ClientRepository;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -24,17 +27,35 @@ public class AuthenticationService {
 
     JwtService jwtService;
 
+    private final PasswordUpgradeService passwordUpgradeService;
+
+    private final RefreshTokenService refreshTokenService;
+
+    private final LoginThrottle loginThrottle;
+
+    private final LoginActivityTracker loginActivityTracker;
+
     /**
      * Constrói o serviço de autenticação com as dependências necessárias injetadas.
      *
      * @param clientRepository Repositório para acesso aos dados dos clientes.
      * @param passwordEncoder  Codificador utilizado para validar as senhas.
      * @param jwtService       Serviço responsável pela geração de tokens JWT.
+     * @param passwordUpgradeService Serviço que refaz em segundo plano hashes de senha desatualizados.
+     * @param refreshTokenService    Serviço responsável pela emissão dos refresh tokens.
+     * @param loginThrottle          Serviço que limita as tentativas de login por e-mail e por IP.
+     * @param loginActivityTracker   Serviço que registra o último login e a quantidade de logins.
      */
-    public AuthenticationService(ClientRepository clientRepository, PasswordEncoder passwordEncoder, JwtService jwtService){
+    public AuthenticationService(ClientRepository clientRepository, PasswordEncoder passwordEncoder, JwtService jwtService,
+                                 PasswordUpgradeService passwordUpgradeService, RefreshTokenService refreshTokenService,
+                                 LoginThrottle loginThrottle, LoginActivityTracker loginActivityTracker){
         this.clientRepository = clientRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtService = jwtService;
+        this.passwordUpgradeService = passwordUpgradeService;
+        this.refreshTokenService = refreshTokenService;
+        this.loginThrottle = loginThrottle;
+        this.loginActivityTracker = loginActivityTracker;
     }
 
     /**
@@ -42,23 +63,42 @@ public class AuthenticationService {
      * <p>
      * O processo consiste em:
      * <ol>
+     * <li>Registrar a tentativa no {@link LoginThrottle}, recusando-a se o e-mail ou o IP
+     * tiverem excedido o limite de tentativas.</li>
      * <li>Buscar o cliente pelo e-mail fornecido.</li>
-     * <li>Comparar a senha da requisição com a senha armazenada (hash) do cliente.</li>
-     * <li>Gerar um token JWT em caso de sucesso na validação.</li>
+     * <li>Comparar a senha da requisição com a senha armazenada (hash) do cliente, registrando
+     * a falha no {@link LoginThrottle} se o e-mail não existir ou a senha não corresponder.</li>
+     * <li>Se o hash armazenado usar um algoritmo ou custo desatualizado, agendar seu
+     * recálculo em segundo plano.</li>
+     * <li>Registrar o login no {@link LoginActivityTracker}, sem acessar o banco.</li>
+     * <li>Gerar um token JWT e um refresh token em caso de sucesso na validação.</li>
      * </ol>
      *
-     * @param loginRequest O DTO contendo o e-mail и a senha para a tentativa de login.
-     * @return um {@link LoginResponse} contendo o token de acesso e seu tempo de expiração.
+     * @param loginRequest  O DTO contendo o e-mail и a senha para a tentativa de login.
+     * @param remoteAddress O endereço IP de origem da tentativa.
+     * @return um {@link LoginResponse} contendo o token de acesso, o refresh token e seus tempos de expiração.
+     * @throws TooManyLoginAttemptsException se o e-mail ou o IP tiverem excedido o limite de tentativas.
      * @throws EmailOrPassworInvalid se o e-mail não for encontrado na base de dados ou se a senha não corresponder.
      */
-    public LoginResponse authenticate(LoginRequest loginRequest){
+    @Bulkhead(Workload.AUTH)
+    public LoginResponse authenticate(LoginRequest loginRequest, String remoteAddress){
+        loginThrottle.acquire(loginRequest.email(), remoteAddress);
+
         Client client = clientRepository.findByEmail(loginRequest.email())
-                .orElseThrow(() -> new EmailOrPassworInvalid("Email ou senha inválido."));
+                .orElse(null);
 
-        if (!passwordEncoder.matches(loginRequest.password(), client.getPassword())){
+        if (client == null || !passwordEncoder.matches(loginRequest.password(), client.getPassword())){
+            loginThrottle.onFailure(loginRequest.email(), remoteAddress);
             throw new EmailOrPassworInvalid("Email ou senha inválido.");
         }
 
-        return jwtService.genereteToken(client);
+        if (passwordEncoder.upgradeEncoding(client.getPassword())){
+            passwordUpgradeService.upgrade(client.getId(), loginRequest.password(), client.getPassword());
+        }
+
+        loginThrottle.onSuccess(loginRequest.email(), remoteAddress);
+        loginActivityTracker.record(client.getId());
+
+        return refreshTokenService.issueTokens(client);
     }
 }
@@ -0,0 +1,106 @@
+package br.com.neoapp.api.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom de strings, seguro para uso concorrente.
+ * <p>
+ * Responde se um elemento <b>certamente não</b> foi inserido ou se <b>talvez</b> tenha sido,
+ * com a taxa de falsos positivos definida na criação. Os {@code k} índices de cada elemento
+ * são derivados de dois hashes de 64 bits (double hashing), calculados diretamente sobre os
+ * caracteres, sem alocações. As inserções usam CAS sobre um {@link AtomicLongArray}, então
+ * podem ocorrer em paralelo às consultas.
+ */
+public class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * Cria um filtro dimensionado para a quantidade de elementos e a taxa de falsos positivos informadas.
+     *
+     * @param expectedInsertions    A quantidade esperada de elementos.
+     * @param falsePositiveRate     A taxa de falsos positivos desejada (e.g., {@code 0.001}).
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (LN2 * LN2));
+        int words = (int) Math.max(1, (bits + 63) / 64);
+        this.words = new AtomicLongArray(words);
+        this.bitCount = words * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * LN2));
+    }
+
+    /**
+     * Insere um elemento no filtro.
+     *
+     * @param value O elemento a ser inserido.
+     */
+    public void put(String value) {
+        long hash1 = hash(value, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(value, 0xC2B2AE3D27D4EB4FL) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = ((hash1 + i * hash2) & Long.MAX_VALUE) % bitCount;
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long word = words.get(index);
+            while ((word & mask) == 0 && !words.compareAndSet(index, word, word | mask)) {
+                word = words.get(index);
+            }
+        }
+    }
+
+    /**
+     * Verifica se um elemento pode ter sido inserido no filtro.
+     *
+     * @param value O elemento a ser verificado.
+     * @return {@code false} se o elemento certamente não foi inserido; {@code true} se talvez tenha sido.
+     */
+    public boolean mightContain(String value) {
+        long hash1 = hash(value, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(value, 0xC2B2AE3D27D4EB4FL) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = ((hash1 + i * hash2) & Long.MAX_VALUE) % bitCount;
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Retorna o tamanho do filtro em bits.
+     *
+     * @return a quantidade de bits do filtro.
+     */
+    public long bitCount() {
+        return bitCount;
+    }
+
+    /**
+     * Retorna a quantidade de índices calculados por elemento.
+     *
+     * @return a quantidade de funções de hash.
+     */
+    public int hashCount() {
+        return hashCount;
+    }
+
+    private static long hash(String value, long seed) {
+        long hash = seed ^ value.length();
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0xFF51AFD7ED558CCDL;
+            hash = Long.rotateLeft(hash, 29);
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
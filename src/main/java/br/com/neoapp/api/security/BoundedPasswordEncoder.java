@@ -0,0 +1,155 @@
+package br.com.neoapp.api.security;
+
+import br.com.neoapp.api.exceptions.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link PasswordEncoder} que executa o hashing de senhas em um executor dedicado e limitado.
+ * <p>
+ * Algoritmos como o BCrypt consomem dezenas de milissegundos de CPU por operação. Executados
+ * diretamente nas threads do Tomcat, um pico de logins ocupa todos os núcleos e atrasa os
+ * demais endpoints. Aqui, {@link #encode} e {@link #matches} são submetidos a um pool com
+ * uma thread por núcleo e uma fila de tamanho fixo, de modo que o hashing nunca ocupa mais
+ * núcleos do que threads no pool, e a thread da requisição apenas aguarda o resultado.
+ * As threads de hashing são sempre threads de plataforma, mesmo com as threads virtuais
+ * habilitadas: o trabalho é de CPU, e a espera da thread virtual da requisição pelo
+ * {@link Future} não a prende à thread portadora.
+ * <p>
+ * Quando a fila está cheia, a operação é recusada imediatamente com
+ * {@link ServiceOverloadedException} (HTTP 503 com {@code Retry-After}). São exportadas as
+ * métricas {@code password.hashing.queue.size} (profundidade da fila),
+ * {@code password.hashing.duration} e {@code password.hashing.queue.wait} (histogramas de
+ * latência do hashing e da espera na fila, por operação) e {@code password.hashing.rejected}.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private static final String OPERATION_TAG = "operation";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer encodeWaitTimer;
+    private final Timer matchesWaitTimer;
+    private final Counter rejectedCounter;
+
+    /**
+     * Constrói o codificador limitado.
+     *
+     * @param delegate          O codificador que efetivamente calcula os hashes (e.g., BCrypt).
+     * @param threads           A quantidade de threads de hashing; se menor ou igual a zero,
+     *                          usa a quantidade de núcleos disponíveis.
+     * @param queueCapacity     A quantidade máxima de operações aguardando na fila.
+     * @param retryAfterSeconds O valor sugerido no cabeçalho {@code Retry-After} ao recusar.
+     * @param meterRegistry     O registro onde as métricas são publicadas.
+     */
+    public BoundedPasswordEncoder(PasswordEncoder delegate,
+                                  int threads,
+                                  int queueCapacity,
+                                  long retryAfterSeconds,
+                                  MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        this.delegate = delegate;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("password.hashing.queue.size", executor, pool -> pool.getQueue().size())
+                .description("Operações de hashing aguardando na fila")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Operações de hashing em execução")
+                .register(meterRegistry);
+        this.encodeTimer = timer("password.hashing.duration", "encode", meterRegistry);
+        this.matchesTimer = timer("password.hashing.duration", "matches", meterRegistry);
+        this.encodeWaitTimer = timer("password.hashing.queue.wait", "encode", meterRegistry);
+        this.matchesWaitTimer = timer("password.hashing.queue.wait", "matches", meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hashing.rejected")
+                .description("Operações de hashing recusadas por saturação")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword), encodeTimer, encodeWaitTimer);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword), matchesTimer, matchesWaitTimer);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Encerra o executor de hashing. Chamado pelo Spring ao destruir o bean.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Callable<T> operation, Timer durationTimer, Timer waitTimer) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return durationTimer.recordCallable(operation);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ServiceOverloadedException(
+                    "O serviço está sobrecarregado. Tente novamente em instantes.", retryAfterSeconds);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("A operação de hashing foi interrompida.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Falha ao calcular o hash da senha.", e.getCause());
+        }
+    }
+
+    private static Timer timer(String name, String operation, MeterRegistry meterRegistry) {
+        return Timer.builder(name)
+                .tag(OPERATION_TAG, operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,158 @@
+package br.com.neoapp.api.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JwtDecoder} que mantém em cache os tokens já verificados.
+ * <p>
+ * O mesmo token de acesso é reenviado em dezenas de requisições durante sua validade, e cada
+ * decodificação no {@code NimbusJwtDecoder} refaz o parse e a verificação da assinatura RSA.
+ * Aqui, o {@link Jwt} verificado é guardado sob o hash SHA-256 do token; nas requisições
+ * seguintes, apenas o validador de acertos (por padrão, a expiração) é reavaliado. O cache é
+ * limitado a {@code maxEntries} tokens e as entradas expiradas são descartadas.
+ * <p>
+ * São exportadas as métricas {@code jwt.decoder.cache} (acertos e faltas), {@code jwt.decoder.verification}
+ * (tempo das verificações completas), {@code jwt.decoder.verification.saved} (tempo de verificação
+ * economizado, estimado pela média das verificações) e {@code jwt.decoder.cache.size}.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private static final long PURGE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final JwtDecoder delegate;
+    private final OAuth2TokenValidator<Jwt> hitValidator;
+    private final int maxEntries;
+    private final Clock clock;
+    private final Map<String, Jwt> cache = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer verificationTimer;
+    private final Counter savedSeconds;
+
+    private volatile long lastPurgeNanos;
+
+    /**
+     * Constrói o decodificador com cache.
+     *
+     * @param delegate      O decodificador que faz a verificação completa dos tokens.
+     * @param hitValidator  O validador reaplicado a cada acerto no cache (e.g., expiração).
+     * @param maxEntries    A quantidade máxima de tokens mantidos em cache.
+     * @param clock         O relógio usado para descartar as entradas expiradas.
+     * @param meterRegistry O registro onde as métricas são publicadas.
+     */
+    public CachingJwtDecoder(JwtDecoder delegate,
+                             OAuth2TokenValidator<Jwt> hitValidator,
+                             int maxEntries,
+                             Clock clock,
+                             MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.hitValidator = hitValidator;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        this.hits = Counter.builder("jwt.decoder.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("jwt.decoder.cache").tag("result", "miss").register(meterRegistry);
+        this.verificationTimer = Timer.builder("jwt.decoder.verification")
+                .description("Tempo de parse e verificação de assinatura dos tokens fora do cache")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.savedSeconds = Counter.builder("jwt.decoder.verification.saved")
+                .description("Tempo de verificação estimado economizado pelos acertos no cache")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("jwt.decoder.cache.size", cache, Map::size).register(meterRegistry);
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String key = hash(token);
+        Jwt cached = cache.get(key);
+        if (cached != null) {
+            OAuth2TokenValidatorResult result = hitValidator.validate(cached);
+            if (!result.hasErrors()) {
+                hits.increment();
+                savedSeconds.increment(verificationTimer.mean(TimeUnit.SECONDS));
+                return cached;
+            }
+            cache.remove(key);
+        }
+
+        misses.increment();
+        long start = System.nanoTime();
+        Jwt jwt = delegate.decode(token);
+        verificationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (jwt.getExpiresAt() != null && hasRoom()) {
+            cache.put(key, jwt);
+        }
+        return jwt;
+    }
+
+    /**
+     * Remove um token do cache, forçando a verificação completa no próximo uso.
+     *
+     * @param token O token a ser removido.
+     */
+    public void evict(String token) {
+        cache.remove(hash(token));
+    }
+
+    /**
+     * Retorna a quantidade de tokens em cache.
+     *
+     * @return o número de entradas no cache.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Verifica se há espaço para uma nova entrada, descartando antes as expiradas quando o
+     * cache estiver cheio (no máximo uma varredura por segundo). Se continuar cheio, o token
+     * simplesmente não é guardado.
+     */
+    private boolean hasRoom() {
+        if (cache.size() < maxEntries) {
+            return true;
+        }
+        long now = System.nanoTime();
+        if (now - lastPurgeNanos >= PURGE_INTERVAL_NANOS) {
+            lastPurgeNanos = now;
+            Instant instant = clock.instant();
+            Iterator<Jwt> iterator = cache.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().getExpiresAt().isBefore(instant)) {
+                    iterator.remove();
+                }
+            }
+        }
+        return cache.size() < maxEntries;
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível.", e);
+        }
+    }
+}
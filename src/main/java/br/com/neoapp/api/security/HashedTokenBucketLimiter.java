@@ -0,0 +1,82 @@
+package br.com.neoapp.api.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Limitador de taxa com uma quantidade fixa de baldes, escolhidos pelo hash da chave.
+ * <p>
+ * Ao contrário do {@link TokenBucketLimiter}, as chaves não são guardadas: cada uma é associada a
+ * uma posição de um vetor de tamanho fixo, que guarda apenas o instante teórico em que o balde
+ * estaria cheio de novo (GCRA). Não há descarte nem recusa por falta de espaço; chaves que colidem
+ * na mesma posição apenas dividem o mesmo balde, o que só pode tornar o limite mais restritivo.
+ * Por isso o limitador serve como alternativa que falha fechada quando o {@link TokenBucketLimiter}
+ * está cheio de baldes em penalidade. As atualizações são feitas sem bloqueios, por
+ * compare-and-set.
+ */
+public class HashedTokenBucketLimiter {
+
+    private final AtomicLongArray tats;
+    private final long refillIntervalNanos;
+    private final long burstNanos;
+    private final LongSupplier nanoClock;
+
+    /**
+     * Constrói o limitador.
+     *
+     * @param capacity            A quantidade máxima de fichas de cada balde (rajada permitida).
+     * @param refillIntervalNanos O intervalo, em nanossegundos, para a reposição de uma ficha.
+     * @param slots               A quantidade de baldes.
+     * @param nanoClock           A fonte de tempo monotônica (e.g., {@code System::nanoTime}).
+     */
+    public HashedTokenBucketLimiter(int capacity, long refillIntervalNanos, int slots, LongSupplier nanoClock) {
+        this.tats = new AtomicLongArray(Math.max(1, slots));
+        for (int i = 0; i < tats.length(); i++) {
+            tats.set(i, Long.MIN_VALUE);
+        }
+        this.refillIntervalNanos = refillIntervalNanos;
+        this.burstNanos = (Math.max(1, capacity) - 1) * refillIntervalNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Tenta consumir uma ficha do balde da chave.
+     *
+     * @param key A chave limitada.
+     * @return {@code 0} se a ficha foi consumida; caso contrário, o tempo em nanossegundos até a
+     * próxima ficha ficar disponível.
+     */
+    public long tryAcquire(String key) {
+        int slot = slotFor(key);
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long current = tats.get(slot);
+            long tat = Math.max(current, now);
+            long wait = tat - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (tats.compareAndSet(slot, current, tat + refillIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Verifica se o balde da chave tem uma ficha disponível, sem consumi-la.
+     *
+     * @param key A chave limitada.
+     * @return {@code 0} se houver uma ficha disponível; caso contrário, o tempo em nanossegundos
+     * até a próxima ficha ficar disponível.
+     */
+    public long peek(String key) {
+        long now = nanoClock.getAsLong();
+        long tat = Math.max(tats.get(slotFor(key)), now);
+        return Math.max(0, tat - now - burstNanos);
+    }
+
+    private int slotFor(String key) {
+        int hash = key.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), tats.length());
+    }
+}
@@ -0,0 +1,369 @@
+package br.com.neoapp.api.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.Ed25519Signer;
+import com.nimbusds.jose.crypto.Ed25519Verifier;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.proc.BadJOSEException;
+import com.nimbusds.jose.proc.BadJWSException;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.EncryptedJWT;
+import com.nimbusds.jwt.JWT;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.JWTParser;
+import com.nimbusds.jwt.PlainJWT;
+import com.nimbusds.jwt.SignedJWT;
+import com.nimbusds.jwt.proc.JWTProcessor;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtEncodingException;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.text.ParseException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Conjunto de chaves usado para assinar e verificar os tokens de acesso (JWT).
+ * <p>
+ * O algoritmo de assinatura é configurável entre {@code RS256}, {@code ES256} (P-256) e
+ * {@code EdDSA} (Ed25519). Assinaturas ES256 e EdDSA são mais rápidas de gerar e bem menores
+ * que as RSA, o que reduz o cabeçalho {@code Authorization} de todas as requisições.
+ * <p>
+ * Todo token é emitido com o {@code kid} da chave de assinatura ativa, e a verificação escolhe
+ * a chave pelo {@code kid} do token. Para trocar de chave (ou de algoritmo), basta publicar a
+ * nova chave como ativa mantendo as anteriores no conjunto até que os tokens assinados por elas
+ * expirem. Tokens sem {@code kid}, emitidos antes desta configuração, são aceitos apenas quando
+ * há uma única chave para o algoritmo do token.
+ * <p>
+ * As chaves públicas são publicadas em {@code /.well-known/jwks.json}, e o módulo
+ * {@code reactive-api} as verifica com um conjunto apenas de verificação
+ * ({@link #forVerification(JWKSet)}), acompanhando as trocas de chave e de algoritmo.
+ * <p>
+ * A assinatura e a verificação são feitas diretamente pelos {@link JWSSigner} e
+ * {@link JWSVerifier} do Nimbus, pois o {@code NimbusJwtEncoder} e o seletor de chaves padrão
+ * do Nimbus não suportam chaves Ed25519. Os validadores de claims do Spring continuam sendo
+ * aplicados pelo {@link NimbusJwtDecoder}.
+ */
+public class JwtKeyRing {
+
+    private final JWK signingKey;
+    private final JWSAlgorithm algorithm;
+    private final JWSSigner signer;
+    private final Map<String, KeyVerifier> verifiersByKeyId = new HashMap<>();
+    private final Map<JWSAlgorithm, KeyVerifier> verifiersWithoutKeyId = new HashMap<>();
+    private final List<JWK> publicKeys = new ArrayList<>();
+
+    /**
+     * Constrói o conjunto de chaves.
+     *
+     * @param algorithm        O algoritmo dos novos tokens: {@code RS256}, {@code ES256} ou {@code EdDSA}.
+     * @param signingKey       A chave privada ativa, usada para assinar os novos tokens. Deve ter {@code kid}.
+     * @param verificationKeys As chaves aceitas na verificação, incluindo a ativa e as anteriores
+     *                         ainda em uso. Todas devem ter {@code kid}.
+     * @throws IllegalArgumentException se o algoritmo não for suportado ou não corresponder às chaves.
+     */
+    public JwtKeyRing(String algorithm, JWK signingKey, List<JWK> verificationKeys) {
+        this.algorithm = JWSAlgorithm.parse(algorithm);
+        this.signingKey = signingKey;
+        if (signingKey.getKeyID() == null) {
+            throw new IllegalArgumentException("A chave de assinatura de JWT precisa de um kid.");
+        }
+        if (!signingKey.isPrivate()) {
+            throw new IllegalArgumentException("A chave de assinatura de JWT '" + signingKey.getKeyID() + "' não é privada.");
+        }
+        this.signer = signer(this.algorithm, signingKey);
+        addVerificationKeys(verificationKeys);
+        if (!verifiersByKeyId.containsKey(signingKey.getKeyID())) {
+            verifiersByKeyId.put(signingKey.getKeyID(), verifier(signingKey));
+            publicKeys.add(signingKey.toPublicJWK());
+        }
+    }
+
+    private JwtKeyRing(List<JWK> verificationKeys) {
+        this.algorithm = null;
+        this.signingKey = null;
+        this.signer = null;
+        addVerificationKeys(verificationKeys);
+    }
+
+    private void addVerificationKeys(List<JWK> verificationKeys) {
+        Map<JWSAlgorithm, Integer> keysPerAlgorithm = new HashMap<>();
+        for (JWK key : verificationKeys) {
+            if (key.getKeyID() == null) {
+                throw new IllegalArgumentException("Todas as chaves de verificação de JWT precisam de um kid.");
+            }
+            KeyVerifier verifier = verifier(key);
+            verifiersByKeyId.put(key.getKeyID(), verifier);
+            verifiersWithoutKeyId.put(verifier.algorithm(), verifier);
+            keysPerAlgorithm.merge(verifier.algorithm(), 1, Integer::sum);
+            publicKeys.add(key.toPublicJWK());
+        }
+        keysPerAlgorithm.forEach((keyAlgorithm, count) -> {
+            if (count > 1) {
+                verifiersWithoutKeyId.remove(keyAlgorithm);
+            }
+        });
+    }
+
+    /**
+     * Cria o conjunto de chaves RSA a partir do par {@code app.pub}/{@code app.key}, usando
+     * como {@code kid} o thumbprint da chave pública (RFC 7638).
+     *
+     * @param publicKey  A chave pública RSA.
+     * @param privateKey A chave privada RSA.
+     * @return o conjunto com a chave RSA como única chave de assinatura e verificação.
+     */
+    public static JwtKeyRing rsa(RSAPublicKey publicKey, RSAPrivateKey privateKey) {
+        try {
+            RSAKey key = new RSAKey.Builder(publicKey).privateKey(privateKey).keyIDFromThumbprint().build();
+            return new JwtKeyRing(JWSAlgorithm.RS256.getName(), key, List.of(key));
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Não foi possível calcular o kid da chave RSA.", e);
+        }
+    }
+
+    /**
+     * Cria o conjunto de chaves a partir de um JWK Set.
+     *
+     * @param algorithm    O algoritmo dos novos tokens.
+     * @param jwkSet       O JWK Set com a chave privada ativa e as chaves anteriores.
+     * @param signingKeyId O {@code kid} da chave ativa; se vazio, usa a primeira chave privada
+     *                     compatível com o algoritmo.
+     * @return o conjunto com todas as chaves do JWK Set aceitas na verificação.
+     * @throws IllegalArgumentException se não houver chave privada compatível.
+     */
+    public static JwtKeyRing fromJwkSet(String algorithm, JWKSet jwkSet, String signingKeyId) {
+        JWSAlgorithm jwsAlgorithm = JWSAlgorithm.parse(algorithm);
+        JWK signingKey = jwkSet.getKeys().stream()
+                .filter(JWK::isPrivate)
+                .filter(key -> signingKeyId == null || signingKeyId.isBlank()
+                        ? jwsAlgorithm.equals(algorithmOf(key))
+                        : signingKeyId.equals(key.getKeyID()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Nenhuma chave privada de JWT encontrada para o algoritmo " + algorithm + "."));
+        return new JwtKeyRing(algorithm, signingKey, jwkSet.getKeys());
+    }
+
+    /**
+     * Cria um conjunto de chaves apenas para verificação, a partir das chaves públicas de um JWK
+     * Set (e.g., o publicado pela API em {@code /.well-known/jwks.json}). As partes privadas,
+     * se houver, são descartadas, e o conjunto não emite tokens.
+     *
+     * @param jwkSet O JWK Set com as chaves aceitas na verificação.
+     * @return o conjunto sem chave de assinatura.
+     * @throws IllegalArgumentException se alguma chave não tiver {@code kid} ou não for suportada.
+     */
+    public static JwtKeyRing forVerification(JWKSet jwkSet) {
+        return new JwtKeyRing(jwkSet.toPublicJWKSet().getKeys());
+    }
+
+    /**
+     * Retorna o {@code kid} da chave de assinatura ativa.
+     *
+     * @return o {@code kid} incluído no cabeçalho dos novos tokens.
+     */
+    public String getSigningKeyId() {
+        return signingKey == null ? null : signingKey.getKeyID();
+    }
+
+    /**
+     * Indica se o conjunto tem uma chave de verificação com o {@code kid} informado.
+     *
+     * @param keyId O {@code kid} do token.
+     * @return {@code true} se a chave for conhecida.
+     */
+    public boolean hasKeyId(String keyId) {
+        return verifiersByKeyId.containsKey(keyId);
+    }
+
+    /**
+     * Retorna as chaves públicas aceitas na verificação, para publicação a outros serviços que
+     * validam os mesmos tokens.
+     *
+     * @return o JWK Set sem partes privadas.
+     */
+    public JWKSet toPublicJwkSet() {
+        return new JWKSet(publicKeys);
+    }
+
+    /**
+     * Cria o {@link JwtEncoder} que assina os tokens com a chave ativa. O cabeçalho dos tokens
+     * sempre contém o algoritmo e o {@code kid} da chave ativa; um cabeçalho informado nos
+     * parâmetros é ignorado.
+     *
+     * @return o codificador de JWT.
+     * @throws IllegalStateException se o conjunto for apenas de verificação.
+     */
+    public JwtEncoder createEncoder() {
+        if (signer == null) {
+            throw new IllegalStateException("O conjunto de chaves de JWT é apenas de verificação.");
+        }
+        return this::encode;
+    }
+
+    /**
+     * Cria o {@link NimbusJwtDecoder} que verifica a assinatura com a chave indicada pelo
+     * {@code kid} do token e aplica os validadores padrão do Spring (expiração).
+     *
+     * @return o decodificador de JWT.
+     */
+    public NimbusJwtDecoder createDecoder() {
+        return new NimbusJwtDecoder(createProcessor());
+    }
+
+    /**
+     * Cria o {@link JWTProcessor} que verifica a assinatura com a chave indicada pelo {@code kid}
+     * do token, sem aplicar validadores de claims. Usado por decodificadores que não são o
+     * {@link NimbusJwtDecoder}, como o reativo do módulo {@code reactive-api}.
+     *
+     * @return o processador de JWT.
+     */
+    public JWTProcessor<SecurityContext> createProcessor() {
+        return new KeyIdJwtProcessor();
+    }
+
+    private Jwt encode(JwtEncoderParameters parameters) {
+        JwtClaimsSet claims = parameters.getClaims();
+        JWSHeader header = new JWSHeader.Builder(algorithm)
+                .type(JOSEObjectType.JWT)
+                .keyID(signingKey.getKeyID())
+                .build();
+
+        JWTClaimsSet.Builder builder = new JWTClaimsSet.Builder();
+        claims.getClaims().forEach((name, value) ->
+                builder.claim(name, value instanceof Instant instant ? Date.from(instant) : value));
+
+        SignedJWT jwt = new SignedJWT(header, builder.build());
+        try {
+            jwt.sign(signer);
+        } catch (JOSEException e) {
+            throw new JwtEncodingException("Não foi possível assinar o JWT.", e);
+        }
+        return new Jwt(jwt.serialize(), claims.getIssuedAt(), claims.getExpiresAt(), header.toJSONObject(), claims.getClaims());
+    }
+
+    private static JWSAlgorithm algorithmOf(JWK key) {
+        if (key instanceof RSAKey) {
+            return JWSAlgorithm.RS256;
+        }
+        if (key instanceof ECKey ecKey && Curve.P_256.equals(ecKey.getCurve())) {
+            return JWSAlgorithm.ES256;
+        }
+        if (key instanceof OctetKeyPair okp && Curve.Ed25519.equals(okp.getCurve())) {
+            return JWSAlgorithm.EdDSA;
+        }
+        throw new IllegalArgumentException("Tipo de chave de JWT não suportado: " + key.getKeyType() + " (kid " + key.getKeyID() + ").");
+    }
+
+    private static JWSSigner signer(JWSAlgorithm algorithm, JWK key) {
+        if (!algorithm.equals(algorithmOf(key))) {
+            throw new IllegalArgumentException("A chave '" + key.getKeyID() + "' não é compatível com o algoritmo " + algorithm + ".");
+        }
+        try {
+            if (key instanceof RSAKey rsaKey) {
+                return new RSASSASigner(rsaKey);
+            }
+            if (key instanceof ECKey ecKey) {
+                return new ECDSASigner(ecKey);
+            }
+            return new Ed25519Signer((OctetKeyPair) key);
+        } catch (JOSEException e) {
+            throw new IllegalArgumentException("Chave de assinatura de JWT inválida: " + key.getKeyID() + ".", e);
+        }
+    }
+
+    private static KeyVerifier verifier(JWK key) {
+        JWSAlgorithm keyAlgorithm = algorithmOf(key);
+        try {
+            if (JWSAlgorithm.RS256.equals(keyAlgorithm)) {
+                return new KeyVerifier(keyAlgorithm, new RSASSAVerifier((RSAKey) key));
+            }
+            if (JWSAlgorithm.ES256.equals(keyAlgorithm)) {
+                return new KeyVerifier(keyAlgorithm, new ECDSAVerifier((ECKey) key));
+            }
+            return new KeyVerifier(keyAlgorithm, new Ed25519Verifier(((OctetKeyPair) key).toPublicJWK()));
+        } catch (JOSEException e) {
+            throw new IllegalArgumentException("Chave de verificação de JWT inválida: " + key.getKeyID() + ".", e);
+        }
+    }
+
+    /**
+     * O verificador de uma chave e o único algoritmo aceito para ela.
+     */
+    private record KeyVerifier(JWSAlgorithm algorithm, JWSVerifier verifier) {
+    }
+
+    /**
+     * Verifica a assinatura dos tokens com a chave indicada pelo {@code kid}, recusando tokens
+     * sem assinatura, criptografados ou cujo algoritmo não corresponda ao da chave.
+     */
+    private class KeyIdJwtProcessor implements JWTProcessor<SecurityContext> {
+
+        @Override
+        public JWTClaimsSet process(String jwtString, SecurityContext context)
+                throws ParseException, BadJOSEException, JOSEException {
+            return process(JWTParser.parse(jwtString), context);
+        }
+
+        @Override
+        public JWTClaimsSet process(JWT jwt, SecurityContext context) throws BadJOSEException, JOSEException {
+            if (jwt instanceof SignedJWT signedJwt) {
+                return process(signedJwt, context);
+            }
+            throw new BadJOSEException("Apenas tokens assinados são aceitos.");
+        }
+
+        @Override
+        public JWTClaimsSet process(PlainJWT plainJwt, SecurityContext context) throws BadJOSEException {
+            throw new BadJOSEException("Tokens sem assinatura não são aceitos.");
+        }
+
+        @Override
+        public JWTClaimsSet process(SignedJWT signedJwt, SecurityContext context) throws BadJOSEException, JOSEException {
+            JWSHeader header = signedJwt.getHeader();
+            KeyVerifier keyVerifier = header.getKeyID() != null
+                    ? verifiersByKeyId.get(header.getKeyID())
+                    : verifiersWithoutKeyId.get(header.getAlgorithm());
+            if (keyVerifier == null || !keyVerifier.algorithm().equals(header.getAlgorithm())) {
+                throw new BadJWSException("Nenhuma chave de verificação para o kid " + header.getKeyID() + " e o algoritmo " + header.getAlgorithm() + ".");
+            }
+            if (!signedJwt.verify(keyVerifier.verifier())) {
+                throw new BadJWSException("Assinatura do JWT inválida.");
+            }
+            try {
+                return signedJwt.getJWTClaimsSet();
+            } catch (ParseException e) {
+                throw new BadJWSException("Claims do JWT inválidos.", e);
+            }
+        }
+
+        @Override
+        public JWTClaimsSet process(EncryptedJWT encryptedJwt, SecurityContext context) throws BadJOSEException {
+            throw new BadJOSEException("Tokens criptografados não são aceitos.");
+        }
+    }
+}
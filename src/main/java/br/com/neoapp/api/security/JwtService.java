@@ -5,12 +5,16 @@ import br.com.neoapp.api.controller.dto.LoginResponse;
 import br.com.neoapp.api.enums.RoleName;
 import br.com.neoapp.api.model.Client;
 import br.com.neoapp.api.model.Role;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -23,23 +27,36 @@ import java.util.stream.Collectors;
 public class JwtService {
     private final JwtEncoder encoder;
 
+    private final Duration accessTokenTtl;
+
+    private final ProfileClaimService profileClaimService;
+
     /**
      * Constrói o serviço com o codificador de JWT.
      *
-     * @param encoder O {@link JwtEncoder} injetado pelo Spring, responsável pela
-     * codificação e assinatura dos tokens.
+     * @param encoder             O {@link JwtEncoder} injetado pelo Spring, responsável pela
+     *                            codificação e assinatura dos tokens.
+     * @param accessTokenTtl      O tempo de validade dos tokens de acesso, definido pela
+     *                            propriedade {@code app.jwt.access-token-ttl}.
+     * @param profileClaimService O serviço que monta o resumo do perfil incluído no token.
      */
-    public JwtService(JwtEncoder encoder){
+    public JwtService(JwtEncoder encoder,
+                      @Value("${app.jwt.access-token-ttl:5m}") Duration accessTokenTtl,
+                      ProfileClaimService profileClaimService){
         this.encoder = encoder;
+        this.accessTokenTtl = accessTokenTtl;
+        this.profileClaimService = profileClaimService;
     }
 
     /**
      * Gera um token JWT para um cliente autenticado.
      * <p>
      * O token gerado contém claims (informações) padrão como emissor (issuer),
-     * data de expiração (expiresAt), e o ID do cliente como 'subject' (sub).
+     * data de expiração (expiresAt), o ID do cliente como 'subject' (sub) e um identificador
+     * único do token (jti), usado para revogá-lo antes da expiração.
      * Além disso, inclui um claim customizado 'scope' que contém os papéis (roles)
-     * do usuário em uma string separada por espaços.
+     * do usuário em uma string separada por espaços. Com o resumo do perfil habilitado,
+     * inclui também o claim 'profile' montado pelo {@link ProfileClaimService}.
      *
      * @param client A entidade do cliente para a qual o token será gerado.
      * @return um {@link LoginResponse} contendo o token de acesso (JWT) e seu
@@ -49,7 +66,7 @@ public class JwtService {
     public LoginResponse genereteToken(Client client){
         try {
             Instant now = Instant.now();
-            long expire = 300L;
+            long expire = accessTokenTtl.toSeconds();
 
             var scopes = client.getRoles()
                     .stream()
@@ -57,15 +74,20 @@ public class JwtService {
                     .map(RoleName::name)
                     .collect(Collectors.joining(" "));
 
-            JwtClaimsSet claims = JwtClaimsSet.builder()
+            JwtClaimsSet.Builder claims = JwtClaimsSet.builder()
                     .issuer("Api")
                     .issuedAt(now)
                     .expiresAt(now.plusSeconds(expire))
                     .subject(client.getId())
-                    .claim("scope", scopes)
-                    .build();
+                    .id(UUID.randomUUID().toString())
+                    .claim("scope", scopes);
+
+            Map<String, Object> profile = profileClaimService.toClaim(client);
+            if (profile != null) {
+                claims.claim(ProfileClaimService.PROFILE_CLAIM, profile);
+            }
 
-            String token = encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+            String token = encoder.encode(JwtEncoderParameters.from(claims.build())).getTokenValue();
 
             return new LoginResponse(token, expire);
         } catch (Exception e) {
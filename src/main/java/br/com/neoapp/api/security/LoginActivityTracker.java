@@ -0,0 +1,168 @@
+package br.com.neoapp.api.security;
+
+import br.com.neoapp.api.events.LoginActivityFlushedEvent;
+import br.com.neoapp.api.shard.ClientShards;
+import br.com.neoapp.api.shard.ShardContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serviço responsável por registrar o último login e a quantidade de logins de cada cliente.
+ * <p>
+ * Gravar um {@code UPDATE} a cada login dobraria os acessos ao banco do endpoint de login.
+ * Em vez disso, os logins são acumulados em memória, em um {@link ConcurrentHashMap} por
+ * cliente (vários logins do mesmo cliente se combinam em uma única entrada), e gravados
+ * periodicamente em um único {@code UPDATE} em lote (write-behind).
+ * <p>
+ * Os dados ficam pendentes por no máximo um intervalo de gravação
+ * ({@code app.login-activity.flush-interval}): é isso que se perde se o processo for
+ * encerrado abruptamente. No desligamento normal, as entradas pendentes são gravadas antes do
+ * encerramento, e um lote que falhar é devolvido ao acumulador para a próxima tentativa. Com os
+ * clientes distribuídos em shards ({@link ClientShards}), há um lote por shard, e cada lote gravado
+ * é publicado como {@link LoginActivityFlushedEvent}. São exportadas as métricas {@code login.activity.pending} e {@code login.activity.flushed}.
+ */
+@Service
+public class LoginActivityTracker {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginActivityTracker.class);
+
+    private static final String UPDATE_SQL = """
+            UPDATE client_table
+               SET last_login_at = CASE WHEN last_login_at IS NULL OR last_login_at < ? THEN ? ELSE last_login_at END,
+                   login_count = login_count + ?
+             WHERE id = ?""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<String, LoginActivity> pending = new ConcurrentHashMap<>();
+
+    private final Counter flushedCounter;
+
+    private final ClientShards shards;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Constrói o serviço com as dependências necessárias injetadas.
+     *
+     * @param jdbcTemplate   Utilizado para gravar os lotes diretamente na tabela de clientes.
+     * @param meterRegistry  Registro onde são publicadas as métricas.
+     * @param shards         Os shards dos clientes, se habilitados.
+     * @param eventPublisher Utilizado para publicar os lotes gravados.
+     */
+    @Autowired
+    public LoginActivityTracker(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry, ObjectProvider<ClientShards> shards,
+                                ApplicationEventPublisher eventPublisher) {
+        this(jdbcTemplate, meterRegistry, shards.getIfAvailable(), eventPublisher);
+    }
+
+    /**
+     * Constrói o serviço sem shards.
+     *
+     * @param jdbcTemplate   Utilizado para gravar os lotes diretamente na tabela de clientes.
+     * @param meterRegistry  Registro onde são publicadas as métricas.
+     * @param eventPublisher Utilizado para publicar os lotes gravados.
+     */
+    public LoginActivityTracker(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                                ApplicationEventPublisher eventPublisher) {
+        this(jdbcTemplate, meterRegistry, (ClientShards) null, eventPublisher);
+    }
+
+    private LoginActivityTracker(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry, ClientShards shards,
+                                 ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shards = shards;
+        this.eventPublisher = eventPublisher;
+        this.flushedCounter = Counter.builder("login.activity.flushed")
+                .description("Clientes com logins gravados pelos lotes de atividade de login")
+                .register(meterRegistry);
+        Gauge.builder("login.activity.pending", pending, Map::size)
+                .description("Clientes com logins aguardando gravação")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registra um login bem-sucedido do cliente, sem acessar o banco.
+     *
+     * @param clientId O ID do cliente autenticado.
+     */
+    public void record(String clientId) {
+        pending.merge(clientId, new LoginActivity(OffsetDateTime.now(), 1), LoginActivity::merge);
+    }
+
+    /**
+     * Grava os logins acumulados em um único {@code UPDATE} em lote (um por shard).
+     */
+    @Scheduled(fixedDelayString = "${app.login-activity.flush-interval:10s}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<String, LoginActivity> drained = new HashMap<>();
+        for (String clientId : pending.keySet()) {
+            LoginActivity activity = pending.remove(clientId);
+            if (activity != null) {
+                drained.put(clientId, activity);
+            }
+        }
+
+        Map<Integer, Map<String, LoginActivity>> drainedByShard = new HashMap<>();
+        drained.forEach((clientId, activity) -> drainedByShard
+                .computeIfAbsent(shards == null ? null : shards.shardOf(clientId), ignored -> new HashMap<>())
+                .put(clientId, activity));
+        drainedByShard.forEach(this::write);
+    }
+
+    private void write(Integer shard, Map<String, LoginActivity> activities) {
+        List<Object[]> batch = new ArrayList<>(activities.size());
+        List<LoginActivityFlushedEvent.Login> logins = new ArrayList<>(activities.size());
+        activities.forEach((clientId, activity) -> {
+            batch.add(new Object[]{activity.lastLoginAt(), activity.lastLoginAt(), activity.count(), clientId});
+            logins.add(new LoginActivityFlushedEvent.Login(clientId, activity.lastLoginAt(), activity.count()));
+        });
+
+        try {
+            ShardContext.supply(shard, () -> jdbcTemplate.batchUpdate(UPDATE_SQL, batch));
+            flushedCounter.increment(batch.size());
+        } catch (RuntimeException e) {
+            activities.forEach((clientId, activity) -> pending.merge(clientId, activity, LoginActivity::merge));
+            log.warn("Falha ao gravar a atividade de login de {} clientes; nova tentativa no próximo lote.", activities.size(), e);
+            return;
+        }
+        eventPublisher.publishEvent(new LoginActivityFlushedEvent(logins));
+    }
+
+    /**
+     * Grava as entradas pendentes no desligamento da aplicação.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private record LoginActivity(OffsetDateTime lastLoginAt, long count) {
+
+        private LoginActivity merge(LoginActivity other) {
+            OffsetDateTime latest = lastLoginAt.isAfter(other.lastLoginAt) ? lastLoginAt : other.lastLoginAt;
+            return new LoginActivity(latest, count + other.count);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package br.com.neoapp.api.security;
+
+import br.com.neoapp.api.exceptions.TooManyLoginAttemptsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serviço responsável por limitar as tentativas de login por endereço IP e por e-mail.
+ * <p>
+ * Cada tentativa de login custa uma consulta ao banco e uma verificação de senha (BCrypt), o
+ * que torna o endpoint, que não exige autenticação, um meio barato de esgotar a CPU da
+ * aplicação ou de testar senhas por força bruta. Cada tentativa consome uma ficha de um
+ * {@link TokenBucketLimiter} do IP de origem; sem fichas, ou se o balde de falhas do e-mail
+ * estiver vazio, a tentativa é recusada com {@link TooManyLoginAttemptsException} (HTTP 429)
+ * antes de qualquer acesso ao banco ou cálculo de hash.
+ * <p>
+ * O balde do e-mail é consumido apenas quando a senha não confere ({@link #onFailure}) e é
+ * mantido por e-mail <em>e</em> IP: um atacante consegue esgotar apenas as tentativas do seu
+ * próprio endereço, e não bloquear o login da vítima a partir de outros IPs. Um login
+ * bem-sucedido devolve a ficha do IP e enche novamente o balde do e-mail.
+ * <p>
+ * Se um dos limitadores estiver cheio de baldes em penalidade (e.g., sob um ataque com muitos
+ * IPs ou e-mails distintos), as chaves novas passam a ser limitadas por um
+ * {@link HashedTokenBucketLimiter}: as falhas, por e-mail independentemente do IP, e as
+ * tentativas, por IP. Assim, as falhas continuam sendo contadas e os IPs novos não são todos
+ * recusados. São exportadas as métricas {@code login.throttle.rejected},
+ * {@code login.throttle.saturated} e {@code login.throttle.keys}, com a tag {@code key}
+ * ({@code email} ou {@code ip}).
+ */
+@Service
+public class LoginThrottle {
+
+    private final TokenBucketLimiter emailLimiter;
+
+    private final TokenBucketLimiter ipLimiter;
+
+    private final HashedTokenBucketLimiter emailFallbackLimiter;
+
+    private final HashedTokenBucketLimiter ipFallbackLimiter;
+
+    private final Counter emailRejectedCounter;
+
+    private final Counter ipRejectedCounter;
+
+    private final Counter emailSaturatedCounter;
+
+    private final Counter ipSaturatedCounter;
+
+    /**
+     * Constrói o serviço com os limites configurados.
+     *
+     * @param meterRegistry       Registro onde são publicadas as métricas.
+     * @param emailCapacity       Falhas seguidas permitidas por e-mail e IP
+     *                            ({@code app.login.throttle.email.capacity}).
+     * @param emailRefillInterval Intervalo para a reposição de uma falha por e-mail e IP
+     *                            ({@code app.login.throttle.email.refill-interval}).
+     * @param ipCapacity          Tentativas seguidas permitidas por IP
+     *                            ({@code app.login.throttle.ip.capacity}).
+     * @param ipRefillInterval    Intervalo para a reposição de uma tentativa por IP
+     *                            ({@code app.login.throttle.ip.refill-interval}).
+     * @param maxKeys             Quantidade máxima de e-mails e de IPs mantidos em memória, e de
+     *                            baldes de cada limitador alternativo
+     *                            ({@code app.login.throttle.max-keys}).
+     */
+    public LoginThrottle(MeterRegistry meterRegistry,
+                         @Value("${app.login.throttle.email.capacity:5}") int emailCapacity,
+                         @Value("${app.login.throttle.email.refill-interval:1m}") Duration emailRefillInterval,
+                         @Value("${app.login.throttle.ip.capacity:50}") int ipCapacity,
+                         @Value("${app.login.throttle.ip.refill-interval:1s}") Duration ipRefillInterval,
+                         @Value("${app.login.throttle.max-keys:100000}") int maxKeys) {
+        this.emailLimiter = new TokenBucketLimiter(emailCapacity, emailRefillInterval.toNanos(), maxKeys, System::nanoTime);
+        this.ipLimiter = new TokenBucketLimiter(ipCapacity, ipRefillInterval.toNanos(), maxKeys, System::nanoTime);
+        this.emailFallbackLimiter = new HashedTokenBucketLimiter(emailCapacity, emailRefillInterval.toNanos(), maxKeys, System::nanoTime);
+        this.ipFallbackLimiter = new HashedTokenBucketLimiter(ipCapacity, ipRefillInterval.toNanos(), maxKeys, System::nanoTime);
+        this.emailRejectedCounter = rejectedCounter("email", meterRegistry);
+        this.ipRejectedCounter = rejectedCounter("ip", meterRegistry);
+        this.emailSaturatedCounter = saturatedCounter("email", meterRegistry);
+        this.ipSaturatedCounter = saturatedCounter("ip", meterRegistry);
+        Gauge.builder("login.throttle.keys", emailLimiter, TokenBucketLimiter::size)
+                .description("Chaves mantidas pelo limitador de tentativas de login")
+                .tag("key", "email")
+                .register(meterRegistry);
+        Gauge.builder("login.throttle.keys", ipLimiter, TokenBucketLimiter::size)
+                .description("Chaves mantidas pelo limitador de tentativas de login")
+                .tag("key", "ip")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registra uma tentativa de login, recusando-a se o IP tiver excedido o limite de tentativas ou
+     * o e-mail tiver excedido, a partir desse IP, o limite de falhas.
+     *
+     * @param email         O e-mail informado na tentativa.
+     * @param remoteAddress O endereço IP de origem da requisição.
+     * @throws TooManyLoginAttemptsException se não houver tentativas disponíveis para o IP ou o e-mail.
+     */
+    public void acquire(String email, String remoteAddress) {
+        long emailWait = Math.max(emailLimiter.peek(emailKey(email, remoteAddress)),
+                emailFallbackLimiter.peek(normalize(email)));
+        if (emailWait > 0) {
+            emailRejectedCounter.increment();
+            throw rejected(emailWait);
+        }
+
+        long ipWait = ipLimiter.tryAcquire(remoteAddress);
+        if (ipWait == TokenBucketLimiter.SATURATED) {
+            ipSaturatedCounter.increment();
+            ipWait = ipFallbackLimiter.tryAcquire(remoteAddress);
+        }
+        if (ipWait > 0) {
+            ipRejectedCounter.increment();
+            throw rejected(ipWait);
+        }
+    }
+
+    /**
+     * Registra uma falha de login, consumindo uma ficha do balde do e-mail para o IP de origem ou,
+     * se não houver espaço para ele, do balde alternativo do e-mail.
+     *
+     * @param email         O e-mail informado na tentativa.
+     * @param remoteAddress O endereço IP de origem da requisição.
+     */
+    public void onFailure(String email, String remoteAddress) {
+        if (emailLimiter.tryAcquire(emailKey(email, remoteAddress)) == TokenBucketLimiter.SATURATED) {
+            emailSaturatedCounter.increment();
+            emailFallbackLimiter.tryAcquire(normalize(email));
+        }
+    }
+
+    /**
+     * Registra um login bem-sucedido, para que ele não conte para o limite de tentativas.
+     *
+     * @param email         O e-mail autenticado.
+     * @param remoteAddress O endereço IP de origem da requisição.
+     */
+    public void onSuccess(String email, String remoteAddress) {
+        emailLimiter.reset(emailKey(email, remoteAddress));
+        ipLimiter.refund(remoteAddress);
+    }
+
+    private static String emailKey(String email, String remoteAddress) {
+        return normalize(email) + '|' + remoteAddress;
+    }
+
+    private static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static TooManyLoginAttemptsException rejected(long waitNanos) {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        return new TooManyLoginAttemptsException("Muitas tentativas de login. Tente novamente mais tarde.", retryAfterSeconds);
+    }
+
+    private static Counter saturatedCounter(String key, MeterRegistry meterRegistry) {
+        return Counter.builder("login.throttle.saturated")
+                .description("Chaves novas limitadas pelo limitador alternativo por falta de espaço")
+                .tag("key", key)
+                .register(meterRegistry);
+    }
+
+    private static Counter rejectedCounter(String key, MeterRegistry meterRegistry) {
+        return Counter.builder("login.throttle.rejected")
+                .description("Tentativas de login recusadas pelo limitador")
+                .tag("key", key)
+                .register(meterRegistry);
+    }
+}
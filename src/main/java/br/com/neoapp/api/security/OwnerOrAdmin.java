@@ -0,0 +1,28 @@
+package br.com.neoapp.api.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Restringe o acesso a um método ao administrador ou ao próprio cliente dono do recurso.
+ * <p>
+ * O acesso é concedido quando o usuário autenticado possui a autoridade {@code SCOPE_ADMIN}
+ * ou quando o 'subject' do seu token JWT é igual ao ID do cliente recebido no parâmetro
+ * {@link #value()}. A verificação é feita pelo {@link OwnerOrAdminAuthorizationManager},
+ * sem avaliação de expressões SpEL e sem consultas ao banco.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface OwnerOrAdmin {
+
+    /**
+     * O nome do parâmetro do método que contém o ID do cliente dono do recurso.
+     *
+     * @return o nome do parâmetro; por padrão, {@code id}.
+     */
+    String value() default "id";
+}
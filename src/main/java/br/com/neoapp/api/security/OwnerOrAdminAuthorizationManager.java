@@ -0,0 +1,105 @@
+package br.com.neoapp.api.security;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * {@link AuthorizationManager} dos métodos anotados com {@link OwnerOrAdmin}.
+ * <p>
+ * Substitui a expressão {@code hasAuthority('SCOPE_ADMIN') or @authorization.isAuthorized(#id, authentication)}:
+ * em vez de interpretar SpEL, resolver o bean e os nomes de parâmetros a cada chamada, a posição
+ * do parâmetro com o ID do cliente é resolvida uma única vez por método e a decisão compara
+ * diretamente as autoridades e o 'subject' do {@link Jwt}. As decisões são constantes, de modo
+ * que a verificação não aloca objetos.
+ * <p>
+ * A existência do cliente não é verificada aqui: um usuário que não é administrador recebe 403
+ * ao acessar qualquer ID que não seja o seu, e o 404 de clientes inexistentes continua sendo
+ * produzido pelo serviço.
+ */
+public class OwnerOrAdminAuthorizationManager implements AuthorizationManager<MethodInvocation> {
+
+    static final String ADMIN_AUTHORITY = "SCOPE_ADMIN";
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final Map<Method, Integer> idParameterIndexes = new ConcurrentHashMap<>();
+
+    @Override
+    public AuthorizationResult authorize(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        Authentication current = authentication.get();
+        if (current == null || !current.isAuthenticated()) {
+            return DENIED;
+        }
+
+        for (GrantedAuthority authority : current.getAuthorities()) {
+            if (ADMIN_AUTHORITY.equals(authority.getAuthority())) {
+                return GRANTED;
+            }
+        }
+
+        if (current.getPrincipal() instanceof Jwt jwt) {
+            Object id = invocation.getArguments()[idParameterIndex(invocation)];
+            if (id != null && id.equals(jwt.getSubject())) {
+                return GRANTED;
+            }
+        }
+        return DENIED;
+    }
+
+    /**
+     * Mantido apenas porque ainda é abstrato em {@link AuthorizationManager}; o Spring Security
+     * chama {@link #authorize}.
+     */
+    @Override
+    @Deprecated
+    public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        return (AuthorizationDecision) authorize(authentication, invocation);
+    }
+
+    private int idParameterIndex(MethodInvocation invocation) {
+        Method method = invocation.getMethod();
+        Integer index = idParameterIndexes.get(method);
+        if (index == null) {
+            index = idParameterIndexes.computeIfAbsent(method, key -> resolveIdParameterIndex(invocation));
+        }
+        return index;
+    }
+
+    /**
+     * Localiza o parâmetro indicado em {@link OwnerOrAdmin#value()}, buscando a anotação no método
+     * da classe alvo quando a invocação é feita pela interface ou por um proxy.
+     */
+    private static int resolveIdParameterIndex(MethodInvocation invocation) {
+        Method method = invocation.getMethod();
+        OwnerOrAdmin annotation = method.getAnnotation(OwnerOrAdmin.class);
+        if (annotation == null && invocation.getThis() != null) {
+            method = AopUtils.getMostSpecificMethod(method, AopUtils.getTargetClass(invocation.getThis()));
+            annotation = method.getAnnotation(OwnerOrAdmin.class);
+        }
+        if (annotation == null) {
+            throw new IllegalStateException("O método " + method + " não possui a anotação @OwnerOrAdmin.");
+        }
+
+        Parameter[] parameters = method.getParameters();
+        for (int i = 0; i < parameters.length; i++) {
+            if (parameters[i].getName().equals(annotation.value())) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("O método " + method + " não possui o parâmetro '" + annotation.value()
+                + "' indicado em @OwnerOrAdmin. Verifique se o código foi compilado com -parameters.");
+    }
+}
@@ -0,0 +1,149 @@
+package br.com.neoapp.api.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Calibra, na inicialização, o custo do hashing de senhas para o hardware em uso.
+ * <p>
+ * O custo do algoritmo escolhido (a {@code strength} do BCrypt ou o número de iterações do
+ * Argon2) é aumentado enquanto o tempo medido de um hash couber na latência alvo configurada.
+ * Assim, a troca entre CPU gasta por login e resistência a ataques de força bruta é uma
+ * decisão explícita, e não consequência do valor padrão da biblioteca.
+ * <p>
+ * O codificador resultante é um {@link DelegatingPasswordEncoder}: novos hashes recebem o
+ * prefixo do algoritmo ({@code {bcrypt}} ou {@code {argon2}}) e os hashes antigos, sem prefixo,
+ * continuam sendo verificados como BCrypt. Hashes de outro algoritmo ou com custo menor que o
+ * calibrado são apontados por {@link PasswordEncoder#upgradeEncoding(String)} para serem
+ * refeitos no próximo login.
+ */
+public class PasswordHashCalibrator {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordHashCalibrator.class);
+
+    static final String BCRYPT = "bcrypt";
+    static final String ARGON2 = "argon2";
+
+    private static final String SAMPLE_PASSWORD = "calibracao-de-senha";
+    private static final int SAMPLES = 3;
+    private static final int MAX_BCRYPT_STRENGTH = 16;
+    private static final int MIN_ARGON2_ITERATIONS = 2;
+    private static final int MAX_ARGON2_ITERATIONS = 20;
+    private static final int ARGON2_SALT_LENGTH = 16;
+    private static final int ARGON2_HASH_LENGTH = 32;
+    private static final int ARGON2_PARALLELISM = 1;
+
+    private final Duration targetLatency;
+    private final int minBCryptStrength;
+    private final int argon2MemoryKb;
+
+    /**
+     * Constrói o calibrador.
+     *
+     * @param targetLatency     A latência alvo de um hash de senha.
+     * @param minBCryptStrength A {@code strength} mínima do BCrypt, usada mesmo que o hardware
+     *                          seja lento demais para a latência alvo.
+     * @param argon2MemoryKb    A memória, em KB, usada por hash no Argon2.
+     */
+    public PasswordHashCalibrator(Duration targetLatency, int minBCryptStrength, int argon2MemoryKb) {
+        this.targetLatency = targetLatency;
+        this.minBCryptStrength = minBCryptStrength;
+        this.argon2MemoryKb = argon2MemoryKb;
+    }
+
+    /**
+     * Cria o codificador de senhas com o algoritmo informado calibrado para a latência alvo.
+     *
+     * @param algorithm O algoritmo usado para novos hashes: {@code bcrypt} ou {@code argon2}.
+     * @return um {@link DelegatingPasswordEncoder} que codifica com o algoritmo calibrado e
+     * verifica hashes de ambos os algoritmos e hashes BCrypt sem prefixo.
+     * @throws IllegalArgumentException se o algoritmo não for suportado.
+     */
+    public PasswordEncoder createEncoder(String algorithm) {
+        String idForEncode = algorithm.toLowerCase(Locale.ROOT);
+        PasswordEncoder bcrypt;
+        PasswordEncoder argon2;
+        switch (idForEncode) {
+            case BCRYPT -> {
+                bcrypt = calibrateBCrypt();
+                argon2 = Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8();
+            }
+            case ARGON2 -> {
+                bcrypt = new BCryptPasswordEncoder();
+                argon2 = calibrateArgon2();
+            }
+            default -> throw new IllegalArgumentException("Algoritmo de hashing não suportado: " + algorithm);
+        }
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(idForEncode, Map.of(BCRYPT, bcrypt, ARGON2, argon2));
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return encoder;
+    }
+
+    /**
+     * Escolhe a maior {@code strength} do BCrypt cujo hash cabe na latência alvo. Cada unidade
+     * de {@code strength} dobra o custo, então a próxima só é medida se o dobro do tempo atual
+     * ainda couber no alvo.
+     *
+     * @return o {@link BCryptPasswordEncoder} com a {@code strength} escolhida.
+     */
+    BCryptPasswordEncoder calibrateBCrypt() {
+        long targetNanos = targetLatency.toNanos();
+        int strength = minBCryptStrength;
+        long nanos = measure(new BCryptPasswordEncoder(strength));
+        while (strength < MAX_BCRYPT_STRENGTH && nanos * 2 <= targetNanos) {
+            strength++;
+            nanos = measure(new BCryptPasswordEncoder(strength));
+        }
+        log.info("Hashing de senhas calibrado: BCrypt strength {} (~{} ms por hash, alvo {} ms).",
+                strength, Duration.ofNanos(nanos).toMillis(), targetLatency.toMillis());
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    /**
+     * Escolhe o maior número de iterações do Argon2, com a memória configurada, cujo hash cabe
+     * na latência alvo. O custo cresce linearmente com as iterações.
+     *
+     * @return o {@link Argon2PasswordEncoder} com as iterações escolhidas.
+     */
+    Argon2PasswordEncoder calibrateArgon2() {
+        long targetNanos = targetLatency.toNanos();
+        int iterations = MIN_ARGON2_ITERATIONS;
+        long nanos = measure(argon2(iterations));
+        while (iterations < MAX_ARGON2_ITERATIONS && nanos * (iterations + 1) / iterations <= targetNanos) {
+            iterations++;
+            nanos = measure(argon2(iterations));
+        }
+        log.info("Hashing de senhas calibrado: Argon2id com {} KB e {} iterações (~{} ms por hash, alvo {} ms).",
+                argon2MemoryKb, iterations, Duration.ofNanos(nanos).toMillis(), targetLatency.toMillis());
+        return argon2(iterations);
+    }
+
+    private Argon2PasswordEncoder argon2(int iterations) {
+        return new Argon2PasswordEncoder(ARGON2_SALT_LENGTH, ARGON2_HASH_LENGTH, ARGON2_PARALLELISM, argon2MemoryKb, iterations);
+    }
+
+    /**
+     * Mede a mediana do tempo de hash de um codificador, após uma execução de aquecimento.
+     */
+    private static long measure(PasswordEncoder encoder) {
+        encoder.encode(SAMPLE_PASSWORD);
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+}
@@ -0,0 +1,58 @@
+package br.com.neoapp.api.security;
+
+import br.com.neoapp.api.exceptions.ServiceOverloadedException;
+import br.com.neoapp.api.repository.ClientRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Serviço responsável por refazer, em segundo plano, hashes de senha desatualizados.
+ * <p>
+ * Após um login bem-sucedido a senha em texto puro está disponível, então o hash pode ser
+ * recalculado com o algoritmo e o custo atuais sem exigir ação do usuário. O trabalho é
+ * assíncrono para não somar um segundo hash à latência do login.
+ */
+@Service
+public class PasswordUpgradeService {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordUpgradeService.class);
+
+    private final ClientRepository clientRepository;
+
+    private final PasswordEncoder passwordEncoder;
+
+    /**
+     * Constrói o serviço de atualização de hashes com as dependências necessárias injetadas.
+     *
+     * @param clientRepository Repositório para atualizar a senha dos clientes.
+     * @param passwordEncoder  Codificador utilizado para gerar o novo hash.
+     */
+    public PasswordUpgradeService(ClientRepository clientRepository, PasswordEncoder passwordEncoder) {
+        this.clientRepository = clientRepository;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    /**
+     * Recalcula o hash da senha de um cliente e o grava se o hash armazenado não mudou
+     * desde o login. Se o executor de hashing estiver saturado, a atualização é adiada
+     * para um próximo login.
+     *
+     * @param clientId    O ID do cliente autenticado.
+     * @param rawPassword A senha em texto puro validada no login.
+     * @param currentHash O hash atualmente armazenado.
+     */
+    @Async
+    public void upgrade(String clientId, String rawPassword, String currentHash) {
+        try {
+            String newHash = passwordEncoder.encode(rawPassword);
+            if (clientRepository.updatePasswordIfUnchanged(clientId, currentHash, newHash) == 1) {
+                log.debug("Hash de senha do cliente {} atualizado.", clientId);
+            }
+        } catch (ServiceOverloadedException e) {
+            log.debug("Atualização do hash de senha do cliente {} adiada: executor de hashing saturado.", clientId);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package br.com.neoapp.api.security;
+
+import br.com.neoapp.api.controller.dto.ClientResponseDTO;
+import br.com.neoapp.api.events.ClientDeletedEvent;
+import br.com.neoapp.api.events.ClientSavedEvent;
+import br.com.neoapp.api.mapper.ClientMapper;
+import br.com.neoapp.api.model.Client;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Serviço responsável pelo resumo do perfil do cliente embutido no token de acesso.
+ * <p>
+ * Com a propriedade {@code app.jwt.profile-claims.enabled} habilitada, o {@link JwtService}
+ * inclui no token o claim {@code profile}, com o nome, as datas de criação e de atualização e a
+ * versão do cliente (o instante da última atualização, em milissegundos). O token é assinado,
+ * mas não cifrado: CPF, e-mail, telefone e data de nascimento não entram no claim. Eles ficam
+ * em memória, neste serviço, registrados na emissão do token e a cada alteração do cliente, e o
+ * endpoint {@code /api/v1/clients/me} pode responder juntando os dois, sem consultar o banco.
+ * <p>
+ * O resumo só é usado enquanto a sua versão for a atual. Este serviço acompanha as alterações
+ * de clientes publicadas desde a inicialização da aplicação e descarta o claim quando:
+ * <ul>
+ * <li>o token foi emitido antes da inicialização, pois as alterações anteriores não são conhecidas;</li>
+ * <li>o cliente foi atualizado depois da versão do token ou foi excluído;</li>
+ * <li>os dados em memória não são da mesma versão do token (ou foram descartados).</li>
+ * </ul>
+ * A memória é limitada: as alterações e os dados sensíveis são descartados após a validade do
+ * token de acesso, quando nenhum token que dependa deles pode mais ser apresentado, e os dados
+ * sensíveis ficam limitados aos {@value #MAX_DETAILS} clientes usados mais recentemente.
+ * Nesses casos, os dados são lidos do banco. Como as alterações são observadas apenas pelos
+ * eventos locais, o modo é indicado para uma única instância da aplicação; com várias
+ * instâncias, o resumo pode ficar desatualizado por até a validade do token de acesso.
+ */
+@Service
+public class ProfileClaimService {
+
+    static final String PROFILE_CLAIM = "profile";
+
+    private static final String NAME = "n";
+    private static final String CREATED_AT = "ca";
+    private static final String UPDATED_AT = "ua";
+    private static final String VERSION = "v";
+    private static final long DELETED = Long.MAX_VALUE;
+    static final int MAX_DETAILS = 100_000;
+
+    private final ClientMapper clientMapper;
+
+    private final boolean enabled;
+
+    private final Duration accessTokenTtl;
+
+    private final Instant startedAt = Instant.now();
+
+    private final Map<String, Change> changesById = new ConcurrentHashMap<>();
+
+    private final ReentrantLock detailsLock = new ReentrantLock();
+
+    // Em ordem de acesso, para descartar os clientes usados há mais tempo ao atingir o limite.
+    private final Map<String, ProfileDetails> detailsById = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ProfileDetails> eldest) {
+            return size() > MAX_DETAILS;
+        }
+    };
+
+    /**
+     * Constrói o serviço de resumo do perfil.
+     *
+     * @param clientMapper   O mapper usado para calcular a idade do cliente.
+     * @param enabled        Se o resumo do perfil deve ser incluído nos tokens, definido pela
+     *                       propriedade {@code app.jwt.profile-claims.enabled}.
+     * @param accessTokenTtl O tempo de validade dos tokens de acesso, definido pela propriedade
+     *                       {@code app.jwt.access-token-ttl}.
+     */
+    public ProfileClaimService(ClientMapper clientMapper,
+                               @Value("${app.jwt.profile-claims.enabled:false}") boolean enabled,
+                               @Value("${app.jwt.access-token-ttl:5m}") Duration accessTokenTtl) {
+        this.clientMapper = clientMapper;
+        this.enabled = enabled;
+        this.accessTokenTtl = accessTokenTtl;
+    }
+
+    /**
+     * Monta o claim {@code profile} de um cliente, apenas com dados não sensíveis, e guarda em
+     * memória os demais dados da mesma versão.
+     *
+     * @param client O cliente para o qual o token será emitido.
+     * @return o resumo do perfil com chaves curtas, ou {@code null} se o modo estiver desabilitado.
+     */
+    public Map<String, Object> toClaim(Client client) {
+        if (!enabled) {
+            return null;
+        }
+
+        remember(client);
+        Map<String, Object> profile = new HashMap<>();
+        profile.put(NAME, client.getName());
+        profile.put(CREATED_AT, client.getCreatAt().toString());
+        profile.put(UPDATED_AT, client.getUpdateAt().toString());
+        profile.put(VERSION, version(client));
+        return profile;
+    }
+
+    /**
+     * Obtém os dados do cliente a partir do claim {@code profile} do token e dos dados em
+     * memória, se ambos ainda forem atuais.
+     *
+     * @param jwt O token de acesso do cliente autenticado.
+     * @return o {@link ClientResponseDTO} montado sem consultar o banco, ou vazio se o token não
+     * tiver o claim, se o modo estiver desabilitado ou se o resumo puder estar desatualizado.
+     */
+    public Optional<ClientResponseDTO> fromJwt(Jwt jwt) {
+        if (!enabled || jwt.getIssuedAt() == null || jwt.getIssuedAt().isBefore(startedAt)) {
+            return Optional.empty();
+        }
+
+        Map<String, Object> profile = jwt.getClaimAsMap(PROFILE_CLAIM);
+        if (profile == null || !(profile.get(VERSION) instanceof Number version)) {
+            return Optional.empty();
+        }
+
+        Change change = changesById.get(jwt.getSubject());
+        if (change != null && change.version() > version.longValue()) {
+            return Optional.empty();
+        }
+
+        ProfileDetails details;
+        detailsLock.lock();
+        try {
+            details = detailsById.get(jwt.getSubject());
+        } finally {
+            detailsLock.unlock();
+        }
+        if (details == null || details.version() != version.longValue()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new ClientResponseDTO(
+                jwt.getSubject(),
+                (String) profile.get(NAME),
+                clientMapper.calculateAge(details.birthday()),
+                details.email(),
+                details.phone(),
+                details.cpf(),
+                OffsetDateTime.parse((String) profile.get(CREATED_AT)),
+                OffsetDateTime.parse((String) profile.get(UPDATED_AT))));
+    }
+
+    /**
+     * Registra a nova versão de um cliente criado ou atualizado.
+     *
+     * @param event O evento publicado pelo serviço de clientes.
+     */
+    @EventListener
+    public void onClientSaved(ClientSavedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        Client client = event.client();
+        changesById.merge(client.getId(), new Change(version(client), Instant.now()), Change::latest);
+        detailsLock.lock();
+        try {
+            if (detailsById.containsKey(client.getId())) {
+                remember(client);
+            }
+        } finally {
+            detailsLock.unlock();
+        }
+    }
+
+    /**
+     * Registra a exclusão de um cliente, invalidando o resumo dos seus tokens.
+     *
+     * @param event O evento publicado pelo serviço de clientes.
+     */
+    @EventListener
+    public void onClientDeleted(ClientDeletedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        changesById.put(event.id(), new Change(DELETED, Instant.now()));
+        detailsLock.lock();
+        try {
+            detailsById.remove(event.id());
+        } finally {
+            detailsLock.unlock();
+        }
+    }
+
+    /**
+     * Descarta periodicamente as alterações e os dados sensíveis registrados há mais tempo que a
+     * validade do token de acesso: os tokens emitidos antes disso já expiraram.
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.access-token-ttl:5m}")
+    public void purgeExpired() {
+        purgeExpired(Instant.now());
+    }
+
+    void purgeExpired(Instant now) {
+        Instant expiredBefore = now.minus(accessTokenTtl);
+        changesById.values().removeIf(change -> change.recordedAt().isBefore(expiredBefore));
+        detailsLock.lock();
+        try {
+            detailsById.values().removeIf(details -> details.recordedAt().isBefore(expiredBefore));
+        } finally {
+            detailsLock.unlock();
+        }
+    }
+
+    int size() {
+        detailsLock.lock();
+        try {
+            return changesById.size() + detailsById.size();
+        } finally {
+            detailsLock.unlock();
+        }
+    }
+
+    private void remember(Client client) {
+        ProfileDetails details = new ProfileDetails(version(client), Instant.now(), client.getBirthday(),
+                client.getEmail(), client.getPhone(), client.getCpf());
+        detailsLock.lock();
+        try {
+            detailsById.merge(client.getId(), details,
+                    (previous, current) -> current.version() >= previous.version() ? current : previous);
+        } finally {
+            detailsLock.unlock();
+        }
+    }
+
+    private static long version(Client client) {
+        return client.getUpdateAt() == null ? 0L : client.getUpdateAt().toInstant().toEpochMilli();
+    }
+
+    /**
+     * A versão mais recente de um cliente alterado desde a inicialização e o instante em que ela
+     * foi registrada.
+     */
+    private record Change(long version, Instant recordedAt) {
+
+        private static Change latest(Change previous, Change current) {
+            return new Change(Math.max(previous.version(), current.version()), current.recordedAt());
+        }
+    }
+
+    /**
+     * Os dados sensíveis de uma versão do cliente, mantidos fora do token.
+     */
+    private record ProfileDetails(long version, Instant recordedAt, LocalDate birthday, String email,
+                                  String phone, String cpf) {
+    }
+}
@@ -0,0 +1,171 @@
+package br.com.neoapp.api.security;
+
+import br.com.neoapp.api.controller.dto.LoginResponse;
+import br.com.neoapp.api.exceptions.InvalidRefreshTokenException;
+import br.com.neoapp.api.model.Client;
+import br.com.neoapp.api.model.RefreshToken;
+import br.com.neoapp.api.repository.RefreshTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * Serviço responsável pela emissão, rotação e revogação de refresh tokens.
+ * <p>
+ * O refresh token é um valor aleatório de 256 bits entregue ao cliente junto com o token de
+ * acesso. Apenas o seu hash SHA-256 é persistido, de modo que a renovação é uma busca indexada
+ * pelo hash seguida da assinatura de um novo JWT, sem nenhum hashing de senha.
+ * <p>
+ * Cada refresh token é de uso único: ao ser renovado, é revogado e substituído por outro.
+ * A apresentação de um token já utilizado indica que ele pode ter sido copiado, então todos
+ * os refresh tokens do cliente são revogados e um novo login passa a ser exigido.
+ * <p>
+ * A exceção são os tokens rotacionados há menos de {@code app.jwt.refresh-token-reuse-grace}:
+ * duas renovações concorrentes com o mesmo token (e.g., duas abas do navegador) são comuns, e a
+ * perdedora não deve derrubar a sessão obtida pela vencedora. Nesse intervalo a renovação é
+ * apenas recusada, sem revogar os demais tokens do cliente.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+    private static final int TOKEN_BYTES = 32;
+    private static final String INVALID_TOKEN_MESSAGE = "Refresh token inválido ou expirado.";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    private final JwtService jwtService;
+
+    private final Duration refreshTokenTtl;
+
+    private final Duration reuseGrace;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    /**
+     * Constrói o serviço de refresh tokens com as dependências necessárias injetadas.
+     *
+     * @param refreshTokenRepository Repositório dos refresh tokens.
+     * @param jwtService             Serviço responsável pela geração dos tokens de acesso.
+     * @param refreshTokenTtl        O tempo de validade dos refresh tokens, definido pela
+     *                               propriedade {@code app.jwt.refresh-token-ttl}.
+     * @param reuseGrace             O intervalo após a rotação em que a reapresentação do token é
+     *                               tratada como uma renovação concorrente, e não como reutilização,
+     *                               definido pela propriedade {@code app.jwt.refresh-token-reuse-grace}.
+     */
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               JwtService jwtService,
+                               @Value("${app.jwt.refresh-token-ttl:7d}") Duration refreshTokenTtl,
+                               @Value("${app.jwt.refresh-token-reuse-grace:10s}") Duration reuseGrace) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtService = jwtService;
+        this.refreshTokenTtl = refreshTokenTtl;
+        this.reuseGrace = reuseGrace;
+    }
+
+    /**
+     * Emite um token de acesso e um novo refresh token para um cliente autenticado.
+     *
+     * @param client O cliente autenticado.
+     * @return um {@link LoginResponse} com o token de acesso e o refresh token.
+     */
+    @Transactional
+    public LoginResponse issueTokens(Client client) {
+        LoginResponse accessToken = jwtService.genereteToken(client);
+        String refreshToken = createRefreshToken(client);
+        return accessToken.withRefreshToken(refreshToken, refreshTokenTtl.toSeconds());
+    }
+
+    /**
+     * Troca um refresh token válido por um novo token de acesso e um novo refresh token.
+     *
+     * @param refreshToken O refresh token apresentado pelo cliente.
+     * @return um {@link LoginResponse} com os novos tokens.
+     * @throws InvalidRefreshTokenException se o token for desconhecido, estiver expirado ou já
+     * tiver sido utilizado; neste último caso, se a rotação tiver ocorrido fora do intervalo de
+     * tolerância, todos os tokens do cliente são revogados.
+     */
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public LoginResponse refresh(String refreshToken) {
+        RefreshToken stored = refreshTokenRepository.findByTokenHash(hash(refreshToken))
+                .orElseThrow(() -> new InvalidRefreshTokenException(INVALID_TOKEN_MESSAGE));
+        Client client = stored.getClient();
+        Instant now = Instant.now();
+
+        // Um token expirado nunca é rotacionado; do contrário, reapresentá-lo após o intervalo
+        // de tolerância seria tratado como reutilização e revogaria os demais tokens do cliente.
+        if (!stored.isRevoked() && stored.getExpiresAt().isBefore(now)) {
+            throw new InvalidRefreshTokenException(INVALID_TOKEN_MESSAGE);
+        }
+
+        if (stored.isRevoked() || refreshTokenRepository.rotateIfActive(stored.getId(), now) == 0) {
+            Instant rotatedAt = refreshTokenRepository.findRotatedAtById(stored.getId()).orElse(null);
+            if (rotatedAt != null && rotatedAt.plus(reuseGrace).isAfter(now)) {
+                log.info("Refresh token do cliente {} já rotacionado por uma renovação concorrente.", client.getId());
+                throw new InvalidRefreshTokenException(INVALID_TOKEN_MESSAGE);
+            }
+            int revoked = refreshTokenRepository.revokeAllByClientId(client.getId());
+            log.warn("Reutilização de refresh token detectada para o cliente {}; {} tokens revogados.",
+                    client.getId(), revoked);
+            throw new InvalidRefreshTokenException(INVALID_TOKEN_MESSAGE);
+        }
+
+        return issueTokens(client);
+    }
+
+    /**
+     * Revoga um refresh token, encerrando a sessão associada a ele. Tokens desconhecidos
+     * são ignorados, para não revelar quais tokens existem.
+     *
+     * @param refreshToken O refresh token a ser revogado.
+     */
+    @Transactional
+    public void revoke(String refreshToken) {
+        refreshTokenRepository.findByTokenHash(hash(refreshToken))
+                .ifPresent(stored -> refreshTokenRepository.revokeIfActive(stored.getId()));
+    }
+
+    /**
+     * Remove periodicamente os refresh tokens expirados.
+     */
+    @Scheduled(cron = "${app.jwt.refresh-token-cleanup-cron:0 0 * * * *}")
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void deleteExpiredTokens() {
+        int deleted = refreshTokenRepository.deleteExpiredBefore(Instant.now());
+        if (deleted > 0) {
+            log.info("{} refresh tokens expirados removidos.", deleted);
+        }
+    }
+
+    private String createRefreshToken(Client client) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        Instant now = Instant.now();
+        refreshTokenRepository.save(new RefreshToken(hash(token), client, now, now.plus(refreshTokenTtl)));
+        return token;
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível.", e);
+        }
+    }
+}
@@ -1,7 +1,13 @@
 package br.com.neoapp.api.security;
 
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.security.authorization.method.AuthorizationInterceptorsOrder;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -13,7 +19,8 @@ import org.springframework.security.web.SecurityFilterChain;
  * <p>
  * Anotada com {@code @EnableWebSecurity}, esta classe habilita o suporte de segurança web do Spring.
  * A anotação {@code @EnableMethodSecurity} ativa a segurança em nível de método, permitindo o uso
- * de anotações como {@code @PreAuthorize} nos controllers e serviços para controle de acesso fino.
+ * de anotações como {@code @PreAuthorize} nos controllers e serviços para controle de acesso fino,
+ * além da anotação {@link OwnerOrAdmin} para as verificações de propriedade do recurso.
  */
 @Configuration
 @EnableWebSecurity
@@ -29,7 +36,10 @@ public class SecurityConfig {
      * <li><b>CSRF (Cross-Site Request Forgery):</b> Desabilitado, uma prática comum para APIs REST stateless.</li>
      * <li><b>Autorização de Requisições:</b>
      * <ul>
-     * <li>Os endpoints de login ({@code /api/v1/auth/login}) e registro ({@code /api/v1/auth/sign}) são públicos e não exigem autenticação.</li>
+     * <li>Os endpoints de login ({@code /api/v1/auth/login}), registro ({@code /api/v1/auth/sign}) e
+     * renovação e revogação de refresh tokens ({@code /api/v1/auth/refresh} e {@code /api/v1/auth/revoke}),
+     * além das chaves públicas dos tokens ({@code /.well-known/jwks.json}), são públicos e não exigem
+     * autenticação.</li>
      * <li>Todas as outras requisições exigem que o usuário esteja autenticado.</li>
      * </ul>
      * </li>
@@ -50,6 +60,9 @@ public class SecurityConfig {
                                 auth.requestMatchers(
                                         "/api/v1/auth/login",
                                                 "/api/v1/auth/sign",
+                                                "/api/v1/auth/refresh",
+                                                "/api/v1/auth/revoke",
+                                                "/.well-known/jwks.json",
                                                 "/v3/api-docs/**",
                                                 "/swagger-ui/**",
                                                 "/swagger-ui.html").permitAll()
@@ -60,5 +73,23 @@ public class SecurityConfig {
                 );
         return http.build();
     }
-}
 
+    /**
+     * Registra o interceptador dos métodos anotados com {@link OwnerOrAdmin}.
+     * <p>
+     * O interceptador é executado na mesma posição do {@code @PreAuthorize} e delega a decisão ao
+     * {@link OwnerOrAdminAuthorizationManager}. Acessos negados lançam
+     * {@code AuthorizationDeniedException}, tratada como 403.
+     *
+     * @return o {@link Advisor} de autorização dos métodos anotados.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor ownerOrAdminAuthorizationAdvisor() {
+        AuthorizationManagerBeforeMethodInterceptor interceptor = new AuthorizationManagerBeforeMethodInterceptor(
+                AnnotationMatchingPointcut.forMethodAnnotation(OwnerOrAdmin.class),
+                new OwnerOrAdminAuthorizationManager());
+        interceptor.setOrder(AuthorizationInterceptorsOrder.PRE_AUTHORIZE.getOrder());
+        return interceptor;
+    }
+}
@@ -0,0 +1,193 @@
+package br.com.neoapp.api.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Limitador de taxa por chave baseado em token buckets, com memória limitada.
+ * <p>
+ * Cada chave tem um balde com {@code capacity} fichas, reposto à razão de uma ficha a cada
+ * {@code refillIntervalNanos}. O balde é representado apenas pelo instante teórico em que
+ * estaria cheio de novo (GCRA), então cada chave ocupa um único {@code long} e a reposição não
+ * exige nenhuma tarefa periódica: o saldo é calculado a partir do relógio a cada tentativa.
+ * <p>
+ * As chaves são distribuídas entre faixas (lock striping), cada uma com seu próprio bloqueio e
+ * um {@link LinkedHashMap} em ordem de acesso limitado a uma fração de {@code maxKeys}. Para
+ * abrir espaço a uma chave nova, apenas baldes já cheios de novo são descartados, começando pelos
+ * usados há mais tempo: descartá-los não muda nada, pois uma chave ausente equivale a um balde
+ * cheio. Um balde ainda em penalidade nunca é descartado, então um atacante não consegue zerar o
+ * balde de outra chave inundando o limitador com chaves distintas; se a faixa estiver cheia de
+ * baldes em penalidade, a chave nova não é registrada e {@link #tryAcquire} retorna
+ * {@link #SATURATED}, cabendo ao chamador decidir como limitá-la (e.g., com um
+ * {@link HashedTokenBucketLimiter}). O consumo de memória fica, assim, constante mesmo sob esse
+ * tipo de ataque.
+ */
+public class TokenBucketLimiter {
+
+    /**
+     * Retorno de {@link #tryAcquire} para uma chave nova sem espaço na sua faixa: a chave não foi
+     * registrada e nenhuma ficha foi consumida.
+     */
+    public static final long SATURATED = Long.MAX_VALUE;
+
+    private static final int STRIPES = 16;
+
+    private final Stripe[] stripes;
+    private final long refillIntervalNanos;
+    private final long burstNanos;
+    private final LongSupplier nanoClock;
+
+    /**
+     * Constrói o limitador.
+     *
+     * @param capacity            A quantidade máxima de fichas de cada balde (rajada permitida).
+     * @param refillIntervalNanos O intervalo, em nanossegundos, para a reposição de uma ficha.
+     * @param maxKeys             A quantidade máxima de chaves mantidas em memória.
+     * @param nanoClock           A fonte de tempo monotônica (e.g., {@code System::nanoTime}).
+     */
+    public TokenBucketLimiter(int capacity, long refillIntervalNanos, int maxKeys, LongSupplier nanoClock) {
+        int keysPerStripe = Math.max(1, maxKeys / STRIPES);
+        this.stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(keysPerStripe);
+        }
+        this.refillIntervalNanos = refillIntervalNanos;
+        this.burstNanos = (Math.max(1, capacity) - 1) * refillIntervalNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Tenta consumir uma ficha do balde da chave.
+     *
+     * @param key A chave limitada.
+     * @return {@code 0} se a ficha foi consumida; {@link #SATURATED} se não houver espaço para a
+     * chave; caso contrário, o tempo em nanossegundos até a próxima ficha ficar disponível.
+     */
+    public long tryAcquire(String key) {
+        Stripe stripe = stripeFor(key);
+        long now = nanoClock.getAsLong();
+        stripe.lock.lock();
+        try {
+            long[] bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                if (!stripe.makeRoom(now)) {
+                    return SATURATED;
+                }
+                bucket = new long[]{now};
+                stripe.buckets.put(key, bucket);
+            }
+            long tat = Math.max(bucket[0], now);
+            long wait = tat - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            bucket[0] = tat + refillIntervalNanos;
+            return 0;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Verifica se o balde da chave tem uma ficha disponível, sem consumi-la.
+     *
+     * @param key A chave limitada.
+     * @return {@code 0} se houver uma ficha disponível; caso contrário, o tempo em nanossegundos
+     * até a próxima ficha ficar disponível.
+     */
+    public long peek(String key) {
+        Stripe stripe = stripeFor(key);
+        long now = nanoClock.getAsLong();
+        stripe.lock.lock();
+        try {
+            long[] bucket = stripe.buckets.get(key);
+            return bucket == null ? 0 : Math.max(0, bucket[0] - now - burstNanos);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Devolve uma ficha ao balde da chave, sem ultrapassar a capacidade.
+     *
+     * @param key A chave limitada.
+     */
+    public void refund(String key) {
+        Stripe stripe = stripeFor(key);
+        long now = nanoClock.getAsLong();
+        stripe.lock.lock();
+        try {
+            long[] bucket = stripe.buckets.get(key);
+            if (bucket != null) {
+                bucket[0] = Math.max(now, bucket[0] - refillIntervalNanos);
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Enche novamente o balde da chave, descartando o histórico de tentativas.
+     *
+     * @param key A chave limitada.
+     */
+    public void reset(String key) {
+        Stripe stripe = stripeFor(key);
+        stripe.lock.lock();
+        try {
+            stripe.buckets.remove(key);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Retorna a quantidade de chaves mantidas em memória.
+     *
+     * @return a soma das chaves de todas as faixas.
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.buckets.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripeFor(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, long[]> buckets = new LinkedHashMap<>(16, 0.75f, true);
+        private final int maxKeys;
+
+        private Stripe(int maxKeys) {
+            this.maxKeys = maxKeys;
+        }
+
+        /**
+         * Garante espaço para uma chave nova descartando os baldes já cheios de novo.
+         *
+         * @param now O instante atual.
+         * @return {@code true} se houver espaço para a chave nova.
+         */
+        private boolean makeRoom(long now) {
+            if (buckets.size() < maxKeys) {
+                return true;
+            }
+            buckets.values().removeIf(bucket -> bucket[0] <= now);
+            return buckets.size() < maxKeys;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package br.com.neoapp.api.security;
+
+import br.com.neoapp.api.model.RevokedToken;
+import br.com.neoapp.api.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Serviço responsável pela revogação de tokens de acesso (JWT) antes da sua expiração.
+ * <p>
+ * Os tokens revogados são registrados pelo seu claim {@code jti} na tabela de tokens revogados.
+ * Consultar essa tabela em toda requisição acrescentaria um acesso ao banco a cada chamada,
+ * então ela é precedida por um {@link BloomFilter} em memória com todos os {@code jti} revogados
+ * e ainda não expirados. O caso comum, de um token não revogado, é respondido pelo filtro em
+ * nanossegundos; apenas os possíveis revogados (revogados de fato ou falsos positivos) são
+ * confirmados no banco.
+ * <p>
+ * O filtro é reconstruído periodicamente a partir do banco, descartando os tokens já expirados
+ * e redimensionando-o para a quantidade atual. Revogações feitas durante a reconstrução também
+ * são incluídas no novo filtro. Até a primeira carga, todas as verificações vão ao banco.
+ * <p>
+ * O filtro é local a cada instância: uma revogação vale imediatamente na instância que a
+ * registrou, mas as demais só a enxergam quando copiam para o seu filtro as revogações gravadas
+ * no banco desde a última cópia, a cada {@code app.jwt.revocation.filter.sync-interval}. Entre
+ * instâncias, a revogação é, portanto, eventualmente consistente: um token revogado em uma
+ * instância pode ainda ser aceito pelas outras durante esse intervalo. Cada cópia relê também
+ * as revogações dos últimos {@value #SYNC_OVERLAP_SECONDS} segundos, para tolerar a diferença
+ * entre os relógios das instâncias e as transações confirmadas depois da cópia anterior.
+ * <p>
+ * O serviço é também o {@link OAuth2TokenValidator} que recusa os tokens revogados, aplicado
+ * pelo decodificador de JWT tanto na verificação completa quanto nos acertos do cache.
+ */
+@Service
+public class TokenRevocationService implements OAuth2TokenValidator<Jwt> {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationService.class);
+    private static final long SYNC_OVERLAP_SECONDS = 30;
+    private static final OAuth2Error REVOKED = new OAuth2Error(OAuth2ErrorCodes.INVALID_TOKEN, "O token foi revogado.", null);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    private final long minExpectedInsertions;
+
+    private final double falsePositiveRate;
+
+    private final Counter filteredCounter;
+
+    private final Counter revokedCounter;
+
+    private final Counter falsePositiveCounter;
+
+    private volatile BloomFilter filter;
+
+    private volatile BloomFilter building;
+
+    private volatile boolean ready;
+
+    private volatile Instant syncedUntil;
+
+    /**
+     * Constrói o serviço de revogação com as dependências necessárias injetadas.
+     *
+     * @param revokedTokenRepository Repositório dos tokens revogados.
+     * @param meterRegistry          Registro onde são publicadas as métricas das verificações.
+     * @param minExpectedInsertions  Capacidade mínima do filtro, definida pela propriedade
+     *                               {@code app.jwt.revocation.filter.expected-insertions}.
+     * @param falsePositiveRate      Taxa de falsos positivos do filtro, definida pela propriedade
+     *                               {@code app.jwt.revocation.filter.false-positive-rate}.
+     */
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.jwt.revocation.filter.expected-insertions:10000}") long minExpectedInsertions,
+                                  @Value("${app.jwt.revocation.filter.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.minExpectedInsertions = minExpectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(minExpectedInsertions, falsePositiveRate);
+        this.filteredCounter = counter("filtered", meterRegistry);
+        this.revokedCounter = counter("revoked", meterRegistry);
+        this.falsePositiveCounter = counter("false_positive", meterRegistry);
+    }
+
+    /**
+     * Revoga um token de acesso. Tokens sem {@code jti} ou sem expiração são ignorados.
+     *
+     * @param jwt O token a ser revogado.
+     */
+    public void revoke(Jwt jwt) {
+        if (jwt.getId() == null || jwt.getExpiresAt() == null) {
+            return;
+        }
+
+        revokedTokenRepository.save(new RevokedToken(jwt.getId(), jwt.getExpiresAt(), Instant.now()));
+        add(jwt.getId());
+    }
+
+    private void add(String jti) {
+        // O filtro em construção é lido antes do atual: se a reconstrução já tiver trocado os
+        // filtros, a leitura seguinte de 'filter' enxerga o novo.
+        BloomFilter next = building;
+        filter.put(jti);
+        if (next != null) {
+            next.put(jti);
+        }
+    }
+
+    /**
+     * Verifica se um token foi revogado.
+     *
+     * @param jti O identificador do token.
+     * @return {@code true} se o token estiver registrado como revogado.
+     */
+    public boolean isRevoked(String jti) {
+        if (ready && !filter.mightContain(jti)) {
+            filteredCounter.increment();
+            return false;
+        }
+
+        boolean revoked = revokedTokenRepository.existsById(jti);
+        (revoked ? revokedCounter : falsePositiveCounter).increment();
+        return revoked;
+    }
+
+    /**
+     * Recusa os tokens revogados. Tokens sem {@code jti} não podem ser revogados e são aceitos.
+     *
+     * @param jwt O token a ser validado.
+     * @return o resultado da validação.
+     */
+    @Override
+    public OAuth2TokenValidatorResult validate(Jwt jwt) {
+        String jti = jwt.getId();
+        if (jti != null && isRevoked(jti)) {
+            return OAuth2TokenValidatorResult.failure(REVOKED);
+        }
+        return OAuth2TokenValidatorResult.success();
+    }
+
+    /**
+     * Carrega o filtro na inicialização da aplicação.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * Reconstrói o filtro a partir do banco, removendo antes os registros de tokens expirados.
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.filter.rebuild-interval:5m}",
+            initialDelayString = "${app.jwt.revocation.filter.rebuild-interval:5m}")
+    public void rebuild() {
+        Instant now = Instant.now();
+        int purged = revokedTokenRepository.deleteExpiredBefore(now);
+
+        BloomFilter next = new BloomFilter(Math.max(minExpectedInsertions, revokedTokenRepository.count() * 2), falsePositiveRate);
+        building = next;
+        List<String> jtis = revokedTokenRepository.findJtisExpiringAfter(now);
+        jtis.forEach(next::put);
+        filter = next;
+        building = null;
+        syncedUntil = now;
+        ready = true;
+
+        log.debug("Filtro de tokens revogados reconstruído com {} tokens ({} registros expirados removidos).",
+                jtis.size(), purged);
+    }
+
+    /**
+     * Copia para o filtro as revogações gravadas no banco desde a última cópia, inclusive as
+     * feitas por outras instâncias da aplicação.
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.filter.sync-interval:5s}",
+            initialDelayString = "${app.jwt.revocation.filter.sync-interval:5s}")
+    public void syncRecentRevocations() {
+        Instant since = syncedUntil;
+        if (since == null) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        List<String> jtis = revokedTokenRepository.findJtisRevokedAfter(since.minusSeconds(SYNC_OVERLAP_SECONDS));
+        jtis.forEach(this::add);
+        syncedUntil = now;
+    }
+
+    private static Counter counter(String result, MeterRegistry meterRegistry) {
+        return Counter.builder("jwt.revocation.checks")
+                .description("Verificações de revogação de tokens de acesso")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -1,30 +1,60 @@
 package br.com.neoapp.api.service;
 
+import br.com.neoapp.api.bulkhead.Bulkhead;
+import br.com.neoapp.api.bulkhead.Workload;
 import br.com.neoapp.api.controller.dto.ClientRequestDTO;
 import br.com.neoapp.api.controller.dto.ClientResponseDTO;
+import br.com.neoapp.api.controller.dto.ClientSuggestionDTO;
 import br.com.neoapp.api.controller.dto.ClientUpdateDTO;
 import br.com.neoapp.api.enums.RoleName;
+import br.com.neoapp.api.events.ClientDeletedEvent;
+import br.com.neoapp.api.events.ClientSavedEvent;
 import br.com.neoapp.api.exceptions.ClientNotFound;
 import br.com.neoapp.api.exceptions.CpfExistsException;
 import br.com.neoapp.api.exceptions.EmailExistsException;
+import br.com.neoapp.api.exceptions.InvalidDateRangeException;
 import br.com.neoapp.api.mapper.ClientMapper;
 import br.com.neoapp.api.mapper.ClientUpdateMapper;
 import br.com.neoapp.api.model.Client;
 import br.com.neoapp.api.model.Role;
+import br.com.neoapp.api.readmodel.ClientReadModel;
+import br.com.neoapp.api.replica.ReadFromReplica;
+import br.com.neoapp.api.replica.ReadYourWrites;
 import br.com.neoapp.api.repository.ClientRepository;
 import br.com.neoapp.api.repository.RoleRepository;
+import br.com.neoapp.api.search.ClientNameSuggester;
+import br.com.neoapp.api.search.ClientSearchIndex;
+import br.com.neoapp.api.search.ClientSubstringIndex;
+import br.com.neoapp.api.security.ProfileClaimService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class ClientService {
 
+    private static final short FIRST_MONTH_DAY = 101;
+    private static final short LAST_MONTH_DAY = 1231;
+    private static final short FEB_28 = 228;
+    private static final short FEB_29 = 229;
+    private static final int MAX_SUGGESTIONS = 50;
+
     @Autowired
     private ClientRepository clientRepository;
 
@@ -40,6 +70,27 @@ public class ClientService {
     @Autowired
     private RoleRepository roleRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ClientSearchIndex clientSearchIndex;
+
+    @Autowired
+    private ClientSubstringIndex clientSubstringIndex;
+
+    @Autowired
+    private ClientNameSuggester clientNameSuggester;
+
+    @Autowired
+    private ClientReadModel clientReadModel;
+
+    @Autowired
+    private ProfileClaimService profileClaimService;
+
+    @Autowired
+    private ReadYourWrites readYourWrites;
+
     /**
      * Cria um novo cliente no sistema a partir dos dados fornecidos.
      *
@@ -57,6 +108,7 @@ public class ClientService {
      * @throws EmailExistsException Se o e-mail fornecido em {@code clientRequestDTO} já estiver registrado no sistema.
      * @throws CpfExistsException Se o CPF fornecido em {@code clientRequestDTO} já estiver registrado no sistema.
      */
+    @Bulkhead(Workload.AUTH)
     public ClientResponseDTO creatClient(ClientRequestDTO clientRequestDTO) {
         if (clientRepository.existsByEmail(clientRequestDTO.email())){
             throw new EmailExistsException("O endereço de e-mail informado já está registrado.");
@@ -75,6 +127,8 @@ public class ClientService {
         client.setRoles(Collections.singletonList(userRole));
 
         client = clientRepository.save(client);
+        readYourWrites.recordWrite(client.getId());
+        eventPublisher.publishEvent(new ClientSavedEvent(client));
         return clientMapper.toResponse(client);
     }
 
@@ -85,6 +139,8 @@ public class ClientService {
      * aplicando os critérios de paginação e ordenação fornecidos. Em seguida, utiliza
      * um mapper para converter a página de entidades em uma página de {@code ClientResponseDTO},
      * que é um formato seguro para exposição em camadas superiores, como a API.
+     * Com o modelo de leitura em memória habilitado e carregado ({@link ClientReadModel}),
+     * a página é montada a partir dele, sem consultar o banco.
      *
      * @param pageable Objeto contendo as informações de paginação (número da página, tamanho)
      * e ordenação (campo, direção).
@@ -92,7 +148,15 @@ public class ClientService {
      * solicitada, juntamente com todas as informações de paginação (total de elementos,
      * total de páginas, etc.).
      */
+    @Bulkhead(Workload.CRUD)
+    @ReadFromReplica
     public Page<ClientResponseDTO> getAllClientsPageable(Pageable pageable) {
+        if (clientReadModel.isReady()) {
+            Page<ClientResponseDTO> clients = clientReadModel.findAll(pageable);
+            if (clients != null) {
+                return clients;
+            }
+        }
         return clientMapper.toPageResponse(clientRepository.findAll(pageable));
     }
 
@@ -102,19 +166,45 @@ public class ClientService {
      * Este método consulta o repositório em busca de um cliente com o ID fornecido.
      * Se o cliente for encontrado, ele é mapeado para um objeto {@code ClientResponseDTO}.
      * Caso contrário, uma exceção {@code ClientNotFound} é lançada, indicando que o
-     * recurso não existe.
+     * recurso não existe. Com o modelo de leitura em memória pronto, a busca é feita nele.
      *
      * @param id O identificador único (ID) do cliente a ser buscado.
      * @return O {@link ClientResponseDTO} correspondente ao cliente encontrado.
      * @throws ClientNotFound se nenhum cliente for encontrado com o ID especificado.
      */
+    @Bulkhead(Workload.CRUD)
+    @ReadFromReplica
     public ClientResponseDTO getClientById(String id) {
+        if (clientReadModel.isReady()) {
+            return clientReadModel.findById(id)
+                    .orElseThrow(() -> new ClientNotFound("O clinte informado não foi encontrado."));
+        }
+
         Client client = clientRepository.findById(id)
                 .orElseThrow(() -> new ClientNotFound("O clinte informado não foi encontrado."));
 
         return clientMapper.toResponse(client);
     }
 
+    /**
+     * Busca os dados do cliente autenticado.
+     * <p>
+     * O ID do cliente é o 'subject' do token de acesso, então não há verificação de
+     * propriedade do recurso. Se o token trouxer o resumo do perfil e ele ainda for atual
+     * ({@link ProfileClaimService}), os dados são montados a partir do próprio token;
+     * caso contrário, seguem o mesmo caminho de {@link #getClientById(String)}.
+     *
+     * @param jwt O token de acesso do cliente autenticado.
+     * @return O {@link ClientResponseDTO} do cliente autenticado.
+     * @throws ClientNotFound se o cliente do token não existir mais.
+     */
+    @Bulkhead(Workload.CRUD)
+    @ReadFromReplica
+    public ClientResponseDTO getCurrentClient(Jwt jwt) {
+        return profileClaimService.fromJwt(jwt)
+                .orElseGet(() -> getClientById(jwt.getSubject()));
+    }
+
     /**
      * Atualiza os dados de um cliente existente com base em seu ID.
      * <p>
@@ -128,13 +218,18 @@ public class ClientService {
      * @return Um {@link ClientResponseDTO} com as informações do cliente após a atualização.
      * @throws ClientNotFound se nenhum cliente for encontrado com o ID especificado.
      */
+    @Bulkhead(Workload.CRUD)
     public ClientResponseDTO updateClientById(String id, ClientUpdateDTO clientUpdateDTO) {
         Client client = clientRepository.findById(id).orElseThrow(() -> new
                 ClientNotFound("O clinte informado não foi encontrado."));
 
         clientUpdateMapper.updateToClient(clientUpdateDTO, client);
 
-        clientRepository.save(client);
+        // Sem open-session-in-view, o cliente buscado já está desanexado: o save grava uma cópia,
+        // e é ela que traz a data de atualização gravada.
+        client = clientRepository.save(client);
+        readYourWrites.recordWrite(client.getId());
+        eventPublisher.publishEvent(new ClientSavedEvent(client));
 
         return clientMapper.toResponse(client);
     }
@@ -149,11 +244,13 @@ public class ClientService {
      * @param id O identificador único (ID) do cliente a ser excluído.
      * @throws ClientNotFound se nenhum cliente for encontrado com o ID especificado.
      */
+    @Bulkhead(Workload.CRUD)
     public void deleteClientById(String id) {
         Client client = clientRepository.findById(id).orElseThrow(() -> new
                 ClientNotFound("O clinte informado não foi encontrado."));
 
         clientRepository.delete(client);
+        eventPublisher.publishEvent(new ClientDeletedEvent(id));
     }
 
     /**
@@ -161,6 +258,10 @@ public class ClientService {
      * <p>
      * Este método repassa os critérios de filtro para a camada de repositório,
      * que constrói uma consulta dinâmica para buscar os clientes correspondentes.
+     * Quando há filtro por parte do e-mail ou do telefone, os índices de trigramas em memória
+     * ({@link ClientSubstringIndex}) são consultados antes para restringir a busca aos IDs
+     * candidatos, evitando a varredura completa da tabela. Com o modelo de leitura em memória
+     * pronto ({@link ClientReadModel}), o filtro é avaliado nele por varredura paralela.
      * Os clientes encontrados são então mapeados para DTOs de resposta.
      *
      * @param name            Nome parcial ou completo do cliente para filtrar.
@@ -172,6 +273,8 @@ public class ClientService {
      * @param pageable        Objeto que contém as informações de paginação e ordenação.
      * @return Uma {@link Page} de {@link ClientResponseDTO} contendo os clientes que
      */
+    @Bulkhead(Workload.SEARCH)
+    @ReadFromReplica
     public Page<ClientResponseDTO> getAllClientsWithAttributesPage(
             String name,
             String email,
@@ -185,14 +288,39 @@ public class ClientService {
         String cpfParam = (cpf != null && cpf.trim().isEmpty()) ? null : cpf;
         String phoneParam = (phone != null && phone.trim().isEmpty()) ? null : phone;
 
-        Page<Client> clients = clientRepository.getAllClientsWithAttributesPage(
-                name,
-                email,
-                cpf,
-                phone,
-                birthdayStart,
-                birthdayEnd,
-                pageable);
+        if (clientReadModel.isReady()) {
+            Page<ClientResponseDTO> clients = clientReadModel.filter(
+                    nameParam, emailParam, cpfParam, phoneParam, birthdayStart, birthdayEnd, pageable);
+            if (clients != null) {
+                return clients;
+            }
+        }
+
+        Set<String> candidateIds = emailParam == null && phoneParam == null
+                ? null
+                : clientSubstringIndex.candidates(emailParam, phoneParam);
+        if (candidateIds != null && candidateIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+
+        Page<Client> clients = candidateIds == null
+                ? clientRepository.getAllClientsWithAttributesPage(
+                        name,
+                        email,
+                        cpf,
+                        phone,
+                        birthdayStart,
+                        birthdayEnd,
+                        pageable)
+                : clientRepository.getAllClientsWithAttributesPageInIds(
+                        name,
+                        email,
+                        cpf,
+                        phone,
+                        birthdayStart,
+                        birthdayEnd,
+                        candidateIds,
+                        pageable);
 
         return clientMapper.toPageResponse(clients);
     }
@@ -202,7 +330,8 @@ public class ClientService {
      * <p>
      * Este método consulta o repositório esperando que a combinação de filtros
      * retorne no máximo um cliente. Se nenhum cliente for encontrado, lança
-     * uma exceção {@code ClientNotFound}.
+     * uma exceção {@code ClientNotFound}. A consulta e o mapeamento para o DTO ocorrem na
+     * mesma transação somente leitura, e a conexão é devolvida ao pool antes da serialização.
      *
      * @param name     O nome do cliente a ser pesquisado.
      * @param email    O email do cliente a ser pesquisado.
@@ -212,6 +341,9 @@ public class ClientService {
      * @return O {@link ClientResponseDTO} do cliente único encontrado.
      * @throws ClientNotFound se nenhum cliente for encontrado com a combinação de atributos fornecida.
      */
+    @Bulkhead(Workload.SEARCH)
+    @ReadFromReplica
+    @Transactional(readOnly = true)
     public ClientResponseDTO getClientsWithAttributes(
             String name,
             String email,
@@ -229,4 +361,116 @@ public class ClientService {
 
         return clientMapper.toResponse(client);
     }
+
+    /**
+     * Busca, de forma paginada, os clientes que fazem aniversário em uma data ou período.
+     * <p>
+     * O período é convertido em intervalos da chave mês-dia ({@code MMDD}) persistida e indexada
+     * na tabela de clientes, de modo que a busca seja uma leitura de intervalo no índice:
+     * <ul>
+     * <li>Se {@code end} for nulo, considera apenas o dia {@code start}.</li>
+     * <li>Períodos que atravessam a virada do ano são divididos em dois intervalos
+     * (e.g., 28/12 a 03/01 vira {@code [1228, 1231]} e {@code [101, 103]}).</li>
+     * <li>Períodos de um ano ou mais retornam todos os clientes.</li>
+     * <li>Em anos não bissextos, quem nasceu em 29/02 é considerado aniversariante em 28/02.</li>
+     * </ul>
+     * A página, a contagem e o mapeamento para o DTO ocorrem na mesma transação somente leitura.
+     *
+     * @param start    A data (ou início do período) do aniversário.
+     * @param end      O fim do período (inclusivo), ou {@code null} para buscar apenas {@code start}.
+     * @param pageable Objeto que contém as informações de paginação e ordenação.
+     * @return Uma {@link Page} de {@link ClientResponseDTO} com os aniversariantes do período.
+     * @throws InvalidDateRangeException se {@code end} for anterior a {@code start}.
+     */
+    @Bulkhead(Workload.SEARCH)
+    @ReadFromReplica
+    @Transactional(readOnly = true)
+    public Page<ClientResponseDTO> getClientsByBirthday(LocalDate start, LocalDate end, Pageable pageable) {
+        LocalDate endDate = end != null ? end : start;
+
+        if (endDate.isBefore(start)) {
+            throw new InvalidDateRangeException("A data final deve ser igual ou posterior à data inicial.");
+        }
+
+        short startMonthDay = Client.toMonthDay(start);
+        short endMonthDay = Client.toMonthDay(endDate);
+
+        if (!endDate.isLeapYear() && endMonthDay == FEB_28) {
+            endMonthDay = FEB_29;
+        }
+
+        Page<Client> clients;
+        if (ChronoUnit.DAYS.between(start, endDate) >= 365) {
+            clients = clientRepository.findByBirthdayMonthDayRanges(
+                    FIRST_MONTH_DAY, LAST_MONTH_DAY, FIRST_MONTH_DAY, LAST_MONTH_DAY, pageable);
+        } else if (startMonthDay <= endMonthDay) {
+            clients = clientRepository.findByBirthdayMonthDayRanges(
+                    startMonthDay, endMonthDay, startMonthDay, endMonthDay, pageable);
+        } else {
+            clients = clientRepository.findByBirthdayMonthDayRanges(
+                    startMonthDay, LAST_MONTH_DAY, FIRST_MONTH_DAY, endMonthDay, pageable);
+        }
+
+        return clientMapper.toPageResponse(clients);
+    }
+
+    /**
+     * Busca clientes por texto livre no índice de busca embarcado, ordenados por relevância.
+     * <p>
+     * O índice devolve apenas os IDs dos clientes encontrados; os dados completos são
+     * carregados do banco em uma única consulta por chave primária e reordenados conforme
+     * a relevância. Clientes removidos do banco e ainda não removidos do índice são ignorados.
+     * Com o modelo de leitura em memória pronto, os dados vêm dele em vez do banco.
+     *
+     * @param text     O texto a ser buscado em nome, e-mail e telefone.
+     * @param pageable Objeto que contém as informações de paginação.
+     * @return Uma {@link Page} de {@link ClientResponseDTO} em ordem de relevância.
+     */
+    @Bulkhead(Workload.SEARCH)
+    @ReadFromReplica
+    public Page<ClientResponseDTO> searchClients(String text, Pageable pageable) {
+        Page<String> ids = clientSearchIndex.search(text, pageable);
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+        }
+
+        if (clientReadModel.isReady()) {
+            return new PageImpl<>(clientReadModel.findAllById(ids.getContent()), pageable, ids.getTotalElements());
+        }
+
+        Map<String, Client> clientsById = clientRepository.findAllById(ids.getContent())
+                .stream()
+                .collect(Collectors.toMap(Client::getId, Function.identity()));
+
+        List<ClientResponseDTO> content = ids.getContent()
+                .stream()
+                .map(clientsById::get)
+                .filter(Objects::nonNull)
+                .map(clientMapper::toResponse)
+                .toList();
+
+        return new PageImpl<>(content, pageable, ids.getTotalElements());
+    }
+
+    /**
+     * Solicita a reconstrução do índice de busca a partir do banco de dados, em segundo plano.
+     */
+    public void rebuildSearchIndex() {
+        clientSearchIndex.rebuildInBackground();
+    }
+
+    /**
+     * Sugere clientes cujo nome possui alguma palavra iniciada pelo prefixo informado.
+     * <p>
+     * Atende o autocompletar a partir da estrutura de prefixos em memória
+     * ({@link ClientNameSuggester}), sem consultar o banco de dados.
+     *
+     * @param prefix O texto digitado; acentos e maiúsculas são ignorados.
+     * @param limit  A quantidade máxima de sugestões, limitada a {@value #MAX_SUGGESTIONS}.
+     * @return a lista de sugestões (ID e nome) em ordem alfabética.
+     */
+    @Bulkhead(Workload.SEARCH)
+    public List<ClientSuggestionDTO> suggestClients(String prefix, int limit) {
+        return clientNameSuggester.suggest(prefix, Math.min(limit, MAX_SUGGESTIONS));
+    }
 }
@@ -0,0 +1,306 @@
+package br.com.neoapp.api.shard;
+
+import br.com.neoapp.api.model.Client;
+import br.com.neoapp.api.model.RefreshToken;
+import br.com.neoapp.api.model.Role;
+import br.com.neoapp.api.model.UuidV7;
+import br.com.neoapp.api.repository.ClientRepository;
+import br.com.neoapp.api.repository.RefreshTokenRepository;
+import br.com.neoapp.api.web.RequestDeadline;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Encaminha as operações do {@link ClientRepository} e do {@link RefreshTokenRepository} aos
+ * shards ({@link ClientShards}).
+ * <p>
+ * As operações por ID vão ao shard do cliente; as buscas por e-mail e as verificações de e-mail
+ * e CPF passam antes pelas tabelas de consulta ({@link ShardLookup}) e consultam no máximo um
+ * shard. As listagens, as buscas por atributos e os lotes por ID são executados em todos os
+ * shards ao mesmo tempo, em threads virtuais, e os resultados são juntados pela ordenação
+ * solicitada ({@link ShardMerge}): cada shard devolve os primeiros {@code offset + size}
+ * registros, e a contagem total é a soma das contagens.
+ * <p>
+ * Cada operação em um shard roda em uma transação própria ({@code REQUIRES_NEW}), com o
+ * {@link ShardContext} definido, e não participa de uma transação já aberta pelo chamador. No
+ * cadastro, o ID ({@link UuidV7}) é gerado antes de abrir a transação, que já começa no shard
+ * dele, como nas demais gravações.
+ * <p>
+ * Os papéis são dados de referência: ficam no shard principal e são copiados, com o mesmo ID,
+ * para o shard de cada cliente cadastrado com eles. Os refresh tokens, que referenciam o cliente,
+ * ficam no shard do cliente.
+ */
+public class ClientShardRouter {
+
+    private final ClientShards shards;
+    private final ShardLookup lookup;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate readWriteTransaction;
+    private final ExecutorService executor;
+    private final Set<String> copiedRoles = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constrói o roteador.
+     *
+     * @param shards             Os shards.
+     * @param lookup             As tabelas de consulta por e-mail e CPF.
+     * @param transactionManager O gerenciador das transações de cada operação em um shard.
+     */
+    public ClientShardRouter(ClientShards shards, ShardLookup lookup, PlatformTransactionManager transactionManager) {
+        this.shards = shards;
+        this.lookup = lookup;
+        this.readWriteTransaction = new TransactionTemplate(transactionManager);
+        this.readWriteTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("shard-query-", 0).factory());
+    }
+
+    /**
+     * Executa uma operação do {@link ClientRepository} nos shards.
+     *
+     * @param invocation A chamada interceptada.
+     * @return o resultado da operação.
+     * @throws UnsupportedOperationException se a operação não tiver um encaminhamento definido.
+     */
+    public Object route(MethodInvocation invocation) {
+        Object[] args = invocation.getArguments();
+        String name = invocation.getMethod().getName();
+        return switch (name) {
+            case "findById", "existsById" -> onShard(shardOf(args[0]), true, invocation, args);
+            case "updatePasswordIfUnchanged" -> onShard(shardOf(args[0]), false, invocation, args);
+            case "existsByEmail" -> lookup.existsByEmail((String) args[0]);
+            case "existsByCpf" -> lookup.existsByCpf((String) args[0]);
+            case "findByEmail" -> findByEmail(invocation, (String) args[0]);
+            case "save" -> save(invocation, (Client) args[0]);
+            case "delete" -> delete(invocation, ((Client) args[0]).getId());
+            case "deleteById" -> delete(invocation, (String) args[0]);
+            case "findAllById" -> findAllById(invocation, (Iterable<?>) args[0]);
+            case "findBatchAfterId" -> findBatchAfterId(invocation, (Limit) args[1]);
+            case "findClientsWithAttributes" -> scatter(shard -> (Optional<?>) onShard(shard, true, invocation, args))
+                    .stream().filter(Optional::isPresent).findFirst().orElse(Optional.empty());
+            case "count" -> scatter(shard -> (Long) onShard(shard, true, invocation, args))
+                    .stream().mapToLong(Long::longValue).sum();
+            case "backfillBirthdayMonthDay" -> scatter(shard -> (Integer) onShard(shard, false, invocation, args))
+                    .stream().mapToInt(Integer::intValue).sum();
+            default -> {
+                if (args.length > 0 && args[args.length - 1] instanceof Pageable pageable
+                        && Page.class.isAssignableFrom(invocation.getMethod().getReturnType())) {
+                    yield findPage(invocation, pageable);
+                }
+                throw new UnsupportedOperationException(
+                        "Operação não suportada com os clientes distribuídos em shards: " + name);
+            }
+        };
+    }
+
+    /**
+     * Executa uma operação do {@link RefreshTokenRepository} nos shards.
+     *
+     * @param invocation A chamada interceptada.
+     * @return o resultado da operação.
+     * @throws UnsupportedOperationException se a operação não tiver um encaminhamento definido.
+     */
+    public Object routeRefreshToken(MethodInvocation invocation) {
+        Object[] args = invocation.getArguments();
+        String name = invocation.getMethod().getName();
+        return switch (name) {
+            case "save" -> onShard(shards.shardOf(((RefreshToken) args[0]).getClient().getId()), false, invocation, args);
+            case "revokeAllByClientId" -> onShard(shardOf(args[0]), false, invocation, args);
+            case "findByTokenHash", "findRotatedAtById" -> scatter(shard -> (Optional<?>) onShard(shard, true, invocation, args))
+                    .stream().filter(Optional::isPresent).findFirst().orElse(Optional.empty());
+            case "revokeIfActive", "rotateIfActive", "deleteExpiredBefore" -> scatter(shard -> (Integer) onShard(shard, false, invocation, args))
+                    .stream().mapToInt(Integer::intValue).sum();
+            default -> throw new UnsupportedOperationException(
+                    "Operação não suportada com os refresh tokens distribuídos em shards: " + name);
+        };
+    }
+
+    private Optional<?> findByEmail(MethodInvocation invocation, String email) {
+        String clientId = lookup.findClientIdByEmail(email);
+        if (clientId == null) {
+            return Optional.empty();
+        }
+        return (Optional<?>) onShard(shards.shardOf(clientId), true, invocation, invocation.getArguments());
+    }
+
+    private Object save(MethodInvocation invocation, Client client) {
+        if (client.getId() == null) {
+            // O ID é definido antes da gravação para que toda a transação já abra no shard dele.
+            client.setId(UuidV7.next().toString());
+            copyRoles(shards.shardOf(client.getId()), client.getRoles());
+        }
+
+        ShardLookup.Claim claim = lookup.claim(client.getId(), client.getEmail(), client.getCpf());
+        Object saved;
+        try {
+            saved = onShard(shards.shardOf(client.getId()), false, invocation, invocation.getArguments());
+        } catch (RuntimeException e) {
+            lookup.undo(claim);
+            throw e;
+        }
+        lookup.confirm(claim);
+        return saved;
+    }
+
+    private Object delete(MethodInvocation invocation, String clientId) {
+        onShard(shards.shardOf(clientId), false, invocation, invocation.getArguments());
+        lookup.release(clientId);
+        return null;
+    }
+
+    private List<Client> findAllById(MethodInvocation invocation, Iterable<?> ids) {
+        Map<Integer, List<String>> idsByShard = new TreeMap<>();
+        for (Object id : ids) {
+            idsByShard.computeIfAbsent(shardOf(id), ignored -> new ArrayList<>()).add((String) id);
+        }
+
+        List<Integer> targets = List.copyOf(idsByShard.keySet());
+        List<List<Client>> results = scatter(targets.size(), i -> castList(
+                onShard(targets.get(i), true, invocation, new Object[]{idsByShard.get(targets.get(i))})));
+        return results.stream().flatMap(List::stream).toList();
+    }
+
+    private List<Client> findBatchAfterId(MethodInvocation invocation, Limit limit) {
+        Object[] args = invocation.getArguments();
+        List<List<Client>> batches = scatter(shard -> castList(onShard(shard, true, invocation, args)));
+        int max = limit.isLimited() ? limit.max() : Integer.MAX_VALUE;
+        return ShardMerge.merge(batches, Comparator.comparing(Client::getId), 0, max);
+    }
+
+    private Page<Client> findPage(MethodInvocation invocation, Pageable pageable) {
+        Sort sort = ShardMerge.withIdTieBreak(pageable.getSort());
+        Pageable window = pageable.isPaged()
+                ? PageRequest.of(0, Math.toIntExact(pageable.getOffset() + pageable.getPageSize()), sort)
+                : Pageable.unpaged(sort);
+        Object[] args = invocation.getArguments().clone();
+        args[args.length - 1] = window;
+
+        List<Page<Client>> pages = scatter(shard -> castPage(onShard(shard, true, invocation, args)));
+        long total = pages.stream().mapToLong(Page::getTotalElements).sum();
+        List<Client> content = ShardMerge.merge(
+                pages.stream().map(Page::getContent).toList(),
+                ShardMerge.comparator(sort),
+                pageable.isPaged() ? pageable.getOffset() : 0,
+                pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE);
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private void copyRoles(int shard, List<Role> roles) {
+        if (shard == 0 || roles == null) {
+            return;
+        }
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(shards.dataSource(shard));
+        for (Role role : roles) {
+            String key = shard + ":" + role.getId();
+            if (copiedRoles.add(key)) {
+                try {
+                    jdbcTemplate.update("INSERT INTO role_table (id, name) VALUES (?, ?) ON CONFLICT DO NOTHING",
+                            role.getId(), role.getName().name());
+                } catch (RuntimeException e) {
+                    copiedRoles.remove(key);
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private Object onShard(int shard, boolean readOnly, MethodInvocation invocation, Object[] args) {
+        TransactionTemplate transaction = readOnly ? readOnlyTransaction : readWriteTransaction;
+        return ShardContext.supply(shard, () -> transaction.execute(status -> proceed(invocation, args)));
+    }
+
+    private <T> List<T> scatter(IntFunction<T> operation) {
+        return scatter(shards.count(), operation);
+    }
+
+    private <T> List<T> scatter(int count, IntFunction<T> operation) {
+        if (count == 1) {
+            return List.of(operation.apply(0));
+        }
+
+        RequestDeadline deadline = RequestDeadline.current();
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        List<Future<T>> tasks = IntStream.range(0, count)
+                .mapToObj(i -> executor.submit(() -> {
+                    RequestContextHolder.setRequestAttributes(requestAttributes);
+                    try {
+                        return RequestDeadline.supply(deadline, () -> operation.apply(i));
+                    } finally {
+                        RequestContextHolder.resetRequestAttributes();
+                    }
+                }))
+                .toList();
+
+        List<T> results = new ArrayList<>(count);
+        try {
+            for (Future<T> task : tasks) {
+                results.add(task.get());
+            }
+        } catch (ExecutionException e) {
+            tasks.forEach(task -> task.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            tasks.forEach(task -> task.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("A consulta aos shards foi interrompida.", e);
+        }
+        return results;
+    }
+
+    private int shardOf(Object clientId) {
+        return shards.shardOf((String) clientId);
+    }
+
+    private static Object proceed(MethodInvocation invocation, Object[] args) {
+        try {
+            return ((ProxyMethodInvocation) invocation).invocableClone(args).proceed();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Client> castList(Object result) {
+        return (List<Client>) result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Page<Client> castPage(Object result) {
+        return (Page<Client>) result;
+    }
+}
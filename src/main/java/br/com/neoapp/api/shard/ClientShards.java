@@ -0,0 +1,73 @@
+package br.com.neoapp.api.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Os bancos entre os quais os clientes são distribuídos.
+ * <p>
+ * Cada cliente fica no shard dado pelo hash do seu ID ({@link #shardOf}). O primeiro shard é o
+ * banco principal ({@code spring.datasource.*}), que guarda também os papéis e as tabelas de
+ * consulta por e-mail e CPF ({@link ShardLookup}). O hash de
+ * {@link String#hashCode()} é definido pela especificação da linguagem, então a distribuição
+ * não muda entre execuções; mudar a quantidade de shards, por outro lado, exige redistribuir os
+ * clientes existentes.
+ *
+ * @param dataSources Os pools de conexões de cada shard, sem roteamento; o primeiro é o principal.
+ */
+public record ClientShards(List<DataSource> dataSources) implements AutoCloseable {
+
+    /**
+     * Valida e copia os shards.
+     */
+    public ClientShards {
+        if (dataSources.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos um shard.");
+        }
+        dataSources = List.copyOf(dataSources);
+    }
+
+    /**
+     * Retorna a quantidade de shards.
+     *
+     * @return a quantidade de shards, incluindo o principal.
+     */
+    public int count() {
+        return dataSources.size();
+    }
+
+    /**
+     * Retorna o shard de um cliente.
+     *
+     * @param clientId O ID do cliente.
+     * @return o índice do shard.
+     */
+    public int shardOf(String clientId) {
+        int hash = clientId.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), dataSources.size());
+    }
+
+    /**
+     * Retorna o pool de conexões de um shard, sem roteamento.
+     *
+     * @param shard O índice do shard.
+     * @return o pool de conexões.
+     */
+    public DataSource dataSource(int shard) {
+        return dataSources.get(shard);
+    }
+
+    /**
+     * Encerra os pools dos shards adicionais; o do principal é encerrado pelo seu próprio bean.
+     */
+    @Override
+    public void close() {
+        dataSources.stream()
+                .skip(1)
+                .filter(HikariDataSource.class::isInstance)
+                .map(HikariDataSource.class::cast)
+                .forEach(HikariDataSource::close);
+    }
+}
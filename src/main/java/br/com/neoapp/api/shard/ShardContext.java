@@ -0,0 +1,53 @@
+package br.com.neoapp.api.shard;
+
+import java.util.function.Supplier;
+
+/**
+ * Mantém, na thread corrente, o shard em que as operações sobre clientes são executadas.
+ * <p>
+ * Definido pelo {@link ClientShardRouter} em cada operação encaminhada a um shard e consultado
+ * pelo {@link ShardRoutingDataSource} ao obter uma conexão. Fora de uma operação encaminhada,
+ * as conexões vão para o shard principal (índice {@code 0}).
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    /**
+     * Retorna o shard da execução corrente.
+     *
+     * @return o índice do shard, ou {@code null} fora de uma operação encaminhada.
+     */
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Executa a operação no shard informado, restaurando o anterior ao final.
+     *
+     * @param shard     O índice do shard; {@code null} executa no shard principal.
+     * @param operation A operação a ser executada.
+     * @param <T>       O tipo do resultado.
+     * @return o resultado da operação.
+     */
+    public static <T> T supply(Integer shard, Supplier<T> operation) {
+        Integer previous = CURRENT.get();
+        set(shard);
+        try {
+            return operation.get();
+        } finally {
+            set(previous);
+        }
+    }
+
+    static void set(Integer shard) {
+        if (shard == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(shard);
+        }
+    }
+}
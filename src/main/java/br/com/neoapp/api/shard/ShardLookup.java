@@ -0,0 +1,180 @@
+package br.com.neoapp.api.shard;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * Tabelas de consulta de e-mail e CPF para ID de cliente, mantidas no shard principal.
+ * <p>
+ * Com os clientes distribuídos pelo hash do ID, uma busca por e-mail ou CPF precisaria
+ * consultar todos os shards. As tabelas {@code client_email_lookup} e {@code client_cpf_lookup}
+ * respondem às verificações de existência diretamente e, para as buscas, indicam o único shard
+ * a consultar. As suas chaves primárias garantem também a unicidade de e-mail e CPF entre os
+ * shards, que as restrições {@code unique} de cada shard não garantem.
+ * <p>
+ * As tabelas são atualizadas antes da gravação do cliente ({@link #claim}); as entradas de uma
+ * gravação que falhar são removidas em seguida ({@link #undo}).
+ */
+public class ShardLookup {
+
+    private static final String EMAIL_TABLE = "client_email_lookup";
+    private static final String CPF_TABLE = "client_cpf_lookup";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constrói as tabelas de consulta sobre o shard principal.
+     *
+     * @param jdbcTemplate O acesso ao shard principal, sem roteamento.
+     */
+    public ShardLookup(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Cria as tabelas de consulta, se ainda não existirem.
+     */
+    public void createTables() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + EMAIL_TABLE
+                + " (email VARCHAR(255) PRIMARY KEY, client_id VARCHAR(36) NOT NULL)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_" + EMAIL_TABLE + "_client ON " + EMAIL_TABLE + " (client_id)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + CPF_TABLE
+                + " (cpf VARCHAR(11) PRIMARY KEY, client_id VARCHAR(36) NOT NULL)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_" + CPF_TABLE + "_client ON " + CPF_TABLE + " (client_id)");
+    }
+
+    /**
+     * Retorna o ID do cliente com o e-mail informado.
+     *
+     * @param email O e-mail exato.
+     * @return o ID do cliente, ou {@code null} se o e-mail não estiver registrado.
+     */
+    public String findClientIdByEmail(String email) {
+        return find(EMAIL_TABLE, "email", email);
+    }
+
+    /**
+     * Verifica se o e-mail está registrado.
+     *
+     * @param email O e-mail exato.
+     * @return {@code true} se algum cliente usar o e-mail.
+     */
+    public boolean existsByEmail(String email) {
+        return findClientIdByEmail(email) != null;
+    }
+
+    /**
+     * Verifica se o CPF está registrado.
+     *
+     * @param cpf O CPF exato.
+     * @return {@code true} se algum cliente usar o CPF.
+     */
+    public boolean existsByCpf(String cpf) {
+        return find(CPF_TABLE, "cpf", cpf) != null;
+    }
+
+    /**
+     * Registra o e-mail e o CPF de um cliente antes da sua gravação. As entradas anteriores do
+     * cliente são mantidas até a confirmação ({@link #confirm}).
+     *
+     * @param clientId O ID do cliente.
+     * @param email    O e-mail gravado.
+     * @param cpf      O CPF gravado.
+     * @return o registro, a ser confirmado ou desfeito ({@link #undo}) conforme o resultado da gravação.
+     * @throws DuplicateKeyException se o e-mail ou o CPF pertencerem a outro cliente.
+     */
+    public Claim claim(String clientId, String email, String cpf) {
+        boolean newEmail = claim(EMAIL_TABLE, "email", email, clientId);
+        boolean newCpf;
+        try {
+            newCpf = claim(CPF_TABLE, "cpf", cpf, clientId);
+        } catch (RuntimeException e) {
+            if (newEmail) {
+                delete(EMAIL_TABLE, "email", email);
+            }
+            throw e;
+        }
+        return new Claim(clientId, email, cpf, newEmail, newCpf);
+    }
+
+    /**
+     * Confirma um registro após a gravação, removendo o e-mail e o CPF anteriores do cliente.
+     *
+     * @param claim O registro.
+     */
+    public void confirm(Claim claim) {
+        jdbcTemplate.update("DELETE FROM " + EMAIL_TABLE + " WHERE client_id = ? AND email <> ?", claim.clientId(), claim.email());
+        jdbcTemplate.update("DELETE FROM " + CPF_TABLE + " WHERE client_id = ? AND cpf <> ?", claim.clientId(), claim.cpf());
+    }
+
+    /**
+     * Desfaz um registro cuja gravação falhou, removendo apenas as entradas incluídas por ele.
+     *
+     * @param claim O registro.
+     */
+    public void undo(Claim claim) {
+        if (claim.newEmail()) {
+            delete(EMAIL_TABLE, "email", claim.email());
+        }
+        if (claim.newCpf()) {
+            delete(CPF_TABLE, "cpf", claim.cpf());
+        }
+    }
+
+    /**
+     * Remove as entradas de um cliente.
+     *
+     * @param clientId O ID do cliente.
+     */
+    public void release(String clientId) {
+        jdbcTemplate.update("DELETE FROM " + EMAIL_TABLE + " WHERE client_id = ?", clientId);
+        jdbcTemplate.update("DELETE FROM " + CPF_TABLE + " WHERE client_id = ?", clientId);
+    }
+
+    /**
+     * Remove todas as entradas.
+     */
+    public void clear() {
+        jdbcTemplate.update("DELETE FROM " + EMAIL_TABLE);
+        jdbcTemplate.update("DELETE FROM " + CPF_TABLE);
+    }
+
+    private String find(String table, String column, String value) {
+        if (value == null) {
+            return null;
+        }
+        List<String> ids = jdbcTemplate.queryForList(
+                "SELECT client_id FROM " + table + " WHERE " + column + " = ?", String.class, value);
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+
+    private boolean claim(String table, String column, String value, String clientId) {
+        String owner = find(table, column, value);
+        if (owner == null) {
+            jdbcTemplate.update("INSERT INTO " + table + " (" + column + ", client_id) VALUES (?, ?)", value, clientId);
+            return true;
+        }
+        if (!owner.equals(clientId)) {
+            throw new DuplicateKeyException("O valor de " + column + " já pertence a outro cliente.");
+        }
+        return false;
+    }
+
+    private void delete(String table, String column, String value) {
+        jdbcTemplate.update("DELETE FROM " + table + " WHERE " + column + " = ?", value);
+    }
+
+    /**
+     * O registro do e-mail e do CPF de uma gravação.
+     *
+     * @param clientId O ID do cliente.
+     * @param email    O e-mail gravado.
+     * @param cpf      O CPF gravado.
+     * @param newEmail Se o e-mail foi incluído por este registro.
+     * @param newCpf   Se o CPF foi incluído por este registro.
+     */
+    public record Claim(String clientId, String email, String cpf, boolean newEmail, boolean newCpf) {
+    }
+}
@@ -0,0 +1,166 @@
+package br.com.neoapp.api.shard;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Junção ordenada dos resultados de vários shards.
+ * <p>
+ * Cada shard devolve os seus registros já ordenados pela mesma chave; a junção percorre as
+ * listas com uma fila de prioridade que contém o próximo registro de cada uma (k-way merge),
+ * em {@code O(n log k)}. A ordem é comparada em Java, a partir das propriedades da {@link Sort}.
+ * Textos são comparados por código de caractere, a mesma ordem das colunas com a collation
+ * {@code "C"}, que o {@link ShardSchemaInitializer} aplica às colunas ordenáveis em todos os
+ * shards; sem ela, cada shard ordenaria pela collation do banco e a junção misturaria as ordens.
+ * Na ordenação sem distinção de maiúsculas, apenas as letras ASCII são convertidas, como faz o
+ * {@code lower()} do Postgres nessa collation.
+ */
+public final class ShardMerge {
+
+    private ShardMerge() {
+    }
+
+    /**
+     * Acrescenta o ID como último critério da ordenação, para que a ordem seja total e igual em
+     * todos os shards.
+     *
+     * @param sort A ordenação solicitada.
+     * @return a ordenação com o ID como desempate.
+     */
+    public static Sort withIdTieBreak(Sort sort) {
+        return sort.getOrderFor("id") == null ? sort.and(Sort.by("id")) : sort;
+    }
+
+    /**
+     * Cria o comparador equivalente a uma ordenação.
+     *
+     * @param sort A ordenação.
+     * @return o comparador dos registros pelas propriedades da ordenação.
+     */
+    public static Comparator<Object> comparator(Sort sort) {
+        Comparator<Object> comparator = (left, right) -> 0;
+        for (Sort.Order order : sort) {
+            Comparator<Object> byProperty = (left, right) -> compare(order, value(left, order), value(right, order));
+            comparator = comparator.thenComparing(order.isAscending() ? byProperty : byProperty.reversed());
+        }
+        return comparator;
+    }
+
+    /**
+     * Junta listas já ordenadas, descartando os primeiros registros.
+     *
+     * @param sorted     As listas de cada shard, ordenadas pelo comparador.
+     * @param comparator O comparador da ordenação.
+     * @param offset     A quantidade de registros descartados do início.
+     * @param limit      A quantidade máxima de registros retornados.
+     * @param <T>        O tipo dos registros.
+     * @return os registros de {@code offset} a {@code offset + limit} da junção.
+     */
+    public static <T> List<T> merge(List<? extends List<T>> sorted, Comparator<? super T> comparator, long offset, int limit) {
+        PriorityQueue<Head<T>> heads = new PriorityQueue<>((left, right) -> comparator.compare(left.value, right.value));
+        for (List<T> list : sorted) {
+            Iterator<T> iterator = list.iterator();
+            if (iterator.hasNext()) {
+                heads.add(new Head<>(iterator.next(), iterator));
+            }
+        }
+
+        List<T> result = new ArrayList<>(Math.min(limit, 1024));
+        long skipped = 0;
+        while (!heads.isEmpty() && result.size() < limit) {
+            Head<T> head = heads.poll();
+            if (skipped < offset) {
+                skipped++;
+            } else {
+                result.add(head.value);
+            }
+            if (head.rest.hasNext()) {
+                heads.add(new Head<>(head.rest.next(), head.rest));
+            }
+        }
+        return result;
+    }
+
+    private static Object value(Object target, Sort.Order order) {
+        BeanWrapper wrapper = new BeanWrapperImpl(target);
+        String property = order.getProperty();
+        if (!wrapper.isReadableProperty(property)) {
+            property = toCamelCase(property);
+        }
+        return wrapper.getPropertyValue(property);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(Sort.Order order, Object left, Object right) {
+        if (left == null || right == null) {
+            if (left == right) {
+                return 0;
+            }
+            // Mesma convenção do Postgres: nulos por último em ordem crescente, a menos que a
+            // ordenação peça o contrário.
+            boolean nullsFirst = order.getNullHandling() == Sort.NullHandling.NULLS_FIRST;
+            boolean nullsLast = order.getNullHandling() == Sort.NullHandling.NULLS_LAST;
+            int nullOrder = left == null ? 1 : -1;
+            if (nullsFirst || nullsLast) {
+                nullOrder = (left == null) == nullsFirst ? -1 : 1;
+                return order.isAscending() ? nullOrder : -nullOrder;
+            }
+            return nullOrder;
+        }
+        if (left instanceof String leftText && right instanceof String rightText) {
+            return compareText(leftText, rightText, order.isIgnoreCase());
+        }
+        return ((Comparable) left).compareTo(right);
+    }
+
+    /**
+     * Compara textos por código de caractere (a ordem dos bytes em UTF-8), e não pelas unidades
+     * UTF-16 de {@link String#compareTo}, que diferem para os caracteres fora do plano básico.
+     */
+    static int compareText(String left, String right, boolean ignoreCase) {
+        int i = 0;
+        int j = 0;
+        while (i < left.length() && j < right.length()) {
+            int leftCodePoint = left.codePointAt(i);
+            int rightCodePoint = right.codePointAt(j);
+            if (ignoreCase) {
+                leftCodePoint = toAsciiLowerCase(leftCodePoint);
+                rightCodePoint = toAsciiLowerCase(rightCodePoint);
+            }
+            if (leftCodePoint != rightCodePoint) {
+                return Integer.compare(leftCodePoint, rightCodePoint);
+            }
+            i += Character.charCount(leftCodePoint);
+            j += Character.charCount(rightCodePoint);
+        }
+        return Boolean.compare(i < left.length(), j < right.length());
+    }
+
+    private static int toAsciiLowerCase(int codePoint) {
+        return codePoint >= 'A' && codePoint <= 'Z' ? codePoint + ('a' - 'A') : codePoint;
+    }
+
+    private static String toCamelCase(String column) {
+        StringBuilder property = new StringBuilder(column.length());
+        boolean upper = false;
+        for (char c : column.toCharArray()) {
+            if (c == '_') {
+                upper = true;
+            } else {
+                property.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            }
+        }
+        return property.toString();
+    }
+
+    private record Head<T>(T value, Iterator<T> rest) {
+    }
+}
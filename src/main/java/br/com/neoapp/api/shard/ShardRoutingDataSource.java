@@ -0,0 +1,41 @@
+package br.com.neoapp.api.shard;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link DataSource} que entrega as conexões ao shard definido em {@link ShardContext}, ou ao
+ * shard principal fora de uma operação encaminhada.
+ * <p>
+ * Deve ser envolvido por um {@link LazyConnectionDataSourceProxy}: no cadastro, o ID do cliente
+ * (e, portanto, o shard) só é conhecido depois do início da transação, quando o Hibernate o gera,
+ * e a conexão física precisa ser obtida apenas na gravação.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * Constrói o roteamento entre os shards.
+     *
+     * @param shards Os shards, na ordem dos índices; o primeiro é o principal.
+     */
+    public ShardRoutingDataSource(List<? extends DataSource> shards) {
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            targets.put(i, shards.get(i));
+        }
+        setDefaultTargetDataSource(shards.get(0));
+        setTargetDataSources(targets);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+}
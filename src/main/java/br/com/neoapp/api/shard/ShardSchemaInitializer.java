@@ -0,0 +1,107 @@
+package br.com.neoapp.api.shard;
+
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+
+import java.util.Map;
+
+/**
+ * Prepara os shards na inicialização, antes do primeiro uso dos repositórios.
+ * <p>
+ * O {@code spring.jpa.hibernate.ddl-auto} atua apenas no shard principal. Nos demais, o esquema
+ * mapeado pelas entidades é criado quando a tabela de clientes ainda não existe, o que basta para
+ * os bancos em memória e para shards novos; shards já existentes devem receber as mesmas
+ * migrações do principal. No shard principal são criadas as tabelas de consulta
+ * ({@link ShardLookup}).
+ * <p>
+ * No Postgres, as colunas de texto ordenáveis dos clientes passam a usar a collation {@code "C"}
+ * em todos os shards, para que cada shard ordene pela mesma regra usada na junção dos resultados
+ * ({@link ShardMerge}). No H2, a comparação de textos já é por código de caractere.
+ */
+public class ShardSchemaInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardSchemaInitializer.class);
+
+    /**
+     * A collation das colunas de texto da tabela de clientes pelas quais as listagens podem ser ordenadas.
+     */
+    private static final String COLUMN_COLLATIONS_SQL = """
+            SELECT a.attname AS column_name,
+                   format_type(a.atttypid, a.atttypmod) AS column_type,
+                   c.collname AS collation_name
+              FROM pg_attribute a
+              JOIN pg_collation c ON c.oid = a.attcollation
+             WHERE a.attrelid = 'client_table'::regclass
+               AND a.attname IN ('name', 'email', 'phone', 'cpf')
+               AND NOT a.attisdropped""";
+
+    private final ClientShards shards;
+    private final ShardLookup lookup;
+
+    /**
+     * Constrói o inicializador.
+     *
+     * @param shards Os shards.
+     * @param lookup As tabelas de consulta por e-mail e CPF.
+     */
+    public ShardSchemaInitializer(ClientShards shards, ShardLookup lookup) {
+        this.shards = shards;
+        this.lookup = lookup;
+    }
+
+    /**
+     * Cria as tabelas de consulta e o esquema dos shards que ainda não o têm.
+     *
+     * @param sessionFactory A fábrica de sessões do Hibernate, cujas conexões passam pelo
+     *                       {@link ShardRoutingDataSource}.
+     */
+    public void initialize(SessionFactory sessionFactory) {
+        lookup.createTables();
+        for (int shard = 1; shard < shards.count(); shard++) {
+            if (!hasClientTable(shard)) {
+                ShardContext.supply(shard, () -> {
+                    sessionFactory.getSchemaManager().exportMappedObjects(false);
+                    return null;
+                });
+                log.info("Esquema criado no shard {}.", shard);
+            }
+        }
+        for (int shard = 0; shard < shards.count(); shard++) {
+            useBinaryCollation(shard);
+        }
+    }
+
+    private void useBinaryCollation(int shard) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(shards.dataSource(shard));
+        if (!isPostgres(jdbcTemplate)) {
+            return;
+        }
+        for (Map<String, Object> column : jdbcTemplate.queryForList(COLUMN_COLLATIONS_SQL)) {
+            if (!"C".equals(column.get("collation_name"))) {
+                jdbcTemplate.execute("ALTER TABLE client_table ALTER COLUMN " + column.get("column_name")
+                        + " TYPE " + column.get("column_type") + " COLLATE \"C\"");
+                log.info("Coluna client_table.{} do shard {} alterada para a collation C.", column.get("column_name"), shard);
+            }
+        }
+    }
+
+    private static boolean isPostgres(JdbcTemplate jdbcTemplate) {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                JdbcUtils.commonDatabaseName(connection.getMetaData().getDatabaseProductName()));
+        return "PostgreSQL".equals(product);
+    }
+
+    private boolean hasClientTable(int shard) {
+        try {
+            new JdbcTemplate(shards.dataSource(shard)).queryForList("SELECT id FROM client_table WHERE 1 = 0");
+            return true;
+        } catch (DataAccessException e) {
+            return false;
+        }
+    }
+}
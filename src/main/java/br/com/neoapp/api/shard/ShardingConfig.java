@@ -0,0 +1,83 @@
+package br.com.neoapp.api.shard;
+
+import br.com.neoapp.api.repository.ClientRepository;
+import br.com.neoapp.api.repository.RefreshTokenRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Configuração da distribuição dos clientes em shards, habilitada pela propriedade
+ * {@code app.sharding.enabled}. Os pools de cada shard ({@link ClientShards}) são criados em
+ * {@link br.com.neoapp.api.config.DataSourceConfig}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    /**
+     * Registra o interceptador do {@link ClientRepository} e do {@link RefreshTokenRepository},
+     * executado após o das cotas e o das réplicas e antes das transações.
+     *
+     * @param router Fornece o roteador das operações.
+     * @return o {@link Advisor} dos repositórios distribuídos.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor shardingAdvisor(ObjectProvider<ClientShardRouter> router) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                new ComposablePointcut(type -> ClientRepository.class.isAssignableFrom(type)
+                        || RefreshTokenRepository.class.isAssignableFrom(type)),
+                new ShardingInterceptor(router));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return advisor;
+    }
+
+    /**
+     * Prepara os shards assim que o {@link EntityManagerFactory} é criado, antes que qualquer
+     * repositório seja usado.
+     *
+     * @param initializer Fornece o inicializador dos shards.
+     * @return o {@link BeanPostProcessor} que executa o inicializador.
+     */
+    @Bean
+    static BeanPostProcessor shardSchemaPostProcessor(ObjectProvider<ShardSchemaInitializer> initializer) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof EntityManagerFactory entityManagerFactory) {
+                    initializer.getObject().initialize(entityManagerFactory.unwrap(SessionFactory.class));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    ShardLookup shardLookup(ClientShards shards) {
+        return new ShardLookup(new JdbcTemplate(shards.dataSource(0)));
+    }
+
+    @Bean
+    ShardSchemaInitializer shardSchemaInitializer(ClientShards shards, ShardLookup shardLookup) {
+        return new ShardSchemaInitializer(shards, shardLookup);
+    }
+
+    @Bean
+    ClientShardRouter clientShardRouter(ClientShards shards, ShardLookup shardLookup,
+                                        PlatformTransactionManager transactionManager) {
+        return new ClientShardRouter(shards, shardLookup, transactionManager);
+    }
+}
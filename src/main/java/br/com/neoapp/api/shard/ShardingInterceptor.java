@@ -0,0 +1,39 @@
+package br.com.neoapp.api.shard;
+
+import br.com.neoapp.api.repository.ClientRepository;
+import br.com.neoapp.api.repository.RefreshTokenRepository;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Interceptador do {@link ClientRepository} e do {@link RefreshTokenRepository} que encaminha as
+ * operações aos shards pelo {@link ClientShardRouter}.
+ * <p>
+ * Chamadas feitas dentro de uma operação já encaminhada (e.g., as consultas da página e da
+ * contagem feitas pela implementação customizada do repositório) seguem para o mesmo shard.
+ */
+public class ShardingInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<ClientShardRouter> router;
+
+    /**
+     * Constrói o interceptador.
+     *
+     * @param router Fornece o roteador das operações.
+     */
+    public ShardingInterceptor(ObjectProvider<ClientShardRouter> router) {
+        this.router = router;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (ShardContext.current() != null || invocation.getMethod().getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+        ClientShardRouter shardRouter = router.getObject();
+        return invocation.getThis() instanceof RefreshTokenRepository
+                ? shardRouter.routeRefreshToken(invocation)
+                : shardRouter.route(invocation);
+    }
+}
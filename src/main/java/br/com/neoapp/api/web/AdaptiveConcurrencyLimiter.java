@@ -0,0 +1,130 @@
+package br.com.neoapp.api.web;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limite de requisições simultâneas que se ajusta à latência medida (gradiente com AIMD).
+ * <p>
+ * A latência de cada requisição concluída alimenta duas médias móveis exponenciais: uma curta,
+ * que acompanha a latência atual, e uma longa, que serve de referência para a latência sem
+ * fila. Enquanto a latência atual ficar dentro da tolerância da referência e o limite estiver
+ * sendo usado, ele cresce aditivamente (cerca de {@code sqrt(limite)} por janela de amostras);
+ * quando a latência atual ultrapassa a tolerância, o limite é reduzido na proporção
+ * {@code tolerância × referência / atual}, e uma requisição que falhou por sobrecarga o reduz
+ * multiplicativamente. Assim, o limite converge para a concorrência que o serviço atende sem
+ * formar fila.
+ * <p>
+ * A aquisição é uma única operação atômica sobre o contador de requisições em andamento; o
+ * bloqueio é usado apenas para atualizar as médias e o limite, ao final de cada requisição.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double SHORT_SMOOTHING = 2.0 / (10 + 1);
+    private static final double LONG_SMOOTHING = 2.0 / (600 + 1);
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile double limit;
+    private double shortRtt;
+    private double longRtt;
+
+    /**
+     * Constrói o limitador.
+     *
+     * @param initialLimit O limite inicial de requisições simultâneas.
+     * @param minLimit     O menor limite permitido.
+     * @param maxLimit     O maior limite permitido.
+     * @param tolerance    Quantas vezes a latência atual pode exceder a de referência antes de
+     *                     o limite ser reduzido (e.g., {@code 2.0}).
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double tolerance) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Limites inválidos: mínimo " + minLimit + ", máximo " + maxLimit + ".");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = Math.max(1.0, tolerance);
+        this.limit = Math.min(Math.max(initialLimit, minLimit), maxLimit);
+    }
+
+    /**
+     * Tenta iniciar uma requisição dentro do limite atual.
+     *
+     * @return {@code true} se a requisição pode prosseguir; nesse caso, {@link #release} deve ser
+     * chamado ao final.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Encerra uma requisição e usa a sua latência para ajustar o limite.
+     *
+     * @param rttNanos A latência da requisição, em nanossegundos.
+     * @param dropped  {@code true} se a requisição falhou por sobrecarga (e.g., 503 ou tempo esgotado).
+     */
+    public void release(long rttNanos, boolean dropped) {
+        int inflightBeforeRelease = inflight.getAndDecrement();
+
+        lock.lock();
+        try {
+            double currentLimit = limit;
+            double newLimit;
+            if (dropped) {
+                newLimit = currentLimit * BACKOFF_RATIO;
+            } else {
+                double rtt = Math.max(1, rttNanos);
+                if (longRtt == 0) {
+                    shortRtt = rtt;
+                    longRtt = rtt;
+                } else {
+                    shortRtt += (rtt - shortRtt) * SHORT_SMOOTHING;
+                    longRtt += (rtt - longRtt) * LONG_SMOOTHING;
+                }
+
+                double gradient = Math.min(Math.max(tolerance * longRtt / shortRtt, MIN_GRADIENT), 1.0);
+                boolean saturated = inflightBeforeRelease * 2 >= currentLimit;
+                double queue = saturated && gradient == 1.0 ? Math.sqrt(currentLimit) : 0;
+                newLimit = currentLimit * gradient + queue;
+                newLimit = currentLimit + (newLimit - currentLimit) * SHORT_SMOOTHING;
+            }
+            limit = Math.min(Math.max(newLimit, minLimit), maxLimit);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retorna o limite atual de requisições simultâneas.
+     *
+     * @return o limite atual.
+     */
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * Retorna a quantidade de requisições em andamento.
+     *
+     * @return as requisições adquiridas e ainda não encerradas.
+     */
+    public int getInflight() {
+        return inflight.get();
+    }
+}
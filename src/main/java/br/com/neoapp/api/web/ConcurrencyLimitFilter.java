@@ -0,0 +1,136 @@
+package br.com.neoapp.api.web;
+
+import br.com.neoapp.api.exceptions.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Filtro que limita as requisições simultâneas de cada grupo de endpoints e descarta o excesso.
+ * <p>
+ * Sem um limite, uma sobrecarga apenas enfileira as requisições no Tomcat até que todas excedam
+ * o tempo limite, e as buscas nativas, mais lentas, degradam junto as consultas baratas por ID.
+ * Aqui, cada {@link EndpointGroup} ({@code search}, {@code auth} e {@code default}) tem o seu
+ * próprio {@link AdaptiveConcurrencyLimiter}, ajustado pela latência medida das suas requisições.
+ * Acima do limite, a requisição é recusada imediatamente com {@link ServiceOverloadedException}
+ * (HTTP 503 com {@code Retry-After}), tratada pelo {@code GlobalExceptionHandler}. O filtro é
+ * executado antes da cadeia de segurança, para que o descarte não custe a validação do token.
+ * São exportadas as métricas {@code http.concurrency.limit}, {@code http.concurrency.inflight} e
+ * {@code http.concurrency.rejected}, com a tag {@code group}.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 10)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Set<Integer> OVERLOAD_STATUSES = Set.of(
+            HttpStatus.SERVICE_UNAVAILABLE.value(), HttpStatus.GATEWAY_TIMEOUT.value());
+
+    private final HandlerExceptionResolver exceptionResolver;
+    private final boolean enabled;
+    private final long retryAfterSeconds;
+    private final Map<EndpointGroup, Group> groups = new EnumMap<>(EndpointGroup.class);
+
+    /**
+     * Constrói o filtro com os limites configurados.
+     *
+     * @param exceptionResolver  Resolve a recusa com os manipuladores de exceção dos controllers.
+     * @param meterRegistry      Registro onde são publicadas as métricas.
+     * @param enabled            Se {@code false}, nenhuma requisição é limitada
+     *                           ({@code app.concurrency-limit.enabled}).
+     * @param tolerance          Tolerância da latência antes de reduzir o limite
+     *                           ({@code app.concurrency-limit.tolerance}).
+     * @param retryAfterSeconds  Valor do cabeçalho {@code Retry-After} das recusas
+     *                           ({@code app.concurrency-limit.retry-after-seconds}).
+     * @param searchLimits       Limites inicial, mínimo e máximo do grupo {@code search}
+     *                           ({@code app.concurrency-limit.search}).
+     * @param authLimits         Limites inicial, mínimo e máximo do grupo {@code auth}
+     *                           ({@code app.concurrency-limit.auth}).
+     * @param defaultLimits      Limites inicial, mínimo e máximo do grupo {@code default}
+     *                           ({@code app.concurrency-limit.default}).
+     */
+    public ConcurrencyLimitFilter(@Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.concurrency-limit.enabled:true}") boolean enabled,
+                                  @Value("${app.concurrency-limit.tolerance:2.0}") double tolerance,
+                                  @Value("${app.concurrency-limit.retry-after-seconds:1}") long retryAfterSeconds,
+                                  @Value("${app.concurrency-limit.search:10,2,50}") List<Integer> searchLimits,
+                                  @Value("${app.concurrency-limit.auth:20,4,100}") List<Integer> authLimits,
+                                  @Value("${app.concurrency-limit.default:50,10,400}") List<Integer> defaultLimits) {
+        this.exceptionResolver = exceptionResolver;
+        this.enabled = enabled;
+        this.retryAfterSeconds = retryAfterSeconds;
+        groups.put(EndpointGroup.SEARCH, new Group(EndpointGroup.SEARCH, searchLimits, tolerance, meterRegistry));
+        groups.put(EndpointGroup.AUTH, new Group(EndpointGroup.AUTH, authLimits, tolerance, meterRegistry));
+        groups.put(EndpointGroup.DEFAULT, new Group(EndpointGroup.DEFAULT, defaultLimits, tolerance, meterRegistry));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || EndpointGroup.of(request.getRequestURI()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Group group = groups.get(EndpointGroup.of(request.getRequestURI()));
+        if (!group.limiter.tryAcquire()) {
+            group.rejectedCounter.increment();
+            exceptionResolver.resolveException(request, response, null, new ServiceOverloadedException(
+                    "O serviço está sobrecarregado. Tente novamente em instantes.", retryAfterSeconds));
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            filterChain.doFilter(request, response);
+            dropped = OVERLOAD_STATUSES.contains(response.getStatus());
+        } finally {
+            group.limiter.release(System.nanoTime() - start, dropped);
+        }
+    }
+
+    private static final class Group {
+
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final Counter rejectedCounter;
+
+        private Group(EndpointGroup group, List<Integer> limits, double tolerance, MeterRegistry meterRegistry) {
+            String name = group.tagValue();
+            if (limits.size() != 3) {
+                throw new IllegalArgumentException("Informe os limites inicial, mínimo e máximo do grupo " + name + ".");
+            }
+            this.limiter = new AdaptiveConcurrencyLimiter(limits.get(0), limits.get(1), limits.get(2), tolerance);
+            this.rejectedCounter = Counter.builder("http.concurrency.rejected")
+                    .description("Requisições recusadas pelo limite de concorrência")
+                    .tag("group", name)
+                    .register(meterRegistry);
+            Gauge.builder("http.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .description("Limite atual de requisições simultâneas")
+                    .tag("group", name)
+                    .register(meterRegistry);
+            Gauge.builder("http.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInflight)
+                    .description("Requisições em andamento")
+                    .tag("group", name)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package br.com.neoapp.api.web;
+
+import br.com.neoapp.api.exceptions.DeadlineExceededException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filtro que define o prazo ({@link RequestDeadline}) de cada requisição da API.
+ * <p>
+ * O prazo é o menor entre o informado pelo chamador no cabeçalho {@code X-Request-Deadline} — um
+ * instante ISO-8601 (e.g., {@code 2025-01-01T12:00:00.500Z}) ou em milissegundos desde a época — e
+ * o prazo padrão do grupo do endpoint ({@code app.deadline.*}). Valores inválidos do cabeçalho são
+ * ignorados. Uma requisição que chega com o prazo já esgotado é recusada com
+ * {@link DeadlineExceededException} (HTTP 504) sem ser executada.
+ * <p>
+ * O prazo limita as transações e as consultas ao banco iniciadas durante a requisição (veja
+ * {@code DeadlineAwareJpaTransactionManager}): ao se esgotar, a consulta em andamento é cancelada
+ * pelo driver JDBC e a conexão volta ao pool.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 20)
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    /**
+     * O cabeçalho com o prazo do chamador.
+     */
+    public static final String DEADLINE_HEADER = "X-Request-Deadline";
+
+    private final HandlerExceptionResolver exceptionResolver;
+    private final boolean enabled;
+    private final Map<EndpointGroup, Duration> timeouts = new EnumMap<>(EndpointGroup.class);
+
+    /**
+     * Constrói o filtro com os prazos padrão configurados.
+     *
+     * @param exceptionResolver Resolve a recusa com os manipuladores de exceção dos controllers.
+     * @param enabled           Se {@code false}, as requisições não têm prazo ({@code app.deadline.enabled}).
+     * @param searchTimeout     Prazo padrão das buscas ({@code app.deadline.search}).
+     * @param authTimeout       Prazo padrão da autenticação ({@code app.deadline.auth}).
+     * @param defaultTimeout    Prazo padrão dos demais endpoints ({@code app.deadline.default}).
+     */
+    public DeadlineFilter(@Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver,
+                          @Value("${app.deadline.enabled:true}") boolean enabled,
+                          @Value("${app.deadline.search:10s}") Duration searchTimeout,
+                          @Value("${app.deadline.auth:5s}") Duration authTimeout,
+                          @Value("${app.deadline.default:5s}") Duration defaultTimeout) {
+        this.exceptionResolver = exceptionResolver;
+        this.enabled = enabled;
+        timeouts.put(EndpointGroup.SEARCH, searchTimeout);
+        timeouts.put(EndpointGroup.AUTH, authTimeout);
+        timeouts.put(EndpointGroup.DEFAULT, defaultTimeout);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || EndpointGroup.of(request.getRequestURI()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long timeoutNanos = timeouts.get(EndpointGroup.of(request.getRequestURI())).toNanos();
+        Long requestedNanos = requestedTimeoutNanos(request.getHeader(DEADLINE_HEADER));
+        if (requestedNanos != null) {
+            timeoutNanos = Math.min(timeoutNanos, requestedNanos);
+        }
+
+        if (timeoutNanos <= 0) {
+            exceptionResolver.resolveException(request, response, null,
+                    new DeadlineExceededException("O prazo da requisição já havia se esgotado."));
+            return;
+        }
+
+        RequestDeadline.set(RequestDeadline.after(timeoutNanos));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDeadline.set(null);
+        }
+    }
+
+    private static Long requestedTimeoutNanos(String header) {
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+
+        Instant deadline;
+        try {
+            String value = header.trim();
+            deadline = value.chars().allMatch(Character::isDigit)
+                    ? Instant.ofEpochMilli(Long.parseLong(value))
+                    : Instant.parse(value);
+        } catch (DateTimeParseException | NumberFormatException | ArithmeticException e) {
+            return null;
+        }
+        return TimeUnit.MILLISECONDS.toNanos(deadline.toEpochMilli() - System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.neoapp.api.web;
+
+import java.util.Set;
+
+/**
+ * Grupos de endpoints da API com perfis de custo distintos, usados pelos limites de
+ * concorrência e pelos prazos padrão das requisições.
+ */
+public enum EndpointGroup {
+
+    /**
+     * As buscas por atributos, por texto, por sugestão e por aniversário.
+     */
+    SEARCH,
+
+    /**
+     * Os endpoints de autenticação.
+     */
+    AUTH,
+
+    /**
+     * Os demais endpoints da API.
+     */
+    DEFAULT;
+
+    private static final String API_PREFIX = "/api/";
+    private static final String AUTH_PREFIX = "/api/v1/auth/";
+    private static final String CLIENTS_PREFIX = "/api/v1/clients/";
+    private static final Set<String> SEARCH_PATHS = Set.of(
+            "attributes", "one-client-attributes", "search", "suggest", "birthdays");
+
+    /**
+     * Identifica o grupo de um caminho de requisição.
+     *
+     * @param uri O caminho da requisição.
+     * @return o grupo do endpoint, ou {@code null} se o caminho não pertencer à API.
+     */
+    public static EndpointGroup of(String uri) {
+        if (!uri.startsWith(API_PREFIX)) {
+            return null;
+        }
+        if (uri.startsWith(AUTH_PREFIX)) {
+            return AUTH;
+        }
+        if (uri.startsWith(CLIENTS_PREFIX) && SEARCH_PATHS.contains(uri.substring(CLIENTS_PREFIX.length()))) {
+            return SEARCH;
+        }
+        return DEFAULT;
+    }
+
+    /**
+     * Retorna o nome do grupo usado nas métricas.
+     *
+     * @return o nome em letras minúsculas.
+     */
+    public String tagValue() {
+        return name().toLowerCase();
+    }
+}
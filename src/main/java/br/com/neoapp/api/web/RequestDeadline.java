@@ -0,0 +1,82 @@
+package br.com.neoapp.api.web;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Prazo da requisição corrente, mantido na thread que a atende.
+ * <p>
+ * Definido pelo {@link DeadlineFilter} a partir do cabeçalho {@code X-Request-Deadline} ou do
+ * prazo padrão do grupo de endpoints, e consultado pelo gerenciador de transações para limitar
+ * o tempo das transações e das consultas ao banco. Tarefas executadas em outras threads em nome
+ * da mesma requisição devem propagá-lo com {@link #supply}.
+ *
+ * @param deadlineNanos O instante do prazo, na escala de {@link System#nanoTime()}.
+ */
+public record RequestDeadline(long deadlineNanos) {
+
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Cria um prazo a partir do tempo restante.
+     *
+     * @param timeoutNanos O tempo restante, em nanossegundos.
+     * @return o prazo.
+     */
+    public static RequestDeadline after(long timeoutNanos) {
+        return new RequestDeadline(System.nanoTime() + timeoutNanos);
+    }
+
+    /**
+     * Retorna o prazo da requisição corrente.
+     *
+     * @return o prazo, ou {@code null} se a execução não tiver prazo.
+     */
+    public static RequestDeadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Executa a operação com o prazo informado, restaurando o anterior ao final.
+     *
+     * @param deadline  O prazo; {@code null} executa sem prazo.
+     * @param operation A operação a ser executada.
+     * @param <T>       O tipo do resultado.
+     * @return o resultado da operação.
+     */
+    public static <T> T supply(RequestDeadline deadline, Supplier<T> operation) {
+        RequestDeadline previous = CURRENT.get();
+        set(deadline);
+        try {
+            return operation.get();
+        } finally {
+            set(previous);
+        }
+    }
+
+    static void set(RequestDeadline deadline) {
+        if (deadline == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(deadline);
+        }
+    }
+
+    /**
+     * Retorna o tempo restante até o prazo.
+     *
+     * @return o tempo restante em milissegundos; zero ou negativo se o prazo já passou.
+     */
+    public long remainingMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+    }
+
+    /**
+     * Indica se o prazo já passou.
+     *
+     * @return {@code true} se não há mais tempo restante.
+     */
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+}
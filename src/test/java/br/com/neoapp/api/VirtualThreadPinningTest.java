@@ -0,0 +1,44 @@
+package br.com.neoapp.api;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Garante que o código da aplicação não usa {@code synchronized}. No Java 21, uma thread
+ * virtual que bloqueia (e.g., em JDBC) dentro de um bloco {@code synchronized} fica presa à
+ * thread portadora (pinning); os bloqueios devem usar {@code java.util.concurrent.locks}.
+ */
+@DisplayName("Testes de Compatibilidade com Threads Virtuais")
+public class VirtualThreadPinningTest {
+
+    private static final Pattern SYNCHRONIZED = Pattern.compile("\\bsynchronized\\b");
+
+    @Test
+    @DisplayName("Não deve haver métodos ou blocos synchronized no código da aplicação")
+    void mainSources_ShouldNotUseSynchronized() throws IOException {
+        List<String> violations = new ArrayList<>();
+        try (Stream<Path> sources = Files.walk(Path.of("src/main/java"))) {
+            for (Path source : sources.filter(path -> path.toString().endsWith(".java")).toList()) {
+                List<String> lines = Files.readAllLines(source);
+                for (int i = 0; i < lines.size(); i++) {
+                    String line = lines.get(i).trim();
+                    if (!line.startsWith("*") && !line.startsWith("/") && SYNCHRONIZED.matcher(line).find()) {
+                        violations.add(source + ":" + (i + 1));
+                    }
+                }
+            }
+        }
+
+        assertThat(violations).isEmpty();
+    }
+}
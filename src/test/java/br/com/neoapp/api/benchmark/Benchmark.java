@@ -0,0 +1,24 @@
+package br.com.neoapp.api.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca uma classe ou um método de teste como benchmark.
+ * <p>
+ * Os benchmarks só são executados com {@code -Dbenchmark=true} e recebem a tag
+ * {@code benchmark}, de modo que todos podem ser executados de uma vez com
+ * {@code mvn test -Dbenchmark=true -Dgroups=benchmark}. As medições são feitas com o
+ * {@link BenchmarkRunner}.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public @interface Benchmark {
+}
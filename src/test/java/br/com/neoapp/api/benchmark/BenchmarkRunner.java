@@ -0,0 +1,101 @@
+package br.com.neoapp.api.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Utilitário comum aos testes marcados com {@link Benchmark}: aquecimento, medição, tamanho da
+ * carga ({@code -Dbenchmark.rows}) e formato do relatório impresso.
+ * <p>
+ * O resultado de cada execução é guardado em um campo, para que o JIT não descarte como código
+ * morto uma operação sem efeitos colaterais.
+ */
+public final class BenchmarkRunner {
+
+    private static final String ROWS_PROPERTY = "benchmark.rows";
+
+    private static Object sink;
+
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Uma operação medida pelo {@link BenchmarkRunner}.
+     */
+    @FunctionalInterface
+    public interface Operation {
+
+        /**
+         * Executa a operação uma vez.
+         *
+         * @param iteration O índice da execução, a partir de {@code 0} em cada fase.
+         * @return o resultado da operação, ou {@code null}.
+         * @throws Exception se a operação falhar.
+         */
+        Object run(int iteration) throws Exception;
+    }
+
+    /**
+     * Retorna a quantidade de linhas ou de elementos da carga, definida por
+     * {@code -Dbenchmark.rows}.
+     *
+     * @param defaultRows A quantidade usada quando a propriedade não é informada.
+     * @return a quantidade de linhas da carga.
+     */
+    public static int rows(int defaultRows) {
+        return Integer.getInteger(ROWS_PROPERTY, defaultRows);
+    }
+
+    /**
+     * Executa a operação {@code warmup} vezes sem medir e, em seguida, {@code iterations} vezes
+     * medindo o tempo total.
+     *
+     * @param warmup     A quantidade de execuções de aquecimento.
+     * @param iterations A quantidade de execuções medidas.
+     * @param operation  A operação medida.
+     * @return o tempo total, em nanossegundos, das execuções medidas.
+     * @throws Exception se a operação falhar.
+     */
+    public static long time(int warmup, int iterations, Operation operation) throws Exception {
+        for (int i = 0; i < warmup; i++) {
+            sink = operation.run(i);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink = operation.run(i);
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Calcula a vazão de uma medição.
+     *
+     * @param operations A quantidade de operações realizadas.
+     * @param nanos      O tempo total, em nanossegundos.
+     * @return a quantidade de operações por segundo.
+     */
+    public static double perSecond(long operations, long nanos) {
+        return operations / (nanos / 1e9);
+    }
+
+    /**
+     * Calcula o tempo médio por operação de uma medição.
+     *
+     * @param nanos      O tempo total, em nanossegundos.
+     * @param iterations A quantidade de execuções medidas.
+     * @param unit       A unidade do resultado.
+     * @return o tempo médio por operação, na unidade informada.
+     */
+    public static double average(long nanos, int iterations, TimeUnit unit) {
+        return (double) nanos / unit.toNanos(1) / iterations;
+    }
+
+    /**
+     * Imprime uma linha do relatório do benchmark.
+     *
+     * @param format O formato da linha, como em {@link String#format}, sem a quebra de linha.
+     * @param args   Os valores do formato.
+     */
+    public static void report(String format, Object... args) {
+        System.out.println("[benchmark] " + format.formatted(args));
+    }
+}
@@ -0,0 +1,137 @@
+package br.com.neoapp.api.bulkhead;
+
+import br.com.neoapp.api.exceptions.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes Unitários para o Interceptador das Cotas (BulkheadInterceptor)")
+public class BulkheadInterceptorTest {
+
+    private final BulkheadRegistry registry = new BulkheadRegistry(
+            new SimpleMeterRegistry(), true, Duration.ofMillis(10), 1, 10, 1, 10);
+
+    @Test
+    @DisplayName("Deve definir a classe de carga durante a execução e removê-la ao final")
+    void invoke_ShouldExposeWorkloadDuringExecution() {
+        Workloads workloads = proxy(new Workloads());
+
+        assertThat(workloads.search()).isEqualTo(Workload.SEARCH);
+        assertThat(workloads.crud()).isEqualTo(Workload.CRUD);
+        assertThat(WorkloadContext.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("Não deve ocupar uma segunda vaga em chamadas aninhadas")
+    void invoke_Nested_ShouldNotAcquireTwice() {
+        Workloads target = new Workloads();
+        Workloads workloads = proxy(target);
+        target.self = workloads;
+
+        assertThat(workloads.searchCallingSearch()).isEqualTo(Workload.SEARCH);
+    }
+
+    @Test
+    @DisplayName("Deve recusar a chamada quando a cota da classe de carga estiver ocupada")
+    void invoke_WhenCompartmentFull_ShouldReject() throws Exception {
+        Workloads target = new Workloads();
+        Workloads workloads = proxy(target);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Workload> blocked = executor.submit(workloads::blockingSearch);
+            target.entered.await();
+
+            assertThatThrownBy(workloads::search).isInstanceOf(ServiceOverloadedException.class);
+            assertThat(workloads.crud()).isEqualTo(Workload.CRUD);
+
+            target.release.countDown();
+            assertThat(blocked.get()).isEqualTo(Workload.SEARCH);
+            assertThat(workloads.search()).isEqualTo(Workload.SEARCH);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve obter as conexões das buscas do pool próprio")
+    void routingDataSource_ShouldRouteSearchToSearchPool() throws Exception {
+        DataSource defaultPool = dataSource();
+        DataSource searchPool = dataSource();
+        WorkloadRoutingDataSource routing = new WorkloadRoutingDataSource(defaultPool, searchPool);
+
+        Connection searchConnection = WorkloadContext.supply(Workload.SEARCH, () -> connection(routing));
+        Connection crudConnection = WorkloadContext.supply(Workload.CRUD, () -> connection(routing));
+
+        assertThat(searchConnection).isSameAs(searchPool.getConnection());
+        assertThat(crudConnection).isSameAs(defaultPool.getConnection());
+        assertThat(routing.getConnection()).isSameAs(defaultPool.getConnection());
+    }
+
+    private Workloads proxy(Workloads target) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("bulkheadRegistry", registry);
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvisor(BulkheadConfig.bulkheadAdvisor(beanFactory.getBeanProvider(BulkheadRegistry.class)));
+        return (Workloads) proxyFactory.getProxy();
+    }
+
+    private static DataSource dataSource() throws Exception {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+
+    private static Connection connection(DataSource dataSource) {
+        try {
+            return dataSource.getConnection();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static class Workloads {
+
+        Workloads self;
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Bulkhead(Workload.SEARCH)
+        public Workload search() {
+            return WorkloadContext.current();
+        }
+
+        @Bulkhead(Workload.CRUD)
+        public Workload crud() {
+            return WorkloadContext.current();
+        }
+
+        @Bulkhead(Workload.SEARCH)
+        public Workload searchCallingSearch() {
+            return self.search();
+        }
+
+        @Bulkhead(Workload.SEARCH)
+        public Workload blockingSearch() throws InterruptedException {
+            entered.countDown();
+            release.await();
+            return WorkloadContext.current();
+        }
+    }
+}
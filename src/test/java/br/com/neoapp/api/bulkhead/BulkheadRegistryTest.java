@@ -0,0 +1,59 @@
+package br.com.neoapp.api.bulkhead;
+
+import br.com.neoapp.api.exceptions.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Testes Unitários para as Cotas por Classe de Carga (BulkheadRegistry)")
+public class BulkheadRegistryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Deve recusar com ServiceOverloadedException quando a cota da classe de carga estiver esgotada")
+    void acquire_WhenExhausted_ShouldThrowServiceOverloaded() {
+        BulkheadRegistry registry = registry(true);
+
+        assertThat(registry.acquire(Workload.SEARCH)).isTrue();
+        assertThatThrownBy(() -> registry.acquire(Workload.SEARCH))
+                .isInstanceOf(ServiceOverloadedException.class)
+                .extracting("retryAfterSeconds").isEqualTo(2L);
+        assertThat(meterRegistry.get("bulkhead.rejected").tag("workload", "search").counter().count()).isEqualTo(1);
+
+        registry.release(Workload.SEARCH);
+        assertThat(registry.acquire(Workload.SEARCH)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve isolar as cotas: uma busca esgotada não afeta as operações por ID")
+    void acquire_OtherWorkload_ShouldNotBeAffected() {
+        BulkheadRegistry registry = registry(true);
+
+        registry.acquire(Workload.SEARCH);
+
+        assertThat(registry.acquire(Workload.CRUD)).isTrue();
+        assertThat(registry.acquire(Workload.CRUD)).isTrue();
+        assertThat(meterRegistry.get("bulkhead.available").tag("workload", "crud").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("bulkhead.available").tag("workload", "search").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Não deve limitar quando as cotas estiverem desabilitadas")
+    void acquire_WhenDisabled_ShouldNotLimit() {
+        BulkheadRegistry registry = registry(false);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(registry.acquire(Workload.SEARCH)).isFalse();
+        }
+    }
+
+    private BulkheadRegistry registry(boolean enabled) {
+        return new BulkheadRegistry(meterRegistry, enabled, Duration.ofMillis(10), 2, 2, 1, 3);
+    }
+}
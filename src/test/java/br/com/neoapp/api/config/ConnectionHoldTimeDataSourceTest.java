@@ -0,0 +1,67 @@
+package br.com.neoapp.api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.sql.Connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes Unitários para a Medição do Tempo de Uso das Conexões (ConnectionHoldTimeDataSource)")
+public class ConnectionHoldTimeDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConnectionHoldTimeDataSource dataSource = new ConnectionHoldTimeDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:hold-time;DB_CLOSE_DELAY=-1"), provider(meterRegistry));
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Deve registrar o tempo de uso da conexão com o endpoint da requisição")
+    void close_WithinRequest_ShouldRecordEndpoint() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/clients/42");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/clients/{id}");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement().execute("SELECT 1");
+        }
+
+        Timer timer = meterRegistry.find("db.connection.hold").tags("method", "GET", "uri", "/api/v1/clients/{id}").timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve registrar uma única vez as conexões fechadas mais de uma vez, fora de requisições")
+    void close_Twice_OutsideRequest_ShouldRecordOnce() throws Exception {
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        Timer timer = meterRegistry.find("db.connection.hold").tags("method", "none", "uri", "none").timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(connection.isClosed()).isTrue();
+    }
+
+    private static ObjectProvider<MeterRegistry> provider(MeterRegistry meterRegistry) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        return beanFactory.getBeanProvider(MeterRegistry.class);
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.neoapp.api.config;
+
+import br.com.neoapp.api.web.RequestDeadline;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Testes Unitários para o Gerenciador de Transações com Prazo (DeadlineAwareJpaTransactionManager)")
+public class DeadlineAwareJpaTransactionManagerTest {
+
+    private final DeadlineAwareJpaTransactionManager transactionManager = new DeadlineAwareJpaTransactionManager();
+
+    @Test
+    @DisplayName("Deve manter o tempo limite da transação quando não houver prazo")
+    void determineTimeout_WithoutDeadline_ShouldKeepDefinitionTimeout() {
+        assertThat(transactionManager.determineTimeout(new DefaultTransactionDefinition()))
+                .isEqualTo(TransactionDefinition.TIMEOUT_DEFAULT);
+    }
+
+    @Test
+    @DisplayName("Deve limitar a transação ao tempo restante do prazo, arredondado para cima")
+    void determineTimeout_WithDeadline_ShouldUseRemainingSeconds() {
+        RequestDeadline deadline = RequestDeadline.after(TimeUnit.MILLISECONDS.toNanos(2_500));
+
+        int timeout = RequestDeadline.supply(deadline,
+                () -> transactionManager.determineTimeout(new DefaultTransactionDefinition()));
+
+        assertThat(timeout).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve manter o tempo limite da transação quando for menor que o prazo")
+    void determineTimeout_WithShorterDefinitionTimeout_ShouldKeepIt() {
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+        definition.setTimeout(1);
+        RequestDeadline deadline = RequestDeadline.after(TimeUnit.SECONDS.toNanos(30));
+
+        assertThat(RequestDeadline.supply(deadline, () -> transactionManager.determineTimeout(definition))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve recusar a transação quando o prazo já tiver se esgotado")
+    void determineTimeout_WithExpiredDeadline_ShouldThrow() {
+        RequestDeadline deadline = RequestDeadline.after(-1);
+
+        assertThatThrownBy(() -> RequestDeadline.supply(deadline,
+                () -> transactionManager.determineTimeout(new DefaultTransactionDefinition())))
+                .isInstanceOf(TransactionTimedOutException.class);
+    }
+}
@@ -2,9 +2,12 @@ package br.com.neoapp.api.controller;
 
 import br.com.neoapp.api.controller.dto.ClientRequestDTO;
 import br.com.neoapp.api.controller.dto.LoginRequest;
+import br.com.neoapp.api.controller.dto.RefreshTokenRequest;
 import br.com.neoapp.api.model.Client;
 import br.com.neoapp.api.repository.ClientRepository;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,17 +15,23 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.Instant;
 import java.time.LocalDate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.matchesRegex;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -45,6 +54,12 @@ public class AuthControllerTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private ClientRequestDTO validRequestDTO;
     private ClientRequestDTO invalidRequestDTO;
     private ClientRequestDTO emailInvalidRequestDTO;
@@ -114,6 +129,203 @@ public class AuthControllerTest {
     }
 
 
+    @Test
+    @DisplayName("Deve renovar os tokens com um refresh token válido sem reenviar a senha")
+    void refresh_WithValidToken_ShouldReturnNewTokens() throws Exception {
+        String refreshToken = loginAndGetRefreshToken();
+
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accessToken").exists())
+                .andExpect(jsonPath("$.refreshToken").exists())
+                .andExpect(jsonPath("$.refreshToken", not(refreshToken)));
+    }
+
+    @Test
+    @DisplayName("Deve recusar um refresh token reutilizado e revogar os demais tokens do cliente")
+    void refresh_WithReusedToken_ShouldReturn401AndRevokeFamily() throws Exception {
+        String refreshToken = loginAndGetRefreshToken();
+
+        String rotated = objectMapper.readTree(mockMvc.perform(post("/api/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("refreshToken").asText();
+        jdbcTemplate.update("UPDATE refresh_token_table SET rotated_at = ? WHERE rotated_at IS NOT NULL",
+                Timestamp.from(Instant.now().minusSeconds(60)));
+
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.error").value("INVALID_REFRESH_TOKEN"));
+
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(rotated))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Deve recusar sem revogar os demais tokens o refresh token rotacionado há pouco por uma renovação concorrente")
+    void refresh_WithTokenRotatedWithinGrace_ShouldReturn401AndKeepFamily() throws Exception {
+        String refreshToken = loginAndGetRefreshToken();
+
+        String rotated = objectMapper.readTree(mockMvc.perform(post("/api/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("refreshToken").asText();
+
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.error").value("INVALID_REFRESH_TOKEN"));
+
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(rotated))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Deve recusar um refresh token expirado sem revogar os demais tokens do cliente, mesmo se reapresentado")
+    void refresh_WithExpiredTokenReplayed_ShouldReturn401AndKeepFamily() throws Exception {
+        String expired = loginAndGetRefreshToken();
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE refresh_token_table SET expires_at = ?",
+                Timestamp.from(Instant.now().minusSeconds(60)));
+        entityManager.clear();
+        String active = loginAndGetRefreshToken();
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(post("/api/v1/auth/refresh")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new RefreshTokenRequest(expired))))
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(jsonPath("$.error").value("INVALID_REFRESH_TOKEN"));
+            jdbcTemplate.update("UPDATE refresh_token_table SET rotated_at = ? WHERE rotated_at IS NOT NULL",
+                    Timestamp.from(Instant.now().minusSeconds(60)));
+        }
+
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(active))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Deve recusar um refresh token revogado")
+    void refresh_AfterRevoke_ShouldReturn401() throws Exception {
+        String refreshToken = loginAndGetRefreshToken();
+
+        mockMvc.perform(post("/api/v1/auth/revoke")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Deve recusar o token de acesso e o refresh token após o logout")
+    void logout_ShouldRevokeAccessAndRefreshTokens() throws Exception {
+        JsonNode tokens = login();
+        String accessToken = tokens.get("accessToken").asText();
+        String refreshToken = tokens.get("refreshToken").asText();
+
+        mockMvc.perform(get("/api/v1/clients/me")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/v1/auth/logout")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/clients/me")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Deve exigir autenticação para o logout")
+    void logout_WithoutToken_ShouldReturn401() throws Exception {
+        mockMvc.perform(post("/api/v1/auth/logout"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Deve recusar com status 429 as tentativas de login além do limite por e-mail")
+    void login_BeyondThrottleLimit_ShouldReturn429() throws Exception {
+        String request = objectMapper.writeValueAsString(new LoginRequest("forca.bruta@test.com", "senha-errada"));
+
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(post("/api/v1/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(request))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.error").value("TOO_MANY_LOGIN_ATTEMPTS"));
+    }
+
+    @Test
+    @DisplayName("Deve manter o login da vítima a partir de outro IP após falhas de um atacante")
+    void login_AfterFailuresFromAnotherIp_ShouldNotLockOutVictim() throws Exception {
+        Client victim = new Client();
+        victim.setName("Usuário Vítima");
+        victim.setEmail("vitima@test.com");
+        victim.setPassword(passwordEncoder.encode("senha@123"));
+        victim.setCpf("52998224725");
+        victim.setBirthday(LocalDate.of(2000, 1, 1));
+        clientRepository.save(victim);
+        String wrongPassword = objectMapper.writeValueAsString(new LoginRequest("vitima@test.com", "senha-errada"));
+        String rightPassword = objectMapper.writeValueAsString(new LoginRequest("vitima@test.com", "senha@123"));
+
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(post("/api/v1/auth/login")
+                            .with(request -> {
+                                request.setRemoteAddr("203.0.113.7");
+                                return request;
+                            })
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(wrongPassword))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        mockMvc.perform(post("/api/v1/auth/login")
+                        .with(request -> {
+                            request.setRemoteAddr("203.0.113.7");
+                            return request;
+                        })
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(rightPassword))
+                .andExpect(status().isTooManyRequests());
+
+        mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(rightPassword))
+                .andExpect(status().isOk());
+    }
+
     @Test
     @DisplayName("Deve retornar status 401 para usuário inexistente")
     void login_WithNonExistentUser_ShouldReturnStatus401() throws Exception {
@@ -290,4 +502,17 @@ public class AuthControllerTest {
                 .andExpect(jsonPath("$.errors[0].fieldName").value("password"))
                 .andExpect(jsonPath("$.errors[0].message").value("A senha deve ter no mínimo 8 caracteres."));
     }
-}
\ No newline at end of file
+
+    private String loginAndGetRefreshToken() throws Exception {
+        return login().get("refreshToken").asText();
+    }
+
+    private JsonNode login() throws Exception {
+        String response = mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("user@test.com", "senha@123"))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response);
+    }
+}
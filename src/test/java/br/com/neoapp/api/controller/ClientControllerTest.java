@@ -6,6 +6,7 @@ import br.com.neoapp.api.enums.RoleName;
 import br.com.neoapp.api.model.Client;
 import br.com.neoapp.api.model.Role;
 import br.com.neoapp.api.repository.ClientRepository;
+import br.com.neoapp.api.repository.RoleRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,6 +20,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -47,6 +49,9 @@ public class ClientControllerTest {
     @Autowired
     private ClientRepository clientRepository;
 
+    @Autowired
+    private RoleRepository roleRepository;
+
     private ClientRequestDTO validRequestDTO;
     private ClientRequestDTO invalidRequestDTO;
     private ClientRequestDTO emailInvalidRequestDTO;
@@ -151,7 +156,7 @@ public class ClientControllerTest {
     @Test
     @DisplayName("Deve retornar uma lista de clientes ordenada por nome em ordem descendente")
     void getAllClientsPageable_WithSortParam_ShouldReturnSortedPage() throws Exception {
-        Role role = new Role(null, RoleName.USER);
+        Role role = userRole();
         List<Role> roles = List.of(role);
 
         clientRepository.save(new Client(null, "Bruno", LocalDate.now().minusYears(30), "bruno@email.com", "senha@123", null, gerarCpf(), null, null, roles));
@@ -179,7 +184,7 @@ public class ClientControllerTest {
     @Test
     @DisplayName("Deve retornar um cliente e status 200 quando o ID existir")
     void getClientById_WhenIdExists_ShouldReturnClientAndStatus200() throws Exception {
-        Role role = new Role(null, RoleName.USER);
+        Role role = userRole();
         List<Role> roles = List.of(role);
         Client savedClient = clientRepository.save(new Client(null, "Bruno", LocalDate.now().minusYears(30), "bruno@email.com", "senha@123", null, gerarCpf(), null, null, roles));
         String existingId = savedClient.getId();
@@ -214,7 +219,7 @@ public class ClientControllerTest {
     @DisplayName("Deve atualizar um cliente com sucesso e retornar status 200")
     void updateClientById_WithValidDataAndExistingId_ShouldReturn200() throws Exception {
         String cpf = gerarCpf();
-        Role role = new Role(null, RoleName.USER);
+        Role role = userRole();
         List<Role> roles = new ArrayList<>();
         roles.add(role);
         Client existingClient = clientRepository.save(new Client(
@@ -279,7 +284,7 @@ public class ClientControllerTest {
     @DisplayName("Deve retornar status 422 ao tentar atualizar com dados inválidos")
     void updateClientById_WithInvalidData_ShouldReturn422() throws Exception {
         String cpf = gerarCpf();
-        Role role = new Role(null, RoleName.USER);
+        Role role = userRole();
         List<Role> roles = List.of(role);
         Client existingClient = clientRepository.save(new Client(
                 null,
@@ -317,7 +322,7 @@ public class ClientControllerTest {
     @Test
     @DisplayName("Deve excluir um cliente com sucesso e retornar status 204")
     void deleteClientById_WhenIdExists_ShouldReturn204() throws Exception {
-        Role role = new Role(null, RoleName.USER);
+        Role role = userRole();
         List<Role> roles = List.of(role);
         Client clientToDelete = clientRepository.save(new Client(
                 null,
@@ -353,7 +358,7 @@ public class ClientControllerTest {
     @Test
     @DisplayName("Deve retornar todos os clientes (paginado) quando nenhum filtro for aplicado")
     void searchByAttributes_WithNoFilters_ShouldReturnAllClients() throws Exception {
-        Role role = new Role(null, RoleName.USER);
+        Role role = userRole();
         List<Role> roles = List.of(role);
         Client ana = new Client(null, "Ana Silva", LocalDate.of(1990, 5, 15), "ana.silva@email.com", "senha@123", "89994352312", gerarCpf(), null, null, roles);
         Client bruno = new Client(null, "Bruno Souza", LocalDate.of(1995, 10, 20), "bruno.souza@email.com", "senha@123", "89994352312", gerarCpf(), null, null, roles);
@@ -369,7 +374,7 @@ public class ClientControllerTest {
     @Test
     @DisplayName("Deve retornar clientes filtrando por parte do nome")
     void searchByAttributes_ByNameLike_ShouldReturnMatchingClients() throws Exception {
-        Role role = new Role(null, RoleName.USER);
+        Role role = userRole();
         List<Role> roles = List.of(role);
         Client ana = new Client(null, "Ana Silva", LocalDate.of(1990, 5, 15), "ana.silva@email.com", "senha@123", "89994352312", gerarCpf(), null, null, roles);
         Client bruno = new Client(null, "Bruno Souza", LocalDate.of(1995, 10, 20), "bruno.souza@email.com", "senha@123", "89994352312", gerarCpf(), null, null, roles);
@@ -387,7 +392,7 @@ public class ClientControllerTest {
     @DisplayName("Deve retornar um cliente ao filtrar por CPF exato")
     void searchByAttributes_ByExactCpf_ShouldReturnOneClient() throws Exception {
         String cpf = gerarCpf();
-        Role role = new Role(null, RoleName.USER);
+        Role role = userRole();
         List<Role> roles = List.of(role);
         Client bruno = new Client(null, "Bruno Souza", LocalDate.of(1995, 10, 20), "bruno.souza@email.com", "senha@123", "89994352312", cpf, null, null, roles);
         clientRepository.save(bruno);
@@ -403,7 +408,7 @@ public class ClientControllerTest {
     @Test
     @DisplayName("Deve retornar clientes dentro de um intervalo de datas de nascimento")
     void searchByAttributes_ByBirthdayRange_ShouldReturnMatchingClients() throws Exception {
-        Role role = new Role(null, RoleName.USER);
+        Role role = userRole();
         List<Role> roles = List.of(role);
         Client ana = new Client(null, "Ana Silva", LocalDate.of(1990, 5, 15), "ana.silva@email.com", "senha@123", "89994352312", gerarCpf(), null, null, roles);
         Client bruno = new Client(null, "Bruno Souza", LocalDate.of(1995, 10, 20), "bruno.souza@email.com", "senha@123", "89994352312", gerarCpf(), null, null, roles);
@@ -433,7 +438,11 @@ public class ClientControllerTest {
 
 
 
-    static String gerarCpf() {
+    private Role userRole() {
+        return roleRepository.findByName(RoleName.USER).orElseThrow();
+    }
+
+    public static String gerarCpf() {
         Random r = new Random();
         int[] d = new int[11];
 
@@ -475,6 +484,24 @@ public class ClientControllerTest {
                 .andExpect(jsonPath("$.name", is("Usuário Logado")));
     }
 
+    @Test
+    @DisplayName("USER | Não deve expor os dados de login ao buscar os próprios dados")
+    void getClientById_AsClientOwner_ShouldOmitLoginActivity() throws Exception {
+        Client clienteLogado = clientRepository.save(new Client(null, "Usuário Logado", LocalDate.now().minusYears(25), "logado@email.com", "senha@123", null, gerarCpf(), null, null, null));
+        String idDoUsuarioLogado = clienteLogado.getId();
+
+        mockMvc.perform(get("/api/v1/clients/{id}", idDoUsuarioLogado)
+                        .with(jwt().jwt(j -> j.subject(idDoUsuarioLogado))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.loginCount").doesNotExist())
+                .andExpect(jsonPath("$.lastLoginAt").doesNotExist());
+
+        mockMvc.perform(get("/api/v1/clients/{id}", idDoUsuarioLogado)
+                        .with(jwt().authorities(new SimpleGrantedAuthority("SCOPE_ADMIN"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.loginCount", is(0)));
+    }
+
     @Test
     @DisplayName("USER | Deve retornar 403 Forbidden ao buscar dados de outro cliente")
     void getClientById_AsOtherUser_ShouldReturn403() throws Exception {
@@ -550,4 +577,35 @@ public class ClientControllerTest {
 
         assertThat(clientRepository.existsById(outroCliente.getId())).isTrue();
     }
+
+    @Test
+    @DisplayName("USER | Deve retornar 200 OK com os próprios dados em /me")
+    void getCurrentClient_AsAuthenticatedUser_ShouldReturnOwnData() throws Exception {
+        Client clienteLogado = clientRepository.save(new Client(null, "Usuário Logado", LocalDate.now().minusYears(25), "logado@email.com", "senha@123", null, gerarCpf(), null, null, null));
+        String idDoUsuarioLogado = clienteLogado.getId();
+
+        mockMvc.perform(get("/api/v1/clients/me")
+                        .with(jwt().jwt(j -> j.subject(idDoUsuarioLogado))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(idDoUsuarioLogado)))
+                .andExpect(jsonPath("$.email", is("logado@email.com")));
+    }
+
+    @Test
+    @DisplayName("USER | Deve retornar 404 Not Found em /me quando o cliente do token não existir")
+    void getCurrentClient_WhenClientNoLongerExists_ShouldReturn404() throws Exception {
+        mockMvc.perform(get("/api/v1/clients/me")
+                        .with(jwt().jwt(j -> j.subject(UUID.randomUUID().toString()))))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 504 Gateway Timeout quando a requisição chegar com o prazo esgotado")
+    void getAllClients_WithExpiredDeadline_ShouldReturn504() throws Exception {
+        mockMvc.perform(get("/api/v1/clients/attributes")
+                        .with(jwt().authorities(new SimpleGrantedAuthority("SCOPE_ADMIN")))
+                        .header("X-Request-Deadline", Instant.now().minusSeconds(1).toString()))
+                .andExpect(status().isGatewayTimeout())
+                .andExpect(jsonPath("$.error", is("DEADLINE_EXCEEDED")));
+    }
 }
@@ -0,0 +1,95 @@
+package br.com.neoapp.api.controller;
+
+import br.com.neoapp.api.controller.dto.ClientResponseDTO;
+import br.com.neoapp.api.controller.dto.ClientUpdateDTO;
+import br.com.neoapp.api.events.ClientSavedEvent;
+import br.com.neoapp.api.model.Client;
+import br.com.neoapp.api.repository.ClientRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Atualização de clientes sem uma transação envolvendo o teste, como em produção: sem
+ * open-session-in-view, o cliente buscado pelo serviço já está desanexado quando é gravado.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@RecordApplicationEvents
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração para a Atualização de Cliente sem Transação no Teste")
+public class ClientUpdateWithoutTransactionTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    private String clientId;
+
+    @AfterEach
+    void tearDown() {
+        if (clientId != null) {
+            clientRepository.deleteById(clientId);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve responder e publicar o evento com a data de atualização gravada no banco")
+    void updateClientById_WithDetachedClient_ShouldReturnAndPublishPersistedUpdateAt() throws Exception {
+        String cpf = ClientControllerTest.gerarCpf();
+        Client existing = clientRepository.save(new Client(null, "Nome Antigo", LocalDate.of(1990, 1, 1),
+                "sem.transacao@email.com", "senha@123", "89994574321", cpf, null, null, null));
+        clientId = existing.getId();
+        OffsetDateTime previousUpdateAt = clientRepository.findById(clientId).orElseThrow().getUpdateAt();
+        Thread.sleep(10);
+
+        var updateDTO = new ClientUpdateDTO("Nome Novo", LocalDate.of(1990, 1, 1),
+                "sem.transacao.novo@email.com", "nova_senha_123", "89994572322", cpf);
+
+        String body = mockMvc.perform(put("/api/v1/clients/{id}", clientId)
+                        .with(jwt().authorities(new SimpleGrantedAuthority("SCOPE_ADMIN")))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDTO)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        ClientResponseDTO response = objectMapper.readValue(body, ClientResponseDTO.class);
+
+        OffsetDateTime persistedUpdateAt = clientRepository.findById(clientId).orElseThrow().getUpdateAt();
+        assertThat(persistedUpdateAt).isAfter(previousUpdateAt);
+        assertThat(response.updateAt()).isCloseTo(persistedUpdateAt, within(1, ChronoUnit.MILLIS));
+
+        ClientSavedEvent event = events.stream(ClientSavedEvent.class)
+                .filter(saved -> clientId.equals(saved.client().getId()))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+        assertThat(event.client().getUpdateAt()).isCloseTo(persistedUpdateAt, within(1, ChronoUnit.MILLIS));
+    }
+}
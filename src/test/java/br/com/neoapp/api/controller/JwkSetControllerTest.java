@@ -0,0 +1,38 @@
+package br.com.neoapp.api.controller;
+
+import br.com.neoapp.api.security.JwtKeyRing;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração para a Publicação das Chaves de JWT (JwkSetController)")
+public class JwkSetControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtKeyRing jwtKeyRing;
+
+    @Test
+    @DisplayName("Deve publicar sem autenticação as chaves públicas, sem as partes privadas")
+    void getJwkSet_WithoutAuthentication_ShouldReturnPublicKeys() throws Exception {
+        mockMvc.perform(get("/.well-known/jwks.json"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.keys[*].kid", hasItem(jwtKeyRing.getSigningKeyId())))
+                .andExpect(jsonPath("$.keys[0].d").doesNotExist())
+                .andExpect(jsonPath("$.keys[0].p").doesNotExist());
+    }
+}
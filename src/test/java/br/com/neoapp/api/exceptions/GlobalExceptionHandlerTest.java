@@ -0,0 +1,45 @@
+package br.com.neoapp.api.exceptions;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes Unitários para o Tratamento Global de Exceções (GlobalExceptionHandler)")
+public class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/clients");
+
+    @Test
+    @DisplayName("Deve responder 503 quando o pool não entrega uma conexão dentro do tempo limite")
+    void cannotCreateTransaction_WithPoolTimeout_ShouldReturn503() {
+        var e = new CannotCreateTransactionException("Could not open JPA EntityManager for transaction",
+                new SQLTransientConnectionException("HikariPool-1 - Connection is not available, request timed out"));
+
+        ResponseEntity<StandardError> response = handler.handleCannotCreateTransaction(e, request);
+
+        assertThat(response.getStatusCode().value()).isEqualTo(503);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getBody().getError()).isEqualTo(ServiceOverloadedException.ERROR);
+    }
+
+    @Test
+    @DisplayName("Deve responder 500 quando a transação falha por outro motivo")
+    void cannotCreateTransaction_WithOtherCause_ShouldReturn500() {
+        var e = new CannotCreateTransactionException("Could not open JPA EntityManager for transaction",
+                new SQLException("FATAL: password authentication failed"));
+
+        ResponseEntity<StandardError> response = handler.handleCannotCreateTransaction(e, request);
+
+        assertThat(response.getStatusCode().value()).isEqualTo(500);
+        assertThat(response.getHeaders().containsKey(HttpHeaders.RETRY_AFTER)).isFalse();
+    }
+}
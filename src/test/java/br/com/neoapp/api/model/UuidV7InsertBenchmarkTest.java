@@ -0,0 +1,79 @@
+package br.com.neoapp.api.model;
+
+import br.com.neoapp.api.benchmark.Benchmark;
+import br.com.neoapp.api.benchmark.BenchmarkRunner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara a vazão de inserção em uma tabela com chave primária UUID aleatória (versão 4) em
+ * texto, UUID versão 7 em texto e UUID versão 7 no tipo nativo {@code uuid}, inserindo
+ * {@code -Dbenchmark.rows} linhas (1 milhão por padrão) em lotes. Executado apenas com
+ * {@code -Dbenchmark=true}.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Benchmark
+@DisplayName("Benchmark: inserções com chaves UUID aleatórias versus ordenadas pelo tempo")
+public class UuidV7InsertBenchmarkTest {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS id_benchmark_text");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS id_benchmark_uuid");
+    }
+
+    @Test
+    void benchmark_RandomVersusTimeOrderedKeys() throws Exception {
+        int rows = BenchmarkRunner.rows(1_000_000);
+
+        long randomText = measure("VARCHAR(36)", rows, () -> UUID.randomUUID().toString());
+        long timeOrderedText = measure("VARCHAR(36)", rows, () -> UuidV7.next().toString());
+        long timeOrderedNative = measure("UUID", rows, UuidV7::next);
+
+        BenchmarkRunner.report("Inserção de %d linhas: v4 texto %.0f linhas/s, v7 texto %.0f linhas/s, v7 uuid %.0f linhas/s",
+                rows,
+                BenchmarkRunner.perSecond(rows, randomText),
+                BenchmarkRunner.perSecond(rows, timeOrderedText),
+                BenchmarkRunner.perSecond(rows, timeOrderedNative));
+
+        assertThat(timeOrderedText).isLessThan(randomText);
+    }
+
+    private long measure(String idType, int rows, Supplier<Object> ids) throws Exception {
+        String table = idType.startsWith("UUID") ? "id_benchmark_uuid" : "id_benchmark_text";
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + table);
+        jdbcTemplate.execute("CREATE TABLE " + table + " (id " + idType + " PRIMARY KEY, payload VARCHAR(100) NOT NULL)");
+
+        return BenchmarkRunner.time(0, 1, ignored -> insert(table, rows, ids));
+    }
+
+    private int insert(String table, int rows, Supplier<Object> ids) {
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < rows; i++) {
+            batch.add(new Object[]{ids.get(), "Cliente " + i});
+            if (batch.size() == BATCH_SIZE || i == rows - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO " + table + " (id, payload) VALUES (?, ?)", batch);
+                batch.clear();
+            }
+        }
+        return rows;
+    }
+}
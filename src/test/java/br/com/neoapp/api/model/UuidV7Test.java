@@ -0,0 +1,79 @@
+package br.com.neoapp.api.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Testes Unitários para o Gerador de UUIDs Versão 7 (UuidV7)")
+public class UuidV7Test {
+
+    @Test
+    @DisplayName("Deve gerar UUIDs da versão 7 com a variante da RFC 9562")
+    void next_ShouldSetVersionAndVariant() {
+        UUID uuid = UuidV7.next();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve registrar o instante de criação nos primeiros 48 bits")
+    void next_ShouldEncodeCreationTimestamp() {
+        Instant before = Instant.ofEpochMilli(System.currentTimeMillis());
+        UUID uuid = UuidV7.next();
+        Instant after = Instant.ofEpochMilli(System.currentTimeMillis());
+
+        assertThat(UuidV7.timestamp(uuid)).isBetween(before, after.plusSeconds(1));
+    }
+
+    @Test
+    @DisplayName("Deve gerar IDs crescentes, inclusive no texto, mesmo no mesmo milissegundo")
+    void next_ManyInSequence_ShouldBeStrictlyIncreasing() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            ids.add(UuidV7.next().toString());
+        }
+
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("Deve gerar IDs distintos quando chamado por várias threads ao mesmo tempo")
+    void next_Concurrently_ShouldNotRepeat() throws Exception {
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                tasks.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        ids.add(UuidV7.next());
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        }
+
+        assertThat(ids).hasSize(8 * 20_000);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar o instante de um UUID que não seja da versão 7")
+    void timestamp_WithRandomUuid_ShouldThrow() {
+        assertThatThrownBy(() -> UuidV7.timestamp(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,165 @@
+package br.com.neoapp.api.readmodel;
+
+import br.com.neoapp.api.controller.dto.ClientResponseDTO;
+import br.com.neoapp.api.events.ClientDeletedEvent;
+import br.com.neoapp.api.events.ClientSavedEvent;
+import br.com.neoapp.api.events.LoginActivityFlushedEvent;
+import br.com.neoapp.api.mapper.ClientMapper;
+import br.com.neoapp.api.model.Client;
+import br.com.neoapp.api.repository.ClientRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes Unitários para o Modelo de Leitura em Memória (ClientReadModel)")
+public class ClientReadModelTest {
+
+    private ClientReadModel clientReadModel;
+
+    @BeforeEach
+    void setUp() {
+        ClientRepository clientRepository = mock(ClientRepository.class);
+        when(clientRepository.findBatchAfterId(anyString(), any(Limit.class))).thenReturn(List.of(
+                client("1", "João Silva", "joao.silva@email.com", "89994776644", LocalDate.of(1990, 5, 15)),
+                client("2", "Maria Souza", "maria.souza@email.com", "11987654321", LocalDate.of(1985, 12, 1)),
+                client("3", "Silvana Pereira", "silvana@email.com", null, LocalDate.of(2000, 1, 20))));
+
+        clientReadModel = new ClientReadModel(clientRepository, Mappers.getMapper(ClientMapper.class), true);
+        clientReadModel.loadOnStartup();
+    }
+
+    @Test
+    @DisplayName("Deve ficar pronto após a carga e buscar clientes por ID")
+    void findById_AfterLoad_ShouldReturnClient() {
+        assertThat(clientReadModel.isReady()).isTrue();
+        assertThat(clientReadModel.size()).isEqualTo(3);
+        assertThat(clientReadModel.findById("2")).map(ClientResponseDTO::email).contains("maria.souza@email.com");
+        assertThat(clientReadModel.findById("99")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve buscar vários clientes preservando a ordem dos IDs")
+    void findAllById_ShouldPreserveOrderAndSkipMissing() {
+        List<ClientResponseDTO> result = clientReadModel.findAllById(List.of("3", "99", "1"));
+
+        assertThat(result).extracting(ClientResponseDTO::id).containsExactly("3", "1");
+    }
+
+    @Test
+    @DisplayName("Deve filtrar por atributos com a mesma semântica da consulta no banco")
+    void filter_WithAttributes_ShouldReturnMatchingClients() {
+        Page<ClientResponseDTO> byName = clientReadModel.filter("SILV", null, null, null, null, null,
+                PageRequest.of(0, 10, Sort.by("name")));
+        Page<ClientResponseDTO> byPhoneAndBirthday = clientReadModel.filter(null, null, null, "9",
+                LocalDate.of(1980, 1, 1), LocalDate.of(1989, 12, 31), PageRequest.of(0, 10));
+
+        assertThat(byName.getContent()).extracting(ClientResponseDTO::id).containsExactly("1", "3");
+        assertThat(byPhoneAndBirthday.getContent()).extracting(ClientResponseDTO::id).containsExactly("2");
+    }
+
+    @Test
+    @DisplayName("Deve paginar e ordenar a listagem completa")
+    void findAll_WithPageAndSort_ShouldReturnRequestedPage() {
+        Page<ClientResponseDTO> result = clientReadModel.findAll(PageRequest.of(1, 2, Sort.by("birthday").descending()));
+
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getContent()).extracting(ClientResponseDTO::id).containsExactly("2");
+    }
+
+    @Test
+    @DisplayName("Deve ordenar cada página como a ordenação completa, com vários critérios e nulos por último")
+    void findAll_WithMultipleOrders_ShouldMatchFullSortOnEveryPage() {
+        ClientRepository clientRepository = mock(ClientRepository.class);
+        List<Client> clients = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            clients.add(client("%03d".formatted(i), "Cliente " + (i % 7), "c" + i + "@email.com",
+                    i % 5 == 0 ? null : "1190000000" + (i % 3), LocalDate.of(1990, 1, 1).plusDays(i)));
+        }
+        when(clientRepository.findBatchAfterId(anyString(), any(Limit.class))).thenReturn(clients);
+        ClientReadModel model = new ClientReadModel(clientRepository, Mappers.getMapper(ClientMapper.class), true);
+        model.loadOnStartup();
+
+        Sort sort = Sort.by(Sort.Order.asc("phone"), Sort.Order.desc("name"));
+        List<String> expected = clients.stream()
+                .sorted(Comparator.comparing(Client::getPhone, Comparator.nullsLast(Comparator.<String>naturalOrder()))
+                        .thenComparing(Client::getName, Comparator.reverseOrder())
+                        .thenComparing(Client::getId))
+                .map(Client::getId)
+                .toList();
+
+        List<String> paged = new ArrayList<>();
+        for (int page = 0; page < 13; page++) {
+            paged.addAll(model.findAll(PageRequest.of(page, 20, sort)).getContent().stream()
+                    .map(ClientResponseDTO::id).toList());
+        }
+
+        assertThat(paged).containsExactlyElementsOf(expected);
+        assertThat(model.filter(null, null, null, null, null, null, Pageable.unpaged(sort)).getContent())
+                .extracting(ClientResponseDTO::id).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("Deve recusar ordenações não suportadas para que a leitura siga pelo banco")
+    void findAll_WithUnsupportedSort_ShouldReturnNull() {
+        assertThat(clientReadModel.findAll(PageRequest.of(0, 10, Sort.by("password")))).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve refletir criações, atualizações e exclusões publicadas pelo serviço")
+    void events_ShouldKeepModelCurrent() {
+        Client updated = client("1", "João Costa", "joao.costa@email.com", "89994776644", LocalDate.of(1990, 5, 15));
+        updated.setUpdateAt(OffsetDateTime.now().plusMinutes(1));
+
+        clientReadModel.onClientSaved(new ClientSavedEvent(updated));
+        clientReadModel.onClientSaved(new ClientSavedEvent(
+                client("4", "Ana Lima", "ana@email.com", null, LocalDate.of(1995, 3, 3))));
+        clientReadModel.onClientDeleted(new ClientDeletedEvent("2"));
+
+        assertThat(clientReadModel.findById("1")).map(ClientResponseDTO::name).contains("João Costa");
+        assertThat(clientReadModel.findById("4")).isPresent();
+        assertThat(clientReadModel.findById("2")).isEmpty();
+        assertThat(clientReadModel.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve acompanhar o último login e a quantidade de logins gravados em lote")
+    void onLoginActivityFlushed_ShouldUpdateLoginActivity() {
+        OffsetDateTime loggedInAt = OffsetDateTime.now().withNano(0);
+
+        clientReadModel.onLoginActivityFlushed(new LoginActivityFlushedEvent(List.of(
+                new LoginActivityFlushedEvent.Login("1", loggedInAt, 3),
+                new LoginActivityFlushedEvent.Login("99", loggedInAt, 1))));
+        Client updated = client("1", "João Costa", "joao.costa@email.com", "89994776644", LocalDate.of(1990, 5, 15));
+        updated.setUpdateAt(OffsetDateTime.now().plusMinutes(1));
+        clientReadModel.onClientSaved(new ClientSavedEvent(updated));
+
+        ClientResponseDTO result = clientReadModel.findById("1").orElseThrow();
+        assertThat(result.lastLoginAt()).isEqualTo(loggedInAt.atZoneSameInstant(ZoneId.systemDefault()).toOffsetDateTime());
+        assertThat(result.loginCount()).isEqualTo(3L);
+        assertThat(clientReadModel.findById("2").orElseThrow().loginCount()).isZero();
+    }
+
+    private static Client client(String id, String name, String email, String phone, LocalDate birthday) {
+        OffsetDateTime now = OffsetDateTime.now();
+        return new Client(id, name, birthday, email, "password", phone, "12345678909", now, now, new ArrayList<>());
+    }
+}
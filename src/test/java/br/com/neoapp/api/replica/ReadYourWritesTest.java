@@ -0,0 +1,53 @@
+package br.com.neoapp.api.replica;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes Unitários para as Janelas de Leitura das Próprias Escritas (ReadYourWrites)")
+public class ReadYourWritesTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final ReadYourWrites readYourWrites = new ReadYourWrites(Duration.ofSeconds(5), clock::get);
+
+    @Test
+    @DisplayName("Deve manter as leituras no banco principal durante a janela após uma escrita")
+    void isWithinWindow_AfterWrite_ShouldBeTrueUntilWindowEnds() {
+        readYourWrites.recordWrite("client-1");
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(4));
+        assertThat(readYourWrites.isWithinWindow("client-1")).isTrue();
+        assertThat(readYourWrites.isWithinWindow("client-2")).isFalse();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(readYourWrites.isWithinWindow("client-1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve ignorar chamadores anônimos")
+    void recordWrite_WithNullKey_ShouldBeIgnored() {
+        readYourWrites.recordWrite(null);
+
+        assertThat(readYourWrites.isWithinWindow(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve descartar apenas as janelas expiradas")
+    void purgeExpired_ShouldKeepOpenWindows() {
+        readYourWrites.recordWrite("client-1");
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(3));
+        readYourWrites.recordWrite("client-2");
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(3));
+
+        readYourWrites.purgeExpired();
+        clock.set(TimeUnit.SECONDS.toNanos(3));
+
+        assertThat(readYourWrites.isWithinWindow("client-1")).isFalse();
+        assertThat(readYourWrites.isWithinWindow("client-2")).isTrue();
+    }
+}
@@ -0,0 +1,139 @@
+package br.com.neoapp.api.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes Unitários para o Roteamento de Leituras às Réplicas (ReplicaRoutingDataSource)")
+public class ReplicaRoutingDataSourceTest {
+
+    private HikariDataSource primary;
+    private List<HikariDataSource> replicas;
+    private ReadYourWrites readYourWrites;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replicas = List.of(database("replica0"), database("replica1"));
+        readYourWrites = new ReadYourWrites(Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        Stream.concat(Stream.of(primary), replicas.stream()).forEach(dataSource -> {
+            new JdbcTemplate(dataSource).execute("DROP ALL OBJECTS");
+            dataSource.close();
+        });
+    }
+
+    @Test
+    @DisplayName("Deve alternar as réplicas nas transações somente leitura de métodos @ReadFromReplica")
+    void readOnlyTransaction_WithRoundRobin_ShouldAlternateReplicas() {
+        Routing routing = routing(ReplicaSelection.ROUND_ROBIN);
+
+        List<String> servedBy = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            servedBy.add(routing.read(new ReplicaRouting(false)));
+        }
+
+        assertThat(servedBy).containsExactly("replica0", "replica1", "replica0", "replica1");
+    }
+
+    @Test
+    @DisplayName("Deve usar o banco principal fora de um método @ReadFromReplica")
+    void readOnlyTransaction_WithoutRouting_ShouldUsePrimary() {
+        assertThat(routing(ReplicaSelection.ROUND_ROBIN).read(null)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Deve usar o banco principal quando o chamador escreveu há pouco")
+    void readOnlyTransaction_WhenPrimaryPinned_ShouldUsePrimary() {
+        assertThat(routing(ReplicaSelection.ROUND_ROBIN).read(new ReplicaRouting(true))).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Deve usar o banco principal nas transações de escrita")
+    void readWriteTransaction_ShouldUsePrimary() {
+        Routing routing = routing(ReplicaSelection.ROUND_ROBIN);
+
+        String servedBy = ReplicaRouting.supply(new ReplicaRouting(false), () -> routing.readWrite().execute(
+                status -> routing.jdbcTemplate().queryForObject("SELECT name FROM marker", String.class)));
+
+        assertThat(servedBy).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Deve escolher a réplica com menos conexões ativas")
+    void readOnlyTransaction_WithLeastBusy_ShouldAvoidBusyReplica() throws Exception {
+        Routing routing = routing(ReplicaSelection.LEAST_BUSY);
+
+        try (Connection ignored = replicas.get(0).getConnection()) {
+            for (int i = 0; i < 3; i++) {
+                assertThat(routing.read(new ReplicaRouting(false))).isEqualTo("replica1");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve abrir a janela de leitura do autor ao confirmar uma transação de escrita")
+    void readWriteTransaction_OnCommit_ShouldRecordWrite() {
+        Routing routing = routing(ReplicaSelection.ROUND_ROBIN);
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("client-1", null, "ROLE_USER"));
+
+        routing.readWrite().executeWithoutResult(status -> {
+            routing.jdbcTemplate().update("UPDATE marker SET name = name");
+            status.setRollbackOnly();
+        });
+        assertThat(readYourWrites.isWithinWindow("client-1")).isFalse();
+
+        routing.readWrite().executeWithoutResult(status -> routing.jdbcTemplate().update("UPDATE marker SET name = name"));
+        assertThat(readYourWrites.isWithinWindow("client-1")).isTrue();
+    }
+
+    private Routing routing(ReplicaSelection selection) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primary, replicas, selection, readYourWrites));
+        return new Routing(new JdbcTemplate(dataSource), new DataSourceTransactionManager(dataSource));
+    }
+
+    private static HikariDataSource database(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setPoolName(name);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE marker (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO marker (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private record Routing(JdbcTemplate jdbcTemplate, DataSourceTransactionManager transactionManager) {
+
+        private String read(ReplicaRouting routing) {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            return ReplicaRouting.supply(routing, () -> readOnly.execute(
+                    status -> jdbcTemplate.queryForObject("SELECT name FROM marker", String.class)));
+        }
+
+        private TransactionTemplate readWrite() {
+            return new TransactionTemplate(transactionManager);
+        }
+    }
+}
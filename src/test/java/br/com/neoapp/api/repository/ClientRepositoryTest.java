@@ -9,6 +9,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
@@ -22,11 +24,14 @@ public class ClientRepositoryTest {
     @Autowired
     ClientRepository clientRepository;
 
+    @Autowired
+    RoleRepository roleRepository;
+
     @BeforeEach
     void setUp(){
         clientRepository.deleteAll();
 
-        Role role = new Role(null, RoleName.USER);
+        Role role = roleRepository.save(new Role(null, RoleName.USER));
         List<Role> roles = List.of(role);
         Client client = new Client(
                 null,
@@ -83,4 +88,44 @@ public class ClientRepositoryTest {
 
         Assertions.assertFalse(nonExist);
     }
+
+    @Test
+    @DisplayName("Deve encontrar o cliente pela chave mês-dia do aniversário")
+    void shouldFindClientByBirthdayMonthDay(){
+        Page<Client> birthdays = clientRepository.findByBirthdayMonthDayRanges(
+                (short) 510, (short) 520, (short) 510, (short) 520, PageRequest.of(0, 10));
+
+        Assertions.assertEquals(1, birthdays.getTotalElements());
+        Assertions.assertEquals((short) 515, birthdays.getContent().get(0).getBirthdayMonthDay());
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio quando ninguém faz aniversário no intervalo")
+    void shouldReturnEmptyWhenNoBirthdayInRange(){
+        Page<Client> birthdays = clientRepository.findByBirthdayMonthDayRanges(
+                (short) 1201, (short) 1231, (short) 101, (short) 110, PageRequest.of(0, 10));
+
+        Assertions.assertTrue(birthdays.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve montar a página da busca por atributos a partir das consultas de conteúdo e de contagem")
+    void shouldBuildAttributesPageFromContentAndCount(){
+        Page<Client> page = clientRepository.getAllClientsWithAttributesPage(
+                "ana", null, null, null, null, null, PageRequest.of(0, 10));
+
+        Assertions.assertEquals(1, page.getTotalElements());
+        Assertions.assertEquals("Ana Silva", page.getContent().get(0).getName());
+        Assertions.assertEquals(1, clientRepository.countClientsWithAttributes("ana", null, null, null, null, null));
+        Assertions.assertEquals(0, clientRepository.countClientsWithAttributes("bruno", null, null, null, null, null));
+    }
+
+    @Test
+    @DisplayName("Deve tratar % e _ dos filtros por substring como texto literal")
+    void shouldMatchLikeWildcardsLiterally(){
+        Assertions.assertEquals(0, clientRepository.countClientsWithAttributes(null, "ana%example", null, null, null, null));
+        Assertions.assertEquals(0, clientRepository.countClientsWithAttributes(null, "ana_silva", null, null, null, null));
+        Assertions.assertEquals(0, clientRepository.countClientsWithAttributes(null, null, null, "8999_564", null, null));
+        Assertions.assertEquals(1, clientRepository.countClientsWithAttributes(null, "ana.silva", null, "4564", null, null));
+    }
 }
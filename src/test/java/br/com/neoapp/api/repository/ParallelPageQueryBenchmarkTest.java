@@ -0,0 +1,112 @@
+package br.com.neoapp.api.repository;
+
+import br.com.neoapp.api.benchmark.Benchmark;
+import br.com.neoapp.api.benchmark.BenchmarkRunner;
+import br.com.neoapp.api.model.Client;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara a busca paginada por atributos com o conteúdo e a contagem em sequência e em
+ * paralelo, sobre uma tabela populada com {@code -Dbenchmark.rows} clientes (1 milhão por
+ * padrão). Executado apenas com {@code -Dbenchmark=true}.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Benchmark
+@DisplayName("Benchmark: conteúdo e contagem da página em sequência versus em paralelo")
+public class ParallelPageQueryBenchmarkTest {
+
+    private static final String EMAIL_SUFFIX = "@benchmark.local";
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM client_table WHERE email LIKE ?", "%" + EMAIL_SUFFIX);
+    }
+
+    @Test
+    void benchmark_SequentialVersusParallelPage() throws Exception {
+        int rows = BenchmarkRunner.rows(1_000_000);
+        seed(rows);
+
+        ParallelPageQuery sequential = new ParallelPageQuery(transactionManager, false);
+        ParallelPageQuery parallel = new ParallelPageQuery(transactionManager, true);
+        Pageable pageable = PageRequest.of(10, 20);
+        int warmup = 3;
+        int iterations = 10;
+
+        long sequentialNanos = measure(sequential, pageable, warmup, iterations);
+        long parallelNanos = measure(parallel, pageable, warmup, iterations);
+
+        BenchmarkRunner.report("Página com %d clientes: sequencial %.1f ms, paralela %.1f ms (%.2fx)",
+                rows,
+                BenchmarkRunner.average(sequentialNanos, iterations, TimeUnit.MILLISECONDS),
+                BenchmarkRunner.average(parallelNanos, iterations, TimeUnit.MILLISECONDS),
+                (double) sequentialNanos / parallelNanos);
+
+        assertThat(parallelNanos).isLessThan(sequentialNanos);
+    }
+
+    private long measure(ParallelPageQuery query, Pageable pageable, int warmup, int iterations) throws Exception {
+        return BenchmarkRunner.time(warmup, iterations, ignored -> {
+            Page<Client> page = query.findPage(pageable,
+                    request -> clientRepository.findClientsWithAttributesContent("5", null, null, null, null, null, request),
+                    () -> clientRepository.countClientsWithAttributes("5", null, null, null, null, null));
+            assertThat(page.getContent()).hasSize(20);
+            return page;
+        });
+    }
+
+    private void seed(int rows) {
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> batch = new ArrayList<>(10_000);
+        for (int i = 0; i < rows; i++) {
+            LocalDate birthday = LocalDate.of(1950, 1, 1).plusDays(i % 20_000);
+            batch.add(new Object[]{
+                    UUID.randomUUID().toString(),
+                    "Cliente " + i,
+                    Date.valueOf(birthday),
+                    (short) (birthday.getMonthValue() * 100 + birthday.getDayOfMonth()),
+                    "cliente" + i + EMAIL_SUFFIX,
+                    "hash",
+                    String.format("%011d", i),
+                    now,
+                    now});
+            if (batch.size() == 10_000 || i == rows - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO client_table " +
+                        "(id, name, birthday, birthday_mmdd, email, password, cpf, creat_at, update_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.neoapp.api.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("Testes Unitários para a Consulta Paralela de Páginas (ParallelPageQuery)")
+public class ParallelPageQueryTest {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    @Test
+    @DisplayName("Deve executar o conteúdo e a contagem ao mesmo tempo")
+    void findPage_ShouldRunContentAndCountConcurrently() {
+        ParallelPageQuery query = new ParallelPageQuery(transactionManager, true);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        Page<String> page = query.findPage(PageRequest.of(0, 2),
+                pageable -> {
+                    await(bothStarted);
+                    return List.of("a", "b");
+                },
+                () -> {
+                    await(bothStarted);
+                    return 5;
+                });
+
+        assertThat(page.getContent()).containsExactly("a", "b");
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getTotalPages()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve cancelar a outra consulta e propagar a falha")
+    void findPage_WhenCountFails_ShouldCancelContent() throws InterruptedException {
+        ParallelPageQuery query = new ParallelPageQuery(transactionManager, true);
+        CountDownLatch contentInterrupted = new CountDownLatch(1);
+
+        assertThatThrownBy(() -> query.findPage(PageRequest.of(0, 2),
+                pageable -> {
+                    try {
+                        Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                    } catch (InterruptedException e) {
+                        contentInterrupted.countDown();
+                    }
+                    return List.of();
+                },
+                () -> {
+                    throw new IllegalArgumentException("falha na contagem");
+                }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("falha na contagem");
+
+        assertThat(contentInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve executar em sequência quando desabilitado, dispensando a contagem em páginas incompletas")
+    void findPage_WhenDisabled_ShouldRunSequentially() {
+        ParallelPageQuery query = new ParallelPageQuery(transactionManager, false);
+        Thread caller = Thread.currentThread();
+
+        Page<String> page = query.findPage(PageRequest.of(0, 5),
+                pageable -> {
+                    assertThat(Thread.currentThread()).isSameAs(caller);
+                    return List.of("a", "b");
+                },
+                () -> {
+                    throw new AssertionError("A contagem é desnecessária quando a página não está cheia.");
+                });
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    private static void await(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
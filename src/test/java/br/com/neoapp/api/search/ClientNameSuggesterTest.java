@@ -0,0 +1,105 @@
+package br.com.neoapp.api.search;
+
+import br.com.neoapp.api.controller.dto.ClientSuggestionDTO;
+import br.com.neoapp.api.events.ClientDeletedEvent;
+import br.com.neoapp.api.events.ClientSavedEvent;
+import br.com.neoapp.api.model.Client;
+import br.com.neoapp.api.repository.ClientRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes Unitários para o Autocompletar de Nomes (ClientNameSuggester)")
+public class ClientNameSuggesterTest {
+
+    private static final OffsetDateTime LOADED_AT = OffsetDateTime.parse("2026-01-01T10:00:00Z");
+
+    private ClientNameSuggester clientNameSuggester;
+
+    @BeforeEach
+    void setUp() {
+        clientNameSuggester = new ClientNameSuggester(mock(ClientRepository.class));
+        clientNameSuggester.put("1", "João Silva");
+        clientNameSuggester.put("2", "Maria Souza");
+        clientNameSuggester.put("3", "Silvana Pereira");
+    }
+
+    @Test
+    @DisplayName("Deve sugerir pelo início de qualquer palavra do nome, ignorando acentos e maiúsculas")
+    void suggest_WithWordPrefix_ShouldReturnMatchingClients() {
+        List<ClientSuggestionDTO> result = clientNameSuggester.suggest("SIL", 10);
+
+        assertThat(result).extracting(ClientSuggestionDTO::id).containsExactly("1", "3");
+        assertThat(clientNameSuggester.suggest("joã", 10))
+                .containsExactly(new ClientSuggestionDTO("1", "João Silva"));
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o limite de sugestões sem repetir clientes")
+    void suggest_WithLimit_ShouldReturnDistinctClients() {
+        clientNameSuggester.put("4", "Silva Silveira");
+
+        List<ClientSuggestionDTO> result = clientNameSuggester.suggest("silv", 2);
+
+        assertThat(result).extracting(ClientSuggestionDTO::id).containsExactly("1", "4");
+    }
+
+    @Test
+    @DisplayName("Deve refletir atualizações e remoções de clientes")
+    void suggest_AfterUpdateAndDelete_ShouldReflectChanges() {
+        clientNameSuggester.put("1", "João Costa");
+        clientNameSuggester.remove("2");
+
+        assertThat(clientNameSuggester.suggest("silva", 10)).extracting(ClientSuggestionDTO::id).containsExactly("3");
+        assertThat(clientNameSuggester.suggest("costa", 10)).extracting(ClientSuggestionDTO::id).containsExactly("1");
+        assertThat(clientNameSuggester.suggest("maria", 10)).isEmpty();
+        assertThat(clientNameSuggester.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Não deve sobrescrever com a carga inicial um cliente alterado por evento durante ela")
+    void loadOnStartup_WithEventsDuringLoad_ShouldKeepEventVersion() {
+        ClientRepository clientRepository = mock(ClientRepository.class);
+        ClientNameSuggester suggester = new ClientNameSuggester(clientRepository);
+        when(clientRepository.findBatchAfterId(anyString(), any(Limit.class))).thenAnswer(invocation -> {
+            // Os eventos chegam depois de o lote ter sido lido com os dados antigos.
+            suggester.onClientSaved(new ClientSavedEvent(client("1", "João Costa", LOADED_AT.plusSeconds(1))));
+            suggester.onClientDeleted(new ClientDeletedEvent("2"));
+            return List.of(
+                    client("1", "João Silva", LOADED_AT),
+                    client("2", "Maria Souza", LOADED_AT),
+                    client("3", "Silvana Pereira", LOADED_AT));
+        });
+
+        suggester.loadOnStartup();
+
+        assertThat(suggester.suggest("costa", 10)).extracting(ClientSuggestionDTO::id).containsExactly("1");
+        assertThat(suggester.suggest("silva", 10)).extracting(ClientSuggestionDTO::id).containsExactly("3");
+        assertThat(suggester.suggest("maria", 10)).isEmpty();
+        assertThat(suggester.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve retornar lista vazia para prefixo em branco")
+    void suggest_WithBlankPrefix_ShouldReturnEmpty() {
+        assertThat(clientNameSuggester.suggest("  ", 10)).isEmpty();
+    }
+
+    private static Client client(String id, String name, OffsetDateTime updateAt) {
+        Client client = new Client();
+        client.setId(id);
+        client.setName(name);
+        client.setUpdateAt(updateAt);
+        return client;
+    }
+}
@@ -0,0 +1,133 @@
+package br.com.neoapp.api.search;
+
+import br.com.neoapp.api.model.Client;
+import br.com.neoapp.api.repository.ClientRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes Unitários para o Índice de Busca de Clientes (ClientSearchIndex)")
+public class ClientSearchIndexTest {
+
+    private ClientSearchIndex clientSearchIndex;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        clientSearchIndex = new ClientSearchIndex(mock(ClientRepository.class), "");
+        clientSearchIndex.open();
+
+        clientSearchIndex.index(client("1", "João Silva", "joao.silva@email.com", "89994776644"));
+        clientSearchIndex.index(client("2", "Maria Souza", "maria.souza@email.com", "11987654321"));
+        clientSearchIndex.index(client("3", "Silvana Pereira", "silvana@email.com", "21912345678"));
+        clientSearchIndex.refresh();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        clientSearchIndex.close();
+    }
+
+    @Test
+    @DisplayName("Deve encontrar o cliente ignorando acentos e maiúsculas")
+    void search_WithoutAccents_ShouldMatchAccentedName() {
+        Page<String> result = clientSearchIndex.search("JOAO", PageRequest.of(0, 10));
+
+        assertThat(result.getContent()).containsExactly("1");
+    }
+
+    @Test
+    @DisplayName("Deve tolerar erros de digitação")
+    void search_WithTypo_ShouldMatchClosestName() {
+        Page<String> result = clientSearchIndex.search("Sousa", PageRequest.of(0, 10));
+
+        assertThat(result.getContent()).contains("2");
+    }
+
+    @Test
+    @DisplayName("Deve ordenar correspondências exatas antes das por prefixo")
+    void search_WithExactAndPrefixMatches_ShouldRankExactFirst() {
+        Page<String> result = clientSearchIndex.search("silva", PageRequest.of(0, 10));
+
+        assertThat(result.getContent()).startsWith("1");
+        assertThat(result.getContent()).contains("3");
+    }
+
+    @Test
+    @DisplayName("Não deve retornar clientes removidos do índice")
+    void search_AfterDelete_ShouldNotReturnDeletedClient() throws IOException {
+        clientSearchIndex.delete("2");
+        clientSearchIndex.refresh();
+
+        Page<String> result = clientSearchIndex.search("maria", PageRequest.of(0, 10));
+
+        assertThat(result.getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve limitar o total de resultados aos clientes que podem ser paginados")
+    void search_WithMoreHitsThanLimit_ShouldClampTotal() throws IOException {
+        for (int i = 0; i < 1100; i++) {
+            clientSearchIndex.index(client("r" + i, "Repetido " + i, "repetido" + i + "@email.com", "11900000000"));
+        }
+        clientSearchIndex.refresh();
+
+        Page<String> lastPage = clientSearchIndex.search("repetido", PageRequest.of(99, 10));
+        Page<String> beyondLimit = clientSearchIndex.search("repetido", PageRequest.of(100, 10));
+
+        assertThat(lastPage.getTotalElements()).isEqualTo(1000);
+        assertThat(lastPage.getContent()).hasSize(10);
+        assertThat(lastPage.getTotalPages()).isEqualTo(100);
+        assertThat(beyondLimit.getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Não deve sobrescrever com o lote da reconstrução um cliente alterado por evento durante ela")
+    void rebuild_WithEventDuringBatch_ShouldKeepEventVersion() throws IOException {
+        ClientRepository clientRepository = mock(ClientRepository.class);
+        ClientSearchIndex index = new ClientSearchIndex(clientRepository, "");
+        index.open();
+        try {
+            when(clientRepository.findBatchAfterId(anyString(), any(Limit.class))).thenAnswer(invocation -> {
+                // O evento chega depois de o lote ter sido lido com os dados antigos.
+                index.index(client("1", "Nome Novo", "novo@email.com", "89994776644"));
+                index.delete("2");
+                return List.of(
+                        client("1", "Nome Antigo", "antigo@email.com", "89994776644"),
+                        client("2", "Maria Souza", "maria.souza@email.com", "11987654321"));
+            });
+
+            index.rebuild();
+            index.refresh();
+
+            assertThat(index.search("novo", PageRequest.of(0, 10)).getContent()).containsExactly("1");
+            assertThat(index.search("antigo", PageRequest.of(0, 10)).getContent()).isEmpty();
+            assertThat(index.search("maria", PageRequest.of(0, 10)).getContent()).isEmpty();
+        } finally {
+            index.close();
+        }
+    }
+
+    private static Client client(String id, String name, String email, String phone) {
+        Client client = new Client();
+        client.setId(id);
+        client.setName(name);
+        client.setEmail(email);
+        client.setPhone(phone);
+        client.setBirthday(LocalDate.of(1990, 1, 1));
+        return client;
+    }
+}
@@ -0,0 +1,72 @@
+package br.com.neoapp.api.search;
+
+import br.com.neoapp.api.events.ClientDeletedEvent;
+import br.com.neoapp.api.events.ClientSavedEvent;
+import br.com.neoapp.api.model.Client;
+import br.com.neoapp.api.repository.ClientRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes Unitários para os Índices de Substring de Clientes (ClientSubstringIndex)")
+public class ClientSubstringIndexTest {
+
+    private static final OffsetDateTime LOADED_AT = OffsetDateTime.parse("2026-01-01T10:00:00Z");
+
+    @Test
+    @DisplayName("Não deve sobrescrever com a carga inicial um cliente atualizado por evento durante ela")
+    void loadOnStartup_WithNewerEvent_ShouldKeepEventVersion() {
+        ClientRepository clientRepository = mock(ClientRepository.class);
+        ClientSubstringIndex index = new ClientSubstringIndex(clientRepository, 5000);
+        when(clientRepository.findBatchAfterId(anyString(), any(Limit.class))).thenAnswer(invocation -> {
+            // Os eventos chegam depois de o lote ter sido lido com os dados antigos.
+            index.onClientSaved(new ClientSavedEvent(
+                    client("1", "novo@email.com", "11900000001", LOADED_AT.plusSeconds(1))));
+            index.onClientDeleted(new ClientDeletedEvent("2"));
+            return List.of(
+                    client("1", "antigo@email.com", "11900000001", LOADED_AT),
+                    client("2", "removido@email.com", "11900000002", LOADED_AT),
+                    client("3", "outro@email.com", "11900000003", LOADED_AT));
+        });
+
+        index.loadOnStartup();
+
+        assertThat(index.candidates("novo@", null)).containsExactly("1");
+        assertThat(index.candidates("antigo", null)).isEmpty();
+        assertThat(index.candidates("removido", null)).isEmpty();
+        assertThat(index.candidates("outro", null)).containsExactly("3");
+    }
+
+    @Test
+    @DisplayName("Deve aplicar normalmente os eventos recebidos após a carga")
+    void onClientSaved_AfterLoad_ShouldReplaceIndexedValue() {
+        ClientRepository clientRepository = mock(ClientRepository.class);
+        when(clientRepository.findBatchAfterId(anyString(), any(Limit.class)))
+                .thenReturn(List.of(client("1", "antigo@email.com", "11900000001", LOADED_AT)));
+        ClientSubstringIndex index = new ClientSubstringIndex(clientRepository, 5000);
+        index.loadOnStartup();
+
+        index.onClientSaved(new ClientSavedEvent(client("1", "novo@email.com", "11900000001", LOADED_AT)));
+
+        assertThat(index.candidates("novo@", null)).containsExactly("1");
+        assertThat(index.candidates("antigo", null)).isEmpty();
+    }
+
+    private static Client client(String id, String email, String phone, OffsetDateTime updateAt) {
+        Client client = new Client();
+        client.setId(id);
+        client.setEmail(email);
+        client.setPhone(phone);
+        client.setUpdateAt(updateAt);
+        return client;
+    }
+}
@@ -0,0 +1,110 @@
+package br.com.neoapp.api.search;
+
+import br.com.neoapp.api.benchmark.Benchmark;
+import br.com.neoapp.api.benchmark.BenchmarkRunner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes Unitários para o Índice de Trigramas (TrigramIndex)")
+public class TrigramIndexTest {
+
+    private TrigramIndex trigramIndex;
+
+    @BeforeEach
+    void setUp() {
+        trigramIndex = new TrigramIndex();
+        trigramIndex.put("1", "ana.silva@example.com");
+        trigramIndex.put("2", "bruno.souza@example.com");
+        trigramIndex.put("3", "carlos.p@email.com");
+    }
+
+    @Test
+    @DisplayName("Deve retornar como candidatos os registros que contêm a substring")
+    void candidates_WithExistingSubstring_ShouldReturnMatchingIds() {
+        assertThat(trigramIndex.candidates("example", 100)).containsExactlyInAnyOrder("1", "2");
+        assertThat(trigramIndex.candidates("silva", 100)).containsExactly("1");
+    }
+
+    @Test
+    @DisplayName("Deve retornar lista vazia quando algum trigrama não existir")
+    void candidates_WithUnknownTrigram_ShouldReturnEmpty() {
+        assertThat(trigramIndex.candidates("zzz", 100)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve retornar nulo para substrings curtas ou filtros pouco seletivos")
+    void candidates_WhenIndexCannotRestrict_ShouldReturnNull() {
+        assertThat(trigramIndex.candidates("an", 100)).isNull();
+        assertThat(trigramIndex.candidates(".com", 2)).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve refletir atualizações e remoções")
+    void candidates_AfterUpdateAndRemove_ShouldReflectChanges() {
+        trigramIndex.put("1", "ana.costa@example.com");
+        trigramIndex.remove("2");
+
+        assertThat(trigramIndex.candidates("silva", 100)).isEmpty();
+        assertThat(trigramIndex.candidates("costa", 100)).containsExactly("1");
+        assertThat(trigramIndex.candidates("example", 100)).containsExactly("1");
+    }
+
+    @Test
+    @DisplayName("Deve manter os resultados corretos após a compactação dos ordinais")
+    void candidates_AfterCompaction_ShouldKeepLiveRecords() {
+        for (int i = 0; i < 5000; i++) {
+            trigramIndex.put("tmp" + i, "temporario" + i + "@email.com");
+        }
+        for (int i = 0; i < 5000; i++) {
+            trigramIndex.remove("tmp" + i);
+        }
+
+        assertThat(trigramIndex.size()).isEqualTo(3);
+        assertThat(trigramIndex.candidates("example", 100)).containsExactlyInAnyOrder("1", "2");
+        assertThat(trigramIndex.candidates("temporario", 100)).isEmpty();
+    }
+
+    /**
+     * Mede a memória das listas de ocorrências e a latência das consultas para 1 milhão
+     * de e-mails sintéticos. Executado apenas com {@code -Dbenchmark=true}.
+     */
+    @Test
+    @Benchmark
+    @DisplayName("Benchmark: memória por milhão de clientes e latência de consulta")
+    void benchmark_OneMillionEmails() throws Exception {
+        TrigramIndex index = new TrigramIndex();
+        Random random = new Random(42);
+        String[] domains = {"gmail.com", "hotmail.com", "outlook.com", "email.com", "empresa.com.br"};
+        int clients = 1_000_000;
+
+        for (int i = 0; i < clients; i++) {
+            String user = Long.toString(random.nextLong() & Long.MAX_VALUE, 36);
+            index.put(Integer.toString(i), user + "." + i + "@" + domains[i % domains.length]);
+        }
+
+        String[] queries = {"abc", "x7k2", "12345", "hotmail", "q9w"};
+        int found = 0;
+        for (String query : queries) {
+            List<String> candidates = index.candidates(query, 5000);
+            found += candidates == null ? 0 : candidates.size();
+        }
+        int iterations = 200;
+        long elapsed = BenchmarkRunner.time(0, iterations, i -> index.candidates(queries[i % queries.length], 5000));
+
+        BenchmarkRunner.report("TrigramIndex: %d clientes, ~%.1f MB em postings, %.3f ms por consulta (%d candidatos nas %d consultas)",
+                clients,
+                index.estimatedPostingsBytes() / (1024.0 * 1024.0),
+                BenchmarkRunner.average(elapsed, iterations, TimeUnit.MILLISECONDS),
+                found,
+                queries.length);
+
+        assertThat(index.size()).isEqualTo(clients);
+    }
+}
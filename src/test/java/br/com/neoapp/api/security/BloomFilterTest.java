@@ -0,0 +1,56 @@
+package br.com.neoapp.api.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes Unitários para o Filtro de Bloom (BloomFilter)")
+public class BloomFilterTest {
+
+    @Test
+    @DisplayName("Deve encontrar todos os elementos inseridos")
+    void mightContain_WithInsertedValues_ShouldNeverReturnFalse() {
+        BloomFilter filter = new BloomFilter(10_000, 0.001);
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            values.add(UUID.randomUUID().toString());
+        }
+
+        values.forEach(filter::put);
+
+        assertThat(values).allMatch(filter::mightContain);
+    }
+
+    @Test
+    @DisplayName("Deve manter a taxa de falsos positivos próxima da configurada")
+    void mightContain_WithAbsentValues_ShouldRespectFalsePositiveRate() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(UUID.randomUUID().toString());
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / probes).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("Deve dimensionar bits e funções de hash conforme a taxa de falsos positivos")
+    void constructor_ShouldSizeFilter() {
+        BloomFilter filter = new BloomFilter(1_000, 0.001);
+
+        assertThat(filter.bitCount()).isGreaterThanOrEqualTo(14_378);
+        assertThat(filter.hashCount()).isEqualTo(10);
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.neoapp.api.security;
+
+import br.com.neoapp.api.exceptions.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Testes Unitários para o Codificador de Senhas Limitado (BoundedPasswordEncoder)")
+public class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.close();
+    }
+
+    @Test
+    @DisplayName("Deve delegar o hashing e registrar a latência")
+    void encodeAndMatches_ShouldDelegateAndRecordMetrics() {
+        encoder = new BoundedPasswordEncoder(new ReversingEncoder(), 1, 1, 1, meterRegistry);
+
+        String encoded = encoder.encode("senha");
+
+        assertThat(encoded).isEqualTo("ahnes");
+        assertThat(encoder.matches("senha", encoded)).isTrue();
+        assertThat(meterRegistry.get("password.hashing.duration").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("password.hashing.duration").tag("operation", "matches").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve recusar imediatamente quando a fila estiver cheia")
+    void encode_WhenSaturated_ShouldRejectWithRetryAfter() throws Exception {
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(), 1, 1, 5, meterRegistry);
+
+        CompletableFuture.runAsync(() -> encoder.encode("em execucao"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture.runAsync(() -> encoder.encode("na fila"));
+        while (meterRegistry.get("password.hashing.queue.size").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        ServiceOverloadedException exception = assertThrows(ServiceOverloadedException.class,
+                () -> encoder.encode("recusada"));
+
+        assertThat(exception.getRetryAfterSeconds()).isEqualTo(5);
+        assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isEqualTo(1);
+    }
+
+    private static class ReversingEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return new StringBuilder(rawPassword).reverse().toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+
+    private class BlockingEncoder extends ReversingEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.encode(rawPassword);
+        }
+    }
+}
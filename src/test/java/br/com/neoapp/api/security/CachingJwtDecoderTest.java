@@ -0,0 +1,154 @@
+package br.com.neoapp.api.security;
+
+import br.com.neoapp.api.benchmark.Benchmark;
+import br.com.neoapp.api.benchmark.BenchmarkRunner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Testes Unitários para o Decodificador de JWT com Cache (CachingJwtDecoder)")
+public class CachingJwtDecoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JwtEncoder jwtEncoder;
+    private RSAPublicKey publicKey;
+    private JwtDecoder nimbusDecoder;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        publicKey = (RSAPublicKey) keyPair.getPublic();
+
+        RSAKey jwk = new RSAKey.Builder(publicKey).privateKey((RSAPrivateKey) keyPair.getPrivate()).build();
+        jwtEncoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(jwk)));
+        nimbusDecoder = NimbusJwtDecoder.withPublicKey(publicKey).build();
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar o token verificado nas decodificações seguintes")
+    void decode_SameTokenTwice_ShouldHitCache() {
+        CachingJwtDecoder decoder = decoder(10);
+        String token = token(Instant.now().plus(Duration.ofMinutes(5)));
+
+        Jwt first = decoder.decode(token);
+        Jwt second = decoder.decode(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(decoder.size()).isEqualTo(1);
+        assertThat(meterRegistry.get("jwt.decoder.cache").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("jwt.decoder.cache").tag("result", "miss").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("jwt.decoder.verification").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("jwt.decoder.verification.saved").counter().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Deve recusar tokens em cache que expiraram desde a verificação")
+    void decode_WhenCachedTokenExpires_ShouldReject() throws Exception {
+        NimbusJwtDecoder strictDecoder = NimbusJwtDecoder.withPublicKey(publicKey).build();
+        strictDecoder.setJwtValidator(new JwtTimestampValidator(Duration.ZERO));
+        CachingJwtDecoder decoder = new CachingJwtDecoder(strictDecoder,
+                new JwtTimestampValidator(Duration.ZERO), 10, Clock.systemUTC(), meterRegistry);
+        String token = token(Instant.now().plusMillis(1500));
+
+        decoder.decode(token);
+        Thread.sleep(2000);
+
+        assertThrows(JwtException.class, () -> decoder.decode(token));
+        assertThat(decoder.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve recusar tokens adulterados sem consultá-los no cache")
+    void decode_WithTamperedSignature_ShouldReject() {
+        CachingJwtDecoder decoder = decoder(10);
+        String token = token(Instant.now().plus(Duration.ofMinutes(5)));
+        decoder.decode(token);
+
+        String tampered = token.substring(0, token.length() - 4) + "AAAA";
+
+        assertThrows(JwtException.class, () -> decoder.decode(tampered));
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o limite de entradas do cache")
+    void decode_WhenCacheIsFull_ShouldNotGrowBeyondLimit() {
+        CachingJwtDecoder decoder = decoder(2);
+        Instant expiresAt = Instant.now().plus(Duration.ofMinutes(5));
+
+        for (int i = 0; i < 5; i++) {
+            decoder.decode(token("user-" + i, expiresAt));
+        }
+
+        assertThat(decoder.size()).isEqualTo(2);
+    }
+
+    /**
+     * Compara o custo por requisição de decodificar o mesmo token com o {@code NimbusJwtDecoder}
+     * e com o {@link CachingJwtDecoder}. Executado apenas com {@code -Dbenchmark=true}.
+     */
+    @Test
+    @Benchmark
+    @DisplayName("Benchmark: verificação RSA a cada requisição versus token em cache")
+    void benchmark_RepeatedToken() throws Exception {
+        CachingJwtDecoder decoder = decoder(10_000);
+        String token = token(Instant.now().plus(Duration.ofMinutes(5)));
+        int warmup = 2_000;
+        int iterations = 20_000;
+
+        long nimbusNanos = BenchmarkRunner.time(warmup, iterations, i -> nimbusDecoder.decode(token));
+        long cachedNanos = BenchmarkRunner.time(warmup, iterations, i -> decoder.decode(token));
+
+        BenchmarkRunner.report("JwtDecoder: Nimbus %.2f us/op, com cache %.2f us/op (%.1fx), %.3f s de verificação economizados",
+                BenchmarkRunner.average(nimbusNanos, iterations, TimeUnit.MICROSECONDS),
+                BenchmarkRunner.average(cachedNanos, iterations, TimeUnit.MICROSECONDS),
+                (double) nimbusNanos / cachedNanos,
+                meterRegistry.get("jwt.decoder.verification.saved").counter().count());
+
+        assertThat(cachedNanos).isLessThan(nimbusNanos);
+    }
+
+    private CachingJwtDecoder decoder(int maxEntries) {
+        return new CachingJwtDecoder(nimbusDecoder, new JwtTimestampValidator(), maxEntries, Clock.systemUTC(), meterRegistry);
+    }
+
+    private String token(Instant expiresAt) {
+        return token("joao@email.com", expiresAt);
+    }
+
+    private String token(String subject, Instant expiresAt) {
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer("neoapp")
+                .subject(subject)
+                .issuedAt(Instant.now())
+                .expiresAt(expiresAt)
+                .build();
+        return jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.neoapp.api.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes Unitários para o Limitador de Taxa com Baldes Fixos (HashedTokenBucketLimiter)")
+public class HashedTokenBucketLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong(-1_000 * SECOND);
+
+    @Test
+    @DisplayName("Deve permitir uma rajada do tamanho da capacidade e repor uma ficha a cada intervalo")
+    void tryAcquire_BeyondCapacity_ShouldReturnWaitUntilRefill() {
+        HashedTokenBucketLimiter limiter = new HashedTokenBucketLimiter(2, 10 * SECOND, 1024, clock::get);
+
+        assertThat(limiter.peek("chave")).isZero();
+        assertThat(limiter.tryAcquire("chave")).isZero();
+        assertThat(limiter.tryAcquire("chave")).isZero();
+        assertThat(limiter.tryAcquire("chave")).isEqualTo(10 * SECOND);
+        assertThat(limiter.peek("chave")).isEqualTo(10 * SECOND);
+
+        clock.addAndGet(10 * SECOND);
+
+        assertThat(limiter.tryAcquire("chave")).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve limitar em conjunto as chaves que dividem o mesmo balde, sem recusar as demais")
+    void tryAcquire_WithSingleSlot_ShouldShareBucket() {
+        HashedTokenBucketLimiter limiter = new HashedTokenBucketLimiter(1, 10 * SECOND, 1, clock::get);
+
+        assertThat(limiter.tryAcquire("chave")).isZero();
+
+        assertThat(limiter.tryAcquire("outra")).isPositive();
+    }
+}
@@ -0,0 +1,174 @@
+package br.com.neoapp.api.security;
+
+import br.com.neoapp.api.benchmark.Benchmark;
+import br.com.neoapp.api.benchmark.BenchmarkRunner;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.OctetKeyPairGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Testes Unitários para o Conjunto de Chaves de JWT (JwtKeyRing)")
+public class JwtKeyRingTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"RS256", "ES256", "EdDSA"})
+    @DisplayName("Deve assinar e verificar tokens com cada algoritmo suportado")
+    void encodeAndDecode_WithEachAlgorithm_ShouldRoundTrip(String algorithm) throws Exception {
+        JWK key = generate(algorithm, "k1");
+        JwtKeyRing keyRing = new JwtKeyRing(algorithm, key, List.of(key));
+
+        String token = encode(keyRing.createEncoder(), "joao@email.com");
+        Jwt jwt = keyRing.createDecoder().decode(token);
+
+        assertThat(jwt.getSubject()).isEqualTo("joao@email.com");
+        assertThat(jwt.getHeaders()).containsEntry("kid", "k1").containsEntry("alg", algorithm);
+    }
+
+    @Test
+    @DisplayName("Deve aceitar tokens da chave anterior após a troca da chave de assinatura")
+    void decode_AfterKeyRollover_ShouldAcceptTokensFromPreviousKey() throws Exception {
+        JWK oldKey = generate("RS256", "antiga");
+        JWK newKey = generate("EdDSA", "nova");
+        String oldToken = encode(new JwtKeyRing("RS256", oldKey, List.of(oldKey)).createEncoder(), "antigo");
+
+        JwtKeyRing keyRing = JwtKeyRing.fromJwkSet("EdDSA", new JWKSet(List.of(oldKey.toPublicJWK(), newKey)), "nova");
+        JwtDecoder decoder = keyRing.createDecoder();
+
+        assertThat(keyRing.getSigningKeyId()).isEqualTo("nova");
+        assertThat(decoder.decode(oldToken).getSubject()).isEqualTo("antigo");
+        assertThat(decoder.decode(encode(keyRing.createEncoder(), "novo")).getSubject()).isEqualTo("novo");
+    }
+
+    @Test
+    @DisplayName("Deve recusar tokens de chaves desconhecidas")
+    void decode_WithUnknownKeyId_ShouldReject() throws Exception {
+        JWK key = generate("ES256", "k1");
+        JWK otherKey = generate("ES256", "k2");
+        JwtDecoder decoder = new JwtKeyRing("ES256", key, List.of(key)).createDecoder();
+
+        String token = encode(new JwtKeyRing("ES256", otherKey, List.of(otherKey)).createEncoder(), "joao@email.com");
+
+        assertThrows(JwtException.class, () -> decoder.decode(token));
+    }
+
+    @Test
+    @DisplayName("Deve aceitar tokens RSA sem kid emitidos antes da configuração de chaves")
+    void decode_LegacyTokenWithoutKeyId_ShouldUseSingleRsaKey() throws Exception {
+        RSAKey key = (RSAKey) generate("RS256", "k1");
+        JwtDecoder decoder = new JwtKeyRing("RS256", key, List.of(key)).createDecoder();
+
+        SignedJWT legacy = new SignedJWT(new JWSHeader(JWSAlgorithm.RS256), new JWTClaimsSet.Builder()
+                .subject("joao@email.com")
+                .issueTime(new Date())
+                .expirationTime(Date.from(Instant.now().plusSeconds(300)))
+                .build());
+        legacy.sign(new RSASSASigner(key));
+
+        assertThat(decoder.decode(legacy.serialize()).getSubject()).isEqualTo("joao@email.com");
+    }
+
+    @Test
+    @DisplayName("Deve recusar chaves incompatíveis com o algoritmo configurado")
+    void constructor_WithMismatchedAlgorithm_ShouldFail() throws Exception {
+        JWK key = generate("ES256", "k1");
+
+        assertThrows(IllegalArgumentException.class, () -> new JwtKeyRing("EdDSA", key, List.of(key)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"RS256", "ES256", "EdDSA"})
+    @DisplayName("Deve publicar apenas as chaves públicas e verificar com elas os tokens emitidos")
+    void forVerification_WithPublishedJwkSet_ShouldVerifyTokens(String algorithm) throws Exception {
+        JWK previousKey = generate("RS256", "anterior");
+        JWK key = generate(algorithm, "ativa");
+        JwtKeyRing keyRing = new JwtKeyRing(algorithm, key, List.of(previousKey.toPublicJWK(), key));
+
+        JWKSet published = JWKSet.parse(keyRing.toPublicJwkSet().toString());
+        JwtKeyRing verifier = JwtKeyRing.forVerification(published);
+
+        assertThat(published.getKeys()).extracting(JWK::getKeyID).containsExactlyInAnyOrder("anterior", "ativa");
+        assertThat(published.getKeys()).noneMatch(JWK::isPrivate);
+        assertThat(verifier.hasKeyId("ativa")).isTrue();
+        assertThat(verifier.getSigningKeyId()).isNull();
+        assertThat(verifier.createDecoder().decode(encode(keyRing.createEncoder(), "joao@email.com")).getSubject())
+                .isEqualTo("joao@email.com");
+        assertThrows(IllegalStateException.class, verifier::createEncoder);
+    }
+
+    /**
+     * Compara, por algoritmo, a vazão de assinatura e de verificação e o tamanho do token
+     * gerado. Executado apenas com {@code -Dbenchmark=true}.
+     */
+    @Test
+    @Benchmark
+    @DisplayName("Benchmark: assinatura, verificação e tamanho do token por algoritmo")
+    void benchmark_SignAndVerifyPerAlgorithm() throws Exception {
+        int warmup = 1_000;
+        int iterations = 5_000;
+
+        for (String algorithm : List.of("RS256", "ES256", "EdDSA")) {
+            JWK key = generate(algorithm, "k1");
+            JwtKeyRing keyRing = new JwtKeyRing(algorithm, key, List.of(key));
+            JwtEncoder encoder = keyRing.createEncoder();
+            JwtDecoder decoder = keyRing.createDecoder();
+            String token = encode(encoder, "joao@email.com");
+
+            long signNanos = BenchmarkRunner.time(warmup, iterations, i -> encode(encoder, "joao@email.com"));
+            long verifyNanos = BenchmarkRunner.time(warmup, iterations, i -> decoder.decode(token));
+
+            BenchmarkRunner.report("%s: assinatura %.0f ops/s, verificação %.0f ops/s, token com %d bytes",
+                    algorithm,
+                    BenchmarkRunner.perSecond(iterations, signNanos),
+                    BenchmarkRunner.perSecond(iterations, verifyNanos),
+                    token.length());
+
+            assertThat(decoder.decode(token).getSubject()).isEqualTo("joao@email.com");
+        }
+    }
+
+    private static JWK generate(String algorithm, String keyId) throws Exception {
+        return switch (algorithm) {
+            case "RS256" -> new RSAKeyGenerator(2048).keyID(keyId).generate();
+            case "ES256" -> new ECKeyGenerator(Curve.P_256).keyID(keyId).generate();
+            case "EdDSA" -> new OctetKeyPairGenerator(Curve.Ed25519).keyID(keyId).generate();
+            default -> throw new IllegalArgumentException(algorithm);
+        };
+    }
+
+    private static String encode(JwtEncoder encoder, String subject) {
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer("Api")
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(300))
+                .subject(subject)
+                .claim("scope", "BASIC")
+                .build();
+        return encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+    }
+}
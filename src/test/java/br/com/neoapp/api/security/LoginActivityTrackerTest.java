@@ -0,0 +1,101 @@
+package br.com.neoapp.api.security;
+
+import br.com.neoapp.api.events.LoginActivityFlushedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários para o Registro de Atividade de Login (LoginActivityTracker)")
+public class LoginActivityTrackerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoginActivityTracker loginActivityTracker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loginActivityTracker = new LoginActivityTracker(jdbcTemplate, meterRegistry, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Deve combinar os logins de cada cliente em uma única linha do lote")
+    @SuppressWarnings("unchecked")
+    void flush_ShouldCoalesceLoginsPerClient() {
+        loginActivityTracker.record("cliente-1");
+        loginActivityTracker.record("cliente-1");
+        loginActivityTracker.record("cliente-1");
+        loginActivityTracker.record("cliente-2");
+
+        loginActivityTracker.flush();
+
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batch.capture());
+        assertThat(batch.getValue()).hasSize(2);
+        assertThat(batch.getValue())
+                .filteredOn(row -> row[3].equals("cliente-1"))
+                .singleElement()
+                .satisfies(row -> assertThat(row[2]).isEqualTo(3L));
+        assertThat(meterRegistry.get("login.activity.pending").gauge().value()).isZero();
+
+        ArgumentCaptor<LoginActivityFlushedEvent> event = ArgumentCaptor.forClass(LoginActivityFlushedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().logins())
+                .extracting(LoginActivityFlushedEvent.Login::clientId, LoginActivityFlushedEvent.Login::count)
+                .containsExactlyInAnyOrder(tuple("cliente-1", 3L), tuple("cliente-2", 1L));
+    }
+
+    @Test
+    @DisplayName("Não deve acessar o banco quando não houver logins pendentes")
+    void flush_WithoutPendingLogins_ShouldNotQuery() {
+        loginActivityTracker.flush();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("Deve manter os logins pendentes quando a gravação do lote falhar")
+    @SuppressWarnings("unchecked")
+    void flush_WhenBatchFails_ShouldRetryOnNextFlush() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("banco indisponível"))
+                .thenReturn(new int[]{1});
+        loginActivityTracker.record("cliente-1");
+
+        loginActivityTracker.flush();
+        loginActivityTracker.record("cliente-1");
+        loginActivityTracker.flush();
+
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), batch.capture());
+        assertThat(batch.getAllValues().get(1)).singleElement()
+                .satisfies(row -> assertThat(row[2]).isEqualTo(2L));
+        verify(eventPublisher, times(1)).publishEvent(any(LoginActivityFlushedEvent.class));
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.neoapp.api.security;
+
+import br.com.neoapp.api.exceptions.TooManyLoginAttemptsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Testes Unitários para o Limitador de Tentativas de Login (LoginThrottle)")
+public class LoginThrottleTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Deve continuar contando as falhas de um e-mail com o limitador cheio de baldes em penalidade")
+    void onFailure_WithSaturatedEmailLimiter_ShouldStillThrottleEmail() {
+        LoginThrottle loginThrottle = new LoginThrottle(
+                meterRegistry, 1, Duration.ofMinutes(1), 1_000, Duration.ofSeconds(1), 16);
+        loginThrottle.acquire("vitima@email.com", "10.0.0.1");
+
+        for (int i = 0; i < 10_000; i++) {
+            loginThrottle.onFailure("usuario" + i + "@email.com", "10.0.1." + (i % 200));
+        }
+        loginThrottle.onFailure("vitima@email.com", "10.0.0.1");
+
+        assertThrows(TooManyLoginAttemptsException.class,
+                () -> loginThrottle.acquire("vitima@email.com", "10.0.0.1"));
+        assertThat(meterRegistry.get("login.throttle.saturated").tag("key", "email").counter().count())
+                .isPositive();
+    }
+
+    @Test
+    @DisplayName("Não deve recusar todos os IPs novos com o limitador de IPs cheio de baldes em penalidade")
+    void acquire_WithSaturatedIpLimiter_ShouldAcceptNewIps() {
+        LoginThrottle loginThrottle = new LoginThrottle(
+                meterRegistry, 5, Duration.ofMinutes(1), 1, Duration.ofMinutes(1), 16);
+        Counter saturated = meterRegistry.get("login.throttle.saturated").tag("key", "ip").counter();
+        for (int i = 0; saturated.count() == 0 && i < 10_000; i++) {
+            loginThrottle.acquire("usuario@email.com", "10.0.1." + i);
+        }
+        assertThat(saturated.count()).isPositive();
+
+        int accepted = 0;
+        for (int i = 0; i < 100; i++) {
+            try {
+                loginThrottle.acquire("usuario@email.com", "10.0.2." + i);
+                accepted++;
+            } catch (TooManyLoginAttemptsException e) {
+                // IPs que dividem o balde alternativo com outro já utilizado são recusados.
+            }
+        }
+
+        assertThat(accepted).isPositive();
+    }
+}
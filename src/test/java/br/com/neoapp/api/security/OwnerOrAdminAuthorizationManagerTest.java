@@ -0,0 +1,143 @@
+package br.com.neoapp.api.security;
+
+import br.com.neoapp.api.benchmark.Benchmark;
+import br.com.neoapp.api.benchmark.BenchmarkRunner;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes Unitários para a Autorização de Dono ou Administrador (OwnerOrAdminAuthorizationManager)")
+public class OwnerOrAdminAuthorizationManagerTest {
+
+    private final OwnerOrAdminAuthorizationManager manager = new OwnerOrAdminAuthorizationManager();
+
+    @Test
+    @DisplayName("Deve conceder acesso ao administrador para qualquer cliente")
+    void authorize_AsAdmin_ShouldGrant() throws Exception {
+        Authentication admin = authentication("admin", "SCOPE_ADMIN");
+
+        assertThat(manager.authorize(() -> admin, invocation("ownerOnly", "outro-cliente")).isGranted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve conceder acesso ao dono do recurso e negar aos demais usuários")
+    void authorize_AsUser_ShouldGrantOnlyOwner() throws Exception {
+        Authentication user = authentication("cliente-1", "SCOPE_USER");
+
+        assertThat(manager.authorize(() -> user, invocation("ownerOnly", "cliente-1")).isGranted()).isTrue();
+        assertThat(manager.authorize(() -> user, invocation("ownerOnly", "cliente-2")).isGranted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve usar o parâmetro indicado na anotação")
+    void authorize_WithCustomParameter_ShouldCompareThatArgument() throws Exception {
+        Authentication user = authentication("cliente-1", "SCOPE_USER");
+
+        assertThat(manager.authorize(() -> user, invocation("ownerByClientId", "outro", "cliente-1")).isGranted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve negar acesso a autenticações que não são JWT")
+    void authorize_WithoutJwt_ShouldDeny() throws Exception {
+        Authentication basic = new TestingAuthenticationToken("cliente-1", null, "SCOPE_USER");
+
+        assertThat(manager.authorize(() -> basic, invocation("ownerOnly", "cliente-1")).isGranted()).isFalse();
+    }
+
+    /**
+     * Compara o custo por chamada da verificação com {@code @PreAuthorize} e SpEL com o do
+     * {@link OwnerOrAdminAuthorizationManager}. A consulta ao banco feita pelo bean de
+     * autorização antigo não é incluída. Executado apenas com {@code -Dbenchmark=true}.
+     */
+    @Test
+    @Benchmark
+    @DisplayName("Benchmark: @PreAuthorize com SpEL versus @OwnerOrAdmin")
+    void benchmark_AuthorizationOverhead() throws Exception {
+        StaticApplicationContext context = new StaticApplicationContext();
+        context.registerSingleton("authorization", SubjectOwnership.class);
+        context.refresh();
+        DefaultMethodSecurityExpressionHandler expressionHandler = new DefaultMethodSecurityExpressionHandler();
+        expressionHandler.setApplicationContext(context);
+        PreAuthorizeAuthorizationManager spel = new PreAuthorizeAuthorizationManager();
+        spel.setExpressionHandler(expressionHandler);
+
+        Authentication user = authentication("cliente-1", "SCOPE_USER");
+        SimpleMethodInvocation spelInvocation = invocation("spelOwnerOnly", "cliente-1");
+        SimpleMethodInvocation compiledInvocation = invocation("ownerOnly", "cliente-1");
+        int warmup = 50_000;
+        int iterations = 500_000;
+
+        long spelNanos = measure(spel, user, spelInvocation, warmup, iterations);
+        long compiledNanos = measure(manager, user, compiledInvocation, warmup, iterations);
+
+        BenchmarkRunner.report("Autorização: @PreAuthorize/SpEL %.0f ns/op, @OwnerOrAdmin %.0f ns/op (%.1fx)",
+                BenchmarkRunner.average(spelNanos, iterations, TimeUnit.NANOSECONDS),
+                BenchmarkRunner.average(compiledNanos, iterations, TimeUnit.NANOSECONDS),
+                (double) spelNanos / compiledNanos);
+
+        assertThat(compiledNanos).isLessThan(spelNanos);
+    }
+
+    private static long measure(AuthorizationManager<MethodInvocation> authorizationManager,
+                                Authentication authentication,
+                                SimpleMethodInvocation invocation,
+                                int warmup,
+                                int iterations) throws Exception {
+        assertThat(authorizationManager.authorize(() -> authentication, invocation).isGranted()).isTrue();
+        return BenchmarkRunner.time(warmup, iterations, i -> authorizationManager.authorize(() -> authentication, invocation));
+    }
+
+    private static Authentication authentication(String subject, String authority) {
+        Jwt jwt = Jwt.withTokenValue("token").header("alg", "RS256").subject(subject).build();
+        return new JwtAuthenticationToken(jwt, AuthorityUtils.createAuthorityList(authority));
+    }
+
+    private static SimpleMethodInvocation invocation(String methodName, String... arguments) throws Exception {
+        Class<?>[] types = new Class<?>[arguments.length];
+        Arrays.fill(types, String.class);
+        Method method = ProtectedResource.class.getMethod(methodName, types);
+        return new SimpleMethodInvocation(new ProtectedResource(), method, (Object[]) arguments);
+    }
+
+    static class ProtectedResource {
+
+        @OwnerOrAdmin
+        public void ownerOnly(String id) {
+        }
+
+        @OwnerOrAdmin("clientId")
+        public void ownerByClientId(String id, String clientId) {
+        }
+
+        @PreAuthorize("hasAuthority('SCOPE_ADMIN') or @authorization.isAuthorized(#id, authentication)")
+        public void spelOwnerOnly(String id) {
+        }
+    }
+
+    /**
+     * Equivalente ao antigo bean {@code authorization}, sem a consulta ao banco.
+     */
+    public static class SubjectOwnership {
+
+        public boolean isAuthorized(String id, Authentication authentication) {
+            return ((Jwt) authentication.getPrincipal()).getSubject().equals(id);
+        }
+    }
+}
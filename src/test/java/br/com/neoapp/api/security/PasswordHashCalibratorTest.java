@@ -0,0 +1,52 @@
+package br.com.neoapp.api.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Testes Unitários para a Calibração do Hashing de Senhas (PasswordHashCalibrator)")
+public class PasswordHashCalibratorTest {
+
+    private final PasswordHashCalibrator calibrator = new PasswordHashCalibrator(Duration.ofMillis(1), 4, 1024);
+
+    @Test
+    @DisplayName("Deve codificar com o BCrypt calibrado e aceitar hashes legados sem prefixo")
+    void createEncoder_WithBCrypt_ShouldEncodeAndMatchLegacyHashes() {
+        PasswordEncoder encoder = calibrator.createEncoder("bcrypt");
+        String legacyHash = new BCryptPasswordEncoder(4).encode("senhaforte");
+
+        String encoded = encoder.encode("senhaforte");
+
+        assertThat(encoded).startsWith("{bcrypt}$2a$04$");
+        assertThat(encoder.matches("senhaforte", encoded)).isTrue();
+        assertThat(encoder.matches("senhaforte", legacyHash)).isTrue();
+        assertThat(encoder.upgradeEncoding(legacyHash)).isTrue();
+        assertThat(encoder.upgradeEncoding(encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve codificar com o Argon2 calibrado e marcar hashes BCrypt para atualização")
+    void createEncoder_WithArgon2_ShouldUpgradeBCryptHashes() {
+        PasswordEncoder encoder = calibrator.createEncoder("argon2");
+        String bcryptHash = "{bcrypt}" + new BCryptPasswordEncoder(4).encode("senhaforte");
+
+        String encoded = encoder.encode("senhaforte");
+
+        assertThat(encoded).startsWith("{argon2}");
+        assertThat(encoder.matches("senhaforte", encoded)).isTrue();
+        assertThat(encoder.matches("senhaforte", bcryptHash)).isTrue();
+        assertThat(encoder.upgradeEncoding(bcryptHash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve recusar algoritmos não suportados")
+    void createEncoder_WithUnknownAlgorithm_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> calibrator.createEncoder("md5"));
+    }
+}
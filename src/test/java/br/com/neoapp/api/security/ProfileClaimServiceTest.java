@@ -0,0 +1,155 @@
+package br.com.neoapp.api.security;
+
+import br.com.neoapp.api.controller.dto.ClientResponseDTO;
+import br.com.neoapp.api.events.ClientDeletedEvent;
+import br.com.neoapp.api.events.ClientSavedEvent;
+import br.com.neoapp.api.mapper.ClientMapper;
+import br.com.neoapp.api.model.Client;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes Unitários para o Resumo do Perfil no Token (ProfileClaimService)")
+public class ProfileClaimServiceTest {
+
+    private static final Duration ACCESS_TOKEN_TTL = Duration.ofMinutes(5);
+
+    private ProfileClaimService profileClaimService;
+    private Client client;
+
+    @BeforeEach
+    void setUp() {
+        profileClaimService = new ProfileClaimService(Mappers.getMapper(ClientMapper.class), true, ACCESS_TOKEN_TTL);
+        OffsetDateTime createdAt = OffsetDateTime.now().minusDays(10);
+        client = new Client("1", "João Silva", LocalDate.of(1990, 5, 15), "joao.silva@email.com", "senha",
+                null, "12345678909", createdAt, createdAt, new ArrayList<>());
+    }
+
+    @Test
+    @DisplayName("Deve montar os dados do cliente a partir do claim do token")
+    void fromJwt_WithCurrentProfile_ShouldReturnClient() {
+        Jwt jwt = jwt(profileClaimService.toClaim(client), Instant.now());
+
+        ClientResponseDTO result = profileClaimService.fromJwt(jwt).orElseThrow();
+
+        assertThat(result.id()).isEqualTo("1");
+        assertThat(result.email()).isEqualTo("joao.silva@email.com");
+        assertThat(result.phone()).isNull();
+        assertThat(result.age()).isEqualTo(Mappers.getMapper(ClientMapper.class).calculateAge(client.getBirthday()));
+        assertThat(result.updateAt()).isEqualTo(client.getUpdateAt());
+    }
+
+    @Test
+    @DisplayName("Não deve incluir CPF, e-mail, telefone ou data de nascimento no claim do token")
+    void toClaim_ShouldContainOnlyNonSensitiveFields() {
+        client.setPhone("11987654321");
+
+        Map<String, Object> profile = profileClaimService.toClaim(client);
+
+        assertThat(profile).containsOnlyKeys("n", "ca", "ua", "v");
+        assertThat(profile.values()).doesNotContain(client.getCpf(), client.getEmail(), client.getPhone(),
+                client.getBirthday().toString());
+    }
+
+    @Test
+    @DisplayName("Deve descartar o claim quando os dados sensíveis do cliente não estiverem em memória")
+    void fromJwt_WithoutDetailsInMemory_ShouldReturnEmpty() {
+        Map<String, Object> profile = profileClaimService.toClaim(client);
+        ProfileClaimService otherInstance = new ProfileClaimService(Mappers.getMapper(ClientMapper.class), true, ACCESS_TOKEN_TTL);
+
+        assertThat(otherInstance.fromJwt(jwt(profile, Instant.now()))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve descartar o claim de tokens emitidos antes da inicialização")
+    void fromJwt_WithTokenIssuedBeforeStartup_ShouldReturnEmpty() {
+        Jwt jwt = jwt(profileClaimService.toClaim(client), Instant.now().minusSeconds(60));
+
+        assertThat(profileClaimService.fromJwt(jwt)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve descartar o claim quando o cliente for atualizado ou excluído depois da emissão")
+    void fromJwt_AfterUpdateOrDelete_ShouldReturnEmpty() {
+        Jwt jwt = jwt(profileClaimService.toClaim(client), Instant.now());
+
+        client.setUpdateAt(client.getUpdateAt().plusSeconds(1));
+        profileClaimService.onClientSaved(new ClientSavedEvent(client));
+        assertThat(profileClaimService.fromJwt(jwt)).isEmpty();
+
+        Jwt refreshed = jwt(profileClaimService.toClaim(client), Instant.now());
+        assertThat(profileClaimService.fromJwt(refreshed)).isPresent();
+
+        profileClaimService.onClientDeleted(new ClientDeletedEvent("1"));
+        assertThat(profileClaimService.fromJwt(refreshed)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Não deve incluir nem usar o claim com o modo desabilitado")
+    void toClaim_WhenDisabled_ShouldReturnNull() {
+        ProfileClaimService disabled = new ProfileClaimService(Mappers.getMapper(ClientMapper.class), false, ACCESS_TOKEN_TTL);
+
+        assertThat(disabled.toClaim(client)).isNull();
+        assertThat(disabled.fromJwt(jwt(profileClaimService.toClaim(client), Instant.now()))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Não deve registrar alterações de clientes com o modo desabilitado")
+    void onClientSavedAndDeleted_WhenDisabled_ShouldKeepNothing() {
+        ProfileClaimService disabled = new ProfileClaimService(Mappers.getMapper(ClientMapper.class), false, ACCESS_TOKEN_TTL);
+
+        disabled.onClientSaved(new ClientSavedEvent(client));
+        disabled.onClientDeleted(new ClientDeletedEvent("2"));
+
+        assertThat(disabled.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve descartar as alterações e os dados em memória após a validade do token de acesso")
+    void purgeExpired_AfterAccessTokenTtl_ShouldDropEntries() {
+        Jwt jwt = jwt(profileClaimService.toClaim(client), Instant.now());
+        profileClaimService.onClientDeleted(new ClientDeletedEvent("2"));
+
+        profileClaimService.purgeExpired(Instant.now());
+        assertThat(profileClaimService.fromJwt(jwt)).isPresent();
+
+        profileClaimService.purgeExpired(Instant.now().plus(ACCESS_TOKEN_TTL).plusSeconds(1));
+        assertThat(profileClaimService.size()).isZero();
+        assertThat(profileClaimService.fromJwt(jwt)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve descartar os dados dos clientes usados há mais tempo ao atingir o limite")
+    void toClaim_BeyondMaxDetails_ShouldEvictLeastRecentlyUsed() {
+        Map<String, Object> first = profileClaimService.toClaim(client);
+        for (int i = 2; i <= ProfileClaimService.MAX_DETAILS + 1; i++) {
+            client.setId(String.valueOf(i));
+            profileClaimService.toClaim(client);
+        }
+
+        assertThat(profileClaimService.size()).isEqualTo(ProfileClaimService.MAX_DETAILS);
+        assertThat(profileClaimService.fromJwt(jwt(first, Instant.now()))).isEmpty();
+        client.setId("1");
+        assertThat(profileClaimService.fromJwt(jwt(profileClaimService.toClaim(client), Instant.now()))).isPresent();
+    }
+
+    private static Jwt jwt(Map<String, Object> profile, Instant issuedAt) {
+        return Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("1")
+                .issuedAt(issuedAt)
+                .claim(ProfileClaimService.PROFILE_CLAIM, profile)
+                .build();
+    }
+}
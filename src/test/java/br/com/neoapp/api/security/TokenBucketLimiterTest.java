@@ -0,0 +1,107 @@
+package br.com.neoapp.api.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes Unitários para o Limitador de Taxa por Chave (TokenBucketLimiter)")
+public class TokenBucketLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong(1_000 * SECOND);
+
+    @Test
+    @DisplayName("Deve permitir uma rajada do tamanho da capacidade e recusar a tentativa seguinte")
+    void tryAcquire_BeyondCapacity_ShouldReturnWait() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(3, 10 * SECOND, 100, clock::get);
+
+        assertThat(limiter.tryAcquire("chave")).isZero();
+        assertThat(limiter.tryAcquire("chave")).isZero();
+        assertThat(limiter.tryAcquire("chave")).isZero();
+        assertThat(limiter.tryAcquire("chave")).isEqualTo(10 * SECOND);
+        assertThat(limiter.tryAcquire("outra")).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve repor uma ficha a cada intervalo")
+    void tryAcquire_AfterRefillInterval_ShouldAllowAgain() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 10 * SECOND, 100, clock::get);
+
+        assertThat(limiter.tryAcquire("chave")).isZero();
+        clock.addAndGet(4 * SECOND);
+        assertThat(limiter.tryAcquire("chave")).isEqualTo(6 * SECOND);
+        clock.addAndGet(6 * SECOND);
+        assertThat(limiter.tryAcquire("chave")).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve devolver fichas e encher o balde novamente")
+    void refundAndReset_ShouldRestoreTokens() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 10 * SECOND, 100, clock::get);
+
+        limiter.tryAcquire("chave");
+        limiter.refund("chave");
+        assertThat(limiter.tryAcquire("chave")).isZero();
+
+        limiter.reset("chave");
+        assertThat(limiter.tryAcquire("chave")).isZero();
+        assertThat(limiter.tryAcquire("chave")).isPositive();
+    }
+
+    @Test
+    @DisplayName("Deve manter no máximo a quantidade configurada de chaves")
+    void tryAcquire_WithManyKeys_ShouldBoundMemory() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 10 * SECOND, 160, clock::get);
+
+        for (int i = 0; i < 10_000; i++) {
+            limiter.tryAcquire("chave-" + i);
+        }
+
+        assertThat(limiter.size()).isLessThanOrEqualTo(160);
+    }
+
+    @Test
+    @DisplayName("Deve consultar o saldo do balde sem consumir fichas")
+    void peek_ShouldNotConsumeTokens() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 10 * SECOND, 100, clock::get);
+
+        assertThat(limiter.peek("chave")).isZero();
+        assertThat(limiter.peek("chave")).isZero();
+        assertThat(limiter.tryAcquire("chave")).isZero();
+        assertThat(limiter.peek("chave")).isEqualTo(10 * SECOND);
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Não deve descartar um balde em penalidade ao receber muitas chaves distintas")
+    void tryAcquire_WithKeySpraying_ShouldKeepPenalizedBucket() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 10 * SECOND, 16, clock::get);
+        limiter.tryAcquire("vitima");
+
+        for (int i = 0; i < 10_000; i++) {
+            limiter.tryAcquire("chave-" + i);
+        }
+
+        assertThat(limiter.tryAcquire("vitima")).isPositive();
+        assertThat(limiter.size()).isLessThanOrEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("Deve descartar os baldes já repostos para abrir espaço a chaves novas")
+    void tryAcquire_AfterRefill_ShouldReuseSpace() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 10 * SECOND, 16, clock::get);
+        for (int i = 0; i < 10_000; i++) {
+            limiter.tryAcquire("chave-" + i);
+        }
+        assertThat(limiter.tryAcquire("nova")).isEqualTo(TokenBucketLimiter.SATURATED);
+
+        clock.addAndGet(10 * SECOND);
+
+        assertThat(limiter.tryAcquire("nova")).isZero();
+    }
+}
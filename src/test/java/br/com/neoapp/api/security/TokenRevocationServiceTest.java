@@ -0,0 +1,131 @@
+package br.com.neoapp.api.security;
+
+import br.com.neoapp.api.model.RevokedToken;
+import br.com.neoapp.api.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários para a Revogação de Tokens de Acesso (TokenRevocationService)")
+public class TokenRevocationServiceTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tokenRevocationService = new TokenRevocationService(revokedTokenRepository, meterRegistry, 1_000, 0.001);
+    }
+
+    @Test
+    @DisplayName("Deve responder pelo filtro, sem consultar o banco, para tokens não revogados")
+    void isRevoked_WithTokenOutsideFilter_ShouldNotQueryRepository() {
+        when(revokedTokenRepository.findJtisExpiringAfter(any())).thenReturn(List.of("revogado"));
+        tokenRevocationService.rebuild();
+
+        assertThat(tokenRevocationService.isRevoked("valido")).isFalse();
+
+        verify(revokedTokenRepository, never()).existsById(anyString());
+        assertThat(meterRegistry.get("jwt.revocation.checks").tag("result", "filtered").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve confirmar no banco os tokens encontrados no filtro")
+    void isRevoked_WithTokenInFilter_ShouldConfirmInRepository() {
+        when(revokedTokenRepository.findJtisExpiringAfter(any())).thenReturn(List.of("revogado"));
+        when(revokedTokenRepository.existsById("revogado")).thenReturn(true);
+        tokenRevocationService.rebuild();
+
+        assertThat(tokenRevocationService.isRevoked("revogado")).isTrue();
+        assertThat(meterRegistry.get("jwt.revocation.checks").tag("result", "revoked").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco enquanto o filtro não tiver sido carregado")
+    void isRevoked_BeforeFirstLoad_ShouldQueryRepository() {
+        when(revokedTokenRepository.existsById("qualquer")).thenReturn(false);
+
+        assertThat(tokenRevocationService.isRevoked("qualquer")).isFalse();
+
+        verify(revokedTokenRepository).existsById("qualquer");
+    }
+
+    @Test
+    @DisplayName("Deve registrar a revogação e recusar o token na validação")
+    void revoke_ShouldPersistAndFailValidation() {
+        tokenRevocationService.rebuild();
+        Jwt jwt = jwt("jti-1");
+        when(revokedTokenRepository.existsById("jti-1")).thenReturn(true);
+
+        tokenRevocationService.revoke(jwt);
+        OAuth2TokenValidatorResult result = tokenRevocationService.validate(jwt);
+
+        verify(revokedTokenRepository).save(any(RevokedToken.class));
+        assertThat(result.hasErrors()).isTrue();
+        assertThat(result.getErrors()).allMatch(error -> error.getErrorCode().equals(OAuth2ErrorCodes.INVALID_TOKEN));
+    }
+
+    @Test
+    @DisplayName("Deve incluir no filtro as revogações gravadas por outras instâncias")
+    void syncRecentRevocations_ShouldAddRevocationsFromOtherInstances() {
+        tokenRevocationService.rebuild();
+        assertThat(tokenRevocationService.isRevoked("outra-instancia")).isFalse();
+        verify(revokedTokenRepository, never()).existsById(anyString());
+
+        when(revokedTokenRepository.findJtisRevokedAfter(any())).thenReturn(List.of("outra-instancia"));
+        when(revokedTokenRepository.existsById("outra-instancia")).thenReturn(true);
+        tokenRevocationService.syncRecentRevocations();
+
+        assertThat(tokenRevocationService.isRevoked("outra-instancia")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Não deve consultar o banco na cópia das revogações antes da primeira carga")
+    void syncRecentRevocations_BeforeFirstLoad_ShouldDoNothing() {
+        tokenRevocationService.syncRecentRevocations();
+
+        verify(revokedTokenRepository, never()).findJtisRevokedAfter(any());
+    }
+
+    @Test
+    @DisplayName("Deve aceitar tokens sem jti")
+    void validate_WithoutJti_ShouldSucceed() {
+        Jwt jwt = Jwt.withTokenValue("token").header("alg", "RS256").subject("1").build();
+
+        assertThat(tokenRevocationService.validate(jwt).hasErrors()).isFalse();
+        verify(revokedTokenRepository, never()).existsById(anyString());
+    }
+
+    private static Jwt jwt(String jti) {
+        Instant now = Instant.now();
+        return Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("1")
+                .jti(jti)
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(300))
+                .build();
+    }
+}
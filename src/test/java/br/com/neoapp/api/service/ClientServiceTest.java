@@ -2,17 +2,25 @@ package br.com.neoapp.api.service;
 
 import br.com.neoapp.api.controller.dto.ClientRequestDTO;
 import br.com.neoapp.api.controller.dto.ClientResponseDTO;
+import br.com.neoapp.api.controller.dto.ClientSuggestionDTO;
 import br.com.neoapp.api.controller.dto.ClientUpdateDTO;
 import br.com.neoapp.api.enums.RoleName;
 import br.com.neoapp.api.exceptions.ClientNotFound;
 import br.com.neoapp.api.exceptions.CpfExistsException;
 import br.com.neoapp.api.exceptions.EmailExistsException;
+import br.com.neoapp.api.exceptions.InvalidDateRangeException;
 import br.com.neoapp.api.mapper.ClientMapper;
 import br.com.neoapp.api.mapper.ClientUpdateMapper;
 import br.com.neoapp.api.model.Client;
 import br.com.neoapp.api.model.Role;
+import br.com.neoapp.api.readmodel.ClientReadModel;
+import br.com.neoapp.api.replica.ReadYourWrites;
 import br.com.neoapp.api.repository.ClientRepository;
 import br.com.neoapp.api.repository.RoleRepository;
+import br.com.neoapp.api.search.ClientNameSuggester;
+import br.com.neoapp.api.search.ClientSearchIndex;
+import br.com.neoapp.api.search.ClientSubstringIndex;
+import br.com.neoapp.api.security.ProfileClaimService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,11 +28,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jwt.Jwt;
 
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
@@ -32,6 +42,7 @@ import java.time.Period;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -56,6 +67,27 @@ public class ClientServiceTest {
     @Mock
     private ClientUpdateMapper clientUpdateMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ClientSearchIndex clientSearchIndex;
+
+    @Mock
+    private ClientSubstringIndex clientSubstringIndex;
+
+    @Mock
+    private ClientNameSuggester clientNameSuggester;
+
+    @Mock
+    private ClientReadModel clientReadModel;
+
+    @Mock
+    private ProfileClaimService profileClaimService;
+
+    @Mock
+    private ReadYourWrites readYourWrites;
+
     @InjectMocks
     private ClientService clientService;
 
@@ -122,6 +154,7 @@ public class ClientServiceTest {
         ClientResponseDTO actualResponse = clientService.creatClient(clientRequestDTO);
 
         verify(clientRepository).save(any(Client.class));
+        verify(readYourWrites).recordWrite(savedClient.getId());
         assertThat(actualResponse).isEqualTo(clientResponseDTO);
     }
 
@@ -324,5 +357,139 @@ public class ClientServiceTest {
 
         verify(clientRepository).getAllClientsWithAttributesPage(name, null, null, null, startDate, null, pageable);
         verify(clientMapper).toPageResponse(clientPageFromRepo);
+        verifyNoInteractions(clientSubstringIndex);
+    }
+
+    @Test
+    @DisplayName("Deve buscar aniversariantes de um único dia pela chave mês-dia")
+    void getClientsByBirthday_WithSingleDate_ShouldQuerySingleMonthDay() {
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<Client> clientPage = new PageImpl<>(List.of(savedClient));
+
+        when(clientRepository.findByBirthdayMonthDayRanges(
+                (short) 515, (short) 515, (short) 515, (short) 515, pageable)).thenReturn(clientPage);
+
+        clientService.getClientsByBirthday(LocalDate.of(2026, 5, 15), null, pageable);
+
+        verify(clientRepository).findByBirthdayMonthDayRanges(
+                (short) 515, (short) 515, (short) 515, (short) 515, pageable);
+        verify(clientMapper).toPageResponse(clientPage);
+    }
+
+    @Test
+    @DisplayName("Deve dividir em dois intervalos um período que atravessa a virada do ano")
+    void getClientsByBirthday_WithYearWrapAround_ShouldQueryTwoRanges() {
+        Pageable pageable = PageRequest.of(0, 10);
+
+        clientService.getClientsByBirthday(LocalDate.of(2026, 12, 28), LocalDate.of(2027, 1, 3), pageable);
+
+        verify(clientRepository).findByBirthdayMonthDayRanges(
+                (short) 1228, (short) 1231, (short) 101, (short) 103, pageable);
+    }
+
+    @Test
+    @DisplayName("Deve incluir os nascidos em 29/02 no dia 28/02 de anos não bissextos")
+    void getClientsByBirthday_OnFeb28OfNonLeapYear_ShouldIncludeFeb29() {
+        Pageable pageable = PageRequest.of(0, 10);
+
+        clientService.getClientsByBirthday(LocalDate.of(2027, 2, 28), null, pageable);
+
+        verify(clientRepository).findByBirthdayMonthDayRanges(
+                (short) 228, (short) 229, (short) 228, (short) 229, pageable);
+    }
+
+    @Test
+    @DisplayName("Deve lançar InvalidDateRangeException quando a data final for anterior à inicial")
+    void getClientsByBirthday_WithEndBeforeStart_ShouldThrowInvalidDateRange() {
+        Pageable pageable = PageRequest.of(0, 10);
+
+        assertThrows(InvalidDateRangeException.class, () ->
+                clientService.getClientsByBirthday(LocalDate.of(2026, 5, 15), LocalDate.of(2026, 5, 1), pageable)
+        );
+
+        verify(clientRepository, never()).findByBirthdayMonthDayRanges(
+                anyShort(), anyShort(), anyShort(), anyShort(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Deve restringir a busca por atributos aos candidatos do índice de substring")
+    void getAllClientsWithAttributesPage_WithIndexCandidates_ShouldQueryOnlyCandidates() {
+        Pageable pageable = PageRequest.of(0, 5);
+        Set<String> candidates = Set.of(savedClient.getId());
+        Page<Client> clientPageFromRepo = new PageImpl<>(List.of(savedClient));
+
+        when(clientSubstringIndex.candidates("joao@", null)).thenReturn(candidates);
+        when(clientRepository.getAllClientsWithAttributesPageInIds(
+                null, "joao@", null, null, null, null, candidates, pageable)).thenReturn(clientPageFromRepo);
+
+        clientService.getAllClientsWithAttributesPage(null, "joao@", null, null, null, null, pageable);
+
+        verify(clientRepository).getAllClientsWithAttributesPageInIds(
+                null, "joao@", null, null, null, null, candidates, pageable);
+        verify(clientRepository, never()).getAllClientsWithAttributesPage(
+                any(), any(), any(), any(), any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Deve retornar página vazia sem consultar o banco quando o índice não tiver candidatos")
+    void getAllClientsWithAttributesPage_WithoutIndexCandidates_ShouldSkipDatabase() {
+        Pageable pageable = PageRequest.of(0, 5);
+
+        when(clientSubstringIndex.candidates(null, "99999")).thenReturn(Set.of());
+
+        Page<ClientResponseDTO> result = clientService.getAllClientsWithAttributesPage(
+                null, null, null, "99999", null, null, pageable);
+
+        assertThat(result.getContent()).isEmpty();
+        verifyNoInteractions(clientRepository);
+    }
+
+    @Test
+    @DisplayName("Deve limitar a quantidade de sugestões de nomes solicitada")
+    void suggestClients_WithLargeLimit_ShouldCapSuggestions() {
+        List<ClientSuggestionDTO> suggestions = List.of(new ClientSuggestionDTO(savedClient.getId(), savedClient.getName()));
+        when(clientNameSuggester.suggest("jo", 50)).thenReturn(suggestions);
+
+        List<ClientSuggestionDTO> result = clientService.suggestClients("jo", 1000);
+
+        assertThat(result).isEqualTo(suggestions);
+        verify(clientNameSuggester).suggest("jo", 50);
+    }
+
+    @Test
+    @DisplayName("Deve buscar o cliente no modelo de leitura em memória quando ele estiver pronto")
+    void getClientById_WhenReadModelReady_ShouldNotQueryDatabase() {
+        when(clientReadModel.isReady()).thenReturn(true);
+        when(clientReadModel.findById(savedClient.getId())).thenReturn(Optional.of(clientResponseDTO));
+
+        ClientResponseDTO result = clientService.getClientById(savedClient.getId());
+
+        assertThat(result).isEqualTo(clientResponseDTO);
+        verifyNoInteractions(clientRepository);
+    }
+
+    @Test
+    @DisplayName("Deve responder /me a partir do token quando o resumo do perfil for atual")
+    void getCurrentClient_WithCurrentProfileClaim_ShouldNotQueryDatabase() {
+        Jwt jwt = Jwt.withTokenValue("token").header("alg", "RS256").subject(savedClient.getId()).build();
+        when(profileClaimService.fromJwt(jwt)).thenReturn(Optional.of(clientResponseDTO));
+
+        ClientResponseDTO result = clientService.getCurrentClient(jwt);
+
+        assertThat(result).isEqualTo(clientResponseDTO);
+        verifyNoInteractions(clientRepository);
+    }
+
+    @Test
+    @DisplayName("Deve buscar o cliente do token no banco quando não houver resumo do perfil atual")
+    void getCurrentClient_WithoutProfileClaim_ShouldLoadBySubject() {
+        Jwt jwt = Jwt.withTokenValue("token").header("alg", "RS256").subject(savedClient.getId()).build();
+        when(profileClaimService.fromJwt(jwt)).thenReturn(Optional.empty());
+        when(clientRepository.findById(savedClient.getId())).thenReturn(Optional.of(savedClient));
+        when(clientMapper.toResponse(savedClient)).thenReturn(clientResponseDTO);
+
+        ClientResponseDTO result = clientService.getCurrentClient(jwt);
+
+        assertThat(result).isEqualTo(clientResponseDTO);
     }
 }
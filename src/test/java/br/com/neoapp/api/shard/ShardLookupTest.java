@@ -0,0 +1,89 @@
+package br.com.neoapp.api.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Testes Unitários para as Tabelas de Consulta por E-mail e CPF (ShardLookup)")
+public class ShardLookupTest {
+
+    private HikariDataSource dataSource;
+    private ShardLookup lookup;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:lookup;DB_CLOSE_DELAY=-1;MODE=PostgreSQL");
+        lookup = new ShardLookup(new JdbcTemplate(dataSource));
+        lookup.createTables();
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(dataSource).execute("DROP ALL OBJECTS");
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("Deve registrar o e-mail e o CPF de um novo cliente")
+    void claim_WithNewClient_ShouldRegisterEmailAndCpf() {
+        lookup.confirm(lookup.claim("client-1", "ana@email.com", "12345678901"));
+
+        assertThat(lookup.findClientIdByEmail("ana@email.com")).isEqualTo("client-1");
+        assertThat(lookup.existsByCpf("12345678901")).isTrue();
+        assertThat(lookup.existsByEmail("outro@email.com")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar o e-mail de outro cliente sem manter o CPF incluído")
+    void claim_WithEmailOfAnotherClient_ShouldThrowAndKeepNothing() {
+        lookup.confirm(lookup.claim("client-1", "ana@email.com", "12345678901"));
+
+        assertThatThrownBy(() -> lookup.claim("client-2", "ana@email.com", "98765432100"))
+                .isInstanceOf(DuplicateKeyException.class);
+        assertThat(lookup.existsByCpf("98765432100")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar o CPF de outro cliente desfazendo o e-mail incluído")
+    void claim_WithCpfOfAnotherClient_ShouldUndoEmail() {
+        lookup.confirm(lookup.claim("client-1", "ana@email.com", "12345678901"));
+
+        assertThatThrownBy(() -> lookup.claim("client-2", "bia@email.com", "12345678901"))
+                .isInstanceOf(DuplicateKeyException.class);
+        assertThat(lookup.existsByEmail("bia@email.com")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve trocar o e-mail do cliente apenas na confirmação e manter o anterior ao desfazer")
+    void confirmAndUndo_WithChangedEmail_ShouldReplaceOrKeepPreviousEntry() {
+        lookup.confirm(lookup.claim("client-1", "ana@email.com", "12345678901"));
+
+        lookup.undo(lookup.claim("client-1", "ana.nova@email.com", "12345678901"));
+        assertThat(lookup.existsByEmail("ana@email.com")).isTrue();
+        assertThat(lookup.existsByEmail("ana.nova@email.com")).isFalse();
+        assertThat(lookup.existsByCpf("12345678901")).isTrue();
+
+        lookup.confirm(lookup.claim("client-1", "ana.nova@email.com", "12345678901"));
+        assertThat(lookup.existsByEmail("ana@email.com")).isFalse();
+        assertThat(lookup.findClientIdByEmail("ana.nova@email.com")).isEqualTo("client-1");
+    }
+
+    @Test
+    @DisplayName("Deve remover as entradas do cliente excluído")
+    void release_ShouldRemoveClientEntries() {
+        lookup.confirm(lookup.claim("client-1", "ana@email.com", "12345678901"));
+
+        lookup.release("client-1");
+
+        assertThat(lookup.existsByEmail("ana@email.com")).isFalse();
+        assertThat(lookup.existsByCpf("12345678901")).isFalse();
+    }
+}
@@ -0,0 +1,90 @@
+package br.com.neoapp.api.shard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes Unitários para a Junção dos Resultados dos Shards (ShardMerge)")
+public class ShardMergeTest {
+
+    public record Row(String id, String name, Integer age) {
+
+        public String getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Integer getAge() {
+            return age;
+        }
+    }
+
+    @Test
+    @DisplayName("Deve intercalar as listas ordenadas de cada shard respeitando o deslocamento e o limite")
+    void merge_WithOffsetAndLimit_ShouldReturnWindowOfMergedOrder() {
+        Comparator<Object> comparator = ShardMerge.comparator(ShardMerge.withIdTieBreak(Sort.by("name")));
+        List<List<Row>> shards = List.of(
+                List.of(row("1", "Ana"), row("4", "Davi"), row("7", "Gil")),
+                List.of(row("2", "Bia"), row("5", "Eva")),
+                List.of(row("3", "Caio"), row("6", "Fabi")));
+
+        List<Row> merged = ShardMerge.merge(shards, comparator, 2, 3);
+
+        assertThat(merged).extracting(Row::name).containsExactly("Caio", "Davi", "Eva");
+    }
+
+    @Test
+    @DisplayName("Deve desempatar pelo ID os registros com a mesma chave de ordenação")
+    void comparator_WithTiesAndColumnName_ShouldUseIdAsTieBreak() {
+        Comparator<Object> comparator = ShardMerge.comparator(ShardMerge.withIdTieBreak(Sort.by(Sort.Direction.DESC, "name")));
+        List<List<Row>> shards = List.of(List.of(row("b", "Ana")), List.of(row("c", "Bia"), row("a", "Ana")));
+
+        List<Row> merged = ShardMerge.merge(shards, comparator, 0, 10);
+
+        assertThat(merged).extracting(Row::id).containsExactly("c", "a", "b");
+        assertThat(ShardMerge.withIdTieBreak(Sort.by("id")).toList()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Deve comparar textos por código de caractere, como a collation C do banco")
+    void comparator_WithText_ShouldFollowBinaryCollation() {
+        List<List<Row>> shards = List.of(List.of(row("1", "Bia"), row("2", "Zé")), List.of(row("3", "ana"), row("4", "Ágata")));
+
+        List<Row> caseSensitive = ShardMerge.merge(shards, ShardMerge.comparator(Sort.by("name")), 0, 10);
+        List<Row> ignoringCase = ShardMerge.merge(
+                List.of(List.of(row("3", "ana"), row("1", "Bia"), row("2", "Zé")), List.of(row("4", "Ágata"))),
+                ShardMerge.comparator(Sort.by(Sort.Order.asc("name").ignoreCase())), 0, 10);
+
+        assertThat(caseSensitive).extracting(Row::name).containsExactly("Bia", "Zé", "ana", "Ágata");
+        assertThat(ignoringCase).extracting(Row::name).containsExactly("ana", "Bia", "Zé", "Ágata");
+        assertThat(ShardMerge.compareText("\uFFFD", "\uD83D\uDE00", false)).isNegative();
+    }
+
+    @Test
+    @DisplayName("Deve posicionar os nulos por último em ordem crescente e primeiro em decrescente")
+    void comparator_WithNulls_ShouldFollowDatabaseConvention() {
+        List<List<Row>> shards = List.of(
+                List.of(new Row("1", "Ana", 20), new Row("3", "Caio", null)),
+                List.of(new Row("2", "Bia", 30)));
+
+        List<Row> ascending = ShardMerge.merge(shards, ShardMerge.comparator(Sort.by("age")), 0, 10);
+        List<Row> descending = ShardMerge.merge(
+                List.of(List.of(shards.get(0).get(1), shards.get(0).get(0)), shards.get(1)),
+                ShardMerge.comparator(Sort.by(Sort.Direction.DESC, "age")), 0, 10);
+
+        assertThat(ascending).extracting(Row::id).containsExactly("1", "2", "3");
+        assertThat(descending).extracting(Row::id).containsExactly("3", "2", "1");
+    }
+
+    private static Row row(String id, String name) {
+        return new Row(id, name, null);
+    }
+}
@@ -0,0 +1,246 @@
+package br.com.neoapp.api.shard;
+
+import br.com.neoapp.api.controller.ClientControllerTest;
+import br.com.neoapp.api.controller.dto.ClientRequestDTO;
+import br.com.neoapp.api.controller.dto.ClientUpdateDTO;
+import br.com.neoapp.api.controller.dto.LoginRequest;
+import br.com.neoapp.api.controller.dto.RefreshTokenRequest;
+import br.com.neoapp.api.model.Client;
+import br.com.neoapp.api.repository.ClientRepository;
+import br.com.neoapp.api.repository.RefreshTokenRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Fluxos completos com os clientes distribuídos em três bancos H2 no modo PostgreSQL, passando pelo
+ * interceptador dos repositórios, pelas tabelas de e-mails e CPFs do shard principal e pela
+ * paginação combinada entre os shards. Sem transação no teste: cada operação do roteador abre a
+ * sua própria transação no shard de destino, como em produção.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sharding0;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "app.sharding.enabled=true",
+        "app.sharding.urls=jdbc:h2:mem:sharding1;DB_CLOSE_DELAY=-1;MODE=PostgreSQL,"
+                + "jdbc:h2:mem:sharding2;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+        "app.sharding.username=sa",
+        "app.sharding.password="
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração para os Clientes Distribuídos em Shards")
+public class ShardingIntegrationTest {
+
+    private static final String PASSWORD = "senha@123";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private ClientShards shards;
+
+    private final List<String> createdIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        for (String id : createdIds) {
+            new JdbcTemplate(shards.dataSource(shards.shardOf(id)))
+                    .update("DELETE FROM refresh_token_table WHERE client_id = ?", id);
+            clientRepository.deleteById(id);
+        }
+        createdIds.clear();
+    }
+
+    @Test
+    @DisplayName("Deve gravar cada cliente no shard do seu id e encontrá-lo pelo e-mail")
+    void sign_ShouldPlaceClientsOnTheirShards() throws Exception {
+        for (int i = 0; i < 12; i++) {
+            sign("Cliente %02d".formatted(i), "cliente%02d@shard.com".formatted(i));
+        }
+
+        Set<Integer> usedShards = new HashSet<>();
+        for (String id : createdIds) {
+            int shard = shards.shardOf(id);
+            usedShards.add(shard);
+            for (int other = 0; other < shards.count(); other++) {
+                assertThat(countClients(other, id)).isEqualTo(other == shard ? 1 : 0);
+            }
+        }
+        assertThat(usedShards).hasSizeGreaterThan(1);
+
+        Client found = clientRepository.findByEmail("cliente07@shard.com").orElseThrow();
+        assertThat(found.getId()).isEqualTo(createdIds.get(7));
+        assertThat(found.getRoles()).isNotEmpty();
+        assertThat(clientRepository.existsByEmail("cliente07@shard.com")).isTrue();
+        assertThat(clientRepository.existsByCpf(found.getCpf())).isTrue();
+        assertThat(clientRepository.findById(createdIds.get(3))).isPresent();
+        assertThat(clientRepository.findAllById(createdIds)).hasSize(createdIds.size());
+        assertThat(clientRepository.count()).isEqualTo(createdIds.size() + 1L);
+    }
+
+    @Test
+    @DisplayName("Deve liberar o e-mail antigo e registrar o novo ao atualizar o cliente")
+    void update_WithEmailChange_ShouldMoveLookupEntry() throws Exception {
+        String id = sign("Nome Antigo", "antigo@shard.com");
+        String cpf = clientRepository.findById(id).orElseThrow().getCpf();
+
+        var updateDTO = new ClientUpdateDTO("Nome Novo", LocalDate.of(1990, 5, 15),
+                "novo@shard.com", "nova_senha_123", "11987654321", cpf);
+        mockMvc.perform(put("/api/v1/clients/{id}", id)
+                        .with(jwt().authorities(new SimpleGrantedAuthority("SCOPE_ADMIN")))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDTO)))
+                .andExpect(status().isOk());
+
+        assertThat(clientRepository.existsByEmail("antigo@shard.com")).isFalse();
+        assertThat(clientRepository.findByEmail("antigo@shard.com")).isEmpty();
+        Client updated = clientRepository.findByEmail("novo@shard.com").orElseThrow();
+        assertThat(updated.getId()).isEqualTo(id);
+        assertThat(updated.getName()).isEqualTo("Nome Novo");
+        assertThat(countClients(shards.shardOf(id), id)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve combinar as páginas dos shards na mesma ordem de uma consulta única")
+    void findAll_WithPageable_ShouldMergeShardsInSortOrder() throws Exception {
+        for (int i = 0; i < 9; i++) {
+            sign("Pagina %02d".formatted(8 - i), "pagina%02d@shard.com".formatted(i));
+        }
+
+        List<String> expected = new ArrayList<>();
+        for (int shard = 0; shard < shards.count(); shard++) {
+            expected.addAll(new JdbcTemplate(shards.dataSource(shard))
+                    .queryForList("SELECT name FROM client_table", String.class));
+        }
+        expected.sort(null);
+
+        JsonNode page = objectMapper.readTree(mockMvc.perform(get("/api/v1/clients")
+                        .with(jwt().authorities(new SimpleGrantedAuthority("SCOPE_ADMIN")))
+                        .param("page", "1")
+                        .param("size", "4")
+                        .param("sort", "name,asc"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+
+        List<String> names = new ArrayList<>();
+        page.get("content").forEach(client -> names.add(client.get("name").asText()));
+        assertThat(names).containsExactlyElementsOf(expected.subList(4, 8));
+        assertThat(page.get("totalElements").asLong()).isEqualTo(expected.size());
+    }
+
+    @Test
+    @DisplayName("Deve renovar e revogar os refresh tokens no shard do cliente")
+    void refreshAndLogout_ShouldUseClientShard() throws Exception {
+        String id = sign("Cliente Token", "token@shard.com");
+        JsonNode tokens = objectMapper.readTree(mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest("token@shard.com", PASSWORD))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+
+        JsonNode rotated = objectMapper.readTree(mockMvc.perform(post("/api/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new RefreshTokenRequest(tokens.get("refreshToken").asText()))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+
+        int shard = shards.shardOf(id);
+        for (int other = 0; other < shards.count(); other++) {
+            assertThat(countRefreshTokens(other, id)).isEqualTo(other == shard ? 2 : 0);
+        }
+
+        String accessToken = rotated.get("accessToken").asText();
+        String refreshToken = rotated.get("refreshToken").asText();
+        mockMvc.perform(post("/api/v1/auth/logout")
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Deve recusar as operações sem encaminhamento definido entre os shards")
+    void unsupportedOperations_ShouldThrow() {
+        assertThatThrownBy(() -> clientRepository.findAll())
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> refreshTokenRepository.findAll())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Deve executar a chamada no shard já definido no contexto sem reencaminhá-la")
+    void repositoryCall_WithShardContext_ShouldStayOnThatShard() throws Exception {
+        String id = sign("Cliente Contexto", "contexto@shard.com");
+        int shard = shards.shardOf(id);
+        int other = (shard + 1) % shards.count();
+
+        assertThat(ShardContext.supply(other, () -> clientRepository.findById(id))).isEmpty();
+        assertThat(ShardContext.supply(shard, () -> clientRepository.findById(id))).isPresent();
+    }
+
+    private String sign(String name, String email) throws Exception {
+        var request = new ClientRequestDTO(name, LocalDate.of(1990, 5, 15), email, PASSWORD,
+                "11987654321", ClientControllerTest.gerarCpf());
+        String body = mockMvc.perform(post("/api/v1/auth/sign")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        String id = objectMapper.readTree(body).get("id").asText();
+        createdIds.add(id);
+        return id;
+    }
+
+    private int countClients(int shard, String id) {
+        return new JdbcTemplate(shards.dataSource(shard))
+                .queryForObject("SELECT COUNT(*) FROM client_table WHERE id = ?", Integer.class, id);
+    }
+
+    private int countRefreshTokens(int shard, String clientId) {
+        return new JdbcTemplate(shards.dataSource(shard))
+                .queryForObject("SELECT COUNT(*) FROM refresh_token_table WHERE client_id = ?", Integer.class, clientId);
+    }
+}
@@ -0,0 +1,99 @@
+package br.com.neoapp.api.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Testes Unitários para o Limite de Concorrência Adaptativo (AdaptiveConcurrencyLimiter)")
+public class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("Deve recusar requisições acima do limite e liberar a vaga ao final de cada uma")
+    void tryAcquire_BeyondLimit_ShouldReject() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 2.0);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInflight()).isEqualTo(2);
+
+        limiter.release(10 * MILLIS, false);
+        assertThat(limiter.getInflight()).isEqualTo(1);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve aumentar o limite enquanto a latência se mantém estável e o limite é usado")
+    void release_WithStableLatencyAndSaturation_ShouldIncreaseLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, 2.0);
+
+        for (int i = 0; i < 200; i++) {
+            saturate(limiter);
+            limiter.release(10 * MILLIS, false);
+        }
+
+        assertThat(limiter.getLimit()).isGreaterThan(10);
+    }
+
+    @Test
+    @DisplayName("Não deve aumentar o limite quando ele não é usado")
+    void release_WithoutSaturation_ShouldKeepLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, 2.0);
+
+        for (int i = 0; i < 200; i++) {
+            limiter.tryAcquire();
+            limiter.release(10 * MILLIS, false);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Deve reduzir o limite quando a latência excede a tolerância, até o mínimo")
+    void release_WithRisingLatency_ShouldDecreaseLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(50, 5, 100, 2.0);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.release(10 * MILLIS, false);
+        }
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.release(200 * MILLIS, false);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Deve reduzir o limite multiplicativamente a cada requisição descartada por sobrecarga")
+    void release_WhenDropped_ShouldBackOff() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 1, 100, 2.0);
+
+        limiter.tryAcquire();
+        limiter.release(10 * MILLIS, true);
+
+        assertThat(limiter.getLimit()).isEqualTo(90);
+    }
+
+    @Test
+    @DisplayName("Deve recusar limites mínimo e máximo inválidos")
+    void constructor_WithInvalidLimits_ShouldThrow() {
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter(10, 0, 10, 2.0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter(10, 20, 10, 2.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void saturate(AdaptiveConcurrencyLimiter limiter) {
+        while (limiter.getInflight() < limiter.getLimit()) {
+            limiter.tryAcquire();
+        }
+    }
+}
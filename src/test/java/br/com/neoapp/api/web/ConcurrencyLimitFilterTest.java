@@ -0,0 +1,66 @@
+package br.com.neoapp.api.web;
+
+import br.com.neoapp.api.exceptions.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("Testes Unitários para o Filtro de Limite de Concorrência (ConcurrencyLimitFilter)")
+public class ConcurrencyLimitFilterTest {
+
+    private final HandlerExceptionResolver exceptionResolver = mock(HandlerExceptionResolver.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(exceptionResolver, meterRegistry,
+            true, 2.0, 1, List.of(1, 1, 1), List.of(5, 1, 10), List.of(5, 1, 10));
+
+    @Test
+    @DisplayName("Deve recusar uma busca acima do limite do grupo com ServiceOverloadedException")
+    void doFilter_SearchBeyondLimit_ShouldReject() throws Exception {
+        FilterChain chain = (request, response) ->
+                filter.doFilter(get("/api/v1/clients/search"), new MockHttpServletResponse(), new MockFilterChain());
+
+        filter.doFilter(get("/api/v1/clients/attributes"), new MockHttpServletResponse(), chain);
+
+        verify(exceptionResolver).resolveException(any(), any(), isNull(), any(ServiceOverloadedException.class));
+        assertThat(meterRegistry.get("http.concurrency.rejected").tag("group", "search").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("http.concurrency.inflight").tag("group", "search").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve manter limites separados por grupo de endpoints")
+    void doFilter_OtherGroup_ShouldNotShareSearchLimit() throws Exception {
+        FilterChain chain = (request, response) ->
+                filter.doFilter(get("/api/v1/clients/123"), new MockHttpServletResponse(), new MockFilterChain());
+
+        filter.doFilter(get("/api/v1/clients/attributes"), new MockHttpServletResponse(), chain);
+
+        verify(exceptionResolver, never()).resolveException(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Não deve limitar requisições fora da API")
+    void doFilter_OutsideApi_ShouldNotLimit() throws Exception {
+        filter.doFilter(get("/actuator/health"), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(meterRegistry.get("http.concurrency.limit").tag("group", "default").gauge().value()).isEqualTo(5);
+        verify(exceptionResolver, never()).resolveException(any(), any(), any(), any());
+    }
+
+    private static MockHttpServletRequest get(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+}
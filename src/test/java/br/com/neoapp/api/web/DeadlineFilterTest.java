@@ -0,0 +1,92 @@
+package br.com.neoapp.api.web;
+
+import br.com.neoapp.api.exceptions.DeadlineExceededException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("Testes Unitários para o Filtro de Prazo das Requisições (DeadlineFilter)")
+public class DeadlineFilterTest {
+
+    private final HandlerExceptionResolver exceptionResolver = mock(HandlerExceptionResolver.class);
+    private final DeadlineFilter filter = new DeadlineFilter(exceptionResolver, true,
+            Duration.ofSeconds(10), Duration.ofSeconds(5), Duration.ofSeconds(2));
+
+    @Test
+    @DisplayName("Deve aplicar o prazo padrão do grupo do endpoint durante a requisição")
+    void doFilter_WithoutHeader_ShouldUseGroupTimeout() throws Exception {
+        AtomicReference<RequestDeadline> seen = new AtomicReference<>();
+
+        filter.doFilter(get("/api/v1/clients/attributes"), new MockHttpServletResponse(),
+                (request, response) -> seen.set(RequestDeadline.current()));
+
+        assertThat(seen.get().remainingMillis()).isBetween(9_000L, 10_000L);
+        assertThat(RequestDeadline.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve usar o prazo do cabeçalho quando for menor que o padrão")
+    void doFilter_WithShorterHeader_ShouldUseHeaderDeadline() throws Exception {
+        AtomicReference<RequestDeadline> seen = new AtomicReference<>();
+        MockHttpServletRequest request = get("/api/v1/clients/123");
+        request.addHeader(DeadlineFilter.DEADLINE_HEADER, String.valueOf(Instant.now().plusMillis(500).toEpochMilli()));
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> seen.set(RequestDeadline.current()));
+
+        assertThat(seen.get().remainingMillis()).isBetween(0L, 500L);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar um cabeçalho inválido e usar o prazo padrão")
+    void doFilter_WithInvalidHeader_ShouldUseGroupTimeout() throws Exception {
+        AtomicReference<RequestDeadline> seen = new AtomicReference<>();
+        MockHttpServletRequest request = get("/api/v1/clients/123");
+        request.addHeader(DeadlineFilter.DEADLINE_HEADER, "amanhã");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> seen.set(RequestDeadline.current()));
+
+        assertThat(seen.get().remainingMillis()).isBetween(1_000L, 2_000L);
+    }
+
+    @Test
+    @DisplayName("Deve recusar com DeadlineExceededException uma requisição com o prazo já esgotado")
+    void doFilter_WithExpiredHeader_ShouldReject() throws Exception {
+        AtomicReference<RequestDeadline> seen = new AtomicReference<>();
+        MockHttpServletRequest request = get("/api/v1/auth/login");
+        request.addHeader(DeadlineFilter.DEADLINE_HEADER, Instant.now().minusSeconds(1).toString());
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> seen.set(RequestDeadline.current()));
+
+        assertThat(seen.get()).isNull();
+        verify(exceptionResolver).resolveException(any(), any(), isNull(), any(DeadlineExceededException.class));
+    }
+
+    @Test
+    @DisplayName("Não deve definir prazo para requisições fora da API")
+    void doFilter_OutsideApi_ShouldNotSetDeadline() throws Exception {
+        AtomicReference<RequestDeadline> seen = new AtomicReference<>();
+
+        filter.doFilter(get("/actuator/health"), new MockHttpServletResponse(),
+                (request, response) -> seen.set(RequestDeadline.current()));
+
+        assertThat(seen.get()).isNull();
+        verify(exceptionResolver, never()).resolveException(any(), any(), any(), any());
+    }
+
+    private static MockHttpServletRequest get(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+}